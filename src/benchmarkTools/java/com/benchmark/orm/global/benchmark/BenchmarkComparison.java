@@ -0,0 +1,120 @@
+package com.benchmark.orm.global.benchmark;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 두 실행의 벤치마크 결과 비교
+ * <p>
+ * (측정 대상, 기술, 데이터 규모)가 같은 결과끼리 대표값(p50, 없으면 평균)을 비교하고,
+ * 기준 실행보다 threshold(%) 넘게 느려진 항목을 회귀로 표시함
+ * 양쪽에 실행 계획이 있으면 기준 실행에서 쓰던 인덱스를 더 이상 쓰지 않는 항목도 회귀로 표시함
+ */
+@Getter
+public class BenchmarkComparison {
+
+    private final String baseRunId;
+    private final String targetRunId;
+    private final double thresholdPercent;
+    private final List<Row> rows;
+
+    private BenchmarkComparison(String baseRunId, String targetRunId, double thresholdPercent, List<Row> rows) {
+        this.baseRunId = baseRunId;
+        this.targetRunId = targetRunId;
+        this.thresholdPercent = thresholdPercent;
+        this.rows = rows;
+    }
+
+    /**
+     * 두 실행 비교
+     *
+     * @param base 기준 실행 결과
+     * @param target 비교 대상 실행 결과
+     * @param thresholdPercent 회귀로 판단할 증가율 (%)
+     * @return 비교 결과 (양쪽에 모두 있는 항목만, 대상 실행의 순서)
+     */
+    public static BenchmarkComparison compare(List<BenchmarkResult> base, List<BenchmarkResult> target,
+                                              double thresholdPercent) {
+        Map<String, BenchmarkResult> baseByKey = base.stream()
+                .collect(Collectors.toMap(BenchmarkResult::getKey, Function.identity(), (first, second) -> second,
+                        LinkedHashMap::new));
+
+        List<Row> rows = new ArrayList<>();
+        for (BenchmarkResult result : target) {
+            BenchmarkResult before = baseByKey.get(result.getKey());
+            if (before == null || before.getTypical() == null || result.getTypical() == null
+                    || before.getTypical() <= 0) {
+                continue;
+            }
+            double changePercent = (result.getTypical() / before.getTypical() - 1) * 100;
+            List<String> lostIndexes = lostIndexes(before, result);
+            rows.add(new Row(result.getKey(), before.getTypical(), result.getTypical(), changePercent, lostIndexes,
+                    changePercent > thresholdPercent || !lostIndexes.isEmpty()));
+        }
+
+        String baseRunId = base.isEmpty() ? null : base.get(0).getRunId();
+        String targetRunId = target.isEmpty() ? null : target.get(0).getRunId();
+        return new BenchmarkComparison(baseRunId, targetRunId, thresholdPercent, rows);
+    }
+
+    private static List<String> lostIndexes(BenchmarkResult before, BenchmarkResult after) {
+        Set<String> beforeIndexes = before.getUsedIndexes();
+        Set<String> afterIndexes = after.getUsedIndexes();
+        if (beforeIndexes == null || afterIndexes == null) {
+            return Collections.emptyList();
+        }
+        return beforeIndexes.stream()
+                .filter(index -> !afterIndexes.contains(index))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 회귀 항목 목록
+     */
+    public List<Row> getRegressions() {
+        return rows.stream()
+                .filter(Row::isRegression)
+                .collect(Collectors.toList());
+    }
+
+    public boolean hasRegression() {
+        return rows.stream().anyMatch(Row::isRegression);
+    }
+
+    /**
+     * 콘솔 출력용 표
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder()
+                .append(String.format("기준: %s, 대상: %s, 회귀 기준: +%.1f%%%n", baseRunId, targetRunId, thresholdPercent))
+                .append(String.format("%-8s %12s %12s %9s  %s%n", "판정", "기준(us)", "대상(us)", "변화", "항목"));
+        for (Row row : rows) {
+            sb.append(String.format("%-8s %12.1f %12.1f %+8.1f%%  %s%s%n",
+                    row.isRegression() ? "REGRESS" : "ok", row.getBase(), row.getTarget(), row.getChangePercent(),
+                    row.getKey(), row.getLostIndexes().isEmpty() ? "" : " (인덱스 미사용: " + row.getLostIndexes() + ")"));
+        }
+        sb.append(String.format("비교 %d건, 회귀 %d건%n", rows.size(), getRegressions().size()));
+        return sb.toString();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Row {
+        private final String key;
+        private final double base;
+        private final double target;
+        private final double changePercent;
+        /** 기준 실행에서 사용했지만 대상 실행에서 사용하지 않은 인덱스 */
+        private final List<String> lostIndexes;
+        private final boolean regression;
+    }
+}
@@ -0,0 +1,133 @@
+package com.benchmark.orm.global.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JMH 결과로 index/README.md의 결과 표 생성
+ * <p>
+ * README의 START_MARKER ~ END_MARKER 구간만 교체하며, 벤치마크 클래스별로 표 하나를 만듦
+ * - Product / ProductIndex 쌍이 있는 벤치마크: 방식별 인덱스 없음/있음 값과 성능 향상률
+ * - 그 외 벤치마크(주문 등): 항목별 평균, p50, p99
+ */
+public class BenchmarkReadmeGenerator {
+
+    public static final String START_MARKER = "<!-- benchmark-results:start -->";
+    public static final String END_MARKER = "<!-- benchmark-results:end -->";
+
+    private static final String INDEXED_SUFFIX = "ProductIndex";
+    private static final String NORMAL_SUFFIX = "Product";
+
+    /**
+     * README의 결과 구간 교체
+     *
+     * @param readme README 파일
+     * @param results 한 실행의 JMH 결과
+     */
+    public void update(Path readme, List<BenchmarkResult> results) {
+        try {
+            String content = Files.readString(readme, StandardCharsets.UTF_8);
+            Files.writeString(readme, replaceSection(content, render(results)), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("README를 갱신할 수 없습니다: " + readme, e);
+        }
+    }
+
+    String replaceSection(String content, String section) {
+        int start = content.indexOf(START_MARKER);
+        int end = content.indexOf(END_MARKER);
+        if (start < 0 || end < start) {
+            throw new IllegalStateException("README에 결과 구간 표시(" + START_MARKER + ")가 없습니다.");
+        }
+        return content.substring(0, start + START_MARKER.length()) + "\n" + section + content.substring(end);
+    }
+
+    /**
+     * 결과 표 생성
+     */
+    public String render(List<BenchmarkResult> results) {
+        if (results.isEmpty()) {
+            return "아직 저장된 JMH 결과가 없습니다.\n";
+        }
+        BenchmarkResult first = results.get(0);
+        StringBuilder sb = new StringBuilder()
+                .append("> 실행 `").append(first.getRunId()).append("` (커밋 `").append(first.getCommit())
+                .append("`), 단위: us, 값: p50 (sample 모드 결과가 없으면 평균)\n");
+
+        Map<String, List<BenchmarkResult>> byBenchmark = new TreeMap<>();
+        for (BenchmarkResult result : results) {
+            String benchmark = result.getQuery().substring(0, result.getQuery().indexOf('.'));
+            String title = benchmark + (result.getDatasetSize() != null ? " (datasetSize=" + result.getDatasetSize() + ")" : "");
+            byBenchmark.computeIfAbsent(title, key -> new ArrayList<>()).add(result);
+        }
+        byBenchmark.forEach((title, benchmarkResults) -> renderBenchmark(sb, title, benchmarkResults));
+        return sb.toString();
+    }
+
+    private void renderBenchmark(StringBuilder sb, String title, List<BenchmarkResult> results) {
+        // 방식(메서드 이름에서 대상 테이블을 뺀 부분)별 [인덱스 없음, 인덱스 있음]
+        Map<String, BenchmarkResult[]> pairs = new LinkedHashMap<>();
+        List<BenchmarkResult> others = new ArrayList<>();
+        for (BenchmarkResult result : results) {
+            String method = result.getQuery().substring(result.getQuery().indexOf('.') + 1);
+            if (method.endsWith(INDEXED_SUFFIX)) {
+                pairs.computeIfAbsent(label(result, method, INDEXED_SUFFIX), key -> new BenchmarkResult[2])[1] = result;
+            } else if (method.endsWith(NORMAL_SUFFIX)) {
+                pairs.computeIfAbsent(label(result, method, NORMAL_SUFFIX), key -> new BenchmarkResult[2])[0] = result;
+            } else {
+                others.add(result);
+            }
+        }
+
+        sb.append("\n#### ").append(title).append("\n");
+        if (!pairs.isEmpty()) {
+            sb.append("\n| 방식 | 인덱스 없음 | 인덱스 있음 | 성능 향상률 |\n")
+                    .append("|------|------------|------------|------------|\n");
+            pairs.forEach((label, pair) -> sb.append("| ").append(label)
+                    .append(" | ").append(format(pair[0] != null ? pair[0].getTypical() : null))
+                    .append(" | ").append(format(pair[1] != null ? pair[1].getTypical() : null))
+                    .append(" | ").append(improvement(pair[0], pair[1]))
+                    .append(" |\n"));
+        }
+        if (!others.isEmpty()) {
+            sb.append("\n| 항목 | 방식 | 평균 | p50 | p99 |\n")
+                    .append("|------|------|------|-----|-----|\n");
+            for (BenchmarkResult result : others) {
+                sb.append("| ").append(result.getQuery().substring(result.getQuery().indexOf('.') + 1))
+                        .append(" | ").append(result.getTechnique())
+                        .append(" | ").append(format(result.getMean()))
+                        .append(" | ").append(format(result.getP50()))
+                        .append(" | ").append(format(result.getP99()))
+                        .append(" |\n");
+            }
+        }
+    }
+
+    private static String label(BenchmarkResult result, String method, String suffix) {
+        String variant = JmhResultImporter.withoutTechnique(method.substring(0, method.length() - suffix.length()));
+        if ("-".equals(result.getTechnique())) {
+            return variant;
+        }
+        return variant.isEmpty() ? result.getTechnique() : result.getTechnique() + " " + variant;
+    }
+
+    private static String format(Double value) {
+        return value != null ? String.format("%.1f", value) : "-";
+    }
+
+    private static String improvement(BenchmarkResult normal, BenchmarkResult indexed) {
+        if (normal == null || indexed == null || normal.getTypical() == null || indexed.getTypical() == null
+                || normal.getTypical() <= 0) {
+            return "-";
+        }
+        return String.format("%.1f%%", (1 - indexed.getTypical() / normal.getTypical()) * 100);
+    }
+}
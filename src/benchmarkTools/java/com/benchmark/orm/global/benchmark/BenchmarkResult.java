@@ -0,0 +1,75 @@
+package com.benchmark.orm.global.benchmark;
+
+import com.benchmark.orm.global.explain.QueryPlan;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 벤치마크 결과 한 건 (results.jsonl의 한 줄)
+ * 시간 값의 단위는 모두 마이크로초(us)이며, 측정하지 않은 백분위는 null
+ * bytesPerOp는 JMH gc 프로파일러(-PjmhProfilers=gc)로 실행했을 때만 채워짐
+ * plans는 측정 중 실행된 SQL의 실행 계획 (-PbenchmarkExplain=true로 실행한 JMH)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BenchmarkResult {
+    private String runId;
+    private String recordedAt;
+    private String commit;
+    /** 결과 출처 (jmh) */
+    private String source;
+    /** 측정 대상 (벤치마크 클래스.메서드[파라미터]) */
+    private String query;
+    private String technique;
+    private Long datasetSize;
+    private Long samples;
+    private Double mean;
+    private Double p50;
+    private Double p90;
+    private Double p99;
+    private Double p999;
+    private Double max;
+    /** 호출당 할당 바이트 (gc.alloc.rate.norm) */
+    private Double bytesPerOp;
+    private List<QueryPlan> plans;
+
+    /**
+     * 실행 간 비교에 사용하는 키 (같은 대상, 기술, 데이터 규모)
+     */
+    @JsonIgnore
+    public String getKey() {
+        return source + " | " + query + " | " + technique + " | " + (datasetSize != null ? datasetSize : "-");
+    }
+
+    /**
+     * 실행 계획에서 사용된 인덱스 (계획이 없으면 null)
+     */
+    @JsonIgnore
+    public Set<String> getUsedIndexes() {
+        if (plans == null) {
+            return null;
+        }
+        Set<String> indexes = new TreeSet<>();
+        plans.forEach(plan -> indexes.addAll(plan.getIndexes()));
+        return indexes;
+    }
+
+    /**
+     * 대표값: p50이 있으면 p50, 없으면 평균
+     */
+    @JsonIgnore
+    public Double getTypical() {
+        return p50 != null ? p50 : mean;
+    }
+}
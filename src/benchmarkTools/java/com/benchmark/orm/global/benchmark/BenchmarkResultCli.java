@@ -0,0 +1,132 @@
+package com.benchmark.orm.global.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 벤치마크 결과 저장소 명령줄 도구 (Gradle benchmark* 태스크에서 실행)
+ * 빌드 도구 전용 소스 세트(src/benchmarkTools)에 있어 애플리케이션 jar에는 포함되지 않음
+ * <pre>
+ * import-jmh [results.json]               JMH 결과를 새 실행으로 저장
+ * runs                                    저장된 실행 목록
+ * compare [[기준 실행] 대상 실행] [--threshold=10]
+ *                                         두 실행 비교 (생략 시 마지막 실행과 같은 종류의 직전 실행), 회귀가 있으면 종료 코드 1
+ * readme [실행] [README 경로]             JMH 실행 결과로 index/README.md 표 갱신 (생략 시 마지막 JMH 실행)
+ * </pre>
+ */
+public class BenchmarkResultCli {
+
+    private static final String DEFAULT_JMH_RESULTS = "build/reports/jmh/results.json";
+    private static final String DEFAULT_README = "index/README.md";
+    private static final String THRESHOLD_OPTION = "--threshold=";
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    public static void main(String[] args) {
+        BenchmarkResultStore store = BenchmarkResultStore.defaultStore();
+        String command = args.length > 0 ? args[0] : "runs";
+
+        switch (command) {
+            case "import-jmh":
+                importJmh(store, args.length > 1 ? args[1] : DEFAULT_JMH_RESULTS);
+                break;
+            case "runs":
+                store.findRunIds().forEach(System.out::println);
+                break;
+            case "compare":
+                if (!compare(store, args)) {
+                    System.exit(1);
+                }
+                break;
+            case "readme":
+                readme(store, args);
+                break;
+            default:
+                throw new IllegalArgumentException("알 수 없는 명령입니다: " + command);
+        }
+    }
+
+    private static void importJmh(BenchmarkResultStore store, String resultsFile) {
+        Path path = Paths.get(resultsFile);
+        if (!Files.exists(path)) {
+            System.out.println("JMH 결과 파일이 없습니다: " + path);
+            return;
+        }
+        String commit = BenchmarkResultStore.currentCommit();
+        List<BenchmarkResult> results = new JmhResultImporter().read(path, BenchmarkResultStore.newRunId(commit), commit);
+        store.append(results);
+        System.out.println("JMH 결과 " + results.size() + "건 저장: " + store.getFile()
+                + (results.isEmpty() ? "" : " (실행 " + results.get(0).getRunId() + ")"));
+    }
+
+    private static boolean compare(BenchmarkResultStore store, String[] args) {
+        double threshold = DEFAULT_THRESHOLD_PERCENT;
+        List<String> runIds = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].startsWith(THRESHOLD_OPTION)) {
+                threshold = Double.parseDouble(args[i].substring(THRESHOLD_OPTION.length()));
+            } else {
+                runIds.add(args[i]);
+            }
+        }
+
+        List<String> allRunIds = store.findRunIds();
+        if (runIds.isEmpty() && !allRunIds.isEmpty()) {
+            runIds.add(allRunIds.get(allRunIds.size() - 1));
+        }
+        if (runIds.size() == 1) {
+            // 대상 실행과 같은 종류(jmh/test)의 직전 실행을 기준으로 사용
+            String target = runIds.get(0);
+            String base = previousRunId(store, allRunIds, target);
+            if (base == null) {
+                System.out.println("비교할 이전 실행이 없습니다: " + target);
+                return true;
+            }
+            runIds = new ArrayList<>(List.of(base, target));
+        }
+        if (runIds.size() != 2) {
+            System.out.println("비교할 실행을 2개 지정해야 합니다.");
+            return true;
+        }
+
+        BenchmarkComparison comparison = BenchmarkComparison.compare(
+                store.findByRunId(runIds.get(0)), store.findByRunId(runIds.get(1)), threshold);
+        System.out.print(comparison.format());
+        return !comparison.hasRegression();
+    }
+
+    private static String previousRunId(BenchmarkResultStore store, List<String> allRunIds, String target) {
+        List<BenchmarkResult> targetResults = store.findByRunId(target);
+        if (targetResults.isEmpty()) {
+            return null;
+        }
+        String source = targetResults.get(0).getSource();
+        for (int i = allRunIds.indexOf(target) - 1; i >= 0; i--) {
+            List<BenchmarkResult> candidate = store.findByRunId(allRunIds.get(i));
+            if (!candidate.isEmpty() && source.equals(candidate.get(0).getSource())) {
+                return allRunIds.get(i);
+            }
+        }
+        return null;
+    }
+
+    private static void readme(BenchmarkResultStore store, String[] args) {
+        List<BenchmarkResult> jmhResults = store.findAll().stream()
+                .filter(result -> "jmh".equals(result.getSource()))
+                .collect(Collectors.toList());
+        if (jmhResults.isEmpty()) {
+            System.out.println("저장된 JMH 결과가 없습니다.");
+            return;
+        }
+        String runId = args.length > 1 ? args[1] : jmhResults.get(jmhResults.size() - 1).getRunId();
+        Path readme = Paths.get(args.length > 2 ? args[2] : DEFAULT_README);
+
+        new BenchmarkReadmeGenerator().update(readme, jmhResults.stream()
+                .filter(result -> runId.equals(result.getRunId()))
+                .collect(Collectors.toList()));
+        System.out.println(readme + " 갱신 완료 (실행 " + runId + ")");
+    }
+}
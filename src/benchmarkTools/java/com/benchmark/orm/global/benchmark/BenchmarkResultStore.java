@@ -0,0 +1,153 @@
+package com.benchmark.orm.global.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 파일 기반 벤치마크 결과 저장소
+ * <p>
+ * 결과를 JSON Lines 형식(한 줄에 결과 한 건)으로 파일 끝에 추가만 하므로,
+ * 실행이 중간에 실패해도 이전 결과가 손상되지 않고 git diff나 jq로 바로 확인할 수 있음
+ * 기본 위치는 benchmark-results/results.jsonl이며 -Dbenchmark.results.dir로 변경 가능
+ */
+public class BenchmarkResultStore {
+
+    public static final String RESULTS_DIR_PROPERTY = "benchmark.results.dir";
+    public static final String COMMIT_PROPERTY = "benchmark.commit";
+    private static final String DEFAULT_RESULTS_DIR = "benchmark-results";
+    private static final String RESULTS_FILE = "results.jsonl";
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path file;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public BenchmarkResultStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * 기본 위치의 저장소
+     */
+    public static BenchmarkResultStore defaultStore() {
+        String dir = System.getProperty(RESULTS_DIR_PROPERTY, DEFAULT_RESULTS_DIR);
+        return new BenchmarkResultStore(Paths.get(dir, RESULTS_FILE));
+    }
+
+    /**
+     * 새 실행 ID 생성 (시각-커밋)
+     */
+    public static String newRunId(String commit) {
+        return LocalDateTime.now().format(RUN_ID_FORMAT) + "-" + commit;
+    }
+
+    /**
+     * 현재 git 커밋 (-Dbenchmark.commit이 있으면 그 값, git을 실행할 수 없으면 unknown)
+     */
+    public static String currentCommit() {
+        String commit = System.getProperty(COMMIT_PROPERTY);
+        if (commit != null && !commit.isBlank()) {
+            return commit;
+        }
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+                    .redirectErrorStream(true)
+                    .start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            if (process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0 && !output.isEmpty()) {
+                return output;
+            }
+        } catch (IOException e) {
+            // git이 없는 환경
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "unknown";
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * 결과 추가
+     *
+     * @param results 추가할 결과 목록
+     */
+    public synchronized void append(List<BenchmarkResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        List<String> lines = new ArrayList<>(results.size());
+        for (BenchmarkResult result : results) {
+            try {
+                lines.add(objectMapper.writeValueAsString(result));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("벤치마크 결과를 JSON으로 변환할 수 없습니다: " + result.getKey(), e);
+            }
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("벤치마크 결과를 저장할 수 없습니다: " + file, e);
+        }
+    }
+
+    /**
+     * 저장된 모든 결과 조회 (저장 순서)
+     */
+    public List<BenchmarkResult> findAll() {
+        if (!Files.exists(file)) {
+            return new ArrayList<>();
+        }
+        try {
+            List<BenchmarkResult> results = new ArrayList<>();
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    results.add(objectMapper.readValue(line, BenchmarkResult.class));
+                }
+            }
+            return results;
+        } catch (IOException e) {
+            throw new UncheckedIOException("벤치마크 결과를 읽을 수 없습니다: " + file, e);
+        }
+    }
+
+    /**
+     * 실행 ID 목록 (저장 순서)
+     */
+    public List<String> findRunIds() {
+        Set<String> runIds = new LinkedHashSet<>();
+        findAll().forEach(result -> runIds.add(result.getRunId()));
+        return new ArrayList<>(runIds);
+    }
+
+    /**
+     * 실행 ID로 결과 조회
+     */
+    public List<BenchmarkResult> findByRunId(String runId) {
+        return findAll().stream()
+                .filter(result -> runId.equals(result.getRunId()))
+                .collect(Collectors.toList());
+    }
+}
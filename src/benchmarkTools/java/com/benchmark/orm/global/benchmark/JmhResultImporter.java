@@ -0,0 +1,238 @@
+package com.benchmark.orm.global.benchmark;
+
+import com.benchmark.orm.global.explain.QueryPlan;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JMH JSON 결과(build/reports/jmh/results.json)를 BenchmarkResult로 변환
+ * <p>
+ * 같은 벤치마크의 avgt 결과는 평균으로, sample 결과는 백분위로 사용해 한 건으로 합침
+ * 벤치마크 이름 규칙 {기술}{쿼리}{대상 테이블}에서 기술(jpql, jpa, queryDsl, myBatis)을 분리하고,
+ * datasetSize 파라미터는 데이터 규모로, 나머지 파라미터는 측정 대상 이름에 붙임
+ * gc 프로파일러 결과가 있으면 호출당 할당 바이트(gc.alloc.rate.norm)도 함께 저장함
+ * 결과 파일 옆에 plans.jsonl(BenchmarkContext가 기록한 실행 계획)이 있으면 같은 벤치마크 결과에 붙임
+ */
+public class JmhResultImporter {
+
+    public static final String PLANS_FILE_NAME = "plans.jsonl";
+
+    private static final String DATASET_SIZE_PARAM = "datasetSize";
+    private static final String ALLOC_RATE_NORM_METRIC = "gc.alloc.rate.norm";
+    private static final String[][] TECHNIQUE_PREFIXES = {
+            {"queryDsl", "QueryDSL"},
+            {"myBatis", "MyBatis"},
+            {"jpql", "JPQL"},
+            {"jpa", "JPA"}
+    };
+
+    private static final TypeReference<List<QueryPlan>> PLAN_LIST = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * JMH 결과 파일 변환
+     *
+     * @param resultsFile JMH JSON 결과 파일
+     * @param runId 실행 ID
+     * @param commit git 커밋
+     * @return 벤치마크별 결과 목록
+     */
+    public List<BenchmarkResult> read(Path resultsFile, String runId, String commit) {
+        try {
+            List<BenchmarkResult> results = convert(objectMapper.readTree(resultsFile.toFile()), runId, commit);
+            Path plansFile = resultsFile.resolveSibling(PLANS_FILE_NAME);
+            if (Files.exists(plansFile)) {
+                results = withPlans(results, readPlans(plansFile));
+            }
+            return results;
+        } catch (IOException e) {
+            throw new UncheckedIOException("JMH 결과를 읽을 수 없습니다: " + resultsFile, e);
+        }
+    }
+
+    List<BenchmarkResult> convert(JsonNode root, String runId, String commit) {
+        String recordedAt = LocalDateTime.now().toString();
+        Map<String, BenchmarkResult> byQuery = new LinkedHashMap<>();
+
+        for (JsonNode node : root) {
+            String[] classAndMethod = splitBenchmark(node.path("benchmark").asText());
+            String datasetSize = node.path("params").path(DATASET_SIZE_PARAM).asText(null);
+            String query = queryOf(node);
+            BenchmarkResult current = byQuery.getOrDefault(query, BenchmarkResult.builder()
+                    .runId(runId)
+                    .recordedAt(recordedAt)
+                    .commit(commit)
+                    .source("jmh")
+                    .query(query)
+                    .technique(techniqueOf(classAndMethod[1]))
+                    .datasetSize(datasetSize != null ? Long.valueOf(datasetSize) : null)
+                    .build());
+
+            Double bytesPerOp = allocatedBytesPerOp(node.path("secondaryMetrics"));
+            if (bytesPerOp != null) {
+                current = current.toBuilder().bytesPerOp(bytesPerOp).build();
+            }
+
+            JsonNode metric = node.path("primaryMetric");
+            double toMicros = toMicros(metric.path("scoreUnit").asText("us/op"));
+            String mode = node.path("mode").asText();
+            if ("sample".equals(mode)) {
+                JsonNode percentiles = metric.path("scorePercentiles");
+                current = current.toBuilder()
+                        .mean(current.getMean() != null ? current.getMean() : metric.path("score").asDouble() * toMicros)
+                        .samples(countSamples(metric))
+                        .p50(percentiles.path("50.0").asDouble() * toMicros)
+                        .p90(percentiles.path("90.0").asDouble() * toMicros)
+                        .p99(percentiles.path("99.0").asDouble() * toMicros)
+                        .p999(percentiles.path("99.9").asDouble() * toMicros)
+                        .max(percentiles.path("100.0").asDouble() * toMicros)
+                        .build();
+            } else if ("avgt".equals(mode)) {
+                current = current.toBuilder()
+                        .mean(metric.path("score").asDouble() * toMicros)
+                        .build();
+            }
+            byQuery.put(query, current);
+        }
+        return new ArrayList<>(byQuery.values());
+    }
+
+    /**
+     * plans.jsonl 읽기
+     *
+     * @return 측정 대상별 실행 계획 (같은 대상이 여러 번 기록되었으면 마지막 기록)
+     */
+    Map<String, List<QueryPlan>> readPlans(Path plansFile) throws IOException {
+        Map<String, List<QueryPlan>> plansByQuery = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(plansFile, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node = objectMapper.readTree(line);
+            plansByQuery.put(queryOf(node), objectMapper.convertValue(node.path("plans"), PLAN_LIST));
+        }
+        return plansByQuery;
+    }
+
+    static List<BenchmarkResult> withPlans(List<BenchmarkResult> results, Map<String, List<QueryPlan>> plansByQuery) {
+        List<BenchmarkResult> merged = new ArrayList<>();
+        for (BenchmarkResult result : results) {
+            List<QueryPlan> plans = plansByQuery.get(result.getQuery());
+            merged.add(plans != null ? result.toBuilder().plans(plans).build() : result);
+        }
+        return merged;
+    }
+
+    /**
+     * 측정 대상 이름: {벤치마크 클래스}.{메서드}{datasetSize를 제외한 파라미터}
+     *
+     * @param node benchmark, params 필드를 가진 JMH 결과(또는 plans.jsonl) 항목
+     */
+    static String queryOf(JsonNode node) {
+        String[] classAndMethod = splitBenchmark(node.path("benchmark").asText());
+        Map<String, String> params = readParams(node.path("params"));
+        params.remove(DATASET_SIZE_PARAM);
+        return classAndMethod[0] + "." + classAndMethod[1] + (params.isEmpty() ? "" : params.toString());
+    }
+
+    /**
+     * 벤치마크 메서드 이름에서 기술 이름 추출
+     *
+     * @param method 벤치마크 메서드 이름 (예: queryDslWithBrandProductIndex)
+     * @return 기술 이름 (규칙에 맞지 않으면 "-")
+     */
+    public static String techniqueOf(String method) {
+        for (String[] prefix : TECHNIQUE_PREFIXES) {
+            if (method.startsWith(prefix[0])) {
+                return prefix[1];
+            }
+        }
+        return "-";
+    }
+
+    /**
+     * 벤치마크 메서드 이름에서 기술 접두어 제거
+     *
+     * @param method 벤치마크 메서드 이름 (예: queryDslWithBrand)
+     * @return 접두어를 뺀 나머지 (예: WithBrand, 규칙에 맞지 않으면 그대로)
+     */
+    public static String withoutTechnique(String method) {
+        for (String[] prefix : TECHNIQUE_PREFIXES) {
+            if (method.startsWith(prefix[0])) {
+                return method.substring(prefix[0].length());
+            }
+        }
+        return method;
+    }
+
+    private static String[] splitBenchmark(String benchmark) {
+        int methodStart = benchmark.lastIndexOf('.');
+        int classStart = benchmark.lastIndexOf('.', methodStart - 1);
+        return new String[]{benchmark.substring(classStart + 1, methodStart), benchmark.substring(methodStart + 1)};
+    }
+
+    private static Map<String, String> readParams(JsonNode paramsNode) {
+        Map<String, String> params = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = paramsNode.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            params.put(field.getKey(), field.getValue().asText());
+        }
+        return params;
+    }
+
+    private static Double allocatedBytesPerOp(JsonNode secondaryMetrics) {
+        // 키 형식: ·gc.alloc.rate.norm (앞에 구분 문자가 붙음)
+        Iterator<Map.Entry<String, JsonNode>> metrics = secondaryMetrics.fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith(ALLOC_RATE_NORM_METRIC)) {
+                return metric.getValue().path("score").asDouble();
+            }
+        }
+        return null;
+    }
+
+    private static Long countSamples(JsonNode metric) {
+        long samples = 0;
+        // rawDataHistogram: 포크 > 반복 > [값, 횟수] 목록
+        for (JsonNode fork : metric.path("rawDataHistogram")) {
+            for (JsonNode iteration : fork) {
+                for (JsonNode bucket : iteration) {
+                    samples += bucket.path(1).asLong();
+                }
+            }
+        }
+        return samples > 0 ? samples : null;
+    }
+
+    private static double toMicros(String scoreUnit) {
+        String unit = scoreUnit.split("/")[0];
+        switch (unit) {
+            case "ns":
+                return 0.001;
+            case "ms":
+                return 1_000.0;
+            case "s":
+                return 1_000_000.0;
+            default:
+                return 1.0;
+        }
+    }
+}
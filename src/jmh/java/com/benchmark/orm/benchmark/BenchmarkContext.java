@@ -0,0 +1,177 @@
+package com.benchmark.orm.benchmark;
+
+import com.benchmark.orm.OrmApplication;
+import com.benchmark.orm.global.benchmark.JmhResultImporter;
+import com.benchmark.orm.global.dto.AllocationSnapshotDto;
+import com.benchmark.orm.global.explain.QueryPlan;
+import com.benchmark.orm.global.explain.QueryPlanInspector;
+import com.benchmark.orm.global.metrics.AllocationMetrics;
+import com.benchmark.orm.global.metrics.QueryCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * 벤치마크용 스프링 컨텍스트
+ * <p>
+ * JMH Trial 단위로 한 번만 기동하여 모든 벤치마크 메서드가 같은 컨텍스트를 공유하도록 함
+ * (-Dbenchmark.profile=mysql 과 같이 DB 프로필 변경 가능, 기본값 h2)
+ * -Dbenchmark.allocation=true이면 리포지토리/매퍼 호출별 할당량을 집계해 종료 시 출력함
+ * -Dbenchmark.explain=true이면 첫 번째 워밍업 반복에서 실행된 SQL의 실행 계획을
+ * -Dbenchmark.plans.file(기본 build/reports/jmh/plans.jsonl)에 기록함 (측정 반복에는 영향 없음)
+ */
+public class BenchmarkContext implements AutoCloseable {
+
+    private static final boolean ALLOCATION_ENABLED = Boolean.getBoolean("benchmark.allocation");
+    private static final boolean EXPLAIN_ENABLED = Boolean.getBoolean("benchmark.explain");
+    private static final Path PLANS_FILE = Paths.get(System.getProperty("benchmark.plans.file",
+            "build/reports/jmh/" + JmhResultImporter.PLANS_FILE_NAME));
+
+    private final ConfigurableApplicationContext context;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transaction;
+    private boolean planCaptureStarted;
+
+    private BenchmarkContext(ConfigurableApplicationContext context) {
+        this.context = context;
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 웹 서버 없이 스프링 컨텍스트 기동
+     * SQL 로그는 측정값을 왜곡하므로 모두 끔
+     *
+     * @param extraArgs 추가로 전달할 커맨드라인 인자 (예: --spring.profiles.active=h2)
+     * @return 기동된 벤치마크 컨텍스트
+     */
+    public static BenchmarkContext start(String... extraArgs) {
+        String[] defaultArgs = {
+                "--spring.profiles.active=" + System.getProperty("benchmark.profile", "h2"),
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.jpa.properties.hibernate.use_sql_comments=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=warn",
+                "--logging.level.org.hibernate.SQL=warn",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+                "--logging.level.org.mybatis=warn",
+                "--logging.level.com.benchmark.orm=warn",
+                "--benchmark.metrics.allocation.enabled=" + ALLOCATION_ENABLED
+        };
+
+        String[] args = new String[defaultArgs.length + extraArgs.length];
+        System.arraycopy(defaultArgs, 0, args, 0, defaultArgs.length);
+        System.arraycopy(extraArgs, 0, args, defaultArgs.length, extraArgs.length);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(OrmApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(args);
+
+        return new BenchmarkContext(context);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션 안에서 실행
+     * 서비스 계층과 동일하게 호출마다 새 영속성 컨텍스트를 사용하도록 함
+     */
+    public <T> T readOnly(Supplier<T> action) {
+        return readOnlyTransaction.execute(status -> action.get());
+    }
+
+    /**
+     * 쓰기 트랜잭션 안에서 실행
+     */
+    public <T> T inTransaction(Supplier<T> action) {
+        return transaction.execute(status -> action.get());
+    }
+
+    /**
+     * 첫 번째 워밍업 반복이 시작될 때 SQL 캡처 시작 (@Setup(Level.Iteration)에서 호출)
+     */
+    public void beginPlanCapture(IterationParams iteration) {
+        if (EXPLAIN_ENABLED && !planCaptureStarted && iteration.getType() == IterationType.WARMUP) {
+            planCaptureStarted = true;
+            QueryCounter.start();
+        }
+    }
+
+    /**
+     * 캡처 중이면 종료하고, 캡처한 SQL의 실행 계획을 plans.jsonl에 추가 (@TearDown(Level.Iteration)에서 호출)
+     * JMH 결과와 같은 benchmark, params 형식으로 기록해 JmhResultImporter가 결과에 붙일 수 있게 함
+     */
+    public void endPlanCapture(BenchmarkParams benchmark) {
+        if (QueryCounter.current() == null) {
+            return;
+        }
+        QueryCounter.Stats stats = QueryCounter.stop();
+        List<QueryPlan> plans = readOnly(() ->
+                getBean(QueryPlanInspector.class).explainAll(stats.getSqlByShape().values()));
+
+        Map<String, String> params = new TreeMap<>();
+        for (String key : benchmark.getParamsKeys()) {
+            params.put(key, benchmark.getParam(key));
+        }
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("benchmark", benchmark.getBenchmark());
+        line.put("params", params);
+        line.put("plans", plans);
+        try {
+            Files.createDirectories(PLANS_FILE.toAbsolutePath().getParent());
+            Files.write(PLANS_FILE, List.of(new ObjectMapper().writeValueAsString(line)), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("실행 계획을 저장할 수 없습니다: " + PLANS_FILE, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (ALLOCATION_ENABLED) {
+            printAllocation();
+        }
+        context.close();
+    }
+
+    /**
+     * 워밍업을 포함한 Trial 전체의 호출별 할당량 출력
+     */
+    private void printAllocation() {
+        System.out.println();
+        System.out.printf("%-14s %-36s %-8s %10s %12s %10s %12s%n",
+                "entity", "operation", "tech", "calls", "bytes/op", "rows/op", "bytes/row");
+        for (AllocationSnapshotDto snapshot : getBean(AllocationMetrics.class).snapshot(null, null, false)) {
+            System.out.printf("%-14s %-36s %-8s %10d %12d %10.1f %12s%n",
+                    snapshot.getEntity(), snapshot.getOperation(), snapshot.getTechnique(), snapshot.getCalls(),
+                    snapshot.getBytesPerOp(), snapshot.getRowsPerOp(),
+                    snapshot.getBytesPerRow() != null ? snapshot.getBytesPerRow() : "-");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.benchmark.orm.benchmark;
+
+import com.benchmark.orm.domain.order.mapper.OrderItemMapper;
+import com.benchmark.orm.domain.order.mapper.OrderMapper;
+import com.benchmark.orm.domain.order.repository.OrderItemRepository;
+import com.benchmark.orm.domain.order.repository.OrderRepository;
+import com.benchmark.orm.global.dataset.BulkDataLoader;
+import com.benchmark.orm.global.dataset.DatasetSpec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+
+/**
+ * 주문 조회 벤치마크 공용 상태
+ * <p>
+ * 상품 수 기준으로 사용자/주문/주문상품 데이터를 비례해서 적재하고 (주문: 상품의 1/2, 주문당 상품 3개),
+ * 모든 기술(QueryDSL, MyBatis)이 같은 데이터를 조회하도록 함
+ */
+@State(Scope.Benchmark)
+public class OrderBenchmarkState {
+
+    @Param({"10000"})
+    public int datasetSize;
+
+    public BenchmarkContext context;
+
+    public OrderRepository orderRepository;
+    public OrderItemRepository orderItemRepository;
+    public OrderMapper orderMapper;
+    public OrderItemMapper orderItemMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+
+        orderRepository = context.getBean(OrderRepository.class);
+        orderItemRepository = context.getBean(OrderItemRepository.class);
+        orderMapper = context.getBean(OrderMapper.class);
+        orderItemMapper = context.getBean(OrderItemMapper.class);
+
+        context.getBean(BulkDataLoader.class).load(DatasetSpec.ofScale(datasetSize));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void beginIteration(IterationParams iteration) {
+        context.beginPlanCapture(iteration);
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration(BenchmarkParams benchmark) {
+        context.endPlanCapture(benchmark);
+    }
+}
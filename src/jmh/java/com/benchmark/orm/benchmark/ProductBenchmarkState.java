@@ -0,0 +1,108 @@
+package com.benchmark.orm.benchmark;
+
+import com.benchmark.orm.domain.product.dto.ProductSearchDto;
+import com.benchmark.orm.domain.product.mapper.ProductIndexMapper;
+import com.benchmark.orm.domain.product.mapper.ProductMapper;
+import com.benchmark.orm.domain.product.repository.BrandRepository;
+import com.benchmark.orm.domain.product.repository.CategoryRepository;
+import com.benchmark.orm.domain.product.repository.ProductIndexRepository;
+import com.benchmark.orm.domain.product.repository.ProductRepository;
+import com.benchmark.orm.global.dataset.BulkDataLoader;
+import com.benchmark.orm.global.dataset.DatasetSpec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 상품 조회 벤치마크 공용 상태
+ * <p>
+ * 인덱스가 없는 Product 테이블과 인덱스가 있는 ProductIndex 테이블에 동일한 데이터를 적재하고,
+ * 모든 기술(JPQL, QueryDSL, MyBatis)이 같은 조건 값으로 조회하도록 고정된 파라미터를 제공
+ */
+@State(Scope.Benchmark)
+public class ProductBenchmarkState {
+
+    @Param({"10000"})
+    public int datasetSize;
+
+    public BenchmarkContext context;
+
+    public ProductRepository productRepository;
+    public ProductIndexRepository productIndexRepository;
+    public ProductMapper productMapper;
+    public ProductIndexMapper productIndexMapper;
+
+    // 고정 조회 조건
+    public String name;
+    public String keyword;
+    public int minPrice;
+    public int maxPrice;
+    public Long brandId;
+    public Long categoryId;
+    public Long productId;
+    public Long productIndexId;
+    public ProductSearchDto searchDto;
+    public Pageable pageable;
+    public Sort sort;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+
+        productRepository = context.getBean(ProductRepository.class);
+        productIndexRepository = context.getBean(ProductIndexRepository.class);
+        productMapper = context.getBean(ProductMapper.class);
+        productIndexMapper = context.getBean(ProductIndexMapper.class);
+
+        loadDataset();
+
+        name = "테스트 상품 " + (datasetSize / 2);
+        keyword = "상품 12";
+        minPrice = 10000;
+        maxPrice = 20000;
+        productId = productRepository.findByNameJpql(name).orElseThrow().getId();
+        productIndexId = productIndexRepository.findByNameJpql(name).orElseThrow().getId();
+
+        searchDto = ProductSearchDto.builder()
+                .keyword("테스트")
+                .minPrice(10000)
+                .maxPrice(50000)
+                .brandId(brandId)
+                .categoryId(categoryId)
+                .sortBy("price")
+                .sortDirection("desc")
+                .build();
+        pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "price"));
+        sort = Sort.by(Sort.Direction.ASC, "name");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void beginIteration(IterationParams iteration) {
+        context.beginPlanCapture(iteration);
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration(BenchmarkParams benchmark) {
+        context.endPlanCapture(benchmark);
+    }
+
+    /**
+     * Product와 ProductIndex에 동일한 데이터 적재 (주문 데이터 포함)
+     * 시드가 고정되어 있어 실행마다 같은 데이터가 생성됨
+     * (상품명 트라이그램 인덱스는 적재 완료 이벤트를 받아 다시 생성됨)
+     */
+    private void loadDataset() {
+        context.getBean(BulkDataLoader.class).load(DatasetSpec.ofScale(datasetSize));
+
+        brandId = context.getBean(BrandRepository.class).findAll().get(0).getId();
+        categoryId = context.getBean(CategoryRepository.class).findAll().get(0).getId();
+    }
+}
@@ -0,0 +1,102 @@
+package com.benchmark.orm.benchmark;
+
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import com.benchmark.orm.domain.product.mapper.ProductIndexMapper;
+import com.benchmark.orm.domain.product.mapper.ProductMapper;
+import com.benchmark.orm.domain.product.repository.ProductIndexRepository;
+import com.benchmark.orm.domain.product.repository.ProductRepository;
+import com.benchmark.orm.global.dataset.BulkDataLoader;
+import com.benchmark.orm.global.dataset.DatasetSpec;
+import com.benchmark.orm.global.dto.KeysetCursor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 깊은 페이지 조회 벤치마크 상태
+ * <p>
+ * 10,000번째 페이지(페이지 크기 10, OFFSET 99,990)를 OFFSET 방식과 키셋(커서) 방식으로 조회할 수 있도록
+ * 상품 10만 건을 적재하고, 9,999번째 페이지의 마지막 행으로 커서를 미리 만들어 둠 (ID 오름차순)
+ */
+@State(Scope.Benchmark)
+public class ProductDeepPagingState {
+
+    public static final int PAGE_SIZE = 10;
+    public static final int PAGE_NUMBER = 10_000;
+    public static final int OFFSET = (PAGE_NUMBER - 1) * PAGE_SIZE;
+
+    @Param({"100000"})
+    public int datasetSize;
+
+    public BenchmarkContext context;
+
+    public ProductRepository productRepository;
+    public ProductIndexRepository productIndexRepository;
+    public ProductMapper productMapper;
+    public ProductIndexMapper productIndexMapper;
+
+    public Pageable pageable;
+    public KeysetCursor productCursor;
+    public KeysetCursor productIndexCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+
+        productRepository = context.getBean(ProductRepository.class);
+        productIndexRepository = context.getBean(ProductIndexRepository.class);
+        productMapper = context.getBean(ProductMapper.class);
+        productIndexMapper = context.getBean(ProductIndexMapper.class);
+
+        context.getBean(BulkDataLoader.class).load(DatasetSpec.ofScale(datasetSize));
+
+        pageable = PageRequest.of(PAGE_NUMBER - 1, PAGE_SIZE);
+        productCursor = context.readOnly(() -> {
+            Product last = productMapper.findAllWithPagingAndSorting(OFFSET - 1, 1, "id", "asc").get(0);
+            return Product.KEYSET_SORT.cursorOf("id", "asc").apply(last);
+        });
+        productIndexCursor = context.readOnly(() -> {
+            ProductIndex last = productIndexMapper.findAllWithPagingAndSorting(OFFSET - 1, 1, "id", "asc").get(0);
+            return ProductIndex.KEYSET_SORT.cursorOf("id", "asc").apply(last);
+        });
+
+        verifySamePage();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void beginIteration(IterationParams iteration) {
+        context.beginPlanCapture(iteration);
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration(BenchmarkParams benchmark) {
+        context.endPlanCapture(benchmark);
+    }
+
+    /**
+     * 두 방식이 같은 페이지를 조회하는지 확인 (다른 행을 비교하면 측정 결과가 의미 없음)
+     */
+    private void verifySamePage() {
+        List<Long> offsetIds = context.readOnly(() ->
+                productMapper.findAllWithPagingAndSorting(OFFSET, PAGE_SIZE, "id", "asc")).stream()
+                .map(Product::getId)
+                .toList();
+        List<Long> keysetIds = context.readOnly(() ->
+                productMapper.findAllWithKeyset("id", "asc", null, productCursor.getId(), PAGE_SIZE)).stream()
+                .map(Product::getId)
+                .toList();
+        if (offsetIds.size() != PAGE_SIZE || !offsetIds.equals(keysetIds)) {
+            throw new RuntimeException("OFFSET/키셋 조회 결과가 다릅니다: " + offsetIds + " / " + keysetIds);
+        }
+    }
+}
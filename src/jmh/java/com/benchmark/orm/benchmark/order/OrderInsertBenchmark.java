@@ -0,0 +1,104 @@
+package com.benchmark.orm.benchmark.order;
+
+import com.benchmark.orm.benchmark.BenchmarkContext;
+import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.domain.order.entity.OrderItem;
+import com.benchmark.orm.domain.order.repository.OrderRepository;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.repository.ProductRepository;
+import com.benchmark.orm.domain.user.entity.User;
+import com.benchmark.orm.domain.user.repository.UserRepository;
+import com.benchmark.orm.global.dataset.BulkDataLoader;
+import com.benchmark.orm.global.dataset.DatasetSpec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 INSERT 처리량 벤치마크 (IDENTITY vs 풀링 시퀀스)
+ * <p>
+ * 주문 1건 + 주문 상품 10건을 JPA로 저장하는 시간을 ID 생성 전략별로 측정
+ * - identity: 엔티티마다 INSERT를 즉시 실행해야 ID를 알 수 있어 배치가 동작하지 않음
+ * - pooled: pooled-ids 프로필 (SEQUENCE + pooled-lo, 시퀀스 호출 1회당 ID 50개)로 INSERT가 배치로 묶임
+ * 두 전략 모두 hibernate.jdbc.batch_size, order_inserts를 같은 값으로 켜서 ID 전략만 달라지도록 함
+ */
+@State(Scope.Benchmark)
+public class OrderInsertBenchmark {
+
+    private static final int ITEMS_PER_ORDER = 10;
+
+    @Param({"identity", "pooled"})
+    public String idStrategy;
+
+    @Param({"1", "50"})
+    public int ordersPerTransaction;
+
+    private BenchmarkContext context;
+    private OrderRepository orderRepository;
+    private List<Product> products;
+    private User user;
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                "--spring.jpa.properties.hibernate.order_inserts=true"));
+        if ("pooled".equals(idStrategy)) {
+            args.add("--spring.profiles.include=pooled-ids");
+        }
+        context = BenchmarkContext.start(args.toArray(new String[0]));
+        orderRepository = context.getBean(OrderRepository.class);
+
+        context.getBean(BulkDataLoader.class).load(DatasetSpec.builder()
+                .productCount(1_000)
+                .userCount(10)
+                .orderCount(1)
+                .build());
+        products = context.readOnly(() -> context.getBean(ProductRepository.class).findAll());
+        user = context.readOnly(() -> context.getBean(UserRepository.class).findAll().get(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void beginIteration(IterationParams iteration) {
+        context.beginPlanCapture(iteration);
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration(BenchmarkParams benchmark) {
+        context.endPlanCapture(benchmark);
+    }
+
+    @Benchmark
+    public Long jpaInsertOrdersWithItems() {
+        return context.inTransaction(() -> {
+            Long lastId = null;
+            for (int i = 0; i < ordersPerTransaction; i++) {
+                lastId = orderRepository.save(createOrder()).getId();
+            }
+            return lastId;
+        });
+    }
+
+    private Order createOrder() {
+        Order order = Order.builder()
+                .user(user)
+                .orderDate(LocalDateTime.now())
+                .status(Order.OrderStatus.PENDING)
+                .build();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            Product product = products.get(sequence++ % products.size());
+            order.addOrderItem(OrderItem.createOrderItem(product, 1 + i % 3));
+        }
+        return order;
+    }
+}
@@ -0,0 +1,31 @@
+package com.benchmark.orm.benchmark.order;
+
+import com.benchmark.orm.benchmark.OrderBenchmarkState;
+import com.benchmark.orm.domain.order.entity.OrderItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+/**
+ * 가장 많이 주문된 상품 조회 벤치마크
+ * <p>
+ * limit 값을 늘려가며 QueryDSL(상위 ID 조회 + 상관 서브쿼리 1회)과
+ * MyBatis(CTE + ROW_NUMBER 단일 쿼리)의 응답 시간 변화를 측정
+ * 상품마다 쿼리를 실행하던 방식이었다면 limit에 비례해서 증가해야 함
+ */
+@State(Scope.Benchmark)
+public class OrderMostOrderedProductsBenchmark {
+
+    @Param({"10", "50", "100", "500"})
+    public int limit;
+
+    @Benchmark
+    public List<OrderItem> queryDslMostOrderedProducts(OrderBenchmarkState state) {
+        return state.context.readOnly(() -> state.orderItemRepository.findMostOrderedProducts(limit));
+    }
+
+    @Benchmark
+    public List<OrderItem> myBatisMostOrderedProducts(OrderBenchmarkState state) {
+        return state.context.readOnly(() -> state.orderItemMapper.findMostOrderedProducts(limit));
+    }
+}
@@ -0,0 +1,46 @@
+package com.benchmark.orm.benchmark.product;
+
+import com.benchmark.orm.benchmark.ProductBenchmarkState;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+
+/**
+ * 카테고리 기준 조회 벤치마크
+ * <p>
+ * 인덱스 없음(Product) / 인덱스 있음(ProductIndex) 테이블을 JPQL, QueryDSL, MyBatis로 각각 조회
+ */
+public class ProductCategoryQueryBenchmark {
+
+    @Benchmark
+    public List<Product> jpqlProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findByCategoryIdJpql(state.categoryId));
+    }
+
+    @Benchmark
+    public List<ProductIndex> jpqlProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findByCategoryIdJpql(state.categoryId));
+    }
+
+    @Benchmark
+    public List<Product> queryDslProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findByCategoryId(state.categoryId));
+    }
+
+    @Benchmark
+    public List<ProductIndex> queryDslProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findByCategoryId(state.categoryId));
+    }
+
+    @Benchmark
+    public List<Product> myBatisProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productMapper.findByCategoryId(state.categoryId));
+    }
+
+    @Benchmark
+    public List<ProductIndex> myBatisProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexMapper.findByCategoryId(state.categoryId));
+    }
+}
@@ -0,0 +1,64 @@
+package com.benchmark.orm.benchmark.product;
+
+import com.benchmark.orm.benchmark.ProductDeepPagingState;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 깊은 페이지(10,000번째 페이지) 조회 벤치마크
+ * <p>
+ * OFFSET 방식은 앞의 99,990건을 읽고 버려야 하지만, 키셋 방식은 커서 이후부터 바로 읽으므로
+ * 페이지가 깊어져도 첫 페이지와 비슷한 응답 시간을 유지하는지 QueryDSL, MyBatis로 각각 비교
+ */
+public class ProductDeepPagingBenchmark {
+
+    @Benchmark
+    public Page<Product> queryDslOffsetProduct(ProductDeepPagingState state) {
+        return state.context.readOnly(() -> state.productRepository.findAllWithPaging(state.pageable));
+    }
+
+    @Benchmark
+    public List<Product> queryDslKeysetProduct(ProductDeepPagingState state) {
+        return state.context.readOnly(() -> state.productRepository.findAllWithKeyset(
+                "id", true, state.productCursor, ProductDeepPagingState.PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<ProductIndex> queryDslOffsetProductIndex(ProductDeepPagingState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findAllWithPaging(state.pageable));
+    }
+
+    @Benchmark
+    public List<ProductIndex> queryDslKeysetProductIndex(ProductDeepPagingState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findAllWithKeyset(
+                "id", true, state.productIndexCursor, ProductDeepPagingState.PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<Product> myBatisOffsetProduct(ProductDeepPagingState state) {
+        return state.context.readOnly(() -> state.productMapper.findAllWithPagingAndSorting(
+                ProductDeepPagingState.OFFSET, ProductDeepPagingState.PAGE_SIZE, "id", "asc"));
+    }
+
+    @Benchmark
+    public List<Product> myBatisKeysetProduct(ProductDeepPagingState state) {
+        return state.context.readOnly(() -> state.productMapper.findAllWithKeyset(
+                "id", "asc", null, state.productCursor.getId(), ProductDeepPagingState.PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<ProductIndex> myBatisOffsetProductIndex(ProductDeepPagingState state) {
+        return state.context.readOnly(() -> state.productIndexMapper.findAllWithPagingAndSorting(
+                ProductDeepPagingState.OFFSET, ProductDeepPagingState.PAGE_SIZE, "id", "asc"));
+    }
+
+    @Benchmark
+    public List<ProductIndex> myBatisKeysetProductIndex(ProductDeepPagingState state) {
+        return state.context.readOnly(() -> state.productIndexMapper.findAllWithKeyset(
+                "id", "asc", null, state.productIndexCursor.getId(), ProductDeepPagingState.PAGE_SIZE));
+    }
+}
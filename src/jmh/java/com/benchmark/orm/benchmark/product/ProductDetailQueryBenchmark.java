@@ -0,0 +1,114 @@
+package com.benchmark.orm.benchmark.product;
+
+import com.benchmark.orm.benchmark.ProductBenchmarkState;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * 단건 상세 조회(연관 엔티티 페치) 벤치마크
+ * <p>
+ * 인덱스 없음(Product) / 인덱스 있음(ProductIndex) 테이블을 JPA, JPQL, QueryDSL, MyBatis로 각각 조회
+ */
+public class ProductDetailQueryBenchmark {
+
+    @Benchmark
+    public Product jpaFindByIdProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findById(state.productId).orElse(null));
+    }
+
+    @Benchmark
+    public ProductIndex jpaFindByIdProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findById(state.productIndexId).orElse(null));
+    }
+
+    @Benchmark
+    public Product myBatisFindByIdProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productMapper.findById(state.productId));
+    }
+
+    @Benchmark
+    public ProductIndex myBatisFindByIdProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexMapper.findById(state.productIndexId));
+    }
+
+    @Benchmark
+    public Product jpqlWithBrandProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findProductWithBrandJpql(state.productId).orElse(null));
+    }
+
+    @Benchmark
+    public ProductIndex jpqlWithBrandProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findProductIndexWithBrandJpql(state.productIndexId).orElse(null));
+    }
+
+    @Benchmark
+    public Product queryDslWithBrandProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findProductWithBrand(state.productId).orElse(null));
+    }
+
+    @Benchmark
+    public ProductIndex queryDslWithBrandProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findProductIndexWithBrand(state.productIndexId).orElse(null));
+    }
+
+    @Benchmark
+    public Product jpqlWithCategoryProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findProductWithCategoryJpql(state.productId).orElse(null));
+    }
+
+    @Benchmark
+    public ProductIndex jpqlWithCategoryProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findProductIndexWithCategoryJpql(state.productIndexId).orElse(null));
+    }
+
+    @Benchmark
+    public Product queryDslWithCategoryProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findProductWithCategory(state.productId).orElse(null));
+    }
+
+    @Benchmark
+    public ProductIndex queryDslWithCategoryProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findProductIndexWithCategory(state.productIndexId).orElse(null));
+    }
+
+    @Benchmark
+    public Product jpqlWithImagesProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findProductWithImagesJpql(state.productId).orElse(null));
+    }
+
+    @Benchmark
+    public ProductIndex jpqlWithImagesProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findProductIndexWithImagesJpql(state.productIndexId).orElse(null));
+    }
+
+    @Benchmark
+    public Product queryDslWithImagesProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findProductWithImages(state.productId).orElse(null));
+    }
+
+    @Benchmark
+    public ProductIndex queryDslWithImagesProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findProductIndexWithImages(state.productIndexId).orElse(null));
+    }
+
+    @Benchmark
+    public Product myBatisWithImagesProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productMapper.findProductWithImages(state.productId));
+    }
+
+    @Benchmark
+    public ProductIndex myBatisWithImagesProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexMapper.findProductIndexWithImages(state.productIndexId));
+    }
+
+    @Benchmark
+    public Product queryDslWithAllDetailsProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findProductWithAllDetails(state.productId).orElse(null));
+    }
+
+    @Benchmark
+    public ProductIndex queryDslWithAllDetailsProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findProductIndexWithAllDetails(state.productIndexId).orElse(null));
+    }
+}
@@ -0,0 +1,44 @@
+package com.benchmark.orm.benchmark.product;
+
+import com.benchmark.orm.benchmark.ProductBenchmarkState;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * 상품명 단건 조회 벤치마크
+ * <p>
+ * 인덱스 없음(Product) / 인덱스 있음(ProductIndex) 테이블을 JPQL, QueryDSL, MyBatis로 각각 조회
+ */
+public class ProductNameQueryBenchmark {
+
+    @Benchmark
+    public Product jpqlProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findByNameJpql(state.name).orElse(null));
+    }
+
+    @Benchmark
+    public ProductIndex jpqlProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findByNameJpql(state.name).orElse(null));
+    }
+
+    @Benchmark
+    public Product queryDslProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findByName(state.name).orElse(null));
+    }
+
+    @Benchmark
+    public ProductIndex queryDslProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findByName(state.name).orElse(null));
+    }
+
+    @Benchmark
+    public Product myBatisProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productMapper.findByName(state.name));
+    }
+
+    @Benchmark
+    public ProductIndex myBatisProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexMapper.findByName(state.name));
+    }
+}
@@ -0,0 +1,77 @@
+package com.benchmark.orm.benchmark.product;
+
+import com.benchmark.orm.benchmark.ProductBenchmarkState;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 페이징 및 정렬 조회 벤치마크
+ * <p>
+ * 인덱스 없음(Product) / 인덱스 있음(ProductIndex) 테이블을 JPQL, QueryDSL, MyBatis로 각각 조회
+ */
+public class ProductPagingQueryBenchmark {
+
+    @Benchmark
+    public Page<Product> jpaPagingProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findAll(state.pageable));
+    }
+
+    @Benchmark
+    public Page<ProductIndex> jpaPagingProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findAll(state.pageable));
+    }
+
+    @Benchmark
+    public Page<Product> queryDslPagingProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findAllWithPaging(state.pageable));
+    }
+
+    @Benchmark
+    public Page<ProductIndex> queryDslPagingProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findAllWithPaging(state.pageable));
+    }
+
+    @Benchmark
+    public List<Product> myBatisPagingProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productMapper.findAllWithPaging(0, 10));
+    }
+
+    @Benchmark
+    public List<ProductIndex> myBatisPagingProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexMapper.findAllWithPaging(0, 10));
+    }
+
+    @Benchmark
+    public List<Product> queryDslSortingProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findAllWithSorting(state.sort));
+    }
+
+    @Benchmark
+    public List<ProductIndex> queryDslSortingProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findAllWithSorting(state.sort));
+    }
+
+    @Benchmark
+    public List<Product> myBatisSortingProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productMapper.findAllWithSorting("name", "asc"));
+    }
+
+    @Benchmark
+    public List<ProductIndex> myBatisSortingProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexMapper.findAllWithSorting("name", "asc"));
+    }
+
+    @Benchmark
+    public List<Product> myBatisPagingAndSortingProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productMapper.findAllWithPagingAndSorting(0, 10, "price", "desc"));
+    }
+
+    @Benchmark
+    public List<ProductIndex> myBatisPagingAndSortingProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexMapper.findAllWithPagingAndSorting(0, 10, "price", "desc"));
+    }
+}
@@ -0,0 +1,46 @@
+package com.benchmark.orm.benchmark.product;
+
+import com.benchmark.orm.benchmark.ProductBenchmarkState;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+
+/**
+ * 가격 범위 조회 벤치마크
+ * <p>
+ * 인덱스 없음(Product) / 인덱스 있음(ProductIndex) 테이블을 JPQL, QueryDSL, MyBatis로 각각 조회
+ */
+public class ProductPriceRangeQueryBenchmark {
+
+    @Benchmark
+    public List<Product> jpqlProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findByPriceBetweenJpql(state.minPrice, state.maxPrice));
+    }
+
+    @Benchmark
+    public List<ProductIndex> jpqlProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findByPriceBetweenJpql(state.minPrice, state.maxPrice));
+    }
+
+    @Benchmark
+    public List<Product> queryDslProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.findByPriceBetween(state.minPrice, state.maxPrice));
+    }
+
+    @Benchmark
+    public List<ProductIndex> queryDslProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findByPriceBetween(state.minPrice, state.maxPrice));
+    }
+
+    @Benchmark
+    public List<Product> myBatisProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productMapper.findByPriceBetween(state.minPrice, state.maxPrice));
+    }
+
+    @Benchmark
+    public List<ProductIndex> myBatisProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexMapper.findByPriceBetween(state.minPrice, state.maxPrice));
+    }
+}
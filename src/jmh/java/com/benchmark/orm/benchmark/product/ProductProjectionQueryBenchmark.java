@@ -0,0 +1,55 @@
+package com.benchmark.orm.benchmark.product;
+
+import com.benchmark.orm.benchmark.ProductBenchmarkState;
+import com.benchmark.orm.domain.product.dto.ProductIndexSimpleDto;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 엔티티 조회 vs DTO 프로젝션 벤치마크
+ * <p>
+ * 인덱스 있음(ProductIndex) 테이블의 가격 범위 조회 결과를 ProductIndexSimpleDto로 만드는 비용을 비교
+ * - 엔티티: 전체 엔티티를 영속성 컨텍스트에 올린 뒤 DTO로 변환 (브랜드/카테고리는 LAZY 프록시를 배치 조회로 초기화)
+ * - 프로젝션: DTO에 필요한 컬럼만 SELECT해 바로 DTO 생성 (JPQL select new, QueryDSL Projections.constructor, MyBatis resultType)
+ */
+public class ProductProjectionQueryBenchmark {
+
+    @Benchmark
+    public List<ProductIndexSimpleDto> jpqlEntity(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> toDtos(state.productIndexRepository.findByPriceBetweenJpql(state.minPrice, state.maxPrice)));
+    }
+
+    @Benchmark
+    public List<ProductIndexSimpleDto> jpqlProjection(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findByPriceBetweenSimpleJpql(state.minPrice, state.maxPrice));
+    }
+
+    @Benchmark
+    public List<ProductIndexSimpleDto> queryDslEntity(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> toDtos(state.productIndexRepository.findByPriceBetween(state.minPrice, state.maxPrice)));
+    }
+
+    @Benchmark
+    public List<ProductIndexSimpleDto> queryDslProjection(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.findByPriceBetweenSimple(state.minPrice, state.maxPrice));
+    }
+
+    @Benchmark
+    public List<ProductIndexSimpleDto> myBatisEntity(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> toDtos(state.productIndexMapper.findByPriceBetween(state.minPrice, state.maxPrice)));
+    }
+
+    @Benchmark
+    public List<ProductIndexSimpleDto> myBatisProjection(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexMapper.findByPriceBetweenSimple(state.minPrice, state.maxPrice));
+    }
+
+    private static List<ProductIndexSimpleDto> toDtos(List<ProductIndex> products) {
+        return products.stream()
+                .map(ProductIndexSimpleDto::from)
+                .collect(Collectors.toList());
+    }
+}
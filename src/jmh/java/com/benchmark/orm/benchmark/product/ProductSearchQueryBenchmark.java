@@ -0,0 +1,69 @@
+package com.benchmark.orm.benchmark.product;
+
+import com.benchmark.orm.benchmark.ProductBenchmarkState;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 복합 검색 및 키워드 검색 벤치마크
+ * <p>
+ * 인덱스 없음(Product) / 인덱스 있음(ProductIndex) 테이블을 JPQL, QueryDSL, MyBatis로 각각 조회
+ */
+public class ProductSearchQueryBenchmark {
+
+    @Benchmark
+    public Page<Product> jpqlProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.searchProductsJpql(
+                state.searchDto.getKeyword(),
+                state.searchDto.getMinPrice(),
+                state.searchDto.getMaxPrice(),
+                state.searchDto.getBrandId(),
+                state.searchDto.getCategoryId(),
+                state.pageable));
+    }
+
+    @Benchmark
+    public Page<ProductIndex> jpqlProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.searchProductIndexsJpql(
+                state.searchDto.getKeyword(),
+                state.searchDto.getMinPrice(),
+                state.searchDto.getMaxPrice(),
+                state.searchDto.getBrandId(),
+                state.searchDto.getCategoryId(),
+                state.pageable));
+    }
+
+    @Benchmark
+    public Page<Product> queryDslProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.searchProducts(state.searchDto, state.pageable));
+    }
+
+    @Benchmark
+    public Page<ProductIndex> queryDslProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.searchProductIndexs(state.searchDto, state.pageable));
+    }
+
+    @Benchmark
+    public List<Product> myBatisProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productMapper.searchProducts(state.searchDto, 0, 10, "price", "desc"));
+    }
+
+    @Benchmark
+    public List<ProductIndex> myBatisProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexMapper.searchProductIndexs(state.searchDto, 0, 10, "price", "desc"));
+    }
+
+    @Benchmark
+    public List<Product> jpqlKeywordProduct(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productRepository.searchProductsByKeywordJpql(state.keyword));
+    }
+
+    @Benchmark
+    public List<ProductIndex> jpqlKeywordProductIndex(ProductBenchmarkState state) {
+        return state.context.readOnly(() -> state.productIndexRepository.searchProductIndexsByKeywordJpql(state.keyword));
+    }
+}
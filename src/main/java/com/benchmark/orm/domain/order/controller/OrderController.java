@@ -4,15 +4,20 @@ import com.benchmark.orm.domain.order.dto.OrderRequestDto;
 import com.benchmark.orm.domain.order.dto.OrderResponseDto;
 import com.benchmark.orm.domain.order.dto.OrderSearchDto;
 import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.domain.order.service.OrderIngestService;
 import com.benchmark.orm.domain.order.service.OrderService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +32,7 @@ import java.util.Map;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIngestService orderIngestService;
 
     /**
      * JPA로 주문 생성
@@ -50,6 +56,31 @@ public class OrderController {
         return ResponseEntity.ok(Map.of("message", result));
     }
 
+    /**
+     * MyBatis 배치 경로로 주문 생성 (상품 IN 조회 + 주문 상품 multi-row INSERT)
+     * @param orderRequestDto 주문 요청 DTO
+     * @return 결과 메시지
+     */
+    @PostMapping("/mybatis/batch")
+    public ResponseEntity<Map<String, String>> createOrderMyBatisBatch(@RequestBody OrderRequestDto orderRequestDto) {
+        String result = orderService.saveOrderMyBatisBatch(orderRequestDto);
+        return ResponseEntity.ok(Map.of("message", result));
+    }
+
+    /**
+     * NDJSON 주문 스트리밍 적재 (한 줄에 주문 요청 하나, 묶음 단위 group commit)
+     * 묶음이 커밋될 때마다 한 줄씩 결과를 출력하고, 마지막 줄에 처리량과 커밋 지연 시간 요약을 출력
+     * 본문을 읽는 동안 응답을 함께 써야 하므로 요청 스레드에서 직접 입출력 스트림을 다룸
+     * @param request NDJSON 요청
+     * @param response NDJSON 응답
+     */
+    @PostMapping(value = "/ingest", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "application/x-ndjson"})
+    public void ingestOrders(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        orderIngestService.ingest(request.getInputStream(), response.getOutputStream());
+    }
+
     /**
      * JPA로 ID별 주문 조회
      * @param id 주문 ID
@@ -3,16 +3,20 @@ package com.benchmark.orm.domain.order.controller;
 import com.benchmark.orm.domain.order.dto.*;
 import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
 import com.benchmark.orm.domain.order.service.OrderMyBatisService;
+import com.benchmark.orm.global.dto.CursorPageDto;
 import com.benchmark.orm.global.dto.PageDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -42,6 +46,18 @@ public class OrderMyBatisController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * 모든 주문 NDJSON 내보내기 (스트리밍)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        log.info("[MyBatis] GET /api/mybatis/order/export - 모든 주문 내보내기 요청");
+        StreamingResponseBody body = out -> orderMyBatisService.exportAll(out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * ID로 주문 조회
      */
@@ -111,6 +127,22 @@ public class OrderMyBatisController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * 키셋(커서) 페이징 조회
+     * 첫 페이지는 after 없이 요청하고, 이후에는 응답의 nextCursor를 after로 전달
+     */
+    @GetMapping("/paging/cursor")
+    public ResponseEntity<CursorPageDto<OrderSimpleDto>> getOrdersWithCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection) {
+        log.info("[MyBatis] GET /api/mybatis/order/paging/cursor - 커서 페이징 조회 요청: after={}, size={}, sortBy={}, sortDirection={}",
+                after, size, sortBy, sortDirection);
+        CursorPageDto<OrderSimpleDto> result = orderMyBatisService.findAllWithCursor(after, size, sortBy, sortDirection);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 정렬 조회
      */
@@ -219,6 +251,18 @@ public class OrderMyBatisController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 여러 주문 상태 일괄 변경 (요청 본문: 주문 ID 목록, 현재 상태에서 전이할 수 없는 주문은 건너뜀)
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<Map<String, Long>> transitionOrderStatuses(
+            @RequestParam OrderStatus status,
+            @RequestBody List<Long> ids) {
+        log.info("[MyBatis] PATCH /api/mybatis/order/status - 주문 상태 일괄 변경 요청: {}건 -> {}", ids.size(), status);
+        long updated = orderMyBatisService.transitionOrderStatuses(ids, status);
+        return ResponseEntity.ok(Map.of("requested", (long) ids.size(), "updated", updated));
+    }
+
     /**
      * 주문 삭제
      */
@@ -0,0 +1,81 @@
+package com.benchmark.orm.domain.order.controller;
+
+import com.benchmark.orm.domain.order.dto.OrderDailyRollupDto;
+import com.benchmark.orm.domain.order.dto.OrderStatusRollupDto;
+import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.domain.order.service.OrderRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일자별/상태별 주문 집계 API 컨트롤러
+ * 집계 테이블(order_daily_rollup)만 읽으므로 조회 비용이 주문 수가 아닌 기간의 일 수에 비례
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/orders/rollup")
+@RequiredArgsConstructor
+public class OrderRollupController {
+
+    private final OrderRollupService orderRollupService;
+
+    /**
+     * 기간 내 일자별/상태별 집계 조회
+     * @param startDate 시작 일자 (포함, 생략 시 처음부터)
+     * @param endDate 종료 일자 (포함, 생략 시 끝까지)
+     * @param status 주문 상태 (생략 시 전체)
+     * @return 일자, 상태 순으로 정렬된 집계 목록
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<List<OrderDailyRollupDto>> getDailyRollups(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) OrderStatus status) {
+        return ResponseEntity.ok(orderRollupService.findDaily(startDate, endDate, status));
+    }
+
+    /**
+     * 기간 내 상태별 집계 합계 조회
+     * @param startDate 시작 일자 (포함, 생략 시 처음부터)
+     * @param endDate 종료 일자 (포함, 생략 시 끝까지)
+     * @return 상태별 집계 합계
+     */
+    @GetMapping("/status")
+    public ResponseEntity<List<OrderStatusRollupDto>> getStatusRollups(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(orderRollupService.sumByStatus(startDate, endDate));
+    }
+
+    /**
+     * 상태별 주문 수 조회 (집계 테이블 사용)
+     * @param status 주문 상태
+     * @return 주문 수
+     */
+    @GetMapping("/status/{status}/count")
+    public ResponseEntity<Long> countByStatus(@PathVariable OrderStatus status) {
+        return ResponseEntity.ok(orderRollupService.countByStatus(status));
+    }
+
+    /**
+     * 기간 내 집계를 orders/order_items에서 다시 계산 (백필, 집계 보정)
+     * @param startDate 시작 일자 (포함, 생략 시 처음부터)
+     * @param endDate 종료 일자 (포함, 생략 시 끝까지)
+     * @return 재구성된 집계 행 수
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuild(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        log.info("[Rollup] POST /api/orders/rollup/rebuild - 주문 집계 재구성 요청: {} ~ {}", startDate, endDate);
+        int rows = orderRollupService.rebuild(startDate, endDate);
+        return ResponseEntity.ok(Map.of("rows", rows));
+    }
+}
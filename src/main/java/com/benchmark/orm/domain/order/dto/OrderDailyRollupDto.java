@@ -0,0 +1,25 @@
+package com.benchmark.orm.domain.order.dto;
+
+import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별/상태별 주문 집계 DTO
+ * 조회 결과와 집계 증감분(음수 포함)을 모두 담음
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderDailyRollupDto {
+    private LocalDate rollupDate;
+    private OrderStatus status;
+    private long orderCount;
+    private long itemCount;
+    private long revenue;
+}
@@ -0,0 +1,49 @@
+package com.benchmark.orm.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 스트리밍 적재 결과 DTO (입력 한 줄당 하나)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderIngestResultDto {
+
+    /**
+     * 입력 줄 번호 (1부터 시작, 빈 줄도 셈)
+     */
+    private long line;
+
+    private Status status;
+
+    /**
+     * 생성된 주문 ID (실패 시 null)
+     */
+    private Long orderId;
+
+    /**
+     * 실패 사유 (성공 시 null)
+     */
+    private String message;
+
+    /**
+     * 적재 결과 상태
+     */
+    public enum Status {
+        CREATED,    // 저장됨
+        FAILED      // 저장되지 않음
+    }
+
+    public static OrderIngestResultDto created(long line, Long orderId) {
+        return new OrderIngestResultDto(line, Status.CREATED, orderId, null);
+    }
+
+    public static OrderIngestResultDto failed(long line, String message) {
+        return new OrderIngestResultDto(line, Status.FAILED, null, message);
+    }
+}
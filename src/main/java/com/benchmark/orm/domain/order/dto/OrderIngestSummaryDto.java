@@ -0,0 +1,26 @@
+package com.benchmark.orm.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 스트리밍 적재 요약 DTO (응답의 마지막 줄)
+ * 커밋 지연 시간은 묶음 하나의 트랜잭션 시작부터 커밋 완료까지의 시간
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderIngestSummaryDto {
+    private long total;
+    private long created;
+    private long failed;
+    private long batches;
+    private double elapsedMillis;
+    private double ordersPerSecond;
+    private double commitLatencyP50Millis;
+    private double commitLatencyP99Millis;
+    private double commitLatencyMaxMillis;
+}
@@ -48,13 +48,28 @@ public class OrderResponseDto {
             return null;
         }
 
+        return fromEntity(order, order.calculateTotalPrice());
+    }
+
+    /**
+     * 엔티티로부터 DTO 생성 (주문 총액을 집계 쿼리로 구한 경우)
+     * 목록 조회 시 주문마다 orderItems를 초기화하지 않도록 총액을 외부에서 전달받음
+     * @param order 주문 엔티티
+     * @param totalAmount 주문 총액
+     * @return 주문 응답 DTO (기본 정보만 포함)
+     */
+    public static OrderResponseDto fromEntity(Order order, Integer totalAmount) {
+        if (order == null) {
+            return null;
+        }
+
         return OrderResponseDto.builder()
                 .id(order.getId())
                 .orderDate(order.getOrderDate())
                 .status(order.getStatus())
                 .createdAt(order.getCreatedAt())
                 .updatedAt(order.getUpdatedAt())
-                .totalAmount(order.calculateTotalPrice())
+                .totalAmount(totalAmount)
                 .build();
     }
 
@@ -68,7 +83,21 @@ public class OrderResponseDto {
             return null;
         }
 
-        OrderResponseDto dto = fromEntity(order);
+        return fromEntityWithUser(order, order.calculateTotalPrice());
+    }
+
+    /**
+     * 엔티티로부터 DTO 생성 (사용자 정보 포함, 주문 총액을 집계 쿼리로 구한 경우)
+     * @param order 주문 엔티티
+     * @param totalAmount 주문 총액
+     * @return 주문 응답 DTO (사용자 정보 포함)
+     */
+    public static OrderResponseDto fromEntityWithUser(Order order, Integer totalAmount) {
+        if (order == null) {
+            return null;
+        }
+
+        OrderResponseDto dto = fromEntity(order, totalAmount);
 
         // 사용자 정보 설정
         if (order.getUser() != null) {
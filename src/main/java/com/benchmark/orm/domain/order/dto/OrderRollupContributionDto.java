@@ -0,0 +1,66 @@
+package com.benchmark.orm.domain.order.dto;
+
+import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.domain.order.entity.OrderItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 주문 하나가 일자별 집계에 더하는 값 (주문 1건, 주문 상품 수량 합계, 매출)
+ * 변경 전 값은 DB에서(OrderDailyRollupMapper.findContributions), 변경 후 값은 메모리의 엔티티에서 구함
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class OrderRollupContributionDto {
+    private Long orderId;
+    private LocalDateTime orderDate;
+    private OrderStatus status;
+    private long itemCount;
+    private long revenue;
+
+    /**
+     * 엔티티로부터 생성 (orderItems가 초기화됨)
+     * @param order 주문 엔티티
+     * @return 집계 기여분
+     */
+    public static OrderRollupContributionDto of(Order order) {
+        return of(order, order.getOrderItems());
+    }
+
+    /**
+     * 엔티티와 주문 상품 목록으로부터 생성 (MyBatis처럼 주문 상품을 따로 저장한 경우)
+     * @param order 주문 엔티티
+     * @param orderItems 주문 상품 목록
+     * @return 집계 기여분
+     */
+    public static OrderRollupContributionDto of(Order order, Collection<OrderItem> orderItems) {
+        long itemCount = 0;
+        long revenue = 0;
+        for (OrderItem orderItem : orderItems) {
+            itemCount += orderItem.getQuantity();
+            revenue += orderItem.calculateTotalPrice();
+        }
+        return new OrderRollupContributionDto(order.getId(), order.getOrderDate(), order.getStatus(), itemCount, revenue);
+    }
+
+    /**
+     * 주문 상품은 그대로 두고 주문 일자/상태만 바뀐 값
+     * @param orderDate 변경 후 주문 일자
+     * @param status 변경 후 상태
+     * @return 변경 후 집계 기여분
+     */
+    public OrderRollupContributionDto moveTo(LocalDateTime orderDate, OrderStatus status) {
+        return toBuilder()
+                .orderDate(orderDate)
+                .status(status)
+                .build();
+    }
+}
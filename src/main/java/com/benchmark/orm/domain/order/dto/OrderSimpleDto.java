@@ -28,13 +28,18 @@ public class OrderSimpleDto {
 
     // Entity to DTO
     public static OrderSimpleDto from(Order order) {
+        return from(order, order.calculateTotalPrice());
+    }
+
+    // Entity to DTO (주문 총액을 집계 쿼리로 구한 경우)
+    public static OrderSimpleDto from(Order order, Integer totalAmount) {
         return OrderSimpleDto.builder()
                 .id(order.getId())
                 .orderDate(order.getOrderDate())
                 .status(order.getStatus())
                 .userId(order.getUser() != null ? order.getUser().getId() : null)
                 .username(order.getUser() != null ? order.getUser().getUsername() : null)
-                .totalAmount(order.calculateTotalPrice())
+                .totalAmount(totalAmount)
                 .createdAt(order.getCreatedAt())
                 .updatedAt(order.getUpdatedAt())
                 .build();
@@ -0,0 +1,21 @@
+package com.benchmark.orm.domain.order.dto;
+
+import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상태별 주문 집계 DTO (기간 내 일자별 집계의 합)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatusRollupDto {
+    private OrderStatus status;
+    private long orderCount;
+    private long itemCount;
+    private long revenue;
+}
@@ -0,0 +1,19 @@
+package com.benchmark.orm.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문별 총액 집계 결과 DTO
+ * 주문 목록 조회 시 SUM(order_price * quantity) GROUP BY order_id 결과를 담음
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderTotalAmountDto {
+    private Long orderId;
+    private Integer totalAmount;
+}
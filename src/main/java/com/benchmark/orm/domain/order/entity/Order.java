@@ -2,6 +2,7 @@ package com.benchmark.orm.domain.order.entity;
 
 import com.benchmark.orm.domain.product.entity.Product;
 import com.benchmark.orm.domain.user.entity.User;
+import com.benchmark.orm.global.dto.KeysetSort;
 import com.benchmark.orm.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -11,9 +12,18 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Entity
+@NamedEntityGraph(name = "Order.withUser",
+        attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user"),
+        // User.profile은 연관관계 주인이 아닌 @OneToOne이라 지연 로딩되지 않으므로 함께 조인
+        subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("profile")))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,6 +31,12 @@ import java.util.List;
 @Table(name = "orders")
 public class Order extends BaseEntity {
 
+    /**
+     * 키셋(커서) 페이징에서 허용하는 정렬 필드 (그 외에는 ID 정렬)
+     */
+    public static final KeysetSort<Order> KEYSET_SORT = KeysetSort.byId(Order::getId)
+            .and("orderDate", "order_date", Order::getOrderDate, LocalDateTime::parse);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -40,13 +56,63 @@ public class Order extends BaseEntity {
 
     /**
      * 주문 상태 enum
+     * <p>
+     * 상태 전이: PENDING → PROCESSING → SHIPPED → DELIVERED, 취소(CANCELLED)는 PENDING/PROCESSING에서만 가능
+     * DELIVERED, CANCELLED는 최종 상태
      */
     public enum OrderStatus {
         PENDING,       // 대기중
         PROCESSING,    // 처리중
         SHIPPED,       // 배송중
         DELIVERED,     // 배송완료
-        CANCELLED      // 취소됨
+        CANCELLED;     // 취소됨
+
+        private static final Map<OrderStatus, Set<OrderStatus>> NEXT = new EnumMap<>(OrderStatus.class);
+        private static final Map<OrderStatus, Set<OrderStatus>> PREVIOUS = new EnumMap<>(OrderStatus.class);
+
+        static {
+            NEXT.put(PENDING, EnumSet.of(PROCESSING, CANCELLED));
+            NEXT.put(PROCESSING, EnumSet.of(SHIPPED, CANCELLED));
+            NEXT.put(SHIPPED, EnumSet.of(DELIVERED));
+            NEXT.put(DELIVERED, EnumSet.noneOf(OrderStatus.class));
+            NEXT.put(CANCELLED, EnumSet.noneOf(OrderStatus.class));
+
+            for (OrderStatus status : values()) {
+                PREVIOUS.put(status, EnumSet.noneOf(OrderStatus.class));
+            }
+            NEXT.forEach((from, targets) -> targets.forEach(to -> PREVIOUS.get(to).add(from)));
+        }
+
+        /**
+         * 지정한 상태로 전이 가능 여부
+         *
+         * @param next 변경할 상태
+         * @return 전이 가능하면 true
+         */
+        public boolean canTransitionTo(OrderStatus next) {
+            return NEXT.get(this).contains(next);
+        }
+
+        /**
+         * 지정한 상태로 전이 가능한지 검증
+         *
+         * @param next 변경할 상태
+         * @throws RuntimeException 허용되지 않는 전이인 경우
+         */
+        public void validateTransitionTo(OrderStatus next) {
+            if (!canTransitionTo(next)) {
+                throw new RuntimeException("주문 상태를 " + this + "에서 " + next + "(으)로 변경할 수 없습니다.");
+            }
+        }
+
+        /**
+         * 이 상태로 전이할 수 있는 이전 상태 목록 (조건부 UPDATE의 WHERE status IN 조건)
+         *
+         * @return 이전 상태 목록 (수정 불가)
+         */
+        public Set<OrderStatus> previousStatuses() {
+            return Collections.unmodifiableSet(PREVIOUS.get(this));
+        }
     }
 
     /**
@@ -61,16 +127,31 @@ public class Order extends BaseEntity {
     }
 
     /**
-     * 주문 상태 변경
+     * 주문 상태 변경 (허용된 전이만, 같은 상태로의 변경은 그대로 둠)
      *
      * @param status 변경할 주문 상태
      * @return 현재 주문 엔티티
+     * @throws RuntimeException 허용되지 않는 전이인 경우
      */
     public Order changeStatus(OrderStatus status) {
+        if (this.status != null && this.status != status) {
+            this.status.validateTransitionTo(status);
+        }
         this.status = status;
         return this;
     }
 
+    /**
+     * 조건부 UPDATE로 DB에 이미 반영된 상태 전이를 엔티티에 맞춤 (전이 검증은 UPDATE 전에 끝남)
+     *
+     * @param status 변경된 주문 상태
+     * @param updatedAt DB에 기록한 수정 시각
+     */
+    public void applyStatusTransition(OrderStatus status, LocalDateTime updatedAt) {
+        this.status = status;
+        markUpdated(updatedAt);
+    }
+
     /**
      * 주문자 변경
      *
@@ -0,0 +1,51 @@
+package com.benchmark.orm.domain.order.entity;
+
+import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일자별/상태별 주문 집계 엔티티
+ * 주문 생성/수정/상태 변경/삭제 시 같은 트랜잭션에서 증감하며 (OrderRollupService),
+ * 기간 집계 조회는 orders/order_items 대신 이 테이블을 읽어 주문 수가 아닌 일 수에 비례하는 비용으로 처리
+ * 갱신과 조회는 MyBatis(OrderDailyRollupMapper)로 하고, 엔티티는 테이블 정의용
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "order_daily_rollup")
+@IdClass(OrderDailyRollup.Key.class)
+public class OrderDailyRollup {
+
+    @Id
+    private LocalDate rollupDate;   // 주문 일자 (orders.order_date의 날짜)
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;     // 주문 상태
+
+    private long orderCount;        // 주문 수
+    private long itemCount;         // 주문 상품 수량 합계
+    private long revenue;           // 매출 합계 (주문 가격 * 수량)
+
+    /**
+     * 복합 키 (일자, 상태)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate rollupDate;
+        private OrderStatus status;
+    }
+}
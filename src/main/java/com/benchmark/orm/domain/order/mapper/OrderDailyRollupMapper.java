@@ -0,0 +1,77 @@
+package com.benchmark.orm.domain.order.mapper;
+
+import com.benchmark.orm.domain.order.dto.OrderDailyRollupDto;
+import com.benchmark.orm.domain.order.dto.OrderRollupContributionDto;
+import com.benchmark.orm.domain.order.dto.OrderStatusRollupDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 일자별/상태별 주문 집계 매퍼 인터페이스
+ */
+@Mapper
+public interface OrderDailyRollupMapper {
+    /**
+     * 집계 행에 증감분 더하기 (행이 없으면 증감분으로 추가)
+     * DB별 upsert 구문(H2 MERGE, MySQL ON DUPLICATE KEY UPDATE, PostgreSQL ON CONFLICT)을 databaseId로 선택
+     *
+     * @param delta 증감분 (rollupDate, status로 행을 찾음)
+     */
+    void upsertDelta(OrderDailyRollupDto delta);
+
+    /**
+     * 기간 내 집계 행 삭제 (재구성용)
+     *
+     * @param startDate 시작 일자 (포함, null이면 제한 없음)
+     * @param endDate 종료 일자 (포함, null이면 제한 없음)
+     * @return 삭제된 행 수
+     */
+    int deleteByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * orders/order_items를 집계해 기간 내 집계 행을 다시 채움 (재구성용)
+     *
+     * @param startDateTime 시작 주문 일시 (포함, null이면 제한 없음)
+     * @param endDateTime 종료 주문 일시 (미포함, null이면 제한 없음)
+     * @return 추가된 행 수
+     */
+    int insertFromOrders(@Param("startDateTime") LocalDateTime startDateTime,
+                         @Param("endDateTime") LocalDateTime endDateTime);
+
+    /**
+     * 주문별 집계 기여분 조회 (변경 전 값)
+     *
+     * @param orderIds 주문 ID 목록
+     * @param statuses 이 상태인 주문만 조회 (null이면 제한 없음)
+     * @return 주문별 집계 기여분 (없는 주문은 제외)
+     */
+    List<OrderRollupContributionDto> findContributions(@Param("orderIds") Collection<Long> orderIds,
+                                                       @Param("statuses") Collection<String> statuses);
+
+    /**
+     * 기간 내 일자별/상태별 집계 조회 (주문 수가 0이 된 행은 제외)
+     *
+     * @param startDate 시작 일자 (포함, null이면 제한 없음)
+     * @param endDate 종료 일자 (포함, null이면 제한 없음)
+     * @param status 상태 (null이면 전체)
+     * @return 일자, 상태 순으로 정렬된 집계 목록
+     */
+    List<OrderDailyRollupDto> findByDateBetween(@Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate,
+                                                @Param("status") String status);
+
+    /**
+     * 기간 내 상태별 집계 합계 조회 (주문 수 합계가 0인 상태는 제외)
+     *
+     * @param startDate 시작 일자 (포함, null이면 제한 없음)
+     * @param endDate 종료 일자 (포함, null이면 제한 없음)
+     * @return 상태별 집계 합계
+     */
+    List<OrderStatusRollupDto> sumByStatus(@Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+}
@@ -1,5 +1,6 @@
 package com.benchmark.orm.domain.order.mapper;
 
+import com.benchmark.orm.domain.order.dto.OrderTotalAmountDto;
 import com.benchmark.orm.domain.order.entity.OrderItem;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -18,6 +19,14 @@ public interface OrderItemMapper {
      */
     void insert(OrderItem orderItem);
 
+    /**
+     * 주문 상품 여러 건을 INSERT 한 번으로 저장 (multi-row VALUES)
+     * 생성된 ID는 각 OrderItem의 id 필드에 채워짐
+     *
+     * @param orderItems 저장할 주문 상품 목록 (비어 있으면 안 됨)
+     */
+    void insertAll(@Param("orderItems") List<OrderItem> orderItems);
+
     /**
      * 주문 상품 수정
      *
@@ -149,4 +158,12 @@ public interface OrderItemMapper {
      * @return 주문 상품 목록
      */
     List<OrderItem> findMostOrderedProducts(int limit);
+
+    /**
+     * 주문 ID 목록에 대한 주문별 총액 조회
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 주문별 총액 목록 (주문 상품이 없는 주문은 포함되지 않음)
+     */
+    List<OrderTotalAmountDto> findTotalAmountsByOrderIds(@Param("orderIds") List<Long> orderIds);
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.benchmark.orm.domain.order.mapper;
 
 import com.benchmark.orm.domain.order.dto.OrderSearchDto;
+import com.benchmark.orm.domain.order.dto.OrderSimpleDto;
 import com.benchmark.orm.domain.order.entity.Order;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,6 +23,14 @@ public interface OrderMapper {
      */
     void insert(Order order);
 
+    /**
+     * 주문 여러 건을 INSERT 한 번으로 저장 (multi-row VALUES)
+     * 생성된 ID는 각 Order의 id 필드에 채워짐
+     *
+     * @param orders 저장할 주문 목록 (비어 있으면 안 됨)
+     */
+    void insertAll(@Param("orders") List<Order> orders);
+
     /**
      * 주문 수정
      *
@@ -28,13 +39,36 @@ public interface OrderMapper {
     void update(Order order);
 
     /**
-     * 주문 상태 수정
+     * 주문 상태 수정 (전이 검증 없이 덮어씀, 서비스에서는 transitionStatus 사용)
      *
      * @param id 주문 ID
      * @param status 변경할 상태
      */
     void updateStatus(@Param("id") Long id, @Param("status") String status);
 
+    /**
+     * 주문 상태 전이 (현재 상태가 from인 경우에만 변경하는 조건부 UPDATE)
+     * 전이 허용 여부는 호출하는 쪽에서 OrderStatus.validateTransitionTo로 검증
+     *
+     * @param id 주문 ID
+     * @param from 현재 상태
+     * @param to 변경할 상태
+     * @return 변경된 행 수 (주문이 없거나 상태가 이미 바뀐 경우 0)
+     */
+    int transitionStatus(@Param("id") Long id, @Param("from") String from, @Param("to") String to);
+
+    /**
+     * 여러 주문 상태 일괄 전이 (현재 상태가 fromStatuses 중 하나인 주문만 변경)
+     *
+     * @param ids 주문 ID 목록
+     * @param fromStatuses 전이 가능한 이전 상태 목록
+     * @param to 변경할 상태
+     * @return 변경된 행 수
+     */
+    int transitionStatusAll(@Param("ids") Collection<Long> ids,
+                            @Param("fromStatuses") Collection<String> fromStatuses,
+                            @Param("to") String to);
+
     /**
      * 주문 삭제
      *
@@ -91,6 +125,13 @@ public interface OrderMapper {
      */
     List<Order> findAll();
 
+    /**
+     * 모든 주문을 사용자명, 총 금액과 함께 커서로 조회 (ID 순, 내보내기용)
+     *
+     * @return 주문 요약 커서 (트랜잭션 안에서 순회해야 함)
+     */
+    Cursor<OrderSimpleDto> streamAllSimple();
+
     /**
      * 페이징된 주문 조회
      *
@@ -124,6 +165,23 @@ public interface OrderMapper {
             @Param("sortColumn") String sortColumn,
             @Param("sortDirection") String sortDirection);
 
+    /**
+     * 키셋(커서) 방식으로 주문 조회
+     *
+     * @param sortColumn 정렬 컬럼 (id, order_date)
+     * @param sortDirection 정렬 방향 (asc/desc)
+     * @param cursorValue 마지막으로 조회한 행의 정렬 값 (첫 페이지이거나 정렬 값이 NULL인 행이면 null)
+     * @param cursorId 마지막으로 조회한 행의 ID (첫 페이지는 null)
+     * @param limit 조회 개수
+     * @return 주문 목록
+     */
+    List<Order> findAllWithKeyset(
+            @Param("sortColumn") String sortColumn,
+            @Param("sortDirection") String sortDirection,
+            @Param("cursorValue") Object cursorValue,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit);
+
     /**
      * 사용자별 주문 총 금액 계산
      *
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -61,4 +62,13 @@ public interface OrderItemRepositoryCustom {
      * @return 주문 상품 목록
      */
     List<OrderItem> findMostOrderedProducts(int limit);
+
+    /**
+     * 주문 ID 목록에 대한 주문별 총액 조회
+     * 주문마다 orderItems 컬렉션을 초기화하지 않고 한 번의 SUM ... GROUP BY 쿼리로 계산
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 주문 ID별 총액 (주문 상품이 없는 주문은 포함되지 않음)
+     */
+    Map<Long, Integer> findTotalAmountsByOrderIds(List<Long> orderIds);
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package com.benchmark.orm.domain.order.repository;
 import com.benchmark.orm.domain.order.entity.OrderItem;
 import com.benchmark.orm.domain.order.entity.QOrderItem;
 import com.benchmark.orm.domain.product.entity.QProduct;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
@@ -12,7 +14,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -103,13 +108,15 @@ public class OrderItemRepositoryCustomImpl implements OrderItemRepositoryCustom
     @Override
     public List<OrderItem> findMostOrderedProducts(int limit) {
         QOrderItem orderItem = QOrderItem.orderItem;
+        QOrderItem subItem = new QOrderItem("subItem");
 
         // 1단계: 각 상품별 총 주문 수량을 계산하여 상위 N개 상품 ID 추출
         List<Long> productIds = queryFactory
                 .select(orderItem.product.id)
                 .from(orderItem)
+                .where(orderItem.product.id.isNotNull())
                 .groupBy(orderItem.product.id)
-                .orderBy(orderItem.quantity.sum().desc())
+                .orderBy(orderItem.quantity.sum().desc(), orderItem.product.id.asc())
                 .limit(limit)
                 .fetch();
 
@@ -117,17 +124,29 @@ public class OrderItemRepositoryCustomImpl implements OrderItemRepositoryCustom
             return List.of();
         }
 
-        // 2단계: 각 상품 ID에 대해 가장 큰 주문 수량을 가진 주문상품 하나씩만 조회
-        List<OrderItem> result = new ArrayList<>();
+        // 2단계: 상위 상품들의 대표 주문상품(상품별 최대 주문 수량)을 한 번의 쿼리로 조회
+        // 상품 ID마다 fetchFirst()를 실행하던 방식(limit + 1번 쿼리)을 상관 서브쿼리(MAX)로 대체
+        List<OrderItem> candidates = queryFactory
+                .selectFrom(orderItem)
+                .join(orderItem.product).fetchJoin()
+                .where(orderItem.product.id.in(productIds),
+                        orderItem.quantity.eq(JPAExpressions
+                                .select(subItem.quantity.max())
+                                .from(subItem)
+                                .where(subItem.product.id.eq(orderItem.product.id))))
+                .orderBy(orderItem.id.asc())
+                .fetch();
 
-        for (Long productId : productIds) {
-            OrderItem item = queryFactory
-                    .selectFrom(orderItem)
-                    .join(orderItem.product).fetchJoin()
-                    .where(orderItem.product.id.eq(productId))
-                    .orderBy(orderItem.quantity.desc())
-                    .fetchFirst(); // 각 상품 ID에 대해 가장 큰 주문 수량을 가진 항목 하나만 가져옴
+        // 최대 수량이 같은 주문상품이 여러 개면 ID가 가장 작은 것 하나만 사용
+        Map<Long, OrderItem> itemByProductId = new HashMap<>();
+        for (OrderItem item : candidates) {
+            itemByProductId.putIfAbsent(item.getProduct().getId(), item);
+        }
 
+        // 1단계의 총 주문 수량 순서대로 정렬
+        List<OrderItem> result = new ArrayList<>();
+        for (Long productId : productIds) {
+            OrderItem item = itemByProductId.get(productId);
             if (item != null) {
                 result.add(item);
             }
@@ -135,4 +154,29 @@ public class OrderItemRepositoryCustomImpl implements OrderItemRepositoryCustom
 
         return result;
     }
+
+    @Override
+    public Map<Long, Integer> findTotalAmountsByOrderIds(List<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        QOrderItem orderItem = QOrderItem.orderItem;
+        NumberExpression<Integer> totalAmount = orderItem.orderPrice.multiply(orderItem.quantity).sum();
+
+        List<Tuple> results = queryFactory
+                .select(orderItem.order.id, totalAmount)
+                .from(orderItem)
+                .where(orderItem.order.id.in(orderIds))
+                .groupBy(orderItem.order.id)
+                .fetch();
+
+        // SUM 결과 타입은 DB/Hibernate 버전에 따라 Long으로 반환될 수 있으므로 Number로 받아서 변환
+        Map<Long, Integer> totalAmounts = new HashMap<>();
+        for (Tuple result : results) {
+            Number amount = result.get(1, Number.class);
+            totalAmounts.put(result.get(orderItem.order.id), amount != null ? amount.intValue() : 0);
+        }
+        return totalAmounts;
+    }
 }
\ No newline at end of file
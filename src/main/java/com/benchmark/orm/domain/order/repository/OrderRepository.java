@@ -2,15 +2,21 @@ package com.benchmark.orm.domain.order.repository;
 
 import com.benchmark.orm.domain.order.entity.Order;
 import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.global.export.NdjsonWriter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 주문 리포지토리 인터페이스
@@ -52,6 +58,17 @@ public interface OrderRepository extends JpaRepository<Order, Long>, OrderReposi
      */
     List<Order> findByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * 사용자와 함께 주문 페이징 조회 (Order.withUser 엔티티 그래프)
+     * 페이지 크기와 관계없이 주문/사용자(프로필 포함)를 한 번의 조인으로 읽으므로 목록 DTO의 사용자명 조회가 추가 쿼리를 만들지 않음
+     *
+     * @param pageable 페이징 정보
+     * @return 페이징된 주문 목록
+     */
+    @EntityGraph("Order.withUser")
+    @Query(value = "SELECT o FROM Order o", countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<Order> findAllWithUser(Pageable pageable);
+
     /**
      * JPQL을 사용한 사용자 ID로 주문 조회
      *
@@ -137,4 +154,14 @@ public interface OrderRepository extends JpaRepository<Order, Long>, OrderReposi
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable);
+
+    /**
+     * 모든 주문을 ID 순으로 스트리밍 조회 (사용자 페치 조인, 주문 총액은 스칼라 서브쿼리)
+     * 주문 상품 컬렉션을 로딩하지 않고 총액을 같은 행에서 구함
+     * @return [주문, 총액] 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonWriter.FETCH_SIZE))
+    @Query("SELECT o, (SELECT COALESCE(SUM(oi.orderPrice * oi.quantity), 0) FROM OrderItem oi WHERE oi.order = o) " +
+            "FROM Order o LEFT JOIN FETCH o.user u LEFT JOIN FETCH u.profile p LEFT JOIN FETCH p.profileImage ORDER BY o.id")
+    Stream<Object[]> streamAllWithTotalAmount();
 }
\ No newline at end of file
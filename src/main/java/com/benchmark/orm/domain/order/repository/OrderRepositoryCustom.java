@@ -3,11 +3,13 @@ package com.benchmark.orm.domain.order.repository;
 import com.benchmark.orm.domain.order.dto.OrderSearchDto;
 import com.benchmark.orm.domain.order.entity.Order;
 import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.global.dto.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +36,17 @@ public interface OrderRepositoryCustom {
      */
     Page<Order> findAllWithPaging(Pageable pageable);
 
+    /**
+     * 키셋(커서) 방식으로 주문 조회
+     *
+     * @param sortBy 정렬 기준 필드 (id, orderDate)
+     * @param ascending 오름차순 여부
+     * @param after 마지막으로 조회한 행의 커서 (첫 페이지는 null)
+     * @param limit 조회 개수
+     * @return 커서 이후의 주문 리스트
+     */
+    List<Order> findAllWithKeyset(String sortBy, boolean ascending, KeysetCursor after, int limit);
+
     /**
      * 특정 정렬 방식으로 모든 주문 조회
      *
@@ -120,11 +133,36 @@ public interface OrderRepositoryCustom {
     List<Order> findRecentOrders(int limit);
 
     /**
-     * 주문 상태 변경
+     * 주문 상태 전이 (UPDATE ... WHERE id = ? AND status = ? 한 문장)
+     * 다시 조회하지 않고, 변경되면 전달받은 엔티티에 상태와 수정 시각을 맞춤
      *
-     * @param orderId 주문 ID
-     * @param status 변경할 상태
-     * @return 변경된 주문
+     * @param order 호출자가 조회한 주문 (현재 상태가 DB와 다르면 변경하지 않음)
+     * @param to 변경할 상태
+     * @return 변경되었으면 true (주문이 없거나 상태가 이미 바뀐 경우 false)
+     * @throws RuntimeException 허용되지 않는 전이인 경우
+     */
+    boolean transitionStatus(Order order, OrderStatus to);
+
+    /**
+     * 여러 주문 상태 일괄 전이 (UPDATE ... WHERE id IN (...) AND status IN (이전 상태 목록))
+     * 현재 상태에서 to로 전이할 수 없는 주문은 건너뜀
+     *
+     * @param orderIds 주문 ID 목록
+     * @param to 변경할 상태
+     * @return 변경된 주문 수
+     */
+    default long transitionStatus(Collection<Long> orderIds, OrderStatus to) {
+        return transitionStatus(orderIds, to, List.of());
+    }
+
+    /**
+     * 여러 주문 상태 일괄 전이
+     * 호출자가 이미 로드한 주문 엔티티 중 아직 영속 상태인 것만 상태와 수정 시각을 맞춤 (나머지는 조회하거나 프록시를 만들지 않음)
+     *
+     * @param orderIds 주문 ID 목록
+     * @param to 변경할 상태
+     * @param loadedOrders 호출자가 이미 로드한 주문 엔티티
+     * @return 변경된 주문 수
      */
-    Order updateOrderStatus(Long orderId, OrderStatus status);
+    long transitionStatus(Collection<Long> orderIds, OrderStatus to, Collection<Order> loadedOrders);
 }
\ No newline at end of file
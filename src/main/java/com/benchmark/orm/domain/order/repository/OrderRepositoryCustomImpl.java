@@ -6,11 +6,14 @@ import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
 import com.benchmark.orm.domain.order.entity.QOrder;
 import com.benchmark.orm.domain.order.entity.QOrderItem;
 import com.benchmark.orm.domain.user.entity.QUser;
+import com.benchmark.orm.global.dto.KeysetCursor;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -19,9 +22,15 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * OrderRepositoryCustom 인터페이스의 QueryDSL 구현체
@@ -29,6 +38,11 @@ import java.util.Optional;
 @Repository
 public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
 
+    /**
+     * 일괄 상태 전이 시 UPDATE 한 문장의 IN 절에 담을 최대 주문 ID 수
+     */
+    private static final int STATUS_UPDATE_CHUNK_SIZE = 1000;
+
     private final EntityManager entityManager;
     private final JPAQueryFactory queryFactory;
 
@@ -65,6 +79,20 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
         return new PageImpl<>(orders, pageable, total);
     }
 
+    @Override
+    public List<Order> findAllWithKeyset(String sortBy, boolean ascending, KeysetCursor after, int limit) {
+        QOrder order = QOrder.order;
+
+        Map<String, ComparableExpressionBase<?>> paths = Map.of("orderDate", order.orderDate);
+
+        return queryFactory
+                .selectFrom(order)
+                .where(Order.KEYSET_SORT.afterCondition(sortBy, ascending, after, order.id, paths))
+                .orderBy(Order.KEYSET_SORT.orderBy(sortBy, ascending, order.id, paths))
+                .limit(limit)
+                .fetch();
+    }
+
     @Override
     public List<Order> findAllWithSorting(Sort sort) {
         QOrder order = QOrder.order;
@@ -312,28 +340,84 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
 
     @Override
     @Transactional
-    public Order updateOrderStatus(Long orderId, OrderStatus status) {
+    public boolean transitionStatus(Order loaded, OrderStatus to) {
+        OrderStatus from = loaded.getStatus();
+        from.validateTransitionTo(to);
         QOrder order = QOrder.order;
 
-        // 주문 상태 업데이트
+        LocalDateTime updatedAt = now();
         long updated = queryFactory
                 .update(order)
-                .set(order.status, status)
-                .where(order.id.eq(orderId))
+                .set(order.status, to)
+                .set(order.updatedAt, updatedAt)
+                .where(order.id.eq(loaded.getId()), order.status.eq(from))
                 .execute();
+        if (updated == 0) {
+            return false;
+        }
 
-        // 영속성 컨텍스트 초기화
-        entityManager.flush();
-        entityManager.clear();
+        applyTransition(loaded, to, updatedAt);
+        return true;
+    }
 
-        // 업데이트된 주문 조회
-        if (updated > 0) {
-            return queryFactory
-                    .selectFrom(order)
-                    .where(order.id.eq(orderId))
-                    .fetchOne();
+    @Override
+    @Transactional
+    public long transitionStatus(Collection<Long> orderIds, OrderStatus to, Collection<Order> loadedOrders) {
+        Set<OrderStatus> previousStatuses = to.previousStatuses();
+        if (orderIds.isEmpty() || previousStatuses.isEmpty()) {
+            return 0;
+        }
+        QOrder order = QOrder.order;
+
+        // 호출자가 이미 로드한 주문 중 아직 영속 상태이고 전이 대상인 것만 맞춤 (프록시를 새로 만들지 않음)
+        Map<Long, Order> managed = new HashMap<>();
+        for (Order loaded : loadedOrders) {
+            if (entityManager.contains(loaded) && previousStatuses.contains(loaded.getStatus())) {
+                managed.put(loaded.getId(), loaded);
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(orderIds));
+        long updated = 0;
+        for (int start = 0; start < ids.size(); start += STATUS_UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(start + STATUS_UPDATE_CHUNK_SIZE, ids.size()));
+            LocalDateTime updatedAt = now();
+            updated += queryFactory
+                    .update(order)
+                    .set(order.status, to)
+                    .set(order.updatedAt, updatedAt)
+                    .where(order.id.in(chunk), order.status.in(previousStatuses))
+                    .execute();
+            for (Long id : chunk) {
+                Order loaded = managed.get(id);
+                if (loaded != null) {
+                    applyTransition(loaded, to, updatedAt);
+                }
+            }
         }
+        return updated;
+    }
 
-        return null;
+    /**
+     * UPDATE에 기록할 수정 시각 (TIMESTAMP 컬럼 정밀도인 마이크로초로 잘라 엔티티 값과 DB 값을 같게 맞춤)
+     */
+    private LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * UPDATE 문은 영속성 컨텍스트를 거치지 않으므로, DB에 기록한 상태/수정 시각을 이미 로드된 엔티티에 직접 맞춤 (다시 조회하지 않음)
+     * 영속 엔티티는 읽기 전용으로 잠시 바꿨다 되돌려 현재 값을 변경 감지 스냅샷으로 삼으므로 커밋 시 UPDATE가 한 번 더 나가지 않음
+     */
+    private void applyTransition(Order loaded, OrderStatus to, LocalDateTime updatedAt) {
+        loaded.applyStatusTransition(to, updatedAt);
+        if (!entityManager.contains(loaded)) {
+            return;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        if (!session.isReadOnly(loaded)) {
+            session.setReadOnly(loaded, true);
+            session.setReadOnly(loaded, false);
+        }
     }
-}
\ No newline at end of file
+}
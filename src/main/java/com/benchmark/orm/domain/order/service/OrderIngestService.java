@@ -0,0 +1,369 @@
+package com.benchmark.orm.domain.order.service;
+
+import com.benchmark.orm.domain.order.dto.OrderIngestResultDto;
+import com.benchmark.orm.domain.order.dto.OrderIngestSummaryDto;
+import com.benchmark.orm.domain.order.dto.OrderRequestDto;
+import com.benchmark.orm.domain.order.dto.OrderRollupContributionDto;
+import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.domain.order.entity.OrderItem;
+import com.benchmark.orm.domain.order.mapper.OrderItemMapper;
+import com.benchmark.orm.domain.order.mapper.OrderMapper;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.mapper.ProductMapper;
+import com.benchmark.orm.domain.user.entity.User;
+import com.benchmark.orm.domain.user.mapper.UserMapper;
+import com.benchmark.orm.global.batch.BatchLoader;
+import com.benchmark.orm.global.batch.BatchLoaderRegistry;
+import com.benchmark.orm.global.metrics.LatencyMetrics;
+import com.benchmark.orm.global.metrics.OrmTechnique;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * NDJSON 주문 스트리밍 적재 서비스
+ * <p>
+ * 요청 본문을 한 줄씩 읽어(OrderRequestDto JSON 하나) 묶음으로 모은 뒤, 묶음마다 트랜잭션 하나로 저장함 (group commit)
+ * 묶음은 benchmark.order-ingest.batch-size건이 모이거나 첫 건이 들어온 뒤 max-delay가 지나면 닫음
+ * 읽기는 별도 스레드에서 하므로 업스트림이 잠시 멈춰도 모인 주문은 max-delay 안에 커밋됨
+ * <p>
+ * 묶음 저장 방식 (MyBatis)
+ * - 사용자/상품은 BatchLoader로 IN 절 조회, 없는 사용자/상품을 참조한 주문은 저장하지 않고 실패로 응답
+ * - orders, order_items는 multi-row INSERT로 저장하고, 일자별 주문 집계는 묶음 단위로 합쳐 반영
+ * - 묶음 트랜잭션이 실패하면 (DB 오류 등) 그 묶음만 한 건씩 다시 저장해 실패한 주문을 가려냄
+ * <p>
+ * 결과는 묶음이 커밋될 때마다 입력 순서대로 한 줄씩(OrderIngestResultDto) 출력하고, 마지막 줄에 요약(OrderIngestSummaryDto)을 출력함
+ * 묶음 커밋 지연 시간은 LatencyMetrics에도 (Order, ingestBatch, MYBATIS)로 기록함
+ */
+@Slf4j
+@Service
+public class OrderIngestService {
+
+    /**
+     * multi-row INSERT 한 문장에 담을 최대 행 수
+     */
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private static final Line END = new Line(-1, null);
+    private static final byte NEW_LINE = '\n';
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final OrderMapper orderMapper;
+    private final OrderItemMapper orderItemMapper;
+    private final UserMapper userMapper;
+    private final ProductMapper productMapper;
+    private final BatchLoaderRegistry batchLoaderRegistry;
+    private final OrderRollupService orderRollupService;
+    private final LatencyMetrics latencyMetrics;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long maxDelayNanos;
+
+    public OrderIngestService(OrderMapper orderMapper,
+                              OrderItemMapper orderItemMapper,
+                              UserMapper userMapper,
+                              ProductMapper productMapper,
+                              BatchLoaderRegistry batchLoaderRegistry,
+                              OrderRollupService orderRollupService,
+                              LatencyMetrics latencyMetrics,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @org.springframework.beans.factory.annotation.Value("${benchmark.order-ingest.batch-size:500}") int batchSize,
+                              @org.springframework.beans.factory.annotation.Value("${benchmark.order-ingest.max-delay:200ms}") Duration maxDelay) {
+        this.orderMapper = orderMapper;
+        this.orderItemMapper = orderItemMapper;
+        this.userMapper = userMapper;
+        this.productMapper = productMapper;
+        this.batchLoaderRegistry = batchLoaderRegistry;
+        this.orderRollupService = orderRollupService;
+        this.latencyMetrics = latencyMetrics;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+    }
+
+    /**
+     * NDJSON 주문 스트림 적재
+     *
+     * @param in 요청 본문 (한 줄에 OrderRequestDto JSON 하나, 빈 줄은 무시)
+     * @param out 응답 본문 (한 줄에 결과 하나, 마지막 줄은 요약)
+     * @return 적재 요약
+     */
+    public OrderIngestSummaryDto ingest(InputStream in, OutputStream out) throws IOException {
+        long startTime = System.nanoTime();
+        BlockingQueue<Line> queue = new ArrayBlockingQueue<>(batchSize * 2);
+        AtomicReference<IOException> readFailure = new AtomicReference<>();
+        Thread reader = new Thread(() -> readLines(in, queue, readFailure), "order-ingest-reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        Histogram commitLatency = new Histogram(3);
+        long total = 0;
+        long created = 0;
+        long batches = 0;
+        try {
+            List<Line> batch = new ArrayList<>(batchSize);
+            boolean end = false;
+            while (!end) {
+                end = fillBatch(queue, batch);
+                if (batch.isEmpty()) {
+                    continue;
+                }
+
+                List<OrderIngestResultDto> results = processBatch(batch, commitLatency);
+                for (OrderIngestResultDto result : results) {
+                    out.write(objectMapper.writeValueAsBytes(result));
+                    out.write(NEW_LINE);
+                    if (result.getStatus() == OrderIngestResultDto.Status.CREATED) {
+                        created++;
+                    }
+                }
+                out.flush();
+                total += results.size();
+                batches++;
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("주문 적재 중 인터럽트되었습니다", e);
+        } finally {
+            // 응답 쓰기 실패 등으로 먼저 끝나면 읽기 스레드가 큐에서 기다리지 않도록 중단
+            reader.interrupt();
+        }
+        if (readFailure.get() != null) {
+            throw readFailure.get();
+        }
+
+        double elapsedNanos = System.nanoTime() - startTime;
+        OrderIngestSummaryDto summary = OrderIngestSummaryDto.builder()
+                .total(total)
+                .created(created)
+                .failed(total - created)
+                .batches(batches)
+                .elapsedMillis(elapsedNanos / NANOS_PER_MILLI)
+                .ordersPerSecond(elapsedNanos > 0 ? created * 1_000_000_000.0 / elapsedNanos : 0)
+                .commitLatencyP50Millis(commitLatency.getValueAtPercentile(50) / NANOS_PER_MILLI)
+                .commitLatencyP99Millis(commitLatency.getValueAtPercentile(99) / NANOS_PER_MILLI)
+                .commitLatencyMaxMillis(commitLatency.getMaxValue() / NANOS_PER_MILLI)
+                .build();
+        out.write(objectMapper.writeValueAsBytes(summary));
+        out.write(NEW_LINE);
+        out.flush();
+
+        log.info("[Ingest] 주문 적재 완료 - 전체: {}, 저장: {}, 묶음: {}, {} orders/sec",
+                total, created, batches, String.format("%.1f", summary.getOrdersPerSecond()));
+        return summary;
+    }
+
+    /**
+     * 큐에서 묶음 하나를 채움 (batchSize건이 모이거나 첫 건 이후 maxDelay가 지나면 반환)
+     *
+     * @return 입력이 끝났으면 true
+     */
+    private boolean fillBatch(BlockingQueue<Line> queue, List<Line> batch) throws InterruptedException {
+        Line first = queue.take();
+        if (first == END) {
+            return true;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            Line next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return false;
+            }
+            if (next == END) {
+                return true;
+            }
+            batch.add(next);
+        }
+        return false;
+    }
+
+    /**
+     * 묶음 하나 저장
+     *
+     * @return 입력 순서대로의 결과
+     */
+    private List<OrderIngestResultDto> processBatch(List<Line> batch, Histogram commitLatency) {
+        List<OrderIngestResultDto> results = new ArrayList<>(batch.size());
+        List<Record> records = new ArrayList<>(batch.size());
+        for (Line line : batch) {
+            try {
+                OrderRequestDto request = objectMapper.readValue(line.getText(), OrderRequestDto.class);
+                if (request.getUserId() == null) {
+                    results.add(OrderIngestResultDto.failed(line.getNumber(), "userId가 없습니다."));
+                } else {
+                    records.add(new Record(line.getNumber(), request));
+                }
+            } catch (JsonProcessingException e) {
+                results.add(OrderIngestResultDto.failed(line.getNumber(), "JSON 형식이 잘못되었습니다: " + e.getOriginalMessage()));
+            }
+        }
+
+        if (!records.isEmpty()) {
+            try {
+                results.addAll(saveInTransaction(records, commitLatency));
+            } catch (RuntimeException e) {
+                // 묶음 전체가 롤백되었으므로 한 건씩 다시 저장해 실패한 주문만 가려냄
+                log.warn("[Ingest] 묶음 저장 실패, 한 건씩 다시 저장 - 건수: {}, 원인: {}",
+                        records.size(), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                for (Record record : records) {
+                    try {
+                        results.addAll(saveInTransaction(List.of(record), commitLatency));
+                    } catch (RuntimeException recordFailure) {
+                        results.add(OrderIngestResultDto.failed(record.getLine(),
+                                "저장에 실패했습니다: " + NestedExceptionUtils.getMostSpecificCause(recordFailure).getMessage()));
+                    }
+                }
+            }
+        }
+
+        results.sort(Comparator.comparingLong(OrderIngestResultDto::getLine));
+        return results;
+    }
+
+    private List<OrderIngestResultDto> saveInTransaction(List<Record> records, Histogram commitLatency) {
+        long startTime = System.nanoTime();
+        List<OrderIngestResultDto> results = transactionTemplate.execute(status -> save(records));
+        long elapsed = System.nanoTime() - startTime;
+        commitLatency.recordValue(elapsed);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "ingestBatch", elapsed);
+        return results;
+    }
+
+    /**
+     * 사용자/상품을 IN 절로 조회한 뒤 주문과 주문 상품을 multi-row INSERT로 저장 (트랜잭션 안에서 호출)
+     */
+    private List<OrderIngestResultDto> save(List<Record> records) {
+        BatchLoader<User> userLoader = batchLoaderRegistry.loader("User", OrmTechnique.MYBATIS,
+                userMapper::findByIds, User::getId);
+        BatchLoader<Product> productLoader = batchLoaderRegistry.loader("Product", OrmTechnique.MYBATIS,
+                productMapper::findByIds, Product::getId);
+        for (Record record : records) {
+            userLoader.load(record.getRequest().getUserId());
+            for (OrderRequestDto.OrderItemRequestDto itemDto : itemsOf(record.getRequest())) {
+                productLoader.load(itemDto.getProductId());
+            }
+        }
+
+        List<OrderIngestResultDto> results = new ArrayList<>(records.size());
+        List<Record> accepted = new ArrayList<>(records.size());
+        List<Order> orders = new ArrayList<>(records.size());
+        for (Record record : records) {
+            OrderRequestDto request = record.getRequest();
+            User user = userLoader.get(request.getUserId());
+            if (user == null) {
+                results.add(OrderIngestResultDto.failed(record.getLine(),
+                        "사용자를 찾을 수 없습니다. ID: " + request.getUserId()));
+                continue;
+            }
+
+            Order order = request.toEntity(user);
+            String missingProduct = null;
+            for (OrderRequestDto.OrderItemRequestDto itemDto : itemsOf(request)) {
+                Product product = productLoader.get(itemDto.getProductId());
+                if (product == null) {
+                    missingProduct = "상품을 찾을 수 없습니다. ID: " + itemDto.getProductId();
+                    break;
+                }
+                order.addOrderItem(itemDto.toEntity(product));
+            }
+            if (missingProduct != null) {
+                results.add(OrderIngestResultDto.failed(record.getLine(), missingProduct));
+                continue;
+            }
+            accepted.add(record);
+            orders.add(order);
+        }
+        if (orders.isEmpty()) {
+            return results;
+        }
+
+        // 주문을 먼저 저장해 생성된 ID를 채운 뒤 주문 상품 저장
+        for (int from = 0; from < orders.size(); from += INSERT_CHUNK_SIZE) {
+            orderMapper.insertAll(orders.subList(from, Math.min(from + INSERT_CHUNK_SIZE, orders.size())));
+        }
+        List<OrderItem> orderItems = orders.stream()
+                .flatMap(order -> order.getOrderItems().stream())
+                .toList();
+        for (int from = 0; from < orderItems.size(); from += INSERT_CHUNK_SIZE) {
+            orderItemMapper.insertAll(orderItems.subList(from, Math.min(from + INSERT_CHUNK_SIZE, orderItems.size())));
+        }
+        orderRollupService.recordCreated(orders.stream()
+                .map(OrderRollupContributionDto::of)
+                .toList());
+
+        for (int i = 0; i < orders.size(); i++) {
+            results.add(OrderIngestResultDto.created(accepted.get(i).getLine(), orders.get(i).getId()));
+        }
+        return results;
+    }
+
+    private void readLines(InputStream in, BlockingQueue<Line> queue, AtomicReference<IOException> readFailure) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String text;
+            long number = 0;
+            while ((text = reader.readLine()) != null) {
+                number++;
+                if (!text.isBlank()) {
+                    queue.put(new Line(number, text));
+                }
+            }
+        } catch (IOException e) {
+            readFailure.set(e);
+        } catch (InterruptedException e) {
+            // 적재가 먼저 끝남 (응답 쓰기 실패 등)
+            return;
+        }
+        try {
+            queue.put(END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<OrderRequestDto.OrderItemRequestDto> itemsOf(OrderRequestDto request) {
+        return request.getOrderItems() != null ? request.getOrderItems() : List.of();
+    }
+
+    @Value
+    private static class Line {
+        long number;
+        String text;
+    }
+
+    @Value
+    private static class Record {
+        long line;
+        OrderRequestDto request;
+    }
+}
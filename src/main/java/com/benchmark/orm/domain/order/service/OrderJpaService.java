@@ -3,9 +3,20 @@ package com.benchmark.orm.domain.order.service;
 import com.benchmark.orm.domain.order.dto.*;
 import com.benchmark.orm.domain.order.entity.Order;
 import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.domain.order.repository.OrderItemRepository;
 import com.benchmark.orm.domain.order.repository.OrderRepository;
+import com.benchmark.orm.domain.user.entity.User;
+import com.benchmark.orm.domain.user.repository.UserRepository;
+import com.benchmark.orm.global.batch.BatchLoaderRegistry;
+import com.benchmark.orm.global.cache.NearCache;
+import com.benchmark.orm.global.dto.CursorPageDto;
+import com.benchmark.orm.global.dto.KeysetCursor;
+import com.benchmark.orm.global.dto.KeysetSort;
+import com.benchmark.orm.global.export.NdjsonWriter;
+import com.benchmark.orm.global.metrics.LatencyMetrics;
+import com.benchmark.orm.global.metrics.OrmTechnique;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -13,58 +24,74 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class OrderJpaService {
 
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final NdjsonWriter ndjsonWriter;
+    private final NearCache<OrderResponseDto> orderNearCache;
+    private final OrderRollupService orderRollupService;
+    private final LatencyMetrics latencyMetrics;
+    private final UserRepository userRepository;
+    private final BatchLoaderRegistry batchLoaderRegistry;
 
     /**
      * 모든 주문 조회 (간단 버전)
      */
     public List<OrderSimpleDto> findAll() {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderRepository.findAll();
-        long endTime = System.currentTimeMillis();
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findAll", System.nanoTime() - startTime);
 
-        log.info("[JPA] Order findAll - 실행시간: {}ms, 결과 수: {}", endTime - startTime, orders.size());
+        return toSimpleDtos(orders);
+    }
 
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+    /**
+     * 전체 주문 NDJSON 내보내기 (JPA Stream)
+     * 목록을 메모리에 모으지 않고 한 행씩 읽어 바로 출력함
+     *
+     * @param out 출력 스트림
+     * @return 출력한 행 수
+     */
+    public long exportAll(OutputStream out) throws IOException {
+        long startTime = System.nanoTime();
+        long count = ndjsonWriter.writeEntities(out, orderRepository.streamAllWithTotalAmount(),
+                row -> OrderSimpleDto.from((Order) row[0], ((Number) row[1]).intValue()));
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "exportAll", System.nanoTime() - startTime);
+
+        return count;
     }
 
     /**
      * 모든 주문 조회 (상세 버전)
      */
     public List<OrderResponseDto> findAllDetailed() {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderRepository.findAll();
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order findAllDetailed - 실행시간: {}ms, 결과 수: {}", endTime - startTime, orders.size());
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findAllDetailed", System.nanoTime() - startTime);
 
-        return orders.stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtos(orders);
     }
 
     /**
      * ID로 주문 조회
      */
     public OrderResponseDto findById(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. ID: " + id));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order findById - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findById", System.nanoTime() - startTime);
 
         return OrderResponseDto.fromEntity(order);
     }
@@ -73,112 +100,105 @@ public class OrderJpaService {
      * 사용자 ID로 주문 조회
      */
     public List<OrderSimpleDto> findByUserId(Long userId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderRepository.findByUserId(userId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order findByUserId - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.size());
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findByUserId", System.nanoTime() - startTime);
 
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        return toSimpleDtos(orders);
     }
 
     /**
      * 주문 상태로 주문 조회
      */
     public List<OrderSimpleDto> findByStatus(OrderStatus status) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderRepository.findByStatus(status);
-        long endTime = System.currentTimeMillis();
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findByStatus", System.nanoTime() - startTime);
 
-        log.info("[JPA] Order findByStatus - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.size());
-
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        return toSimpleDtos(orders);
     }
 
     /**
      * 사용자 ID와 주문 상태로 주문 조회
      */
     public List<OrderSimpleDto> findByUserIdAndStatus(Long userId, OrderStatus status) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderRepository.findByUserIdAndStatus(userId, status);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order findByUserIdAndStatus - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.size());
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findByUserIdAndStatus", System.nanoTime() - startTime);
 
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        return toSimpleDtos(orders);
     }
 
     /**
      * 주문 날짜 범위로 주문 조회
      */
     public List<OrderSimpleDto> findByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderRepository.findByOrderDateBetween(startDate, endDate);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order findByOrderDateBetween - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.size());
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findByOrderDateBetween", System.nanoTime() - startTime);
 
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        return toSimpleDtos(orders);
     }
 
     /**
-     * 페이징 조회
+     * 페이징 조회 (사용자는 엔티티 그래프로 함께 조회해 페이지 크기와 관계없이 쿼리 수가 일정함)
      */
     public Page<OrderSimpleDto> findAllWithPaging(int page, int size, String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Order> orders = orderRepository.findAll(pageable);
-        long endTime = System.currentTimeMillis();
+        Page<Order> orders = orderRepository.findAllWithUser(pageable);
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findAllWithPaging", System.nanoTime() - startTime);
 
-        log.info("[JPA] Order findAllWithPaging - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.getTotalElements());
+        Map<Long, Integer> totalAmounts = findTotalAmounts(orders.getContent());
+        return orders.map(order -> OrderSimpleDto.from(order, totalAmounts.getOrDefault(order.getId(), 0)));
+    }
 
-        return orders.map(OrderSimpleDto::from);
+    /**
+     * 키셋(커서) 페이징 조회
+     * OFFSET 없이 마지막 (정렬 값, ID) 이후부터 조회하므로 페이지가 깊어져도 응답 시간이 일정함
+     */
+    public CursorPageDto<OrderSimpleDto> findAllWithCursor(String after, int size, String sortBy, String sortDirection) {
+        long startTime = System.nanoTime();
+
+        String cursorSortBy = Order.KEYSET_SORT.resolve(sortBy);
+        String direction = KeysetSort.direction(sortDirection);
+        KeysetCursor cursor = Order.KEYSET_SORT.decode(after, size, cursorSortBy, direction);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Order> orders = orderRepository.findAllWithKeyset(cursorSortBy, "asc".equals(direction), cursor, size + 1);
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findAllWithCursor", System.nanoTime() - startTime);
+
+        loadUsers(orders);
+        Map<Long, Integer> totalAmounts = findTotalAmounts(orders);
+        return CursorPageDto.of(orders, size,
+                Order.KEYSET_SORT.cursorOf(cursorSortBy, direction),
+                order -> OrderSimpleDto.from(order, totalAmounts.getOrDefault(order.getId(), 0)));
     }
 
     /**
      * 정렬 조회
      */
     public List<OrderSimpleDto> findAllWithSorting(String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
         List<Order> orders = orderRepository.findAll(sort);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order findAllWithSorting - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.size());
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findAllWithSorting", System.nanoTime() - startTime);
 
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        return toSimpleDtos(orders);
     }
 
     /**
      * 사용자 정보와 함께 주문 조회
      */
     public OrderResponseDto findOrderWithUser(Long orderId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Order order = orderRepository.findOrderWithUser(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. ID: " + orderId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order findOrderWithUser - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findOrderWithUser", System.nanoTime() - startTime);
 
         return OrderResponseDto.fromEntityWithUser(order);
     }
@@ -187,12 +207,10 @@ public class OrderJpaService {
      * 주문 상품 정보와 함께 주문 조회
      */
     public OrderResponseDto findOrderWithOrderItems(Long orderId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Order order = orderRepository.findOrderWithOrderItems(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. ID: " + orderId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order findOrderWithOrderItems - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findOrderWithOrderItems", System.nanoTime() - startTime);
 
         return OrderResponseDto.fromEntityWithOrderItems(order);
     }
@@ -201,12 +219,10 @@ public class OrderJpaService {
      * 사용자 및 주문 상품 정보와 함께 주문 조회
      */
     public OrderResponseDto findOrderWithUserAndOrderItems(Long orderId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Order order = orderRepository.findOrderWithUserAndOrderItems(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. ID: " + orderId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order findOrderWithUserAndOrderItems - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findOrderWithUserAndOrderItems", System.nanoTime() - startTime);
 
         return OrderResponseDto.fromEntityWithUserAndOrderItems(order);
     }
@@ -215,29 +231,21 @@ public class OrderJpaService {
      * 최근 주문 목록 조회
      */
     public List<OrderSimpleDto> findRecentOrders(int limit) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "orderDate"));
         List<Order> orders = orderRepository.findAll(pageable).getContent();
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order findRecentOrders - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.size());
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "findRecentOrders", System.nanoTime() - startTime);
 
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        return toSimpleDtos(orders);
     }
 
     /**
      * 사용자별 총 주문 금액 계산
      */
     public Integer calculateTotalOrderAmountByUserId(Long userId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Integer totalAmount = orderRepository.calculateTotalOrderAmountByUserId(userId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order calculateTotalOrderAmountByUserId - 실행시간: {}ms, 결과: {}",
-                endTime - startTime, totalAmount);
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "calculateTotalOrderAmountByUserId", System.nanoTime() - startTime);
 
         return totalAmount != null ? totalAmount : 0;
     }
@@ -246,7 +254,7 @@ public class OrderJpaService {
      * 검색 조건으로 주문 검색
      */
     public Page<OrderSimpleDto> searchOrders(OrderSearchDto searchDto, int page, int size) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         String sortBy = searchDto.getSortBy() != null ? searchDto.getSortBy() : "id";
         String sortDirection = searchDto.getSortDirection() != null ? searchDto.getSortDirection() : "asc";
@@ -255,12 +263,11 @@ public class OrderJpaService {
         Pageable pageable = PageRequest.of(page, size, sort);
 
         Page<Order> orders = orderRepository.searchOrders(searchDto, pageable);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order searchOrders - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.getTotalElements());
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "searchOrders", System.nanoTime() - startTime);
 
-        return orders.map(OrderSimpleDto::from);
+        loadUsers(orders.getContent());
+        Map<Long, Integer> totalAmounts = findTotalAmounts(orders.getContent());
+        return orders.map(order -> OrderSimpleDto.from(order, totalAmounts.getOrDefault(order.getId(), 0)));
     }
 
     /**
@@ -268,16 +275,15 @@ public class OrderJpaService {
      */
     @Transactional
     public OrderResponseDto createOrder(OrderRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         // 사용자 정보 확인 후 주문 생성 로직 구현 필요
         // 여기서는 간단하게 처리
         Order order = requestDto.toEntity(null); // 실제로는 사용자 조회 필요
         Order savedOrder = orderRepository.save(order);
+        orderRollupService.recordCreated(OrderRollupContributionDto.of(savedOrder));
 
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order createOrder - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "createOrder", System.nanoTime() - startTime);
 
         return OrderResponseDto.fromEntity(savedOrder);
     }
@@ -287,10 +293,11 @@ public class OrderJpaService {
      */
     @Transactional
     public OrderResponseDto updateOrder(Long id, OrderRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. ID: " + id));
+        OrderRollupContributionDto before = orderRollupService.loadContribution(id);
 
         // 주문 정보 업데이트
         if (requestDto.getStatus() != null) {
@@ -301,31 +308,59 @@ public class OrderJpaService {
         }
 
         Order savedOrder = orderRepository.save(order);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Order updateOrder - 실행시간: {}ms", endTime - startTime);
+        // 주문 상품은 그대로이므로 일자/상태만 옮김
+        orderRollupService.recordChanged(before, before.moveTo(savedOrder.getOrderDate(), savedOrder.getStatus()));
+        orderNearCache.invalidate(id);
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "updateOrder", System.nanoTime() - startTime);
 
         return OrderResponseDto.fromEntity(savedOrder);
     }
 
     /**
-     * 주문 상태 변경
+     * 주문 상태 변경 (허용된 전이만, UPDATE ... WHERE id = ? AND status = ? 한 문장)
      */
     @Transactional
     public OrderResponseDto updateOrderStatus(Long id, OrderStatus status) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. ID: " + id));
 
-        order.changeStatus(status);
-        Order savedOrder = orderRepository.save(order);
+        OrderRollupContributionDto before = OrderRollupContributionDto.of(order);
+        if (!orderRepository.transitionStatus(order, status)) {
+            throw new RuntimeException("주문 상태가 다른 요청에 의해 이미 변경되었습니다. ID: " + id);
+        }
+        orderRollupService.recordChanged(before, before.moveTo(before.getOrderDate(), status));
+        orderNearCache.invalidate(id);
 
-        long endTime = System.currentTimeMillis();
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "updateOrderStatus", System.nanoTime() - startTime);
 
-        log.info("[JPA] Order updateOrderStatus - 실행시간: {}ms", endTime - startTime);
+        return OrderResponseDto.fromEntity(order);
+    }
 
-        return OrderResponseDto.fromEntity(savedOrder);
+    /**
+     * 여러 주문 상태 일괄 변경 (현재 상태에서 전이할 수 없는 주문은 건너뜀)
+     *
+     * @return 변경된 주문 수
+     */
+    @Transactional
+    public long transitionOrderStatuses(List<Long> ids, OrderStatus status) {
+        long startTime = System.nanoTime();
+
+        // 전이 대상 주문의 변경 전 집계 기여분을 먼저 읽고, 그 주문들만 변경
+        List<OrderRollupContributionDto> before = orderRollupService.loadContributions(ids, status.previousStatuses());
+        List<Long> targetIds = before.stream().map(OrderRollupContributionDto::getOrderId).toList();
+        long updated = orderRepository.transitionStatus(targetIds, status);
+        if (updated != targetIds.size()) {
+            throw new RuntimeException("주문 상태 일괄 변경 중 다른 요청이 주문 상태를 변경했습니다.");
+        }
+        orderRollupService.recordChanged(before, before.stream()
+                .map(contribution -> contribution.moveTo(contribution.getOrderDate(), status))
+                .toList());
+        ids.forEach(orderNearCache::invalidate);
+
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "transitionOrderStatuses", System.nanoTime() - startTime);
+        return updated;
     }
 
     /**
@@ -333,15 +368,63 @@ public class OrderJpaService {
      */
     @Transactional
     public void deleteOrder(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
-        if (!orderRepository.existsById(id)) {
+        OrderRollupContributionDto before = orderRollupService.loadContribution(id);
+        if (before == null) {
             throw new RuntimeException("주문을 찾을 수 없습니다. ID: " + id);
         }
 
         orderRepository.deleteById(id);
-        long endTime = System.currentTimeMillis();
+        orderRollupService.recordDeleted(before);
+        orderNearCache.invalidate(id);
+        latencyMetrics.record(OrmTechnique.JPA, "Order", "deleteOrder", System.nanoTime() - startTime);
+    }
 
-        log.info("[JPA] Order deleteOrder - 실행시간: {}ms", endTime - startTime);
+    /**
+     * 주문별 총액 조회
+     * 주문마다 orderItems를 지연 로딩하지 않고 SUM ... GROUP BY 쿼리로 계산 (IN 절 크기 제한 단위로 나눠 조회)
+     */
+    private Map<Long, Integer> findTotalAmounts(List<Order> orders) {
+        List<Long> orderIds = orders.stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+        Map<Long, Integer> totalAmounts = new HashMap<>();
+        for (List<Long> chunk : batchLoaderRegistry.partition(orderIds)) {
+            totalAmounts.putAll(orderItemRepository.findTotalAmountsByOrderIds(chunk));
+        }
+        return totalAmounts;
+    }
+
+    /**
+     * 목록 DTO에 필요한 사용자를 IN 절로 한 번에 조회 (사용자 프록시마다 SELECT가 나가지 않도록)
+     * 이미 로드된 사용자는 제외하며, 조회된 사용자는 영속성 컨텍스트에 올라가 주문의 사용자 프록시가 추가 조회 없이 초기화됨
+     */
+    private void loadUsers(List<Order> orders) {
+        List<Long> userIds = orders.stream()
+                .map(Order::getUser)
+                .filter(user -> user != null && !Hibernate.isInitialized(user))
+                .map(User::getId)
+                .distinct()
+                .collect(Collectors.toList());
+        if (!userIds.isEmpty()) {
+            batchLoaderRegistry.loader("User", OrmTechnique.JPA, userRepository::findAllWithProfileByIdIn, User::getId)
+                    .getAll(userIds);
+        }
+    }
+
+    private List<OrderSimpleDto> toSimpleDtos(List<Order> orders) {
+        loadUsers(orders);
+        Map<Long, Integer> totalAmounts = findTotalAmounts(orders);
+        return orders.stream()
+                .map(order -> OrderSimpleDto.from(order, totalAmounts.getOrDefault(order.getId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    private List<OrderResponseDto> toResponseDtos(List<Order> orders) {
+        Map<Long, Integer> totalAmounts = findTotalAmounts(orders);
+        return orders.stream()
+                .map(order -> OrderResponseDto.fromEntity(order, totalAmounts.getOrDefault(order.getId(), 0)))
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
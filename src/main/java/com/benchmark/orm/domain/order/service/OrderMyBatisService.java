@@ -3,64 +3,96 @@ package com.benchmark.orm.domain.order.service;
 import com.benchmark.orm.domain.order.dto.*;
 import com.benchmark.orm.domain.order.entity.Order;
 import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.domain.order.mapper.OrderItemMapper;
 import com.benchmark.orm.domain.order.mapper.OrderMapper;
+import com.benchmark.orm.global.batch.BatchLoaderRegistry;
+import com.benchmark.orm.global.cache.NearCache;
+import com.benchmark.orm.global.dto.CursorPageDto;
+import com.benchmark.orm.global.dto.KeysetCursor;
+import com.benchmark.orm.global.dto.KeysetSort;
 import com.benchmark.orm.global.dto.PageDto;
+import com.benchmark.orm.global.export.NdjsonWriter;
+import com.benchmark.orm.global.metrics.LatencyMetrics;
+import com.benchmark.orm.global.metrics.OrmTechnique;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class OrderMyBatisService {
 
+    /**
+     * 일괄 상태 전이 시 UPDATE 한 문장의 IN 절에 담을 최대 주문 ID 수
+     */
+    private static final int STATUS_UPDATE_CHUNK_SIZE = 1000;
+
     private final OrderMapper orderMapper;
+    private final OrderItemMapper orderItemMapper;
+    private final NdjsonWriter ndjsonWriter;
+    private final NearCache<OrderResponseDto> orderNearCache;
+    private final OrderRollupService orderRollupService;
+    private final LatencyMetrics latencyMetrics;
+    private final BatchLoaderRegistry batchLoaderRegistry;
 
     /**
      * 모든 주문 조회 (간단 버전)
      */
     public List<OrderSimpleDto> findAll() {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderMapper.findAll();
-        long endTime = System.currentTimeMillis();
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "findAll", System.nanoTime() - startTime);
 
-        log.info("[MyBatis] Order findAll - 실행시간: {}ms, 결과 수: {}", endTime - startTime, orders.size());
+        return toSimpleDtos(orders);
+    }
 
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+    /**
+     * 전체 주문 NDJSON 내보내기 (MyBatis Cursor)
+     * 목록을 메모리에 모으지 않고 한 행씩 읽어 바로 출력함
+     *
+     * @param out 출력 스트림
+     * @return 출력한 행 수
+     */
+    public long exportAll(OutputStream out) throws IOException {
+        long startTime = System.nanoTime();
+        long count;
+        try (Cursor<OrderSimpleDto> cursor = orderMapper.streamAllSimple()) {
+            count = ndjsonWriter.write(out, cursor, Function.identity());
+        }
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "exportAll", System.nanoTime() - startTime);
+
+        return count;
     }
 
     /**
      * 모든 주문 조회 (상세 버전)
      */
     public List<OrderResponseDto> findAllDetailed() {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderMapper.findAll();
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Order findAllDetailed - 실행시간: {}ms, 결과 수: {}", endTime - startTime, orders.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "findAllDetailed", System.nanoTime() - startTime);
 
-        return orders.stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtos(orders);
     }
 
     /**
      * ID로 주문 조회
      */
     public OrderResponseDto findById(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Order order = orderMapper.findById(id);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Order findById - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "findById", System.nanoTime() - startTime);
 
         if (order == null) {
             throw new RuntimeException("주문을 찾을 수 없습니다. ID: " + id);
@@ -72,71 +104,51 @@ public class OrderMyBatisService {
      * 사용자 ID로 주문 조회
      */
     public List<OrderSimpleDto> findByUserId(Long userId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderMapper.findByUserId(userId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Order findByUserId - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "findByUserId", System.nanoTime() - startTime);
 
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        return toSimpleDtos(orders);
     }
 
     /**
      * 주문 상태로 주문 조회
      */
     public List<OrderSimpleDto> findByStatus(OrderStatus status) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderMapper.findByStatus(status.name());
-        long endTime = System.currentTimeMillis();
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "findByStatus", System.nanoTime() - startTime);
 
-        log.info("[MyBatis] Order findByStatus - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.size());
-
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        return toSimpleDtos(orders);
     }
 
     /**
      * 사용자 ID와 주문 상태로 주문 조회
      */
     public List<OrderSimpleDto> findByUserIdAndStatus(Long userId, OrderStatus status) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderMapper.findByUserIdAndStatus(userId, status.name());
-        long endTime = System.currentTimeMillis();
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "findByUserIdAndStatus", System.nanoTime() - startTime);
 
-        log.info("[MyBatis] Order findByUserIdAndStatus - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.size());
-
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        return toSimpleDtos(orders);
     }
 
     /**
      * 주문 날짜 범위로 주문 조회
      */
     public List<OrderSimpleDto> findByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderMapper.findByOrderDateBetween(startDate, endDate);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Order findByOrderDateBetween - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "findByOrderDateBetween", System.nanoTime() - startTime);
 
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        return toSimpleDtos(orders);
     }
 
     /**
      * 페이징 조회
      */
     public PageDto<OrderSimpleDto> findAllWithPaging(int page, int size, String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         int offset = page * size;
         List<Order> orders = orderMapper.findAllWithPagingAndSorting(offset, size, sortBy, sortDirection);
@@ -145,43 +157,53 @@ public class OrderMyBatisService {
         List<Order> allOrders = orderMapper.findAll();
         long totalElements = allOrders.size();
 
-        long endTime = System.currentTimeMillis();
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "findAllWithPaging", System.nanoTime() - startTime);
 
-        log.info("[MyBatis] Order findAllWithPaging - 실행시간: {}ms, 결과 수: {}/{}",
-                endTime - startTime, orders.size(), totalElements);
-
-        List<OrderSimpleDto> content = orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        List<OrderSimpleDto> content = toSimpleDtos(orders);
 
         return PageDto.of(content, page, size, totalElements);
     }
 
+    /**
+     * 키셋(커서) 페이징 조회
+     * OFFSET 없이 마지막 (정렬 값, ID) 이후부터 조회하므로 페이지가 깊어져도 응답 시간이 일정함
+     */
+    public CursorPageDto<OrderSimpleDto> findAllWithCursor(String after, int size, String sortBy, String sortDirection) {
+        long startTime = System.nanoTime();
+
+        String cursorSortBy = Order.KEYSET_SORT.resolve(sortBy);
+        String direction = KeysetSort.direction(sortDirection);
+        KeysetCursor cursor = Order.KEYSET_SORT.decode(after, size, cursorSortBy, direction);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Order> orders = orderMapper.findAllWithKeyset(Order.KEYSET_SORT.column(cursorSortBy), direction,
+                Order.KEYSET_SORT.sortValueOf(cursor), cursor != null ? cursor.getId() : null, size + 1);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "findAllWithCursor", System.nanoTime() - startTime);
+
+        Map<Long, Integer> totalAmounts = findTotalAmounts(orders);
+        return CursorPageDto.of(orders, size,
+                Order.KEYSET_SORT.cursorOf(cursorSortBy, direction),
+                order -> OrderSimpleDto.from(order, totalAmounts.getOrDefault(order.getId(), 0)));
+    }
+
     /**
      * 정렬 조회
      */
     public List<OrderSimpleDto> findAllWithSorting(String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderMapper.findAllWithSorting(sortBy, sortDirection);
-        long endTime = System.currentTimeMillis();
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "findAllWithSorting", System.nanoTime() - startTime);
 
-        log.info("[MyBatis] Order findAllWithSorting - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.size());
-
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        return toSimpleDtos(orders);
     }
 
     /**
      * 주문 상품 정보와 함께 주문 조회
      */
     public OrderResponseDto findOrderWithOrderItems(Long orderId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Order order = orderMapper.findOrderWithOrderItems(orderId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Order findOrderWithOrderItems - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "findOrderWithOrderItems", System.nanoTime() - startTime);
 
         if (order == null) {
             throw new RuntimeException("주문을 찾을 수 없습니다. ID: " + orderId);
@@ -193,28 +215,20 @@ public class OrderMyBatisService {
      * 최근 주문 목록 조회
      */
     public List<OrderSimpleDto> findRecentOrders(int limit) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Order> orders = orderMapper.findRecentOrders(limit);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Order findRecentOrders - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, orders.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "findRecentOrders", System.nanoTime() - startTime);
 
-        return orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        return toSimpleDtos(orders);
     }
 
     /**
      * 사용자별 총 주문 금액 계산
      */
     public Integer calculateTotalOrderAmountByUserId(Long userId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Integer totalAmount = orderMapper.calculateTotalOrderAmountByUserId(userId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Order calculateTotalOrderAmountByUserId - 실행시간: {}ms, 결과: {}",
-                endTime - startTime, totalAmount);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "calculateTotalOrderAmountByUserId", System.nanoTime() - startTime);
 
         return totalAmount != null ? totalAmount : 0;
     }
@@ -223,7 +237,7 @@ public class OrderMyBatisService {
      * 검색 조건으로 주문 검색
      */
     public PageDto<OrderSimpleDto> searchOrders(OrderSearchDto searchDto, int page, int size) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         int offset = page * size;
         String sortBy = searchDto.getSortBy() != null ? searchDto.getSortBy() : "id";
@@ -232,14 +246,9 @@ public class OrderMyBatisService {
         List<Order> orders = orderMapper.searchOrders(searchDto, offset, size, sortBy, sortDirection);
         int totalCount = orderMapper.countBySearchDto(searchDto);
 
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Order searchOrders - 실행시간: {}ms, 결과 수: {}/{}",
-                endTime - startTime, orders.size(), totalCount);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "searchOrders", System.nanoTime() - startTime);
 
-        List<OrderSimpleDto> content = orders.stream()
-                .map(OrderSimpleDto::from)
-                .collect(Collectors.toList());
+        List<OrderSimpleDto> content = toSimpleDtos(orders);
 
         return PageDto.of(content, page, size, totalCount);
     }
@@ -249,16 +258,15 @@ public class OrderMyBatisService {
      */
     @Transactional
     public OrderResponseDto createOrder(OrderRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         // 사용자 정보 확인 후 주문 생성 로직 구현 필요
         // 여기서는 간단하게 처리
         Order order = requestDto.toEntity(null); // 실제로는 사용자 조회 필요
         orderMapper.insert(order);
+        orderRollupService.recordCreated(OrderRollupContributionDto.of(order, List.of()));
 
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Order createOrder - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "createOrder", System.nanoTime() - startTime);
 
         return OrderResponseDto.fromEntity(order);
     }
@@ -268,12 +276,13 @@ public class OrderMyBatisService {
      */
     @Transactional
     public OrderResponseDto updateOrder(Long id, OrderRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Order existingOrder = orderMapper.findById(id);
         if (existingOrder == null) {
             throw new RuntimeException("주문을 찾을 수 없습니다. ID: " + id);
         }
+        OrderRollupContributionDto before = orderRollupService.loadContribution(id);
 
         // 주문 정보 업데이트
         if (requestDto.getStatus() != null) {
@@ -284,29 +293,69 @@ public class OrderMyBatisService {
         }
 
         orderMapper.update(existingOrder);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Order updateOrder - 실행시간: {}ms", endTime - startTime);
+        // 주문 상품은 그대로이므로 일자/상태만 옮김
+        orderRollupService.recordChanged(before, before.moveTo(existingOrder.getOrderDate(), existingOrder.getStatus()));
+        orderNearCache.invalidate(id);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "updateOrder", System.nanoTime() - startTime);
 
         return OrderResponseDto.fromEntity(existingOrder);
     }
 
     /**
-     * 주문 상태 변경
+     * 주문 상태 변경 (허용된 전이만, UPDATE ... WHERE id = ? AND status = ? 한 문장)
      */
     @Transactional
     public void updateOrderStatus(Long id, OrderStatus status) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
-        Order order = orderMapper.findById(id);
-        if (order == null) {
+        // 집계 기여분 조회로 주문 존재 여부와 현재 상태를 함께 확인
+        OrderRollupContributionDto before = orderRollupService.loadContribution(id);
+        if (before == null) {
             throw new RuntimeException("주문을 찾을 수 없습니다. ID: " + id);
         }
 
-        orderMapper.updateStatus(id, status.name());
-        long endTime = System.currentTimeMillis();
+        before.getStatus().validateTransitionTo(status);
+        if (orderMapper.transitionStatus(id, before.getStatus().name(), status.name()) == 0) {
+            throw new RuntimeException("주문 상태가 다른 요청에 의해 이미 변경되었습니다. ID: " + id);
+        }
+        orderRollupService.recordChanged(before, before.moveTo(before.getOrderDate(), status));
+        orderNearCache.invalidate(id);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "updateOrderStatus", System.nanoTime() - startTime);
+    }
+
+    /**
+     * 여러 주문 상태 일괄 변경 (현재 상태에서 전이할 수 없는 주문은 건너뜀)
+     * IN 절 하나에 STATUS_UPDATE_CHUNK_SIZE개씩 나누어 UPDATE
+     *
+     * @return 변경된 주문 수
+     */
+    @Transactional
+    public long transitionOrderStatuses(List<Long> ids, OrderStatus status) {
+        long startTime = System.nanoTime();
+
+        List<String> previousStatuses = status.previousStatuses().stream()
+                .map(OrderStatus::name)
+                .toList();
+        long updated = 0;
+        if (!previousStatuses.isEmpty()) {
+            // 전이 대상 주문의 변경 전 집계 기여분을 먼저 읽고, 그 주문들만 변경
+            List<OrderRollupContributionDto> before = orderRollupService.loadContributions(ids, status.previousStatuses());
+            List<Long> targetIds = before.stream().map(OrderRollupContributionDto::getOrderId).toList();
+            for (int start = 0; start < targetIds.size(); start += STATUS_UPDATE_CHUNK_SIZE) {
+                List<Long> chunk = targetIds.subList(start, Math.min(start + STATUS_UPDATE_CHUNK_SIZE, targetIds.size()));
+                updated += orderMapper.transitionStatusAll(chunk, previousStatuses, status.name());
+            }
+            if (updated != targetIds.size()) {
+                throw new RuntimeException("주문 상태 일괄 변경 중 다른 요청이 주문 상태를 변경했습니다.");
+            }
+            orderRollupService.recordChanged(before, before.stream()
+                    .map(contribution -> contribution.moveTo(contribution.getOrderDate(), status))
+                    .toList());
+        }
+        ids.forEach(orderNearCache::invalidate);
 
-        log.info("[MyBatis] Order updateOrderStatus - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "transitionOrderStatuses", System.nanoTime() - startTime);
+        return updated;
     }
 
     /**
@@ -314,16 +363,46 @@ public class OrderMyBatisService {
      */
     @Transactional
     public void deleteOrder(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
-        Order order = orderMapper.findById(id);
-        if (order == null) {
+        OrderRollupContributionDto before = orderRollupService.loadContribution(id);
+        if (before == null) {
             throw new RuntimeException("주문을 찾을 수 없습니다. ID: " + id);
         }
 
         orderMapper.deleteById(id);
-        long endTime = System.currentTimeMillis();
+        orderRollupService.recordDeleted(before);
+        orderNearCache.invalidate(id);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Order", "deleteOrder", System.nanoTime() - startTime);
+    }
 
-        log.info("[MyBatis] Order deleteOrder - 실행시간: {}ms", endTime - startTime);
+    /**
+     * 주문별 총액 조회
+     * 주문마다 orderItems를 지연 로딩하지 않고 SUM ... GROUP BY 쿼리로 계산 (IN 절 크기 제한 단위로 나눠 조회)
+     */
+    private Map<Long, Integer> findTotalAmounts(List<Order> orders) {
+        List<Long> orderIds = orders.stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+        Map<Long, Integer> totalAmounts = new HashMap<>();
+        for (List<Long> chunk : batchLoaderRegistry.partition(orderIds)) {
+            orderItemMapper.findTotalAmountsByOrderIds(chunk)
+                    .forEach(total -> totalAmounts.put(total.getOrderId(), total.getTotalAmount()));
+        }
+        return totalAmounts;
+    }
+
+    private List<OrderSimpleDto> toSimpleDtos(List<Order> orders) {
+        Map<Long, Integer> totalAmounts = findTotalAmounts(orders);
+        return orders.stream()
+                .map(order -> OrderSimpleDto.from(order, totalAmounts.getOrDefault(order.getId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    private List<OrderResponseDto> toResponseDtos(List<Order> orders) {
+        Map<Long, Integer> totalAmounts = findTotalAmounts(orders);
+        return orders.stream()
+                .map(order -> OrderResponseDto.fromEntity(order, totalAmounts.getOrDefault(order.getId(), 0)))
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
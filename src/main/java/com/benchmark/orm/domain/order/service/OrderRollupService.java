@@ -0,0 +1,262 @@
+package com.benchmark.orm.domain.order.service;
+
+import com.benchmark.orm.domain.order.dto.OrderDailyRollupDto;
+import com.benchmark.orm.domain.order.dto.OrderRollupContributionDto;
+import com.benchmark.orm.domain.order.dto.OrderStatusRollupDto;
+import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.domain.order.mapper.OrderDailyRollupMapper;
+import com.benchmark.orm.global.dataset.DatasetLoadedEvent;
+import com.benchmark.orm.global.metrics.LatencyMetrics;
+import com.benchmark.orm.global.metrics.OrmTechnique;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일자별/상태별 주문 집계 서비스
+ * <p>
+ * 주문을 변경하는 서비스는 변경 전/후 집계 기여분(OrderRollupContributionDto)을 넘겨 같은 트랜잭션에서 집계를 증감함
+ * - 생성: recordCreated, 삭제: recordDeleted, 수정/상태 변경: recordChanged
+ * - 변경 전 값은 loadContributions로 DB에서 읽고, 변경 후 값은 메모리의 엔티티로 만듦
+ * - 같은 (일자, 상태)의 증감은 합쳐서 행마다 UPDATE 한 번 (행이 없으면 INSERT)
+ * - 주문과 같은 트랜잭션에서 반영하므로 롤백되면 집계도 함께 롤백됨
+ *   대신 같은 (일자, 상태) 행을 갱신하는 트랜잭션끼리는 커밋까지 행 잠금을 기다림
+ * <p>
+ * JDBC로 직접 적재했거나(BulkDataLoader는 DatasetLoadedEvent로 재구성) 집계가 어긋난 경우 rebuild로 orders/order_items에서 다시 계산
+ * 조회는 집계 테이블만 읽으므로 비용이 주문 수가 아닌 조회 기간의 일 수에 비례
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderRollupService {
+
+    /**
+     * 집계 기여분 조회 시 IN 절 하나에 담을 최대 주문 ID 수
+     */
+    private static final int CONTRIBUTION_CHUNK_SIZE = 1000;
+
+    private final OrderDailyRollupMapper orderDailyRollupMapper;
+    private final LatencyMetrics latencyMetrics;
+
+    /**
+     * 주문의 현재 집계 기여분 조회
+     *
+     * @param orderId 주문 ID
+     * @return 집계 기여분 (주문이 없으면 null)
+     */
+    public OrderRollupContributionDto loadContribution(Long orderId) {
+        List<OrderRollupContributionDto> contributions = loadContributions(List.of(orderId), null);
+        return contributions.isEmpty() ? null : contributions.get(0);
+    }
+
+    /**
+     * 여러 주문의 현재 집계 기여분 조회
+     *
+     * @param orderIds 주문 ID 목록
+     * @param statuses 이 상태인 주문만 조회 (null이면 제한 없음)
+     * @return 집계 기여분 목록 (없는 주문은 제외)
+     */
+    public List<OrderRollupContributionDto> loadContributions(Collection<Long> orderIds, Collection<OrderStatus> statuses) {
+        if (statuses != null && statuses.isEmpty()) {
+            return List.of();
+        }
+        List<String> statusNames = statuses != null ? statuses.stream().map(OrderStatus::name).toList() : null;
+        List<Long> ids = orderIds.stream().distinct().toList();
+
+        List<OrderRollupContributionDto> contributions = new ArrayList<>(ids.size());
+        for (int start = 0; start < ids.size(); start += CONTRIBUTION_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(start + CONTRIBUTION_CHUNK_SIZE, ids.size()));
+            contributions.addAll(orderDailyRollupMapper.findContributions(chunk, statusNames));
+        }
+        return contributions;
+    }
+
+    /**
+     * 주문 생성 반영
+     */
+    @Transactional
+    public void recordCreated(OrderRollupContributionDto created) {
+        apply(List.of(), List.of(created));
+    }
+
+    /**
+     * 여러 주문 생성 반영
+     */
+    @Transactional
+    public void recordCreated(Collection<OrderRollupContributionDto> created) {
+        apply(List.of(), created);
+    }
+
+    /**
+     * 주문 삭제 반영
+     *
+     * @param deleted 삭제 전 집계 기여분
+     */
+    @Transactional
+    public void recordDeleted(OrderRollupContributionDto deleted) {
+        apply(List.of(deleted), List.of());
+    }
+
+    /**
+     * 주문 수정 반영
+     *
+     * @param before 수정 전 집계 기여분
+     * @param after 수정 후 집계 기여분
+     */
+    @Transactional
+    public void recordChanged(OrderRollupContributionDto before, OrderRollupContributionDto after) {
+        apply(List.of(before), List.of(after));
+    }
+
+    /**
+     * 여러 주문 수정 반영
+     *
+     * @param before 수정 전 집계 기여분 목록
+     * @param after 수정 후 집계 기여분 목록
+     */
+    @Transactional
+    public void recordChanged(Collection<OrderRollupContributionDto> before, Collection<OrderRollupContributionDto> after) {
+        apply(before, after);
+    }
+
+    /**
+     * 기간 내 집계를 orders/order_items에서 다시 계산 (백필, 집계 보정용)
+     * 재구성 중에 같은 기간의 주문이 변경되면 어긋날 수 있으므로 주문 변경이 없는 시점에 실행
+     *
+     * @param startDate 시작 일자 (포함, null이면 처음부터)
+     * @param endDate 종료 일자 (포함, null이면 끝까지)
+     * @return 재구성된 집계 행 수
+     */
+    @Transactional
+    public int rebuild(LocalDate startDate, LocalDate endDate) {
+        long startTime = System.nanoTime();
+
+        int deleted = orderDailyRollupMapper.deleteByDateBetween(startDate, endDate);
+        int inserted = orderDailyRollupMapper.insertFromOrders(
+                startDate != null ? startDate.atStartOfDay() : null,
+                endDate != null ? endDate.plusDays(1).atStartOfDay() : null);
+
+        latencyMetrics.record(OrmTechnique.MYBATIS, "OrderDailyRollup", "rebuild", System.nanoTime() - startTime);
+        log.info("[Rollup] 주문 집계 재구성 - 기간: {} ~ {}, 삭제: {}행, 생성: {}행", startDate, endDate, deleted, inserted);
+        return inserted;
+    }
+
+    /**
+     * 전체 기간 집계 재구성
+     *
+     * @return 재구성된 집계 행 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        return rebuild(null, null);
+    }
+
+    /**
+     * JDBC로 주문이 적재된 경우(BulkDataLoader) 전체 기간 집계 재구성
+     */
+    @EventListener
+    @Transactional
+    public void onDatasetLoaded(DatasetLoadedEvent event) {
+        if (event.isOrdersLoaded()) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * 기간 내 일자별/상태별 집계 조회
+     *
+     * @param startDate 시작 일자 (포함, null이면 처음부터)
+     * @param endDate 종료 일자 (포함, null이면 끝까지)
+     * @param status 상태 (null이면 전체)
+     * @return 일자, 상태 순으로 정렬된 집계 목록
+     */
+    public List<OrderDailyRollupDto> findDaily(LocalDate startDate, LocalDate endDate, OrderStatus status) {
+        long startTime = System.nanoTime();
+        List<OrderDailyRollupDto> rollups = orderDailyRollupMapper.findByDateBetween(
+                startDate, endDate, status != null ? status.name() : null);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "OrderDailyRollup", "findDaily", System.nanoTime() - startTime);
+        return rollups;
+    }
+
+    /**
+     * 기간 내 상태별 집계 합계 조회
+     *
+     * @param startDate 시작 일자 (포함, null이면 처음부터)
+     * @param endDate 종료 일자 (포함, null이면 끝까지)
+     * @return 상태별 집계 합계
+     */
+    public List<OrderStatusRollupDto> sumByStatus(LocalDate startDate, LocalDate endDate) {
+        long startTime = System.nanoTime();
+        List<OrderStatusRollupDto> rollups = orderDailyRollupMapper.sumByStatus(startDate, endDate);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "OrderDailyRollup", "sumByStatus", System.nanoTime() - startTime);
+        return rollups;
+    }
+
+    /**
+     * 상태별 주문 수 (countByStatus의 집계 테이블 버전)
+     *
+     * @param status 주문 상태
+     * @return 주문 수
+     */
+    public long countByStatus(OrderStatus status) {
+        return sumByStatus(null, null).stream()
+                .filter(rollup -> rollup.getStatus() == status)
+                .mapToLong(OrderStatusRollupDto::getOrderCount)
+                .sum();
+    }
+
+    /**
+     * 변경 전 값은 빼고 변경 후 값은 더해 (일자, 상태)별로 합친 뒤 반영
+     * 여러 트랜잭션이 같은 행들을 갱신할 때 교착 상태가 생기지 않도록 일자, 상태 순으로 갱신
+     */
+    private void apply(Collection<OrderRollupContributionDto> removed, Collection<OrderRollupContributionDto> added) {
+        Map<Key, long[]> deltas = new TreeMap<>(Comparator.comparing(Key::getRollupDate).thenComparing(Key::getStatus));
+        removed.forEach(contribution -> accumulate(deltas, contribution, -1));
+        added.forEach(contribution -> accumulate(deltas, contribution, 1));
+
+        deltas.forEach((key, delta) -> {
+            if (delta[0] == 0 && delta[1] == 0 && delta[2] == 0) {
+                return;
+            }
+            OrderDailyRollupDto row = new OrderDailyRollupDto(key.getRollupDate(), key.getStatus(), delta[0], delta[1], delta[2]);
+            try {
+                orderDailyRollupMapper.upsertDelta(row);
+            } catch (DuplicateKeyException e) {
+                // H2 MERGE는 다른 트랜잭션이 같은 행을 먼저 추가하면 중복 키 오류를 냄 (MySQL/PostgreSQL upsert는 내지 않음)
+                // H2는 실패한 구문만 취소하므로 같은 트랜잭션에서 다시 실행하면 추가된 행에 더해짐
+                orderDailyRollupMapper.upsertDelta(row);
+            }
+        });
+    }
+
+    private void accumulate(Map<Key, long[]> deltas, OrderRollupContributionDto contribution, int sign) {
+        // 일자나 상태가 없는 주문은 집계하지 않음 (재구성 쿼리와 같은 기준)
+        if (contribution == null || contribution.getOrderDate() == null || contribution.getStatus() == null) {
+            return;
+        }
+        long[] delta = deltas.computeIfAbsent(
+                new Key(contribution.getOrderDate().toLocalDate(), contribution.getStatus()), key -> new long[3]);
+        delta[0] += sign;
+        delta[1] += sign * contribution.getItemCount();
+        delta[2] += sign * contribution.getRevenue();
+    }
+
+    @Value
+    private static class Key {
+        LocalDate rollupDate;
+        OrderStatus status;
+    }
+}
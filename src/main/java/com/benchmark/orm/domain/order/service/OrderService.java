@@ -31,6 +31,14 @@ public interface OrderService {
      */
     String saveOrderMyBatis(OrderRequestDto orderDto);
 
+    /**
+     * MyBatis 배치 경로로 주문 저장
+     * 상품은 IN 절 한 번으로 조회하고, 주문 상품은 multi-row INSERT로 저장
+     * @param orderDto 저장할 주문 DTO
+     * @return 결과 메시지
+     */
+    String saveOrderMyBatisBatch(OrderRequestDto orderDto);
+
     /**
      * JPA를 사용하여 ID로 주문 조회
      * @param id 주문 ID
@@ -265,6 +273,7 @@ public interface OrderService {
 
     /**
      * 주문 상태 변경 (QueryDSL 사용)
+     * 허용된 전이만 가능하며, 조회한 상태일 때만 변경하는 조건부 UPDATE 한 문장으로 반영
      * @param orderId 주문 ID
      * @param status 변경할 상태
      * @return 변경된 주문 응답 DTO
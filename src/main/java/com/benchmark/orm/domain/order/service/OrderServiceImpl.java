@@ -2,6 +2,7 @@ package com.benchmark.orm.domain.order.service;
 
 import com.benchmark.orm.domain.order.dto.OrderRequestDto;
 import com.benchmark.orm.domain.order.dto.OrderResponseDto;
+import com.benchmark.orm.domain.order.dto.OrderRollupContributionDto;
 import com.benchmark.orm.domain.order.dto.OrderSearchDto;
 import com.benchmark.orm.domain.order.entity.Order;
 import com.benchmark.orm.domain.order.entity.OrderItem;
@@ -10,21 +11,33 @@ import com.benchmark.orm.domain.order.mapper.OrderMapper;
 import com.benchmark.orm.domain.order.repository.OrderItemRepository;
 import com.benchmark.orm.domain.order.repository.OrderRepository;
 import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.mapper.ProductMapper;
 import com.benchmark.orm.domain.product.repository.ProductRepository;
 import com.benchmark.orm.domain.user.entity.User;
 import com.benchmark.orm.domain.user.repository.UserRepository;
+import com.benchmark.orm.global.batch.BatchLoader;
+import com.benchmark.orm.global.batch.BatchLoaderRegistry;
+import com.benchmark.orm.global.cache.NearCache;
+import com.benchmark.orm.global.concurrency.SingleFlight;
+import com.benchmark.orm.global.metrics.OrmTechnique;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -35,29 +48,41 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class OrderServiceImpl implements OrderService {
 
+    /**
+     * multi-row INSERT 한 문장에 담을 최대 주문 상품 수
+     */
+    private static final int ORDER_ITEM_INSERT_CHUNK_SIZE = 500;
+
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final OrderMapper orderMapper;
     private final OrderItemMapper orderItemMapper;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final NearCache<OrderResponseDto> orderNearCache;
+    private final SingleFlight singleFlight;
+    private final BatchLoaderRegistry batchLoaderRegistry;
+    private final OrderRollupService orderRollupService;
 
     @Override
     @Transactional
     public OrderResponseDto saveOrderJpa(OrderRequestDto orderDto) {
         // 사용자 엔티티 조회
-        User user = userRepository.findById(orderDto.getUserId())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + orderDto.getUserId()));
+        User user = findUser(orderDto.getUserId());
 
         // 주문 엔티티 생성
         Order order = orderDto.toEntity(user);
 
         // 주문 상품 처리
         if (orderDto.getOrderItems() != null && !orderDto.getOrderItems().isEmpty()) {
+            // 상품 ID를 모두 예약해 IN 절로 한 번에 조회
+            BatchLoader<Product> productLoader = productLoaderJpa();
+            orderDto.getOrderItems().forEach(itemDto -> productLoader.load(itemDto.getProductId()));
+
             for (OrderRequestDto.OrderItemRequestDto itemDto : orderDto.getOrderItems()) {
                 // 상품 조회
-                Product product = productRepository.findById(itemDto.getProductId())
-                        .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + itemDto.getProductId()));
+                Product product = findProduct(productLoader, itemDto.getProductId());
 
                 // 주문 상품 생성 및 관계 설정
                 OrderItem orderItem = itemDto.toEntity(product);
@@ -67,6 +92,7 @@ public class OrderServiceImpl implements OrderService {
 
         // 주문 저장
         Order savedOrder = orderRepository.save(order);
+        orderRollupService.recordCreated(OrderRollupContributionDto.of(savedOrder));
 
         // 응답 DTO 반환
         return OrderResponseDto.fromEntityWithUserAndOrderItems(savedOrder);
@@ -76,8 +102,7 @@ public class OrderServiceImpl implements OrderService {
     @Transactional
     public String saveOrderMyBatis(OrderRequestDto orderDto) {
         // 사용자 엔티티 조회
-        User user = userRepository.findById(orderDto.getUserId())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + orderDto.getUserId()));
+        User user = findUser(orderDto.getUserId());
 
         // 주문 엔티티 생성
         Order order = orderDto.toEntity(user);
@@ -86,11 +111,15 @@ public class OrderServiceImpl implements OrderService {
         orderMapper.insert(order);
 
         // 주문 상품 처리
+        List<OrderItem> orderItems = new ArrayList<>();
         if (orderDto.getOrderItems() != null && !orderDto.getOrderItems().isEmpty()) {
+            // 상품 ID를 모두 예약해 IN 절로 한 번에 조회
+            BatchLoader<Product> productLoader = productLoaderMyBatis();
+            orderDto.getOrderItems().forEach(itemDto -> productLoader.load(itemDto.getProductId()));
+
             for (OrderRequestDto.OrderItemRequestDto itemDto : orderDto.getOrderItems()) {
                 // 상품 조회
-                Product product = productRepository.findById(itemDto.getProductId())
-                        .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + itemDto.getProductId()));
+                Product product = findProduct(productLoader, itemDto.getProductId());
 
                 // 주문 상품 생성
                 OrderItem orderItem = itemDto.toEntity(product);
@@ -98,80 +127,118 @@ public class OrderServiceImpl implements OrderService {
 
                 // MyBatis를 통해 주문 상품 저장
                 orderItemMapper.insert(orderItem);
+                orderItems.add(orderItem);
             }
         }
+        orderRollupService.recordCreated(OrderRollupContributionDto.of(order, orderItems));
 
         return "주문이 MyBatis를 통해 성공적으로 생성되었습니다.";
     }
 
     @Override
+    @Transactional
+    public String saveOrderMyBatisBatch(OrderRequestDto orderDto) {
+        // 사용자 엔티티 조회
+        User user = findUser(orderDto.getUserId());
+
+        // 주문 엔티티 생성 및 저장
+        Order order = orderDto.toEntity(user);
+        orderMapper.insert(order);
+
+        if (orderDto.getOrderItems() == null || orderDto.getOrderItems().isEmpty()) {
+            orderRollupService.recordCreated(OrderRollupContributionDto.of(order, List.of()));
+            return "주문이 MyBatis 배치를 통해 성공적으로 생성되었습니다.";
+        }
+
+        // 상품을 IN 절로 조회 (DB의 IN 목록 제한에 맞춰 나누어 조회)
+        Set<Long> productIds = orderDto.getOrderItems().stream()
+                .map(OrderRequestDto.OrderItemRequestDto::getProductId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, Product> productById = productLoaderMyBatis().getAll(productIds);
+
+        // 주문 상품 생성
+        List<OrderItem> orderItems = new ArrayList<>(orderDto.getOrderItems().size());
+        for (OrderRequestDto.OrderItemRequestDto itemDto : orderDto.getOrderItems()) {
+            Product product = productById.get(itemDto.getProductId());
+            if (product == null) {
+                throw new RuntimeException("상품을 찾을 수 없습니다. ID: " + itemDto.getProductId());
+            }
+            OrderItem orderItem = itemDto.toEntity(product);
+            orderItem.assignOrder(order);
+            orderItems.add(orderItem);
+        }
+
+        // multi-row INSERT로 저장 (한 문장이 너무 길어지지 않도록 나누어 실행)
+        for (int from = 0; from < orderItems.size(); from += ORDER_ITEM_INSERT_CHUNK_SIZE) {
+            int to = Math.min(from + ORDER_ITEM_INSERT_CHUNK_SIZE, orderItems.size());
+            orderItemMapper.insertAll(orderItems.subList(from, to));
+        }
+        orderRollupService.recordCreated(OrderRollupContributionDto.of(order, orderItems));
+
+        return "주문이 MyBatis 배치를 통해 성공적으로 생성되었습니다.";
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Optional<OrderResponseDto> findOrderByIdJpa(Long id) {
-        return orderRepository.findById(id)
-                .map(OrderResponseDto::fromEntity);
+        // 캐시 적중은 트랜잭션 없이 바로 반환하고, 미스일 때만 같은 ID 조회를 병합해 읽기 전용 트랜잭션에서 조회
+        return Optional.ofNullable(orderNearCache.get(OrmTechnique.JPA, id, key ->
+                singleFlight.execute(OrmTechnique.JPA, "Order", "findById", key, () ->
+                        orderRepository.findById(key)
+                                .map(OrderResponseDto::fromEntity)
+                                .orElse(null))));
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public OrderResponseDto findOrderByIdMyBatis(Long id) {
-        Order order = orderMapper.findById(id);
-        return order != null ? OrderResponseDto.fromEntity(order) : null;
+        return orderNearCache.get(OrmTechnique.MYBATIS, id, key ->
+                singleFlight.execute(OrmTechnique.MYBATIS, "Order", "findById", key, () -> {
+                    Order order = orderMapper.findById(key);
+                    return order != null ? OrderResponseDto.fromEntity(order) : null;
+                }));
     }
 
     @Override
     public List<OrderResponseDto> findAllOrdersJpa() {
-        return orderRepository.findAll().stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtosJpa(orderRepository.findAll());
     }
 
     @Override
     public List<OrderResponseDto> findAllOrdersMyBatis() {
-        return orderMapper.findAll().stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtosMyBatis(orderMapper.findAll());
     }
 
     @Override
     public List<OrderResponseDto> findOrdersByUserIdJpql(Long userId) {
-        return orderRepository.findByUserId(userId).stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtosJpa(orderRepository.findByUserId(userId));
     }
 
     @Override
     public List<OrderResponseDto> findOrdersByUserIdQueryDsl(Long userId) {
-        return orderRepository.findByUserId(userId).stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtosJpa(orderRepository.findByUserId(userId));
     }
 
     @Override
     public List<OrderResponseDto> findOrdersByProductIdQueryDsl(Long productId) {
-        return orderRepository.findOrdersContainingProduct(productId).stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtosJpa(orderRepository.findOrdersContainingProduct(productId));
     }
 
     @Override
     public List<OrderResponseDto> findOrdersByOrderDateBetweenJpql(LocalDateTime startDate, LocalDateTime endDate) {
-        return orderRepository.findByOrderDateBetween(startDate, endDate).stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtosJpa(orderRepository.findByOrderDateBetween(startDate, endDate));
     }
 
     @Override
     public List<OrderResponseDto> findOrdersByOrderDateBetweenQueryDsl(LocalDateTime startDate, LocalDateTime endDate) {
-        return orderRepository.findByOrderDateBetween(startDate, endDate).stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtosJpa(orderRepository.findByOrderDateBetween(startDate, endDate));
     }
 
     @Override
     public Page<OrderResponseDto> findOrdersWithPagingJpa(Pageable pageable) {
         Page<Order> orderPage = orderRepository.findAll(pageable);
 
-        List<OrderResponseDto> orderDtos = orderPage.getContent().stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        List<OrderResponseDto> orderDtos = toResponseDtosJpa(orderPage.getContent());
 
         return new PageImpl<>(orderDtos, pageable, orderPage.getTotalElements());
     }
@@ -180,57 +247,43 @@ public class OrderServiceImpl implements OrderService {
     public Page<OrderResponseDto> findOrdersWithPagingQueryDsl(Pageable pageable) {
         Page<Order> orderPage = orderRepository.findAllWithPaging(pageable);
 
-        List<OrderResponseDto> orderDtos = orderPage.getContent().stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        List<OrderResponseDto> orderDtos = toResponseDtosJpa(orderPage.getContent());
 
         return new PageImpl<>(orderDtos, pageable, orderPage.getTotalElements());
     }
 
     @Override
     public List<OrderResponseDto> findOrdersWithPagingMyBatis(int offset, int limit) {
-        return orderMapper.findAllWithPaging(offset, limit).stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtosMyBatis(orderMapper.findAllWithPaging(offset, limit));
     }
 
     @Override
     public List<OrderResponseDto> findOrdersWithSortingJpa(Sort sort) {
-        return orderRepository.findAll(sort).stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtosJpa(orderRepository.findAll(sort));
     }
 
     @Override
     public List<OrderResponseDto> findOrdersWithSortingQueryDsl(Sort sort) {
-        return orderRepository.findAllWithSorting(sort).stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtosJpa(orderRepository.findAllWithSorting(sort));
     }
 
     @Override
     public List<OrderResponseDto> findOrdersWithSortingMyBatis(String sortColumn, String sortDirection) {
-        return orderMapper.findAllWithSorting(sortColumn, sortDirection).stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtosMyBatis(orderMapper.findAllWithSorting(sortColumn, sortDirection));
     }
 
     @Override
     public Page<OrderResponseDto> findOrdersWithPagingAndSortingJpa(Pageable pageable) {
         Page<Order> orderPage = orderRepository.findAll(pageable);
 
-        List<OrderResponseDto> orderDtos = orderPage.getContent().stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        List<OrderResponseDto> orderDtos = toResponseDtosJpa(orderPage.getContent());
 
         return new PageImpl<>(orderDtos, pageable, orderPage.getTotalElements());
     }
 
     @Override
     public List<OrderResponseDto> findOrdersWithPagingAndSortingMyBatis(int offset, int limit, String sortColumn, String sortDirection) {
-        return orderMapper.findAllWithPagingAndSorting(offset, limit, sortColumn, sortDirection).stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return toResponseDtosMyBatis(orderMapper.findAllWithPagingAndSorting(offset, limit, sortColumn, sortDirection));
     }
 
     @Override
@@ -273,15 +326,22 @@ public class OrderServiceImpl implements OrderService {
     public Page<OrderResponseDto> findOrdersByUserIdWithPagingQueryDsl(Long userId, Pageable pageable) {
         Page<Order> orderPage = orderRepository.findByUserIdWithPaging(userId, pageable);
 
+        Map<Long, Integer> totalAmounts = findTotalAmountsJpa(orderPage.getContent());
         List<OrderResponseDto> orderDtos = orderPage.getContent().stream()
-                .map(OrderResponseDto::fromEntityWithUser)
+                .map(order -> OrderResponseDto.fromEntityWithUser(order, totalAmounts.getOrDefault(order.getId(), 0)))
                 .collect(Collectors.toList());
 
         return new PageImpl<>(orderDtos, pageable, orderPage.getTotalElements());
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Page<OrderResponseDto> searchOrdersJpql(OrderSearchDto searchDto, Pageable pageable) {
+        return singleFlight.execute(OrmTechnique.JPA, "Order", "searchJpql", Arrays.asList(searchDto, pageable),
+                () -> loadOrdersJpql(searchDto, pageable));
+    }
+
+    private Page<OrderResponseDto> loadOrdersJpql(OrderSearchDto searchDto, Pageable pageable) {
         // JPQL 방식으로 검색
         Page<Order> orderPage = orderRepository.searchOrdersJpql(
                 searchDto.getUserId(),
@@ -290,34 +350,42 @@ public class OrderServiceImpl implements OrderService {
                 searchDto.getEndDate(),
                 pageable);
 
-        List<OrderResponseDto> orderDtos = orderPage.getContent().stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        List<OrderResponseDto> orderDtos = toResponseDtosJpa(orderPage.getContent());
 
         return new PageImpl<>(orderDtos, pageable, orderPage.getTotalElements());
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Page<OrderResponseDto> searchOrdersQueryDsl(OrderSearchDto searchDto, Pageable pageable) {
+        return singleFlight.execute(OrmTechnique.JPA, "Order", "searchQueryDsl", Arrays.asList(searchDto, pageable),
+                () -> loadOrdersQueryDsl(searchDto, pageable));
+    }
+
+    private Page<OrderResponseDto> loadOrdersQueryDsl(OrderSearchDto searchDto, Pageable pageable) {
         // QueryDSL 방식으로 검색
         Page<Order> orderPage = orderRepository.searchOrders(searchDto, pageable);
 
-        List<OrderResponseDto> orderDtos = orderPage.getContent().stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        List<OrderResponseDto> orderDtos = toResponseDtosJpa(orderPage.getContent());
 
         return new PageImpl<>(orderDtos, pageable, orderPage.getTotalElements());
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Page<OrderResponseDto> searchOrdersMyBatis(OrderSearchDto searchDto, int offset, int limit,
                                                       String sortColumn, String sortDirection) {
+        return singleFlight.execute(OrmTechnique.MYBATIS, "Order", "search",
+                Arrays.asList(searchDto, offset, limit, sortColumn, sortDirection),
+                () -> loadOrdersMyBatis(searchDto, offset, limit, sortColumn, sortDirection));
+    }
+
+    private Page<OrderResponseDto> loadOrdersMyBatis(OrderSearchDto searchDto, int offset, int limit,
+                                                     String sortColumn, String sortDirection) {
         // MyBatis 방식으로 검색
         List<Order> orders = orderMapper.searchOrders(searchDto, offset, limit, sortColumn, sortDirection);
 
-        List<OrderResponseDto> orderDtos = orders.stream()
-                .map(OrderResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        List<OrderResponseDto> orderDtos = toResponseDtosMyBatis(orders);
 
         // 전체 개수 조회
         int total = orderMapper.countBySearchDto(searchDto);
@@ -331,10 +399,10 @@ public class OrderServiceImpl implements OrderService {
         // 기존 주문 조회
         Order existingOrder = orderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. ID: " + id));
+        OrderRollupContributionDto before = orderRollupService.loadContribution(id);
 
         // 사용자 엔티티 조회
-        User user = userRepository.findById(orderDto.getUserId())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + orderDto.getUserId()));
+        User user = findUser(orderDto.getUserId());
 
         // 기존 주문 상품 제거 (영속성 전이로 자동 삭제)
         // 주문 엔티티가 orderItems의 변경을 관리하므로 여기서는 관계만 제거
@@ -350,10 +418,13 @@ public class OrderServiceImpl implements OrderService {
 
         // 새 주문 상품 추가
         if (orderDto.getOrderItems() != null && !orderDto.getOrderItems().isEmpty()) {
+            // 상품 ID를 모두 예약해 IN 절로 한 번에 조회
+            BatchLoader<Product> productLoader = productLoaderJpa();
+            orderDto.getOrderItems().forEach(itemDto -> productLoader.load(itemDto.getProductId()));
+
             for (OrderRequestDto.OrderItemRequestDto itemDto : orderDto.getOrderItems()) {
                 // 상품 조회
-                Product product = productRepository.findById(itemDto.getProductId())
-                        .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + itemDto.getProductId()));
+                Product product = findProduct(productLoader, itemDto.getProductId());
 
                 // 주문 상품 생성 및 관계 설정
                 OrderItem orderItem = itemDto.toEntity(product);
@@ -363,6 +434,8 @@ public class OrderServiceImpl implements OrderService {
 
         // 주문 저장
         Order updatedOrder = orderRepository.save(existingOrder);
+        orderRollupService.recordChanged(before, OrderRollupContributionDto.of(updatedOrder));
+        orderNearCache.invalidate(id);
 
         return OrderResponseDto.fromEntityWithUserAndOrderItems(updatedOrder);
     }
@@ -375,10 +448,16 @@ public class OrderServiceImpl implements OrderService {
         if (existingOrder == null) {
             throw new RuntimeException("주문을 찾을 수 없습니다. ID: " + id);
         }
+        OrderRollupContributionDto before = orderRollupService.loadContribution(id);
 
         // 사용자 엔티티 조회
-        User user = userRepository.findById(orderDto.getUserId())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + orderDto.getUserId()));
+        User user = findUser(orderDto.getUserId());
+
+        // 상태를 바꾸는 경우 허용된 전이인지 검증
+        if (orderDto.getStatus() != null && existingOrder.getStatus() != null
+                && orderDto.getStatus() != existingOrder.getStatus()) {
+            existingOrder.getStatus().validateTransitionTo(orderDto.getStatus());
+        }
 
         // 주문 기본 정보 업데이트
         Order updatedOrder = Order.builder()
@@ -395,11 +474,15 @@ public class OrderServiceImpl implements OrderService {
         orderItemMapper.deleteByOrderId(id);
 
         // 새 주문 상품 추가
+        List<OrderItem> orderItems = new ArrayList<>();
         if (orderDto.getOrderItems() != null && !orderDto.getOrderItems().isEmpty()) {
+            // 상품 ID를 모두 예약해 IN 절로 한 번에 조회
+            BatchLoader<Product> productLoader = productLoaderMyBatis();
+            orderDto.getOrderItems().forEach(itemDto -> productLoader.load(itemDto.getProductId()));
+
             for (OrderRequestDto.OrderItemRequestDto itemDto : orderDto.getOrderItems()) {
                 // 상품 조회
-                Product product = productRepository.findById(itemDto.getProductId())
-                        .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + itemDto.getProductId()));
+                Product product = findProduct(productLoader, itemDto.getProductId());
 
                 // 주문 상품 생성
                 OrderItem orderItem = itemDto.toEntity(product);
@@ -407,9 +490,12 @@ public class OrderServiceImpl implements OrderService {
 
                 // MyBatis를 통해 주문 상품 저장
                 orderItemMapper.insert(orderItem);
+                orderItems.add(orderItem);
             }
         }
+        orderRollupService.recordChanged(before, OrderRollupContributionDto.of(updatedOrder, orderItems));
 
+        orderNearCache.invalidate(id);
         return "주문이 MyBatis를 통해 성공적으로 업데이트되었습니다.";
     }
 
@@ -418,7 +504,9 @@ public class OrderServiceImpl implements OrderService {
     public String deleteOrderJpa(Long id) {
         return orderRepository.findById(id)
                 .map(order -> {
+                    orderRollupService.recordDeleted(orderRollupService.loadContribution(id));
                     orderRepository.deleteById(id);
+                    orderNearCache.invalidate(id);
                     return "주문이 JPA를 통해 성공적으로 삭제되었습니다.";
                 })
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. ID: " + id));
@@ -432,11 +520,14 @@ public class OrderServiceImpl implements OrderService {
             throw new RuntimeException("주문을 찾을 수 없습니다. ID: " + id);
         }
 
+        orderRollupService.recordDeleted(orderRollupService.loadContribution(id));
+
         // 주문 상품 삭제 (MyBatis에서는 수동으로 관계 처리 필요)
         orderItemMapper.deleteByOrderId(id);
 
         // 주문 삭제
         orderMapper.deleteById(id);
+        orderNearCache.invalidate(id);
 
         return "주문이 MyBatis를 통해 성공적으로 삭제되었습니다.";
     }
@@ -444,17 +535,119 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional
     public OrderResponseDto updateOrderStatus(Long orderId, Order.OrderStatus status) {
-        Order updatedOrder = orderRepository.updateOrderStatus(orderId, status);
-        if (updatedOrder == null) {
-            throw new RuntimeException("주문을 찾을 수 없습니다. ID: " + orderId);
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. ID: " + orderId));
+
+        // 조회한 상태일 때만 변경 (그 사이 다른 요청이 상태를 바꿨으면 0건)
+        OrderRollupContributionDto before = OrderRollupContributionDto.of(order);
+        if (!orderRepository.transitionStatus(order, status)) {
+            throw new RuntimeException("주문 상태가 다른 요청에 의해 이미 변경되었습니다. ID: " + orderId);
         }
-        return OrderResponseDto.fromEntity(updatedOrder);
+        orderRollupService.recordChanged(before, before.moveTo(before.getOrderDate(), status));
+        orderNearCache.invalidate(orderId);
+        return OrderResponseDto.fromEntity(order);
     }
 
     @Override
     public List<OrderResponseDto> findRecentOrders(int limit) {
-        return orderRepository.findRecentOrders(limit).stream()
-                .map(OrderResponseDto::fromEntity)
+        return toResponseDtosJpa(orderRepository.findRecentOrders(limit));
+    }
+
+    /**
+     * 주문 목록을 응답 DTO로 변환 (JPA)
+     * 주문 총액은 주문마다 orderItems를 지연 로딩하지 않고 집계 쿼리로 조회
+     */
+    private List<OrderResponseDto> toResponseDtosJpa(List<Order> orders) {
+        Map<Long, Integer> totalAmounts = findTotalAmountsJpa(orders);
+        return orders.stream()
+                .map(order -> OrderResponseDto.fromEntity(order, totalAmounts.getOrDefault(order.getId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 주문 목록을 응답 DTO로 변환 (MyBatis)
+     * 주문 총액은 집계 쿼리로 조회
+     */
+    private List<OrderResponseDto> toResponseDtosMyBatis(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Integer> totalAmounts = findTotalAmountsMyBatis(orders);
+        return orders.stream()
+                .map(order -> OrderResponseDto.fromEntity(order, totalAmounts.getOrDefault(order.getId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 사용자 로더 (JPA, 요청 범위에서 공유)
+     */
+    private BatchLoader<User> userLoaderJpa() {
+        return batchLoaderRegistry.loader("User", OrmTechnique.JPA, userRepository::findAllWithProfileByIdIn, User::getId);
+    }
+
+    /**
+     * 사용자 조회 (같은 요청에서 이미 조회한 사용자는 다시 조회하지 않음)
+     */
+    private User findUser(Long userId) {
+        User user = userLoaderJpa().get(userId);
+        if (user == null) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다. ID: " + userId);
+        }
+        return user;
+    }
+
+    /**
+     * 상품 로더 (JPA, 요청 범위에서 공유)
+     */
+    private BatchLoader<Product> productLoaderJpa() {
+        return batchLoaderRegistry.loader("Product", OrmTechnique.JPA, productRepository::findAllById, Product::getId);
+    }
+
+    /**
+     * 상품 로더 (MyBatis, 요청 범위에서 공유)
+     */
+    private BatchLoader<Product> productLoaderMyBatis() {
+        return batchLoaderRegistry.loader("Product", OrmTechnique.MYBATIS, productMapper::findByIds, Product::getId);
+    }
+
+    /**
+     * 예약한 상품 조회 (예약된 다른 상품과 함께 IN 절로 조회)
+     */
+    private Product findProduct(BatchLoader<Product> productLoader, Long productId) {
+        Product product = productLoader.get(productId);
+        if (product == null) {
+            throw new RuntimeException("상품을 찾을 수 없습니다. ID: " + productId);
+        }
+        return product;
+    }
+
+    /**
+     * 주문별 총액 조회 (JPA, IN 절 크기 제한 단위로 나눠 SUM ... GROUP BY 실행)
+     */
+    private Map<Long, Integer> findTotalAmountsJpa(List<Order> orders) {
+        Map<Long, Integer> totalAmounts = new HashMap<>();
+        for (List<Long> chunk : batchLoaderRegistry.partition(extractOrderIds(orders))) {
+            totalAmounts.putAll(orderItemRepository.findTotalAmountsByOrderIds(chunk));
+        }
+        return totalAmounts;
+    }
+
+    /**
+     * 주문별 총액 조회 (MyBatis, IN 절 크기 제한 단위로 나눠 SUM ... GROUP BY 실행)
+     */
+    private Map<Long, Integer> findTotalAmountsMyBatis(List<Order> orders) {
+        Map<Long, Integer> totalAmounts = new HashMap<>();
+        for (List<Long> chunk : batchLoaderRegistry.partition(extractOrderIds(orders))) {
+            orderItemMapper.findTotalAmountsByOrderIds(chunk)
+                    .forEach(total -> totalAmounts.put(total.getOrderId(), total.getTotalAmount()));
+        }
+        return totalAmounts;
+    }
+
+    private List<Long> extractOrderIds(List<Order> orders) {
+        return orders.stream()
+                .map(Order::getId)
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.benchmark.orm.domain.product.controller;
 
 import com.benchmark.orm.domain.product.dto.*;
 import com.benchmark.orm.domain.product.service.ProductIndexJpaService;
+import com.benchmark.orm.global.dto.CursorPageDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -81,6 +82,48 @@ public class ProductIndexJpaController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * 모든 상품 조회 (DTO 프로젝션)
+     */
+    @GetMapping("/projection")
+    public ResponseEntity<List<ProductIndexSimpleDto>> getAllProductsProjected() {
+        log.info("[JPA-Index] GET /api/jpa/product-index/projection - 모든 상품 프로젝션 조회 요청");
+        List<ProductIndexSimpleDto> products = productIndexJpaService.findAllProjected();
+        return ResponseEntity.ok(products);
+    }
+
+    /**
+     * 가격 범위로 조회 (DTO 프로젝션)
+     */
+    @GetMapping("/projection/price")
+    public ResponseEntity<List<ProductIndexSimpleDto>> getProductsByPriceRangeProjected(
+            @RequestParam int minPrice,
+            @RequestParam int maxPrice) {
+        log.info("[JPA-Index] GET /api/jpa/product-index/projection/price - 가격 범위 프로젝션 조회 요청: {} ~ {}", minPrice, maxPrice);
+        List<ProductIndexSimpleDto> products = productIndexJpaService.findByPriceBetweenProjected(minPrice, maxPrice);
+        return ResponseEntity.ok(products);
+    }
+
+    /**
+     * 브랜드 ID로 조회 (DTO 프로젝션)
+     */
+    @GetMapping("/projection/brand/{brandId}")
+    public ResponseEntity<List<ProductIndexSimpleDto>> getProductsByBrandIdProjected(@PathVariable Long brandId) {
+        log.info("[JPA-Index] GET /api/jpa/product-index/projection/brand/{} - 브랜드 ID로 프로젝션 조회 요청", brandId);
+        List<ProductIndexSimpleDto> products = productIndexJpaService.findByBrandIdProjected(brandId);
+        return ResponseEntity.ok(products);
+    }
+
+    /**
+     * 카테고리 ID로 조회 (DTO 프로젝션)
+     */
+    @GetMapping("/projection/category/{categoryId}")
+    public ResponseEntity<List<ProductIndexSimpleDto>> getProductsByCategoryIdProjected(@PathVariable Long categoryId) {
+        log.info("[JPA-Index] GET /api/jpa/product-index/projection/category/{} - 카테고리 ID로 프로젝션 조회 요청", categoryId);
+        List<ProductIndexSimpleDto> products = productIndexJpaService.findByCategoryIdProjected(categoryId);
+        return ResponseEntity.ok(products);
+    }
+
     /**
      * 페이징 조회
      */
@@ -96,6 +139,22 @@ public class ProductIndexJpaController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * 키셋(커서) 페이징 조회
+     * 첫 페이지는 after 없이 요청하고, 이후에는 응답의 nextCursor를 after로 전달
+     */
+    @GetMapping("/paging/cursor")
+    public ResponseEntity<CursorPageDto<ProductIndexSimpleDto>> getProductsWithCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection) {
+        log.info("[JPA-Index] GET /api/jpa/product-index/paging/cursor - 커서 페이징 조회 요청: after={}, size={}, sortBy={}, sortDirection={}",
+                after, size, sortBy, sortDirection);
+        CursorPageDto<ProductIndexSimpleDto> result = productIndexJpaService.findAllWithCursor(after, size, sortBy, sortDirection);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 정렬 조회
      */
@@ -2,12 +2,15 @@ package com.benchmark.orm.domain.product.controller;
 
 import com.benchmark.orm.domain.product.dto.*;
 import com.benchmark.orm.domain.product.service.ProductJpaService;
+import com.benchmark.orm.global.dto.CursorPageDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -39,6 +42,18 @@ public class ProductJpaController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * 모든 상품 NDJSON 내보내기 (스트리밍)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        log.info("[JPA] GET /api/jpa/product/export - 모든 상품 내보내기 요청");
+        StreamingResponseBody body = out -> productJpaService.exportAll(out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * ID로 상품 조회
      */
@@ -91,6 +106,16 @@ public class ProductJpaController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * 카테고리 서브트리(하위 카테고리 포함) 조회
+     */
+    @GetMapping("/category/{categoryId}/subtree")
+    public ResponseEntity<List<ProductSimpleDto>> getProductsByCategorySubtree(@PathVariable Long categoryId) {
+        log.info("[JPA] GET /api/jpa/product/category/{}/subtree - 카테고리 서브트리 조회 요청", categoryId);
+        List<ProductSimpleDto> products = productJpaService.findByCategorySubtree(categoryId);
+        return ResponseEntity.ok(products);
+    }
+
     /**
      * 페이징 조회
      */
@@ -106,6 +131,22 @@ public class ProductJpaController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * 키셋(커서) 페이징 조회
+     * 첫 페이지는 after 없이 요청하고, 이후에는 응답의 nextCursor를 after로 전달
+     */
+    @GetMapping("/paging/cursor")
+    public ResponseEntity<CursorPageDto<ProductSimpleDto>> getProductsWithCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection) {
+        log.info("[JPA] GET /api/jpa/product/paging/cursor - 커서 페이징 조회 요청: after={}, size={}, sortBy={}, sortDirection={}",
+                after, size, sortBy, sortDirection);
+        CursorPageDto<ProductSimpleDto> result = productJpaService.findAllWithCursor(after, size, sortBy, sortDirection);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 정렬 조회
      */
@@ -2,11 +2,14 @@ package com.benchmark.orm.domain.product.controller;
 
 import com.benchmark.orm.domain.product.dto.*;
 import com.benchmark.orm.domain.product.service.ProductMyBatisService;
+import com.benchmark.orm.global.dto.CursorPageDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -38,6 +41,18 @@ public class ProductMyBatisController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * 모든 상품 NDJSON 내보내기 (스트리밍)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        log.info("[MyBatis] GET /api/mybatis/product/export - 모든 상품 내보내기 요청");
+        StreamingResponseBody body = out -> productMyBatisService.exportAll(out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * ID로 상품 조회
      */
@@ -90,6 +105,16 @@ public class ProductMyBatisController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * 카테고리 서브트리(하위 카테고리 포함) 조회
+     */
+    @GetMapping("/category/{categoryId}/subtree")
+    public ResponseEntity<List<ProductSimpleDto>> getProductsByCategorySubtree(@PathVariable Long categoryId) {
+        log.info("[MyBatis] GET /api/mybatis/product/category/{}/subtree - 카테고리 서브트리 조회 요청", categoryId);
+        List<ProductSimpleDto> products = productMyBatisService.findByCategorySubtree(categoryId);
+        return ResponseEntity.ok(products);
+    }
+
     /**
      * 페이징 조회
      */
@@ -105,6 +130,22 @@ public class ProductMyBatisController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * 키셋(커서) 페이징 조회
+     * 첫 페이지는 after 없이 요청하고, 이후에는 응답의 nextCursor를 after로 전달
+     */
+    @GetMapping("/paging/cursor")
+    public ResponseEntity<CursorPageDto<ProductSimpleDto>> getProductsWithCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection) {
+        log.info("[MyBatis] GET /api/mybatis/product/paging/cursor - 커서 페이징 조회 요청: after={}, size={}, sortBy={}, sortDirection={}",
+                after, size, sortBy, sortDirection);
+        CursorPageDto<ProductSimpleDto> result = productMyBatisService.findAllWithCursor(after, size, sortBy, sortDirection);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 정렬 조회
      */
@@ -1,18 +1,27 @@
 package com.benchmark.orm.domain.product.entity;
 
+import com.benchmark.orm.global.cache.ReferenceDataCache;
+import com.benchmark.orm.global.cache.ReferenceDataCacheListener;
 import com.benchmark.orm.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.io.Serializable;
 
 @Entity
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Brand extends BaseTimeEntity {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = ReferenceDataCache.BRAND_REGION)
+@EntityListeners(ReferenceDataCacheListener.class)
+public class Brand extends BaseTimeEntity implements Serializable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,12 +1,17 @@
 package com.benchmark.orm.domain.product.entity;
 
+import com.benchmark.orm.global.cache.ReferenceDataCache;
+import com.benchmark.orm.global.cache.ReferenceDataCacheListener;
 import com.benchmark.orm.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,7 +20,10 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Category extends BaseTimeEntity {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = ReferenceDataCache.CATEGORY_REGION)
+@EntityListeners(ReferenceDataCacheListener.class)
+public class Category extends BaseTimeEntity implements Serializable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -54,8 +62,8 @@ public class Category extends BaseTimeEntity {
             throw new IllegalArgumentException("카테고리는 자기 자신을 부모로 설정할 수 없습니다.");
         }
 
-        // 추가: 부모가 현재 카테고리의 자식인지 확인 (더 깊은 순환 참조 방지)
-        if (parent != null && hasChildRecursively(parent, this)) {
+        // 추가: 부모가 현재 카테고리의 자손인지 확인 (더 깊은 순환 참조 방지)
+        if (parent != null && isDescendantOf(parent, this)) {
             throw new IllegalArgumentException("카테고리는 자기 자신을 부모로 설정할 수 없습니다.");
         }
 
@@ -74,20 +82,19 @@ public class Category extends BaseTimeEntity {
         return this;
     }
 
-    // 재귀적으로 순환 참조 체크하는 메서드 추가
-    private boolean hasChildRecursively(Category potentialChild, Category potentialParent) {
-        // 바로 아래 자식인지 확인
-        if (potentialParent.getChildren().contains(potentialChild)) {
-            return true;
-        }
-
-        // 자식의 자식들 검사 (재귀)
-        for (Category child : potentialParent.getChildren()) {
-            if (hasChildRecursively(potentialChild, child)) {
+    /**
+     * 순환 참조 체크
+     * 지연 로딩되는 children을 아래로 순회하면 노드마다 SELECT가 발생하므로,
+     * 즉시 로딩되는 parent를 따라 위로 올라가며 확인 (깊이만큼만 비교)
+     */
+    private boolean isDescendantOf(Category potentialDescendant, Category potentialAncestor) {
+        Category current = potentialDescendant.getParent();
+        while (current != null) {
+            if (current.equals(potentialAncestor)) {
                 return true;
             }
+            current = current.getParent();
         }
-
         return false;
     }
 
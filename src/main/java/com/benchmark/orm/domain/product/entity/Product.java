@@ -1,5 +1,6 @@
 package com.benchmark.orm.domain.product.entity;
 
+import com.benchmark.orm.global.dto.KeysetSort;
 import com.benchmark.orm.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -11,12 +12,28 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = "Product.withBrand", attributeNodes = @NamedAttributeNode("brand")),
+        @NamedEntityGraph(name = "Product.withCategory", attributeNodes = @NamedAttributeNode("category")),
+        @NamedEntityGraph(name = "Product.full", attributeNodes = {
+                @NamedAttributeNode("brand"),
+                @NamedAttributeNode("category")
+        })
+})
+@EntityListeners(ProductNameListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Product extends BaseTimeEntity {
 
+    /**
+     * 키셋(커서) 페이징에서 허용하는 정렬 필드 (그 외에는 ID 정렬)
+     */
+    public static final KeysetSort<Product> KEYSET_SORT = KeysetSort.byId(Product::getId)
+            .and("name", Product::getName)
+            .and("price", "price", Product::getPrice, Integer::valueOf);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -24,11 +41,11 @@ public class Product extends BaseTimeEntity {
     private String name;
     private int price;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "brand_id")
     private Brand brand;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
 
@@ -1,5 +1,6 @@
 package com.benchmark.orm.domain.product.entity;
 
+import com.benchmark.orm.global.dto.KeysetSort;
 import com.benchmark.orm.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -22,12 +23,28 @@ import java.util.List;
                 @Index(name = "idx_product_index_brand", columnList = "brand_id"),    // 브랜드 ID에 대한 인덱스
                 @Index(name = "idx_product_index_category", columnList = "category_id") // 카테고리 ID에 대한 인덱스
         })
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = "ProductIndex.withBrand", attributeNodes = @NamedAttributeNode("brand")),
+        @NamedEntityGraph(name = "ProductIndex.withCategory", attributeNodes = @NamedAttributeNode("category")),
+        @NamedEntityGraph(name = "ProductIndex.full", attributeNodes = {
+                @NamedAttributeNode("brand"),
+                @NamedAttributeNode("category")
+        })
+})
+@EntityListeners(ProductNameListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class ProductIndex extends BaseTimeEntity {
 
+    /**
+     * 키셋(커서) 페이징에서 허용하는 정렬 필드 (그 외에는 ID 정렬)
+     */
+    public static final KeysetSort<ProductIndex> KEYSET_SORT = KeysetSort.byId(ProductIndex::getId)
+            .and("name", ProductIndex::getName)
+            .and("price", "price", ProductIndex::getPrice, Integer::valueOf);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -35,11 +52,11 @@ public class ProductIndex extends BaseTimeEntity {
     private String name;    // 상품명
     private int price;      // 가격
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "brand_id")
     private Brand brand;    // 브랜드 정보
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;  // 카테고리 정보
 
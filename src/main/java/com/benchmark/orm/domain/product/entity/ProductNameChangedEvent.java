@@ -0,0 +1,46 @@
+package com.benchmark.orm.domain.product.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품명(Product, ProductIndex)이 추가/변경/삭제되었음을 알리는 이벤트
+ * JPA 엔티티 리스너(ProductNameListener)와 MyBatis 플러그인(ProductNameIndexInterceptor)이 발행함
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductNameChangedEvent {
+
+    /**
+     * 변경된 엔티티 타입 (Product, ProductIndex)
+     */
+    private final Class<?> entityType;
+
+    /**
+     * 변경된 행의 ID (어떤 행이 바뀌었는지 알 수 없으면 null)
+     */
+    private final Long id;
+
+    /**
+     * 변경 후 상품명 (삭제된 경우 null)
+     */
+    private final String name;
+
+    private final boolean removed;
+
+    public static ProductNameChangedEvent saved(Class<?> entityType, Long id, String name) {
+        return new ProductNameChangedEvent(entityType, id, name, false);
+    }
+
+    public static ProductNameChangedEvent removed(Class<?> entityType, Long id) {
+        return new ProductNameChangedEvent(entityType, id, null, true);
+    }
+
+    /**
+     * 어떤 행이 바뀌었는지 알 수 없는 변경 (받는 쪽에서 전체를 다시 읽어야 함)
+     */
+    public static ProductNameChangedEvent unknown(Class<?> entityType) {
+        return new ProductNameChangedEvent(entityType, null, null, false);
+    }
+}
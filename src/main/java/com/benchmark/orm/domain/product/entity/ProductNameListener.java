@@ -0,0 +1,45 @@
+package com.benchmark.orm.domain.product.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Product/ProductIndex 엔티티 변경 시 ProductNameChangedEvent를 보내는 JPA 엔티티 리스너
+ * <p>
+ * 서비스뿐 아니라 리포지토리를 직접 호출한 변경도 상품명 트라이그램 인덱스에 반영되도록 함
+ * Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 의존성 주입이 가능하며,
+ * 컨테이너 없이 생성된 경우에는 아무 동작도 하지 않음
+ */
+public class ProductNameListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Product product) {
+            publish(ProductNameChangedEvent.saved(Product.class, product.getId(), product.getName()));
+        } else if (entity instanceof ProductIndex productIndex) {
+            publish(ProductNameChangedEvent.saved(ProductIndex.class, productIndex.getId(), productIndex.getName()));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Product product) {
+            publish(ProductNameChangedEvent.removed(Product.class, product.getId()));
+        } else if (entity instanceof ProductIndex productIndex) {
+            publish(ProductNameChangedEvent.removed(ProductIndex.class, productIndex.getId()));
+        }
+    }
+
+    private void publish(ProductNameChangedEvent event) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+}
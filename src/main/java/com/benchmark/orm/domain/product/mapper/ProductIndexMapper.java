@@ -1,10 +1,12 @@
 package com.benchmark.orm.domain.product.mapper;
 
+import com.benchmark.orm.domain.product.dto.ProductIndexSimpleDto;
 import com.benchmark.orm.domain.product.dto.ProductSearchDto;
 import com.benchmark.orm.domain.product.entity.ProductIndex;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -75,6 +77,21 @@ public interface ProductIndexMapper {
                                                    @Param("sortColumn") String sortColumn,
                                                    @Param("sortDirection") String sortDirection);
 
+    /**
+     * 키셋(커서) 방식으로 상품 조회
+     * @param sortColumn 정렬 컬럼 (id, name, price)
+     * @param sortDirection 정렬 방향 (asc/desc)
+     * @param cursorValue 마지막으로 조회한 행의 정렬 값 (첫 페이지이거나 정렬 값이 NULL인 행이면 null)
+     * @param cursorId 마지막으로 조회한 행의 ID (첫 페이지는 null)
+     * @param limit 조회 개수
+     * @return 커서 이후의 상품 리스트
+     */
+    List<ProductIndex> findAllWithKeyset(@Param("sortColumn") String sortColumn,
+                                         @Param("sortDirection") String sortDirection,
+                                         @Param("cursorValue") Object cursorValue,
+                                         @Param("cursorId") Long cursorId,
+                                         @Param("limit") int limit);
+
     /**
      * 상품과 이미지 함께 조회
      * @param id 상품 ID
@@ -111,6 +128,34 @@ public interface ProductIndexMapper {
      */
     List<ProductIndex> findByCategoryId(@Param("categoryId") Long categoryId);
 
+    /**
+     * 모든 상품을 DTO로 조회 (DTO 컬럼만 SELECT, 평면 resultType 매핑)
+     * @return 상품 DTO 리스트
+     */
+    List<ProductIndexSimpleDto> findAllSimple();
+
+    /**
+     * 가격 범위로 상품을 DTO로 조회
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @return 상품 DTO 리스트
+     */
+    List<ProductIndexSimpleDto> findByPriceBetweenSimple(@Param("minPrice") int minPrice, @Param("maxPrice") int maxPrice);
+
+    /**
+     * 브랜드 ID로 상품을 DTO로 조회
+     * @param brandId 브랜드 ID
+     * @return 상품 DTO 리스트
+     */
+    List<ProductIndexSimpleDto> findByBrandIdSimple(@Param("brandId") Long brandId);
+
+    /**
+     * 카테고리 ID로 상품을 DTO로 조회
+     * @param categoryId 카테고리 ID
+     * @return 상품 DTO 리스트
+     */
+    List<ProductIndexSimpleDto> findByCategoryIdSimple(@Param("categoryId") Long categoryId);
+
     /**
      * 검색 조건을 이용한 상품 검색
      * @param searchDto 검색 조건 DTO
@@ -132,4 +177,38 @@ public interface ProductIndexMapper {
      * @return 검색된 상품 총 개수
      */
     int countBySearchDto(@Param("searchDto") ProductSearchDto searchDto);
+
+    /**
+     * 상품명 트라이그램 인덱스 후보 ID와 검색 조건을 이용한 상품 검색
+     * 키워드 LIKE 조건 대신 후보 ID IN 조건을 사용
+     * @param searchDto 검색 조건 DTO (keyword는 후보 ID 조건과 함께 그대로 적용)
+     * @param candidateIds 상품명 키워드에 매칭되는 후보 상품 ID 목록
+     * @param offset 시작 위치
+     * @param limit 조회 개수
+     * @param sortColumn 정렬 컬럼
+     * @param sortDirection 정렬 방향 (asc/desc)
+     * @return 검색된 상품 리스트
+     */
+    List<ProductIndex> searchProductIndexsByCandidateIds(@Param("searchDto") ProductSearchDto searchDto,
+                                                         @Param("candidateIds") Collection<Long> candidateIds,
+                                                         @Param("offset") int offset,
+                                                         @Param("limit") int limit,
+                                                         @Param("sortColumn") String sortColumn,
+                                                         @Param("sortDirection") String sortDirection);
+
+    /**
+     * 상품명 트라이그램 인덱스 후보 ID와 검색 조건을 이용한 상품 총 개수 조회
+     * @param searchDto 검색 조건 DTO (keyword는 후보 ID 조건과 함께 그대로 적용)
+     * @param candidateIds 상품명 키워드에 매칭되는 후보 상품 ID 목록
+     * @return 검색된 상품 총 개수
+     */
+    int countByCandidateIds(@Param("searchDto") ProductSearchDto searchDto,
+                            @Param("candidateIds") Collection<Long> candidateIds);
+
+    /**
+     * ID 목록으로 상품 조회 (순서는 보장하지 않음)
+     * @param ids 상품 ID 목록 (비어 있으면 안 됨)
+     * @return 상품 리스트
+     */
+    List<ProductIndex> findByIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -4,7 +4,9 @@ import com.benchmark.orm.domain.product.dto.ProductSearchDto;
 import com.benchmark.orm.domain.product.entity.Product;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -39,12 +41,27 @@ public interface ProductMapper {
      */
     Product findById(Long id);
 
+    /**
+     * ID 목록으로 상품 일괄 조회 (기본 정보만, IN 절 한 번)
+     * @param ids 조회할 상품 ID 목록 (비어 있으면 안 됨)
+     * @return 조회된 상품 리스트 (존재하지 않는 ID는 제외)
+     */
+    List<Product> findByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * 모든 상품 조회 (브랜드, 카테고리 포함)
      * @return 모든 상품 리스트
      */
     List<Product> findAll();
 
+    /**
+     * 모든 상품을 커서로 조회 (브랜드, 카테고리 포함, ID 순)
+     * <p>
+     * 결과를 한 번에 메모리에 올리지 않고 한 행씩 읽음 (내보내기용)
+     * @return 상품 커서 (트랜잭션 안에서 순회해야 함)
+     */
+    Cursor<Product> streamAll();
+
     /**
      * 페이징된 상품 조회 (브랜드, 카테고리 포함)
      * @param offset 시작 위치
@@ -74,6 +91,21 @@ public interface ProductMapper {
                                               @Param("sortColumn") String sortColumn,
                                               @Param("sortDirection") String sortDirection);
 
+    /**
+     * 키셋(커서) 방식으로 상품 조회
+     * @param sortColumn 정렬 컬럼 (id, name, price)
+     * @param sortDirection 정렬 방향 (asc/desc)
+     * @param cursorValue 마지막으로 조회한 행의 정렬 값 (첫 페이지이거나 정렬 값이 NULL인 행이면 null)
+     * @param cursorId 마지막으로 조회한 행의 ID (첫 페이지는 null)
+     * @param limit 조회 개수
+     * @return 커서 이후의 상품 리스트
+     */
+    List<Product> findAllWithKeyset(@Param("sortColumn") String sortColumn,
+                                    @Param("sortDirection") String sortDirection,
+                                    @Param("cursorValue") Object cursorValue,
+                                    @Param("cursorId") Long cursorId,
+                                    @Param("limit") int limit);
+
     /**
      * 상품과 이미지 함께 조회
      * @param id 상품 ID
@@ -110,6 +142,13 @@ public interface ProductMapper {
      */
     List<Product> findByCategoryId(@Param("categoryId") Long categoryId);
 
+    /**
+     * 카테고리 서브트리(자기 자신과 모든 하위 카테고리)에 속한 상품 검색
+     * @param categoryIds 서브트리 카테고리 ID 목록 (CategoryHierarchy로 구한 값)
+     * @return 검색된 상품 리스트 (ID 오름차순)
+     */
+    List<Product> findByCategorySubtree(@Param("categoryIds") Collection<Long> categoryIds);
+
     /**
      * 검색 조건을 이용한 상품 검색
      * @param searchDto 검색 조건 DTO
@@ -131,4 +170,31 @@ public interface ProductMapper {
      * @return 검색된 상품 총 개수
      */
     int countBySearchDto(@Param("searchDto") ProductSearchDto searchDto);
+
+    /**
+     * 상품명 트라이그램 인덱스 후보 ID와 검색 조건을 이용한 상품 검색
+     * 키워드 LIKE 조건 대신 후보 ID IN 조건을 사용
+     * @param searchDto 검색 조건 DTO (keyword는 후보 ID 조건과 함께 그대로 적용)
+     * @param candidateIds 상품명 키워드에 매칭되는 후보 상품 ID 목록
+     * @param offset 시작 위치
+     * @param limit 조회 개수
+     * @param sortColumn 정렬 컬럼
+     * @param sortDirection 정렬 방향 (asc/desc)
+     * @return 검색된 상품 리스트
+     */
+    List<Product> searchProductsByCandidateIds(@Param("searchDto") ProductSearchDto searchDto,
+                                               @Param("candidateIds") Collection<Long> candidateIds,
+                                               @Param("offset") int offset,
+                                               @Param("limit") int limit,
+                                               @Param("sortColumn") String sortColumn,
+                                               @Param("sortDirection") String sortDirection);
+
+    /**
+     * 상품명 트라이그램 인덱스 후보 ID와 검색 조건을 이용한 상품 총 개수 조회
+     * @param searchDto 검색 조건 DTO (keyword는 후보 ID 조건과 함께 그대로 적용)
+     * @param candidateIds 상품명 키워드에 매칭되는 후보 상품 ID 목록
+     * @return 검색된 상품 총 개수
+     */
+    int countByCandidateIds(@Param("searchDto") ProductSearchDto searchDto,
+                            @Param("candidateIds") Collection<Long> candidateIds);
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.benchmark.orm.domain.product.mapper;
+
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import com.benchmark.orm.domain.product.entity.ProductNameChangedEvent;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * ProductMapper/ProductIndexMapper의 INSERT/UPDATE/DELETE 후 ProductNameChangedEvent를 보내는 MyBatis 플러그인
+ * <p>
+ * 서비스뿐 아니라 매퍼를 직접 호출한 변경도 상품명 트라이그램 인덱스에 반영되도록 함
+ * 파라미터가 엔티티(insert, update)나 ID(deleteById)가 아니어서 바뀐 행을 알 수 없으면 전체 재생성을 요청함
+ * Interceptor 빈은 MyBatis 자동 설정이 SqlSessionFactory에 등록함
+ */
+@Component
+@Intercepts(@Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}))
+public class ProductNameIndexInterceptor implements Interceptor {
+
+    private static final Map<String, Class<?>> ENTITY_TYPES = Map.of(
+            ProductMapper.class.getName(), Product.class,
+            ProductIndexMapper.class.getName(), ProductIndex.class);
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductNameIndexInterceptor(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        String statementId = statement.getId();
+        Class<?> entityType = ENTITY_TYPES.get(statementId.substring(0, statementId.lastIndexOf('.')));
+        if (entityType != null) {
+            // INSERT의 생성 키는 실행 후에 채워지므로 proceed() 이후에 읽음
+            eventPublisher.publishEvent(toEvent(entityType, statement.getSqlCommandType(), invocation.getArgs()[1]));
+        }
+        return result;
+    }
+
+    private ProductNameChangedEvent toEvent(Class<?> entityType, SqlCommandType commandType, Object parameter) {
+        if (commandType == SqlCommandType.DELETE && parameter instanceof Long id) {
+            return ProductNameChangedEvent.removed(entityType, id);
+        }
+        if (commandType != SqlCommandType.DELETE && parameter instanceof Product product) {
+            return ProductNameChangedEvent.saved(Product.class, product.getId(), product.getName());
+        }
+        if (commandType != SqlCommandType.DELETE && parameter instanceof ProductIndex productIndex) {
+            return ProductNameChangedEvent.saved(ProductIndex.class, productIndex.getId(), productIndex.getName());
+        }
+        return ProductNameChangedEvent.unknown(entityType);
+    }
+}
@@ -0,0 +1,49 @@
+package com.benchmark.orm.domain.product.repository;
+
+import com.benchmark.orm.domain.product.entity.Brand;
+import com.benchmark.orm.domain.product.entity.QBrand;
+import com.benchmark.orm.global.cache.ReferenceDataCache;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * BrandRepositoryCustom 인터페이스의 구현체 (이름 → ID 캐시 + 2차 캐시 ID 조회)
+ * ReferenceDataCache 빈이 없는 슬라이스 테스트(@DataJpaTest)에서는 매번 ID를 조회함
+ */
+@Repository
+public class BrandRepositoryCustomImpl implements BrandRepositoryCustom {
+
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+    private final ObjectProvider<ReferenceDataCache> referenceDataCache;
+
+    public BrandRepositoryCustomImpl(EntityManager entityManager, JPAQueryFactory queryFactory,
+                                     ObjectProvider<ReferenceDataCache> referenceDataCache) {
+        this.entityManager = entityManager;
+        this.queryFactory = queryFactory;
+        this.referenceDataCache = referenceDataCache;
+    }
+
+    @Override
+    public Optional<Brand> findByName(String name) {
+        ReferenceDataCache cache = referenceDataCache.getIfAvailable();
+        Long id = cache != null
+                ? cache.findIdByName(Brand.class, name, () -> findIdByName(name))
+                : findIdByName(name);
+        return id != null ? Optional.ofNullable(entityManager.find(Brand.class, id)) : Optional.empty();
+    }
+
+    private Long findIdByName(String name) {
+        QBrand brand = QBrand.brand;
+        return queryFactory
+                .select(brand.id)
+                .from(brand)
+                .where(brand.name.eq(name))
+                .orderBy(brand.id.asc())
+                .fetchFirst();
+    }
+}
@@ -0,0 +1,20 @@
+package com.benchmark.orm.domain.product.repository;
+
+import com.benchmark.orm.domain.product.entity.Category;
+
+import java.util.Optional;
+
+/**
+ * 카테고리 리포지토리의 커스텀 인터페이스
+ * JPA 기본 인터페이스에서 제공하지 않는 기능을 확장하기 위한 인터페이스
+ */
+public interface CategoryRepositoryCustom {
+
+    /**
+     * 카테고리명으로 카테고리 조회 (이름이 같은 카테고리가 여러 개면 ID가 가장 작은 카테고리)
+     * ReferenceDataCache의 이름 캐시에서 ID를, 2차 캐시의 엔티티 영역에서 카테고리를 찾으므로 둘 다 적중하면 SQL이 실행되지 않음
+     * @param name 카테고리명
+     * @return 카테고리 Optional 객체
+     */
+    Optional<Category> findByName(String name);
+}
@@ -0,0 +1,49 @@
+package com.benchmark.orm.domain.product.repository;
+
+import com.benchmark.orm.domain.product.entity.Category;
+import com.benchmark.orm.domain.product.entity.QCategory;
+import com.benchmark.orm.global.cache.ReferenceDataCache;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * CategoryRepositoryCustom 인터페이스의 구현체 (이름 → ID 캐시 + 2차 캐시 ID 조회)
+ * ReferenceDataCache 빈이 없는 슬라이스 테스트(@DataJpaTest)에서는 매번 ID를 조회함
+ */
+@Repository
+public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
+
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+    private final ObjectProvider<ReferenceDataCache> referenceDataCache;
+
+    public CategoryRepositoryCustomImpl(EntityManager entityManager, JPAQueryFactory queryFactory,
+                                        ObjectProvider<ReferenceDataCache> referenceDataCache) {
+        this.entityManager = entityManager;
+        this.queryFactory = queryFactory;
+        this.referenceDataCache = referenceDataCache;
+    }
+
+    @Override
+    public Optional<Category> findByName(String name) {
+        ReferenceDataCache cache = referenceDataCache.getIfAvailable();
+        Long id = cache != null
+                ? cache.findIdByName(Category.class, name, () -> findIdByName(name))
+                : findIdByName(name);
+        return id != null ? Optional.ofNullable(entityManager.find(Category.class, id)) : Optional.empty();
+    }
+
+    private Long findIdByName(String name) {
+        QCategory category = QCategory.category;
+        return queryFactory
+                .select(category.id)
+                .from(category)
+                .where(category.name.eq(name))
+                .orderBy(category.id.asc())
+                .fetchFirst();
+    }
+}
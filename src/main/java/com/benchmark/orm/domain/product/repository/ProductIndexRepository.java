@@ -1,5 +1,6 @@
 package com.benchmark.orm.domain.product.repository;
 
+import com.benchmark.orm.domain.product.dto.ProductIndexSimpleDto;
 import com.benchmark.orm.domain.product.entity.ProductIndex;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +34,18 @@ public interface ProductIndexRepository extends JpaRepository<ProductIndex, Long
     @Query("SELECT p FROM ProductIndex p WHERE p.price BETWEEN :minPrice AND :maxPrice")
     List<ProductIndex> findByPriceBetweenJpql(@Param("minPrice") int minPrice, @Param("maxPrice") int maxPrice);
 
+    /**
+     * JPQL 생성자 표현식(select new)을 사용한 가격 범위 상품 DTO 조회
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @return 상품 DTO 리스트
+     */
+    @Query("SELECT new com.benchmark.orm.domain.product.dto.ProductIndexSimpleDto(" +
+            "p.id, p.name, p.price, b.name, c.name, p.createdAt, p.updatedAt) " +
+            "FROM ProductIndex p LEFT JOIN p.brand b LEFT JOIN p.category c " +
+            "WHERE p.price BETWEEN :minPrice AND :maxPrice")
+    List<ProductIndexSimpleDto> findByPriceBetweenSimpleJpql(@Param("minPrice") int minPrice, @Param("maxPrice") int maxPrice);
+
     /**
      * JPQL을 사용한 브랜드 ID로 상품 조회
      * @param brandId 브랜드 ID
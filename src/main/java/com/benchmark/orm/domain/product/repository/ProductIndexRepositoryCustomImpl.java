@@ -1,10 +1,16 @@
 package com.benchmark.orm.domain.product.repository;
 
+import com.benchmark.orm.domain.product.dto.ProductIndexSimpleDto;
 import com.benchmark.orm.domain.product.dto.ProductSearchDto;
 import com.benchmark.orm.domain.product.entity.*;
+import com.benchmark.orm.global.dto.KeysetCursor;
+import com.benchmark.orm.global.entity.FetchPlan;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
@@ -14,7 +20,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -31,6 +39,13 @@ public class ProductIndexRepositoryCustomImpl implements ProductIndexRepositoryC
         this.queryFactory = queryFactory;
     }
 
+    @Override
+    public List<ProductIndex> findAll(FetchPlan plan) {
+        QProductIndex productIndex = QProductIndex.productIndex;
+        return plan.applyTo(queryFactory.selectFrom(productIndex), entityManager, ProductIndex.class)
+                .fetch();
+    }
+
     @Override
     public Optional<ProductIndex> findByName(String name) {
         QProductIndex productIndex = QProductIndex.productIndex;
@@ -43,20 +58,28 @@ public class ProductIndexRepositoryCustomImpl implements ProductIndexRepositoryC
 
     @Override
     public List<ProductIndex> findByPriceBetween(int minPrice, int maxPrice) {
+        return findByPriceBetween(minPrice, maxPrice, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public List<ProductIndex> findByPriceBetween(int minPrice, int maxPrice, FetchPlan plan) {
         QProductIndex productIndex = QProductIndex.productIndex;
-        return queryFactory
-                .selectFrom(productIndex)
+        return plan.applyTo(queryFactory.selectFrom(productIndex), entityManager, ProductIndex.class)
                 .where(productIndex.price.between(minPrice, maxPrice))
                 .fetch();
     }
 
     @Override
     public List<ProductIndex> findByBrandId(Long brandId) {
+        return findByBrandId(brandId, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public List<ProductIndex> findByBrandId(Long brandId, FetchPlan plan) {
         QProductIndex productIndex = QProductIndex.productIndex;
         QBrand brand = QBrand.brand;
 
-        return queryFactory
-                .selectFrom(productIndex)
+        return plan.applyTo(queryFactory.selectFrom(productIndex), entityManager, ProductIndex.class)
                 .join(productIndex.brand, brand)
                 .where(brand.id.eq(brandId))
                 .fetch();
@@ -64,22 +87,80 @@ public class ProductIndexRepositoryCustomImpl implements ProductIndexRepositoryC
 
     @Override
     public List<ProductIndex> findByCategoryId(Long categoryId) {
+        return findByCategoryId(categoryId, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public List<ProductIndex> findByCategoryId(Long categoryId, FetchPlan plan) {
         QProductIndex productIndex = QProductIndex.productIndex;
         QCategory category = QCategory.category;
 
-        return queryFactory
-                .selectFrom(productIndex)
+        return plan.applyTo(queryFactory.selectFrom(productIndex), entityManager, ProductIndex.class)
                 .join(productIndex.category, category)
                 .where(category.id.eq(categoryId))
                 .fetch();
     }
 
+    @Override
+    public List<ProductIndexSimpleDto> findAllSimple() {
+        return selectSimple().fetch();
+    }
+
+    @Override
+    public List<ProductIndexSimpleDto> findByPriceBetweenSimple(int minPrice, int maxPrice) {
+        return selectSimple()
+                .where(QProductIndex.productIndex.price.between(minPrice, maxPrice))
+                .fetch();
+    }
+
+    @Override
+    public List<ProductIndexSimpleDto> findByBrandIdSimple(Long brandId) {
+        return selectSimple()
+                .where(QProductIndex.productIndex.brand.id.eq(brandId))
+                .fetch();
+    }
+
+    @Override
+    public List<ProductIndexSimpleDto> findByCategoryIdSimple(Long categoryId) {
+        return selectSimple()
+                .where(QProductIndex.productIndex.category.id.eq(categoryId))
+                .fetch();
+    }
+
+    /**
+     * ProductIndexSimpleDto 생성자 프로젝션 쿼리
+     * 브랜드/카테고리는 이름만 필요하므로 LEFT JOIN으로 컬럼만 가져오고,
+     * 엔티티를 영속성 컨텍스트에 올리지 않아 브랜드/카테고리 엔티티 생성과 스냅샷 생성이 없음
+     */
+    private JPAQuery<ProductIndexSimpleDto> selectSimple() {
+        QProductIndex productIndex = QProductIndex.productIndex;
+        QBrand brand = QBrand.brand;
+        QCategory category = QCategory.category;
+
+        return queryFactory
+                .select(Projections.constructor(ProductIndexSimpleDto.class,
+                        productIndex.id,
+                        productIndex.name,
+                        productIndex.price,
+                        brand.name,
+                        category.name,
+                        productIndex.createdAt,
+                        productIndex.updatedAt))
+                .from(productIndex)
+                .leftJoin(productIndex.brand, brand)
+                .leftJoin(productIndex.category, category);
+    }
+
     @Override
     public Page<ProductIndex> findAllWithPaging(Pageable pageable) {
+        return findAllWithPaging(pageable, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public Page<ProductIndex> findAllWithPaging(Pageable pageable, FetchPlan plan) {
         QProductIndex productIndex = QProductIndex.productIndex;
 
-        List<ProductIndex> products = queryFactory
-                .selectFrom(productIndex)
+        List<ProductIndex> products = plan.applyTo(queryFactory.selectFrom(productIndex), entityManager, ProductIndex.class)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -92,8 +173,31 @@ public class ProductIndexRepositoryCustomImpl implements ProductIndexRepositoryC
         return new PageImpl<>(products, pageable, total);
     }
 
+    @Override
+    public List<ProductIndex> findAllWithKeyset(String sortBy, boolean ascending, KeysetCursor after, int limit) {
+        return findAllWithKeyset(sortBy, ascending, after, limit, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public List<ProductIndex> findAllWithKeyset(String sortBy, boolean ascending, KeysetCursor after, int limit, FetchPlan plan) {
+        QProductIndex productIndex = QProductIndex.productIndex;
+
+        Map<String, ComparableExpressionBase<?>> paths = Map.of("name", productIndex.name, "price", productIndex.price);
+
+        return plan.applyTo(queryFactory.selectFrom(productIndex), entityManager, ProductIndex.class)
+                .where(ProductIndex.KEYSET_SORT.afterCondition(sortBy, ascending, after, productIndex.id, paths))
+                .orderBy(ProductIndex.KEYSET_SORT.orderBy(sortBy, ascending, productIndex.id, paths))
+                .limit(limit)
+                .fetch();
+    }
+
     @Override
     public List<ProductIndex> findAllWithSorting(Sort sort) {
+        return findAllWithSorting(sort, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public List<ProductIndex> findAllWithSorting(Sort sort, FetchPlan plan) {
         QProductIndex productIndex = QProductIndex.productIndex;
 
         // Sort 객체에서 정렬 정보 추출
@@ -123,8 +227,7 @@ public class ProductIndexRepositoryCustomImpl implements ProductIndexRepositoryC
             orderSpecifiers[i] = orderSpecifier;
         }
 
-        return queryFactory
-                .selectFrom(productIndex)
+        return plan.applyTo(queryFactory.selectFrom(productIndex), entityManager, ProductIndex.class)
                 .orderBy(orderSpecifiers)
                 .fetch();
     }
@@ -203,13 +306,56 @@ public class ProductIndexRepositoryCustomImpl implements ProductIndexRepositoryC
 
     @Override
     public Page<ProductIndex> searchProductIndexs(ProductSearchDto searchDto, Pageable pageable) {
+        return search(searchDto, null, pageable, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public Page<ProductIndex> searchProductIndexs(ProductSearchDto searchDto, Pageable pageable, FetchPlan plan) {
+        return search(searchDto, null, pageable, plan);
+    }
+
+    @Override
+    public Page<ProductIndex> searchProductIndexs(ProductSearchDto searchDto, Collection<Long> candidateIds, Pageable pageable) {
+        return searchProductIndexs(searchDto, candidateIds, pageable, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public Page<ProductIndex> searchProductIndexs(ProductSearchDto searchDto, Collection<Long> candidateIds, Pageable pageable,
+                                                  FetchPlan plan) {
+        // 빈 IN 목록은 SQL로 만들 수 없으므로 쿼리 없이 빈 결과 반환 (서비스는 후보가 없으면 LIKE 검색 사용)
+        if (candidateIds.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, 0);
+        }
+        return search(searchDto, candidateIds, pageable, plan);
+    }
+
+    @Override
+    public List<ProductIndex> findByIds(Collection<Long> ids, FetchPlan plan) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        QProductIndex productIndex = QProductIndex.productIndex;
+        return plan.applyTo(queryFactory.selectFrom(productIndex), entityManager, ProductIndex.class)
+                .where(productIndex.id.in(ids))
+                .fetch();
+    }
+
+    /**
+     * 검색 공통 로직
+     * candidateIds가 있으면 후보 ID IN 조건으로 범위를 좁힌 뒤 상품명 LIKE 검색
+     */
+    private Page<ProductIndex> search(ProductSearchDto searchDto, Collection<Long> candidateIds, Pageable pageable,
+                                      FetchPlan plan) {
         QProductIndex productIndex = QProductIndex.productIndex;
         QBrand brand = QBrand.brand;
         QCategory category = QCategory.category;
 
         BooleanBuilder builder = new BooleanBuilder();
 
-        // 키워드 검색 (상품명)
+        // 키워드 검색 (상품명) - 트라이그램 인덱스 후보가 있으면 ID 조건으로 먼저 범위를 좁힘
+        if (candidateIds != null) {
+            builder.and(productIndex.id.in(candidateIds));
+        }
         if (searchDto.getKeyword() != null && !searchDto.getKeyword().isEmpty()) {
             builder.and(productIndex.name.containsIgnoreCase(searchDto.getKeyword()));
         }
@@ -266,8 +412,7 @@ public class ProductIndexRepositoryCustomImpl implements ProductIndexRepositoryC
         }
 
         // 검색 결과 조회
-        List<ProductIndex> products = queryFactory
-                .selectFrom(productIndex)
+        List<ProductIndex> products = plan.applyTo(queryFactory.selectFrom(productIndex), entityManager, ProductIndex.class)
                 .leftJoin(productIndex.brand, brand)
                 .leftJoin(productIndex.category, category)
                 .where(builder)
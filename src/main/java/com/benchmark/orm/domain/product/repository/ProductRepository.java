@@ -1,14 +1,19 @@
 package com.benchmark.orm.domain.product.repository;
 
 import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.global.export.NdjsonWriter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 상품 리포지토리 인터페이스
@@ -103,4 +108,13 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
                                      @Param("brandId") Long brandId,
                                      @Param("categoryId") Long categoryId,
                                      Pageable pageable);
+
+    /**
+     * 모든 상품을 ID 순으로 스트리밍 조회 (브랜드, 카테고리 페치 조인)
+     * 결과를 한 번에 메모리에 올리지 않으므로 반드시 트랜잭션 안에서 사용하고 닫아야 함
+     * @return 상품 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonWriter.FETCH_SIZE))
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.brand LEFT JOIN FETCH p.category ORDER BY p.id")
+    Stream<Product> streamAll();
 }
\ No newline at end of file
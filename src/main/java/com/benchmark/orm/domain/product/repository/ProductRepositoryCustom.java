@@ -2,10 +2,13 @@ package com.benchmark.orm.domain.product.repository;
 
 import com.benchmark.orm.domain.product.dto.ProductSearchDto;
 import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.global.dto.KeysetCursor;
+import com.benchmark.orm.global.entity.FetchPlan;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +18,13 @@ import java.util.Optional;
  */
 public interface ProductRepositoryCustom {
 
+    /**
+     * 모든 상품 조회 (fetch plan에 따라 연관관계 함께 조회)
+     * @param plan 함께 조회할 연관관계 범위
+     * @return 상품 리스트
+     */
+    List<Product> findAll(FetchPlan plan);
+
     /**
      * 상품명으로 상품 조회
      * @param name 상품명
@@ -30,6 +40,15 @@ public interface ProductRepositoryCustom {
      */
     List<Product> findByPriceBetween(int minPrice, int maxPrice);
 
+    /**
+     * 가격 범위로 상품 조회 (fetch plan에 따라 연관관계 함께 조회)
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @param plan 함께 조회할 연관관계 범위
+     * @return 상품 리스트
+     */
+    List<Product> findByPriceBetween(int minPrice, int maxPrice, FetchPlan plan);
+
     /**
      * 브랜드 ID로 상품 조회
      * @param brandId 브랜드 ID
@@ -37,6 +56,14 @@ public interface ProductRepositoryCustom {
      */
     List<Product> findByBrandId(Long brandId);
 
+    /**
+     * 브랜드 ID로 상품 조회 (fetch plan에 따라 연관관계 함께 조회)
+     * @param brandId 브랜드 ID
+     * @param plan 함께 조회할 연관관계 범위
+     * @return 상품 리스트
+     */
+    List<Product> findByBrandId(Long brandId, FetchPlan plan);
+
     /**
      * 카테고리 ID로 상품 조회
      * @param categoryId 카테고리 ID
@@ -44,6 +71,29 @@ public interface ProductRepositoryCustom {
      */
     List<Product> findByCategoryId(Long categoryId);
 
+    /**
+     * 카테고리 ID로 상품 조회 (fetch plan에 따라 연관관계 함께 조회)
+     * @param categoryId 카테고리 ID
+     * @param plan 함께 조회할 연관관계 범위
+     * @return 상품 리스트
+     */
+    List<Product> findByCategoryId(Long categoryId, FetchPlan plan);
+
+    /**
+     * 카테고리 서브트리(자기 자신과 모든 하위 카테고리)에 속한 상품 조회
+     * @param categoryIds 서브트리 카테고리 ID 목록 (CategoryHierarchy로 구한 값)
+     * @return 상품 리스트 (ID 오름차순)
+     */
+    List<Product> findByCategorySubtree(Collection<Long> categoryIds);
+
+    /**
+     * 카테고리 서브트리에 속한 상품 조회 (fetch plan에 따라 연관관계 함께 조회)
+     * @param categoryIds 카테고리와 모든 하위 카테고리 ID 목록
+     * @param plan 함께 조회할 연관관계 범위
+     * @return 상품 리스트
+     */
+    List<Product> findByCategorySubtree(Collection<Long> categoryIds, FetchPlan plan);
+
     /**
      * 페이징 및 정렬 기능을 사용하여 모든 상품 조회
      * @param pageable 페이징 정보
@@ -51,6 +101,35 @@ public interface ProductRepositoryCustom {
      */
     Page<Product> findAllWithPaging(Pageable pageable);
 
+    /**
+     * 페이징 기능을 사용하여 모든 상품 조회 (fetch plan에 따라 연관관계 함께 조회)
+     * @param pageable 페이징 정보
+     * @param plan 함께 조회할 연관관계 범위
+     * @return 페이징된 상품 리스트
+     */
+    Page<Product> findAllWithPaging(Pageable pageable, FetchPlan plan);
+
+    /**
+     * 키셋(커서) 방식으로 상품 조회
+     * @param sortBy 정렬 기준 필드 (id, name, price)
+     * @param ascending 오름차순 여부
+     * @param after 마지막으로 조회한 행의 커서 (첫 페이지는 null)
+     * @param limit 조회 개수
+     * @return 커서 이후의 상품 리스트
+     */
+    List<Product> findAllWithKeyset(String sortBy, boolean ascending, KeysetCursor after, int limit);
+
+    /**
+     * 키셋(커서) 방식으로 상품 조회 (fetch plan에 따라 연관관계 함께 조회)
+     * @param sortBy 정렬 기준 필드 (id, name, price)
+     * @param ascending 오름차순 여부
+     * @param after 마지막으로 조회한 행의 커서 (첫 페이지는 null)
+     * @param limit 조회 개수
+     * @param plan 함께 조회할 연관관계 범위
+     * @return 커서 이후의 상품 리스트
+     */
+    List<Product> findAllWithKeyset(String sortBy, boolean ascending, KeysetCursor after, int limit, FetchPlan plan);
+
     /**
      * 특정 정렬 방식으로 모든 상품 조회
      * @param sort 정렬 정보
@@ -58,6 +137,14 @@ public interface ProductRepositoryCustom {
      */
     List<Product> findAllWithSorting(Sort sort);
 
+    /**
+     * 특정 정렬 방식으로 모든 상품 조회 (fetch plan에 따라 연관관계 함께 조회)
+     * @param sort 정렬 정보
+     * @param plan 함께 조회할 연관관계 범위
+     * @return 정렬된 상품 리스트
+     */
+    List<Product> findAllWithSorting(Sort sort, FetchPlan plan);
+
     /**
      * 브랜드 정보와 함께 상품 조회
      * @param productId 상품 ID
@@ -93,4 +180,33 @@ public interface ProductRepositoryCustom {
      * @return 페이징된 상품 정보
      */
     Page<Product> searchProducts(ProductSearchDto searchDto, Pageable pageable);
+
+    /**
+     * 검색 조건을 이용한 상품 검색 (fetch plan에 따라 연관관계 함께 조회)
+     * @param searchDto 검색 조건 DTO
+     * @param pageable 페이징 정보
+     * @param plan 함께 조회할 연관관계 범위
+     * @return 페이징된 상품 정보
+     */
+    Page<Product> searchProducts(ProductSearchDto searchDto, Pageable pageable, FetchPlan plan);
+
+    /**
+     * 상품명 트라이그램 인덱스가 찾은 후보 ID로 범위를 좁힌 상품 검색 (QueryDSL 사용)
+     * 가격, 브랜드, 카테고리 조건은 기존 검색과 동일하게 적용
+     * @param searchDto 검색 조건 DTO (keyword는 후보 ID 조건과 함께 그대로 적용)
+     * @param candidateIds 상품명 키워드에 매칭되는 후보 상품 ID 목록
+     * @param pageable 페이징 정보
+     * @return 페이징된 상품 정보
+     */
+    Page<Product> searchProducts(ProductSearchDto searchDto, Collection<Long> candidateIds, Pageable pageable);
+
+    /**
+     * 상품명 트라이그램 인덱스 후보 ID로 범위를 좁힌 상품 검색 (fetch plan에 따라 연관관계 함께 조회)
+     * @param searchDto 검색 조건 DTO
+     * @param candidateIds 상품명 키워드에 매칭되는 후보 상품 ID 목록
+     * @param pageable 페이징 정보
+     * @param plan 함께 조회할 연관관계 범위
+     * @return 페이징된 상품 정보
+     */
+    Page<Product> searchProducts(ProductSearchDto searchDto, Collection<Long> candidateIds, Pageable pageable, FetchPlan plan);
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package com.benchmark.orm.domain.product.repository;
 
 import com.benchmark.orm.domain.product.dto.ProductSearchDto;
 import com.benchmark.orm.domain.product.entity.*;
+import com.benchmark.orm.global.dto.KeysetCursor;
+import com.benchmark.orm.global.entity.FetchPlan;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
@@ -14,7 +17,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -31,6 +36,13 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
         this.queryFactory = queryFactory;
     }
 
+    @Override
+    public List<Product> findAll(FetchPlan plan) {
+        QProduct product = QProduct.product;
+        return plan.applyTo(queryFactory.selectFrom(product), entityManager, Product.class)
+                .fetch();
+    }
+
     @Override
     public Optional<Product> findByName(String name) {
         QProduct product = QProduct.product;
@@ -43,20 +55,28 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
 
     @Override
     public List<Product> findByPriceBetween(int minPrice, int maxPrice) {
+        return findByPriceBetween(minPrice, maxPrice, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public List<Product> findByPriceBetween(int minPrice, int maxPrice, FetchPlan plan) {
         QProduct product = QProduct.product;
-        return queryFactory
-                .selectFrom(product)
+        return plan.applyTo(queryFactory.selectFrom(product), entityManager, Product.class)
                 .where(product.price.between(minPrice, maxPrice))
                 .fetch();
     }
 
     @Override
     public List<Product> findByBrandId(Long brandId) {
+        return findByBrandId(brandId, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public List<Product> findByBrandId(Long brandId, FetchPlan plan) {
         QProduct product = QProduct.product;
         QBrand brand = QBrand.brand;
 
-        return queryFactory
-                .selectFrom(product)
+        return plan.applyTo(queryFactory.selectFrom(product), entityManager, Product.class)
                 .join(product.brand, brand)
                 .where(brand.id.eq(brandId))
                 .fetch();
@@ -64,22 +84,50 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
 
     @Override
     public List<Product> findByCategoryId(Long categoryId) {
+        return findByCategoryId(categoryId, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public List<Product> findByCategoryId(Long categoryId, FetchPlan plan) {
         QProduct product = QProduct.product;
         QCategory category = QCategory.category;
 
-        return queryFactory
-                .selectFrom(product)
+        return plan.applyTo(queryFactory.selectFrom(product), entityManager, Product.class)
                 .join(product.category, category)
                 .where(category.id.eq(categoryId))
                 .fetch();
     }
 
+    @Override
+    public List<Product> findByCategorySubtree(Collection<Long> categoryIds) {
+        return findByCategorySubtree(categoryIds, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public List<Product> findByCategorySubtree(Collection<Long> categoryIds, FetchPlan plan) {
+        QProduct product = QProduct.product;
+
+        if (categoryIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 조인 없이 product.category_id IN (...) 조건으로 조회
+        return plan.applyTo(queryFactory.selectFrom(product), entityManager, Product.class)
+                .where(product.category.id.in(categoryIds))
+                .orderBy(product.id.asc())
+                .fetch();
+    }
+
     @Override
     public Page<Product> findAllWithPaging(Pageable pageable) {
+        return findAllWithPaging(pageable, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public Page<Product> findAllWithPaging(Pageable pageable, FetchPlan plan) {
         QProduct product = QProduct.product;
 
-        List<Product> products = queryFactory
-                .selectFrom(product)
+        List<Product> products = plan.applyTo(queryFactory.selectFrom(product), entityManager, Product.class)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -92,8 +140,31 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
         return new PageImpl<>(products, pageable, total);
     }
 
+    @Override
+    public List<Product> findAllWithKeyset(String sortBy, boolean ascending, KeysetCursor after, int limit) {
+        return findAllWithKeyset(sortBy, ascending, after, limit, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public List<Product> findAllWithKeyset(String sortBy, boolean ascending, KeysetCursor after, int limit, FetchPlan plan) {
+        QProduct product = QProduct.product;
+
+        Map<String, ComparableExpressionBase<?>> paths = Map.of("name", product.name, "price", product.price);
+
+        return plan.applyTo(queryFactory.selectFrom(product), entityManager, Product.class)
+                .where(Product.KEYSET_SORT.afterCondition(sortBy, ascending, after, product.id, paths))
+                .orderBy(Product.KEYSET_SORT.orderBy(sortBy, ascending, product.id, paths))
+                .limit(limit)
+                .fetch();
+    }
+
     @Override
     public List<Product> findAllWithSorting(Sort sort) {
+        return findAllWithSorting(sort, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public List<Product> findAllWithSorting(Sort sort, FetchPlan plan) {
         QProduct product = QProduct.product;
 
         // Sort 객체에서 정렬 정보 추출
@@ -123,8 +194,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
             orderSpecifiers[i] = orderSpecifier;
         }
 
-        return queryFactory
-                .selectFrom(product)
+        return plan.applyTo(queryFactory.selectFrom(product), entityManager, Product.class)
                 .orderBy(orderSpecifiers)
                 .fetch();
     }
@@ -203,13 +273,45 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
 
     @Override
     public Page<Product> searchProducts(ProductSearchDto searchDto, Pageable pageable) {
+        return search(searchDto, null, pageable, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public Page<Product> searchProducts(ProductSearchDto searchDto, Pageable pageable, FetchPlan plan) {
+        return search(searchDto, null, pageable, plan);
+    }
+
+    @Override
+    public Page<Product> searchProducts(ProductSearchDto searchDto, Collection<Long> candidateIds, Pageable pageable) {
+        return searchProducts(searchDto, candidateIds, pageable, FetchPlan.SUMMARY);
+    }
+
+    @Override
+    public Page<Product> searchProducts(ProductSearchDto searchDto, Collection<Long> candidateIds, Pageable pageable,
+                                        FetchPlan plan) {
+        // 빈 IN 목록은 SQL로 만들 수 없으므로 쿼리 없이 빈 결과 반환 (서비스는 후보가 없으면 LIKE 검색 사용)
+        if (candidateIds.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, 0);
+        }
+        return search(searchDto, candidateIds, pageable, plan);
+    }
+
+    /**
+     * 검색 공통 로직
+     * candidateIds가 있으면 후보 ID IN 조건으로 범위를 좁힌 뒤 상품명 LIKE 검색
+     */
+    private Page<Product> search(ProductSearchDto searchDto, Collection<Long> candidateIds, Pageable pageable,
+                                 FetchPlan plan) {
         QProduct product = QProduct.product;
         QBrand brand = QBrand.brand;
         QCategory category = QCategory.category;
 
         BooleanBuilder builder = new BooleanBuilder();
 
-        // 키워드 검색 (상품명)
+        // 키워드 검색 (상품명) - 트라이그램 인덱스 후보가 있으면 ID 조건으로 먼저 범위를 좁힘
+        if (candidateIds != null) {
+            builder.and(product.id.in(candidateIds));
+        }
         if (searchDto.getKeyword() != null && !searchDto.getKeyword().isEmpty()) {
             builder.and(product.name.containsIgnoreCase(searchDto.getKeyword()));
         }
@@ -266,8 +368,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
         }
 
         // 검색 결과 조회
-        List<Product> products = queryFactory
-                .selectFrom(product)
+        List<Product> products = plan.applyTo(queryFactory.selectFrom(product), entityManager, Product.class)
                 .leftJoin(product.brand, brand)
                 .leftJoin(product.category, category)
                 .where(builder)
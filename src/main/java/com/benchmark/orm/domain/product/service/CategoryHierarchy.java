@@ -0,0 +1,124 @@
+package com.benchmark.orm.domain.product.service;
+
+import com.benchmark.orm.domain.product.entity.Category;
+import com.benchmark.orm.global.cache.ReferenceDataChangedEvent;
+import com.benchmark.orm.global.dataset.DatasetLoadedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카테고리 계층 구조 캐시
+ * <p>
+ * 지연 로딩되는 children 컬렉션을 재귀로 따라가면 노드마다 SELECT가 발생하므로,
+ * category 테이블의 (id, parent_id)를 쿼리 한 번으로 읽어 불변 스냅샷(CategoryTree)을 만들고
+ * 서브트리 조회를 추가 쿼리 없이 처리함
+ * <p>
+ * 카테고리가 JPA로 변경되면(ReferenceDataChangedEvent) 또는 JDBC로 적재되면(DatasetLoadedEvent) 스냅샷을 무효화하고,
+ * 다음 조회 때 다시 생성함
+ * (트랜잭션 안에서는 종료 시점에 한 번 더 무효화해 롤백된 변경이 남지 않도록 함)
+ * MyBatis나 JDBC로 카테고리를 직접 변경한 경우에는 invalidate()를 호출해야 함
+ */
+@Slf4j
+@Component
+public class CategoryHierarchy {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLong version = new AtomicLong();
+    private volatile CategoryTree tree;
+
+    public CategoryHierarchy(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 현재 카테고리 트리 스냅샷 조회 (없으면 생성)
+     *
+     * @return 카테고리 트리 스냅샷
+     */
+    public CategoryTree getTree() {
+        CategoryTree current = tree;
+        return current != null ? current : rebuild();
+    }
+
+    /**
+     * 카테고리 트리 스냅샷 재생성
+     *
+     * @return 새로 생성된 스냅샷
+     */
+    public synchronized CategoryTree rebuild() {
+        long startTime = System.currentTimeMillis();
+        long startVersion = version.get();
+
+        Map<Long, Long> parentById = new HashMap<>();
+        jdbcTemplate.query("SELECT id, parent_id FROM category",
+                (RowCallbackHandler) rs -> parentById.put(rs.getLong("id"), rs.getObject("parent_id", Long.class)));
+        CategoryTree rebuilt = CategoryTree.of(parentById);
+
+        // 생성 중에 변경이 발생했다면 이번 스냅샷은 저장하지 않음
+        if (version.get() == startVersion) {
+            tree = rebuilt;
+        }
+        long endTime = System.currentTimeMillis();
+
+        log.info("[Category] 카테고리 트리 생성 - 실행시간: {}ms, 카테고리 수: {}", endTime - startTime, rebuilt.size());
+
+        return rebuilt;
+    }
+
+    /**
+     * 스냅샷 무효화
+     */
+    public void invalidate() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    /**
+     * 카테고리가 JPA로 변경된 경우 무효화
+     */
+    @EventListener
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.getEntityType() == Category.class) {
+            invalidate();
+        }
+    }
+
+    /**
+     * 카테고리가 JDBC로 적재된 경우 무효화
+     */
+    @EventListener
+    public void onDatasetLoaded(DatasetLoadedEvent event) {
+        if (event.isReferenceDataLoaded()) {
+            invalidate();
+        }
+    }
+
+    /**
+     * 카테고리와 모든 하위 카테고리 ID 조회
+     */
+    public List<Long> findSubtreeIds(Long categoryId) {
+        return getTree().getSubtreeIds(categoryId);
+    }
+
+    private void clear() {
+        version.incrementAndGet();
+        tree = null;
+    }
+}
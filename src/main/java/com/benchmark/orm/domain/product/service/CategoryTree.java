@@ -0,0 +1,114 @@
+package com.benchmark.orm.domain.product.service;
+
+import java.util.*;
+
+/**
+ * 카테고리 계층 구조의 불변 스냅샷
+ * <p>
+ * 루트부터 전위 순회한 순서로 카테고리 ID를 배열에 나열하고, 각 카테고리마다
+ * 자기 서브트리가 시작되는 위치(left)와 끝나는 위치(right)를 기록함 (Nested Set 번호)
+ * A의 서브트리는 배열의 [left(A), right(A)] 구간이므로 추가 탐색 없이 잘라서 조회함
+ * <p>
+ * 부모가 없거나 부모가 존재하지 않는 카테고리를 루트로 취급하며,
+ * 순환 참조로 루트에 닿지 않는 카테고리는 스냅샷에서 제외됨
+ */
+public final class CategoryTree {
+
+    private static final CategoryTree EMPTY = new CategoryTree(new long[0], Map.of(), Map.of());
+
+    private final long[] preorder;
+    private final Map<Long, Integer> left;
+    private final Map<Long, Integer> right;
+
+    private CategoryTree(long[] preorder, Map<Long, Integer> left, Map<Long, Integer> right) {
+        this.preorder = preorder;
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * (카테고리 ID → 부모 ID) 목록으로 스냅샷 생성
+     *
+     * @param parentById 카테고리 ID별 부모 ID (루트는 null)
+     * @return 카테고리 트리 스냅샷
+     */
+    public static CategoryTree of(Map<Long, Long> parentById) {
+        if (parentById.isEmpty()) {
+            return EMPTY;
+        }
+
+        // 자식 목록 구성 (ID 순으로 정렬해 스냅샷이 항상 같은 순서가 되도록 함)
+        Map<Long, List<Long>> children = new HashMap<>();
+        List<Long> roots = new ArrayList<>();
+        for (Map.Entry<Long, Long> entry : new TreeMap<>(parentById).entrySet()) {
+            Long parentId = entry.getValue();
+            if (parentId == null || !parentById.containsKey(parentId)) {
+                roots.add(entry.getKey());
+            } else {
+                children.computeIfAbsent(parentId, key -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+
+        // 재귀 호출 없이 스택으로 전위 순회 (깊은 트리에서도 StackOverflowError 방지)
+        long[] preorder = new long[parentById.size()];
+        Map<Long, Integer> left = new HashMap<>();
+        Map<Long, Integer> right = new HashMap<>();
+        Deque<Long> stack = new ArrayDeque<>();
+        int position = 0;
+
+        for (Long root : roots) {
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Long id = stack.pop();
+                if (left.containsKey(id)) {
+                    // 두 번째 방문: 서브트리 순회가 끝났으므로 마지막 위치 기록
+                    right.put(id, position - 1);
+                    continue;
+                }
+                left.put(id, position);
+                preorder[position++] = id;
+                stack.push(id);
+
+                List<Long> childIds = children.getOrDefault(id, List.of());
+                for (int i = childIds.size() - 1; i >= 0; i--) {
+                    stack.push(childIds.get(i));
+                }
+            }
+        }
+
+        return new CategoryTree(Arrays.copyOf(preorder, position), left, right);
+    }
+
+    /**
+     * 스냅샷에 포함된 카테고리 수
+     */
+    public int size() {
+        return preorder.length;
+    }
+
+    /**
+     * 카테고리 포함 여부
+     */
+    public boolean contains(Long categoryId) {
+        return left.containsKey(categoryId);
+    }
+
+    /**
+     * 카테고리와 모든 하위 카테고리 ID 조회 (전위 순회 순서)
+     *
+     * @param categoryId 기준 카테고리 ID
+     * @return 자기 자신을 포함한 서브트리 ID 목록, 없는 카테고리면 빈 목록
+     */
+    public List<Long> getSubtreeIds(Long categoryId) {
+        Integer from = left.get(categoryId);
+        if (from == null) {
+            return List.of();
+        }
+        int to = right.get(categoryId);
+        List<Long> ids = new ArrayList<>(to - from + 1);
+        for (int i = from; i <= to; i++) {
+            ids.add(preorder[i]);
+        }
+        return ids;
+    }
+}
@@ -3,9 +3,15 @@ package com.benchmark.orm.domain.product.service;
 import com.benchmark.orm.domain.product.dto.*;
 import com.benchmark.orm.domain.product.entity.ProductIndex;
 import com.benchmark.orm.domain.product.repository.ProductIndexRepository;
+import com.benchmark.orm.global.dto.CursorPageDto;
+import com.benchmark.orm.global.dto.KeysetCursor;
+import com.benchmark.orm.global.dto.KeysetSort;
+import com.benchmark.orm.global.entity.FetchPlan;
+import com.benchmark.orm.global.metrics.LatencyMetrics;
+import com.benchmark.orm.global.metrics.OrmTechnique;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -13,25 +19,26 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.SortedSet;
 import java.util.stream.Collectors;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductIndexJpaService {
 
     private final ProductIndexRepository productIndexRepository;
+    private final ProductNameSearchIndex productNameSearchIndex;
+    private final ProductSearchResultCache productSearchResultCache;
+    private final LatencyMetrics latencyMetrics;
 
     /**
      * 모든 상품 조회 (간단 버전)
      */
     public List<ProductIndexSimpleDto> findAll() {
-        long startTime = System.currentTimeMillis();
-        List<ProductIndex> products = productIndexRepository.findAll();
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex findAll - 실행시간: {}ms, 결과 수: {}", endTime - startTime, products.size());
+        long startTime = System.nanoTime();
+        List<ProductIndex> products = productIndexRepository.findAll(FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findAll", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductIndexSimpleDto::from)
@@ -42,12 +49,10 @@ public class ProductIndexJpaService {
      * ID로 상품 조회
      */
     public ProductIndexSimpleDto findById(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         ProductIndex productIndex = productIndexRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + id));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex findById - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findById", System.nanoTime() - startTime);
 
         return ProductIndexSimpleDto.from(productIndex);
     }
@@ -56,12 +61,10 @@ public class ProductIndexJpaService {
      * 상품명으로 조회
      */
     public ProductIndexSimpleDto findByName(String name) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         ProductIndex productIndex = productIndexRepository.findByName(name)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. 이름: " + name));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex findByName - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findByName", System.nanoTime() - startTime);
 
         return ProductIndexSimpleDto.from(productIndex);
     }
@@ -70,12 +73,9 @@ public class ProductIndexJpaService {
      * 가격 범위로 조회
      */
     public List<ProductIndexSimpleDto> findByPriceBetween(int minPrice, int maxPrice) {
-        long startTime = System.currentTimeMillis();
-        List<ProductIndex> products = productIndexRepository.findByPriceBetween(minPrice, maxPrice);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex findByPriceBetween - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        long startTime = System.nanoTime();
+        List<ProductIndex> products = productIndexRepository.findByPriceBetween(minPrice, maxPrice, FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findByPriceBetween", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductIndexSimpleDto::from)
@@ -86,12 +86,9 @@ public class ProductIndexJpaService {
      * 브랜드 ID로 조회
      */
     public List<ProductIndexSimpleDto> findByBrandId(Long brandId) {
-        long startTime = System.currentTimeMillis();
-        List<ProductIndex> products = productIndexRepository.findByBrandId(brandId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex findByBrandId - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        long startTime = System.nanoTime();
+        List<ProductIndex> products = productIndexRepository.findByBrandId(brandId, FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findByBrandId", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductIndexSimpleDto::from)
@@ -102,48 +99,105 @@ public class ProductIndexJpaService {
      * 카테고리 ID로 조회
      */
     public List<ProductIndexSimpleDto> findByCategoryId(Long categoryId) {
-        long startTime = System.currentTimeMillis();
-        List<ProductIndex> products = productIndexRepository.findByCategoryId(categoryId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex findByCategoryId - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        long startTime = System.nanoTime();
+        List<ProductIndex> products = productIndexRepository.findByCategoryId(categoryId, FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findByCategoryId", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductIndexSimpleDto::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 모든 상품 조회 (DTO 프로젝션, QueryDSL 생성자 프로젝션)
+     * 엔티티 대신 DTO 컬럼만 조회하므로 브랜드/카테고리 엔티티 생성과 영속성 컨텍스트 관리 비용이 없음
+     */
+    public List<ProductIndexSimpleDto> findAllProjected() {
+        long startTime = System.nanoTime();
+        List<ProductIndexSimpleDto> products = productIndexRepository.findAllSimple();
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findAllProjected", System.nanoTime() - startTime);
+
+        return products;
+    }
+
+    /**
+     * 가격 범위로 조회 (DTO 프로젝션)
+     */
+    public List<ProductIndexSimpleDto> findByPriceBetweenProjected(int minPrice, int maxPrice) {
+        long startTime = System.nanoTime();
+        List<ProductIndexSimpleDto> products = productIndexRepository.findByPriceBetweenSimple(minPrice, maxPrice);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findByPriceBetweenProjected", System.nanoTime() - startTime);
+
+        return products;
+    }
+
+    /**
+     * 브랜드 ID로 조회 (DTO 프로젝션)
+     */
+    public List<ProductIndexSimpleDto> findByBrandIdProjected(Long brandId) {
+        long startTime = System.nanoTime();
+        List<ProductIndexSimpleDto> products = productIndexRepository.findByBrandIdSimple(brandId);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findByBrandIdProjected", System.nanoTime() - startTime);
+
+        return products;
+    }
+
+    /**
+     * 카테고리 ID로 조회 (DTO 프로젝션)
+     */
+    public List<ProductIndexSimpleDto> findByCategoryIdProjected(Long categoryId) {
+        long startTime = System.nanoTime();
+        List<ProductIndexSimpleDto> products = productIndexRepository.findByCategoryIdSimple(categoryId);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findByCategoryIdProjected", System.nanoTime() - startTime);
+
+        return products;
+    }
+
     /**
      * 페이징 조회
      */
     public Page<ProductIndexSimpleDto> findAllWithPaging(int page, int size, String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<ProductIndex> products = productIndexRepository.findAllWithPaging(pageable);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex findAllWithPaging - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.getTotalElements());
+        Page<ProductIndex> products = productIndexRepository.findAllWithPaging(pageable, FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findAllWithPaging", System.nanoTime() - startTime);
 
         return products.map(ProductIndexSimpleDto::from);
     }
 
+    /**
+     * 키셋(커서) 페이징 조회
+     * OFFSET 없이 마지막 (정렬 값, ID) 이후부터 조회하므로 페이지가 깊어져도 응답 시간이 일정함
+     */
+    public CursorPageDto<ProductIndexSimpleDto> findAllWithCursor(String after, int size, String sortBy, String sortDirection) {
+        long startTime = System.nanoTime();
+
+        String sortColumn = ProductIndex.KEYSET_SORT.resolve(sortBy);
+        String direction = KeysetSort.direction(sortDirection);
+        KeysetCursor cursor = ProductIndex.KEYSET_SORT.decode(after, size, sortColumn, direction);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<ProductIndex> products = productIndexRepository.findAllWithKeyset(sortColumn, "asc".equals(direction), cursor, size + 1,
+                FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findAllWithCursor", System.nanoTime() - startTime);
+
+        return CursorPageDto.of(products, size,
+                ProductIndex.KEYSET_SORT.cursorOf(sortColumn, direction),
+                ProductIndexSimpleDto::from);
+    }
+
     /**
      * 정렬 조회
      */
     public List<ProductIndexSimpleDto> findAllWithSorting(String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
-        List<ProductIndex> products = productIndexRepository.findAllWithSorting(sort);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex findAllWithSorting - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        List<ProductIndex> products = productIndexRepository.findAllWithSorting(sort, FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findAllWithSorting", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductIndexSimpleDto::from)
@@ -154,12 +208,10 @@ public class ProductIndexJpaService {
      * 브랜드 정보와 함께 조회
      */
     public ProductIndexSimpleDto findProductIndexWithBrand(Long productIndexId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         ProductIndex productIndex = productIndexRepository.findProductIndexWithBrand(productIndexId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + productIndexId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex findProductIndexWithBrand - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findProductIndexWithBrand", System.nanoTime() - startTime);
 
         return ProductIndexSimpleDto.from(productIndex);
     }
@@ -168,12 +220,10 @@ public class ProductIndexJpaService {
      * 카테고리 정보와 함께 조회
      */
     public ProductIndexSimpleDto findProductIndexWithCategory(Long productIndexId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         ProductIndex productIndex = productIndexRepository.findProductIndexWithCategory(productIndexId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + productIndexId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex findProductIndexWithCategory - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findProductIndexWithCategory", System.nanoTime() - startTime);
 
         return ProductIndexSimpleDto.from(productIndex);
     }
@@ -182,12 +232,10 @@ public class ProductIndexJpaService {
      * 이미지 정보와 함께 조회
      */
     public ProductIndexSimpleDto findProductIndexWithImages(Long productIndexId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         ProductIndex productIndex = productIndexRepository.findProductIndexWithImages(productIndexId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + productIndexId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex findProductIndexWithImages - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findProductIndexWithImages", System.nanoTime() - startTime);
 
         return ProductIndexSimpleDto.from(productIndex);
     }
@@ -196,12 +244,10 @@ public class ProductIndexJpaService {
      * 모든 상세 정보와 함께 조회
      */
     public ProductIndexSimpleDto findProductIndexWithAllDetails(Long productIndexId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         ProductIndex productIndex = productIndexRepository.findProductIndexWithAllDetails(productIndexId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + productIndexId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex findProductIndexWithAllDetails - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "findProductIndexWithAllDetails", System.nanoTime() - startTime);
 
         return ProductIndexSimpleDto.from(productIndex);
     }
@@ -210,7 +256,7 @@ public class ProductIndexJpaService {
      * 검색 조건으로 상품 검색
      */
     public Page<ProductIndexSimpleDto> searchProductIndexs(ProductSearchDto searchDto, int page, int size) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         String sortBy = searchDto.getSortBy() != null ? searchDto.getSortBy() : "id";
         String sortDirection = searchDto.getSortDirection() != null ? searchDto.getSortDirection() : "asc";
@@ -218,11 +264,27 @@ public class ProductIndexJpaService {
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<ProductIndex> products = productIndexRepository.searchProductIndexs(searchDto, pageable);
-        long endTime = System.currentTimeMillis();
+        // 같은 조건의 검색 결과(ID 목록 + 전체 개수)가 캐시되어 있으면 검색/카운트 쿼리 없이 ID로만 조회
+        ProductSearchResultCache.Key cacheKey = productSearchResultCache.keyOf(OrmTechnique.JPA, searchDto, page, size);
+        ProductSearchResultCache.CachedPage cached = productSearchResultCache.get(cacheKey);
+        if (cached != null) {
+            List<ProductIndex> products = ProductSearchResultCache.orderByIds(cached.getIds(),
+                    productIndexRepository.findByIds(cached.getIds(), FetchPlan.FULL), ProductIndex::getId);
+            latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "searchProductIndexs", System.nanoTime() - startTime);
 
-        log.info("[JPA-Index] ProductIndex searchProductIndexs - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.getTotalElements());
+            return new PageImpl<>(products, pageable, cached.getTotalElements()).map(ProductIndexSimpleDto::from);
+        }
+        long cacheVersion = productSearchResultCache.version();
+
+        // 상품명 트라이그램 인덱스로 후보 ID를 찾을 수 있으면 LIKE 대신 ID 조건으로 검색
+        SortedSet<Long> candidateIds = productNameSearchIndex.findProductIndexCandidates(searchDto.getKeyword());
+        Page<ProductIndex> products = candidateIds != null
+                ? productIndexRepository.searchProductIndexs(searchDto, candidateIds, pageable, FetchPlan.FULL)
+                : productIndexRepository.searchProductIndexs(searchDto, pageable, FetchPlan.FULL);
+        productSearchResultCache.put(cacheKey,
+                products.getContent().stream().map(ProductIndex::getId).collect(Collectors.toList()),
+                products.getTotalElements(), cacheVersion);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "searchProductIndexs", System.nanoTime() - startTime);
 
         return products.map(ProductIndexSimpleDto::from);
     }
@@ -232,14 +294,13 @@ public class ProductIndexJpaService {
      */
     @Transactional
     public ProductIndexSimpleDto createProductIndex(ProductRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         ProductIndex productIndex = convertToProductIndex(requestDto);
         ProductIndex savedProductIndex = productIndexRepository.save(productIndex);
+        productSearchResultCache.evict(null, ProductSearchResultCache.Product.of(savedProductIndex));
 
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex createProductIndex - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "createProductIndex", System.nanoTime() - startTime);
 
         return ProductIndexSimpleDto.from(savedProductIndex);
     }
@@ -249,10 +310,11 @@ public class ProductIndexJpaService {
      */
     @Transactional
     public ProductIndexSimpleDto updateProductIndex(Long id, ProductRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         ProductIndex productIndex = productIndexRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + id));
+        ProductSearchResultCache.Product before = ProductSearchResultCache.Product.of(productIndex);
 
         if (requestDto.getName() != null) {
             productIndex.updateInfo(requestDto.getName(),
@@ -260,9 +322,8 @@ public class ProductIndexJpaService {
         }
 
         ProductIndex savedProductIndex = productIndexRepository.save(productIndex);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA-Index] ProductIndex updateProductIndex - 실행시간: {}ms", endTime - startTime);
+        productSearchResultCache.evict(before, ProductSearchResultCache.Product.of(savedProductIndex));
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "updateProductIndex", System.nanoTime() - startTime);
 
         return ProductIndexSimpleDto.from(savedProductIndex);
     }
@@ -272,16 +333,14 @@ public class ProductIndexJpaService {
      */
     @Transactional
     public void deleteProductIndex(Long id) {
-        long startTime = System.currentTimeMillis();
-
-        if (!productIndexRepository.existsById(id)) {
-            throw new RuntimeException("상품을 찾을 수 없습니다. ID: " + id);
-        }
+        long startTime = System.nanoTime();
 
-        productIndexRepository.deleteById(id);
-        long endTime = System.currentTimeMillis();
+        ProductIndex productIndex = productIndexRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + id));
 
-        log.info("[JPA-Index] ProductIndex deleteProductIndex - 실행시간: {}ms", endTime - startTime);
+        productIndexRepository.delete(productIndex);
+        productSearchResultCache.evict(ProductSearchResultCache.Product.of(productIndex), null);
+        latencyMetrics.record(OrmTechnique.JPA, "ProductIndex", "deleteProductIndex", System.nanoTime() - startTime);
     }
 
     /**
@@ -3,31 +3,37 @@ package com.benchmark.orm.domain.product.service;
 import com.benchmark.orm.domain.product.dto.*;
 import com.benchmark.orm.domain.product.entity.ProductIndex;
 import com.benchmark.orm.domain.product.mapper.ProductIndexMapper;
+import com.benchmark.orm.global.dto.CursorPageDto;
+import com.benchmark.orm.global.dto.KeysetCursor;
+import com.benchmark.orm.global.dto.KeysetSort;
+import com.benchmark.orm.global.metrics.LatencyMetrics;
+import com.benchmark.orm.global.metrics.OrmTechnique;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.SortedSet;
 import java.util.stream.Collectors;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductIndexMyBatisService {
 
     private final ProductIndexMapper productIndexMapper;
+    private final ProductNameSearchIndex productNameSearchIndex;
+    private final ProductSearchResultCache productSearchResultCache;
+    private final LatencyMetrics latencyMetrics;
 
     /**
      * 모든 상품 조회 (간단 버전)
      */
     public List<ProductIndexSimpleDto> findAll() {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<ProductIndex> products = productIndexMapper.findAll();
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis-Index] ProductIndex findAll - 실행시간: {}ms, 결과 수: {}", endTime - startTime, products.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "findAll", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductIndexSimpleDto::from)
@@ -38,11 +44,9 @@ public class ProductIndexMyBatisService {
      * ID로 상품 조회
      */
     public ProductIndexSimpleDto findById(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         ProductIndex productIndex = productIndexMapper.findById(id);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis-Index] ProductIndex findById - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "findById", System.nanoTime() - startTime);
 
         if (productIndex == null) {
             throw new RuntimeException("상품을 찾을 수 없습니다. ID: " + id);
@@ -54,11 +58,9 @@ public class ProductIndexMyBatisService {
      * 상품명으로 조회
      */
     public ProductIndexSimpleDto findByName(String name) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         ProductIndex productIndex = productIndexMapper.findByName(name);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis-Index] ProductIndex findByName - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "findByName", System.nanoTime() - startTime);
 
         if (productIndex == null) {
             throw new RuntimeException("상품을 찾을 수 없습니다. 이름: " + name);
@@ -70,12 +72,9 @@ public class ProductIndexMyBatisService {
      * 가격 범위로 조회
      */
     public List<ProductIndexSimpleDto> findByPriceBetween(int minPrice, int maxPrice) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<ProductIndex> products = productIndexMapper.findByPriceBetween(minPrice, maxPrice);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis-Index] ProductIndex findByPriceBetween - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "findByPriceBetween", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductIndexSimpleDto::from)
@@ -86,12 +85,9 @@ public class ProductIndexMyBatisService {
      * 브랜드 ID로 조회
      */
     public List<ProductIndexSimpleDto> findByBrandId(Long brandId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<ProductIndex> products = productIndexMapper.findByBrandId(brandId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis-Index] ProductIndex findByBrandId - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "findByBrandId", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductIndexSimpleDto::from)
@@ -102,23 +98,65 @@ public class ProductIndexMyBatisService {
      * 카테고리 ID로 조회
      */
     public List<ProductIndexSimpleDto> findByCategoryId(Long categoryId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<ProductIndex> products = productIndexMapper.findByCategoryId(categoryId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis-Index] ProductIndex findByCategoryId - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "findByCategoryId", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductIndexSimpleDto::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 모든 상품 조회 (DTO 프로젝션, resultType DTO 매핑)
+     * 엔티티 대신 DTO 컬럼만 조회하므로 브랜드/카테고리 엔티티 생성과 영속성 컨텍스트 관리 비용이 없음
+     */
+    public List<ProductIndexSimpleDto> findAllProjected() {
+        long startTime = System.nanoTime();
+        List<ProductIndexSimpleDto> products = productIndexMapper.findAllSimple();
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "findAllProjected", System.nanoTime() - startTime);
+
+        return products;
+    }
+
+    /**
+     * 가격 범위로 조회 (DTO 프로젝션)
+     */
+    public List<ProductIndexSimpleDto> findByPriceBetweenProjected(int minPrice, int maxPrice) {
+        long startTime = System.nanoTime();
+        List<ProductIndexSimpleDto> products = productIndexMapper.findByPriceBetweenSimple(minPrice, maxPrice);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "findByPriceBetweenProjected", System.nanoTime() - startTime);
+
+        return products;
+    }
+
+    /**
+     * 브랜드 ID로 조회 (DTO 프로젝션)
+     */
+    public List<ProductIndexSimpleDto> findByBrandIdProjected(Long brandId) {
+        long startTime = System.nanoTime();
+        List<ProductIndexSimpleDto> products = productIndexMapper.findByBrandIdSimple(brandId);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "findByBrandIdProjected", System.nanoTime() - startTime);
+
+        return products;
+    }
+
+    /**
+     * 카테고리 ID로 조회 (DTO 프로젝션)
+     */
+    public List<ProductIndexSimpleDto> findByCategoryIdProjected(Long categoryId) {
+        long startTime = System.nanoTime();
+        List<ProductIndexSimpleDto> products = productIndexMapper.findByCategoryIdSimple(categoryId);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "findByCategoryIdProjected", System.nanoTime() - startTime);
+
+        return products;
+    }
+
     /**
      * 페이징 조회
      */
     public ProductPageDto<ProductIndexSimpleDto> findAllWithPaging(int page, int size, String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         int offset = page * size;
         List<ProductIndex> products = productIndexMapper.findAllWithPagingAndSorting(offset, size, sortBy, sortDirection);
@@ -127,10 +165,7 @@ public class ProductIndexMyBatisService {
         List<ProductIndex> allProducts = productIndexMapper.findAll();
         long totalElements = allProducts.size();
 
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis-Index] ProductIndex findAllWithPaging - 실행시간: {}ms, 결과 수: {}/{}",
-                endTime - startTime, products.size(), totalElements);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "findAllWithPaging", System.nanoTime() - startTime);
 
         List<ProductIndexSimpleDto> content = products.stream()
                 .map(ProductIndexSimpleDto::from)
@@ -139,16 +174,34 @@ public class ProductIndexMyBatisService {
         return ProductPageDto.of(content, page, size, totalElements);
     }
 
+    /**
+     * 키셋(커서) 페이징 조회
+     * OFFSET 없이 마지막 (정렬 값, ID) 이후부터 조회하므로 페이지가 깊어져도 응답 시간이 일정함
+     */
+    public CursorPageDto<ProductIndexSimpleDto> findAllWithCursor(String after, int size, String sortBy, String sortDirection) {
+        long startTime = System.nanoTime();
+
+        String sortColumn = ProductIndex.KEYSET_SORT.resolve(sortBy);
+        String direction = KeysetSort.direction(sortDirection);
+        KeysetCursor cursor = ProductIndex.KEYSET_SORT.decode(after, size, sortColumn, direction);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<ProductIndex> products = productIndexMapper.findAllWithKeyset(ProductIndex.KEYSET_SORT.column(sortColumn), direction,
+                ProductIndex.KEYSET_SORT.sortValueOf(cursor), cursor != null ? cursor.getId() : null, size + 1);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "findAllWithCursor", System.nanoTime() - startTime);
+
+        return CursorPageDto.of(products, size,
+                ProductIndex.KEYSET_SORT.cursorOf(sortColumn, direction),
+                ProductIndexSimpleDto::from);
+    }
+
     /**
      * 정렬 조회
      */
     public List<ProductIndexSimpleDto> findAllWithSorting(String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<ProductIndex> products = productIndexMapper.findAllWithSorting(sortBy, sortDirection);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis-Index] ProductIndex findAllWithSorting - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "findAllWithSorting", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductIndexSimpleDto::from)
@@ -159,19 +212,46 @@ public class ProductIndexMyBatisService {
      * 검색 조건으로 상품 검색
      */
     public ProductPageDto<ProductIndexSimpleDto> searchProductIndexs(ProductSearchDto searchDto, int page, int size) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         int offset = page * size;
         String sortBy = searchDto.getSortBy() != null ? searchDto.getSortBy() : "id";
         String sortDirection = searchDto.getSortDirection() != null ? searchDto.getSortDirection() : "asc";
 
-        List<ProductIndex> products = productIndexMapper.searchProductIndexs(searchDto, offset, size, sortBy, sortDirection);
-        int totalCount = productIndexMapper.countBySearchDto(searchDto);
-
-        long endTime = System.currentTimeMillis();
+        // 같은 조건의 검색 결과(ID 목록 + 전체 개수)가 캐시되어 있으면 검색/카운트 쿼리 없이 ID로만 조회
+        ProductSearchResultCache.Key cacheKey = productSearchResultCache.keyOf(OrmTechnique.MYBATIS, searchDto, page, size);
+        ProductSearchResultCache.CachedPage cached = productSearchResultCache.get(cacheKey);
+        if (cached != null) {
+            List<ProductIndex> products = cached.getIds().isEmpty()
+                    ? new ArrayList<>()
+                    : ProductSearchResultCache.orderByIds(cached.getIds(),
+                            productIndexMapper.findByIds(cached.getIds()), ProductIndex::getId);
+            latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "searchProductIndexs", System.nanoTime() - startTime);
+
+            List<ProductIndexSimpleDto> content = products.stream()
+                    .map(ProductIndexSimpleDto::from)
+                    .collect(Collectors.toList());
+
+            return ProductPageDto.of(content, page, size, cached.getTotalElements());
+        }
+        long cacheVersion = productSearchResultCache.version();
+
+        // 상품명 트라이그램 인덱스로 후보 ID를 찾을 수 있으면 LIKE 대신 ID 조건으로 검색
+        SortedSet<Long> candidateIds = productNameSearchIndex.findProductIndexCandidates(searchDto.getKeyword());
+        List<ProductIndex> products;
+        int totalCount;
+        if (candidateIds == null) {
+            products = productIndexMapper.searchProductIndexs(searchDto, offset, size, sortBy, sortDirection);
+            totalCount = productIndexMapper.countBySearchDto(searchDto);
+        } else {
+            products = productIndexMapper.searchProductIndexsByCandidateIds(searchDto, candidateIds, offset, size, sortBy, sortDirection);
+            totalCount = productIndexMapper.countByCandidateIds(searchDto, candidateIds);
+        }
+        productSearchResultCache.put(cacheKey,
+                products.stream().map(ProductIndex::getId).collect(Collectors.toList()),
+                totalCount, cacheVersion);
 
-        log.info("[MyBatis-Index] ProductIndex searchProductIndexs - 실행시간: {}ms, 결과 수: {}/{}",
-                endTime - startTime, products.size(), totalCount);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "searchProductIndexs", System.nanoTime() - startTime);
 
         List<ProductIndexSimpleDto> content = products.stream()
                 .map(ProductIndexSimpleDto::from)
@@ -185,15 +265,14 @@ public class ProductIndexMyBatisService {
      */
     @Transactional
     public ProductIndexSimpleDto createProductIndex(ProductRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         // ProductRequestDto를 ProductIndex로 변환하는 로직 필요
         ProductIndex productIndex = convertToProductIndex(requestDto);
         productIndexMapper.insert(productIndex);
+        productSearchResultCache.evict(null, ProductSearchResultCache.Product.of(productIndex));
 
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis-Index] ProductIndex createProductIndex - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "createProductIndex", System.nanoTime() - startTime);
 
         return ProductIndexSimpleDto.from(productIndex);
     }
@@ -203,12 +282,13 @@ public class ProductIndexMyBatisService {
      */
     @Transactional
     public ProductIndexSimpleDto updateProductIndex(Long id, ProductRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         ProductIndex existingProduct = productIndexMapper.findById(id);
         if (existingProduct == null) {
             throw new RuntimeException("상품을 찾을 수 없습니다. ID: " + id);
         }
+        ProductSearchResultCache.Product before = ProductSearchResultCache.Product.of(existingProduct);
 
         // 기존 상품 정보 업데이트
         if (requestDto.getName() != null) {
@@ -217,9 +297,8 @@ public class ProductIndexMyBatisService {
         }
 
         productIndexMapper.update(existingProduct);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis-Index] ProductIndex updateProductIndex - 실행시간: {}ms", endTime - startTime);
+        productSearchResultCache.evict(before, ProductSearchResultCache.Product.of(existingProduct));
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "updateProductIndex", System.nanoTime() - startTime);
 
         return ProductIndexSimpleDto.from(existingProduct);
     }
@@ -229,7 +308,7 @@ public class ProductIndexMyBatisService {
      */
     @Transactional
     public void deleteProductIndex(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         ProductIndex productIndex = productIndexMapper.findById(id);
         if (productIndex == null) {
@@ -237,9 +316,8 @@ public class ProductIndexMyBatisService {
         }
 
         productIndexMapper.deleteById(id);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis-Index] ProductIndex deleteProductIndex - 실행시간: {}ms", endTime - startTime);
+        productSearchResultCache.evict(ProductSearchResultCache.Product.of(productIndex), null);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "ProductIndex", "deleteProductIndex", System.nanoTime() - startTime);
     }
 
     /**
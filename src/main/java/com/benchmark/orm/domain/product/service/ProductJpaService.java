@@ -3,8 +3,15 @@ package com.benchmark.orm.domain.product.service;
 import com.benchmark.orm.domain.product.dto.*;
 import com.benchmark.orm.domain.product.entity.Product;
 import com.benchmark.orm.domain.product.repository.ProductRepository;
+import com.benchmark.orm.global.cache.NearCache;
+import com.benchmark.orm.global.dto.CursorPageDto;
+import com.benchmark.orm.global.dto.KeysetCursor;
+import com.benchmark.orm.global.dto.KeysetSort;
+import com.benchmark.orm.global.entity.FetchPlan;
+import com.benchmark.orm.global.export.NdjsonWriter;
+import com.benchmark.orm.global.metrics.LatencyMetrics;
+import com.benchmark.orm.global.metrics.OrmTechnique;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,41 +19,59 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.SortedSet;
 import java.util.stream.Collectors;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductJpaService {
 
     private final ProductRepository productRepository;
+    private final ProductNameSearchIndex productNameSearchIndex;
+    private final CategoryHierarchy categoryHierarchy;
+    private final NdjsonWriter ndjsonWriter;
+    private final NearCache<ProductResponseDto> productNearCache;
+    private final LatencyMetrics latencyMetrics;
 
     /**
      * 모든 상품 조회 (간단 버전)
      */
     public List<ProductSimpleDto> findAll() {
-        long startTime = System.currentTimeMillis();
-        List<Product> products = productRepository.findAll();
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product findAll - 실행시간: {}ms, 결과 수: {}", endTime - startTime, products.size());
+        long startTime = System.nanoTime();
+        List<Product> products = productRepository.findAll(FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findAll", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductSimpleDto::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 전체 상품 NDJSON 내보내기 (JPA Stream)
+     * 목록을 메모리에 모으지 않고 한 행씩 읽어 바로 출력함
+     *
+     * @param out 출력 스트림
+     * @return 출력한 행 수
+     */
+    public long exportAll(OutputStream out) throws IOException {
+        long startTime = System.nanoTime();
+        long count = ndjsonWriter.writeEntities(out, productRepository.streamAll(), ProductSimpleDto::from);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "exportAll", System.nanoTime() - startTime);
+
+        return count;
+    }
+
     /**
      * 모든 상품 조회 (상세 버전)
      */
     public List<ProductResponseDto> findAllDetailed() {
-        long startTime = System.currentTimeMillis();
-        List<Product> products = productRepository.findAll();
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product findAllDetailed - 실행시간: {}ms, 결과 수: {}", endTime - startTime, products.size());
+        long startTime = System.nanoTime();
+        List<Product> products = productRepository.findAll(FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findAllDetailed", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductResponseDto::fromEntity)
@@ -57,12 +82,10 @@ public class ProductJpaService {
      * ID로 상품 조회
      */
     public ProductResponseDto findById(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + id));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product findById - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findById", System.nanoTime() - startTime);
 
         return ProductResponseDto.fromEntity(product);
     }
@@ -71,12 +94,10 @@ public class ProductJpaService {
      * 상품명으로 조회
      */
     public ProductResponseDto findByName(String name) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Product product = productRepository.findByName(name)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. 이름: " + name));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product findByName - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findByName", System.nanoTime() - startTime);
 
         return ProductResponseDto.fromEntity(product);
     }
@@ -85,12 +106,9 @@ public class ProductJpaService {
      * 가격 범위로 조회
      */
     public List<ProductSimpleDto> findByPriceBetween(int minPrice, int maxPrice) {
-        long startTime = System.currentTimeMillis();
-        List<Product> products = productRepository.findByPriceBetween(minPrice, maxPrice);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product findByPriceBetween - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        long startTime = System.nanoTime();
+        List<Product> products = productRepository.findByPriceBetween(minPrice, maxPrice, FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findByPriceBetween", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductSimpleDto::from)
@@ -101,12 +119,9 @@ public class ProductJpaService {
      * 브랜드 ID로 조회
      */
     public List<ProductSimpleDto> findByBrandId(Long brandId) {
-        long startTime = System.currentTimeMillis();
-        List<Product> products = productRepository.findByBrandId(brandId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product findByBrandId - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        long startTime = System.nanoTime();
+        List<Product> products = productRepository.findByBrandId(brandId, FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findByBrandId", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductSimpleDto::from)
@@ -117,12 +132,28 @@ public class ProductJpaService {
      * 카테고리 ID로 조회
      */
     public List<ProductSimpleDto> findByCategoryId(Long categoryId) {
-        long startTime = System.currentTimeMillis();
-        List<Product> products = productRepository.findByCategoryId(categoryId);
-        long endTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
+        List<Product> products = productRepository.findByCategoryId(categoryId, FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findByCategoryId", System.nanoTime() - startTime);
 
-        log.info("[JPA] Product findByCategoryId - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        return products.stream()
+                .map(ProductSimpleDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 카테고리와 모든 하위 카테고리의 상품 조회
+     * 하위 카테고리 ID는 카테고리 트리 스냅샷에서 구하므로 계층 깊이와 관계없이 쿼리 한 번으로 조회
+     */
+    public List<ProductSimpleDto> findByCategorySubtree(Long categoryId) {
+        long startTime = System.nanoTime();
+
+        List<Long> categoryIds = categoryHierarchy.findSubtreeIds(categoryId);
+        if (categoryIds.isEmpty()) {
+            throw new RuntimeException("카테고리를 찾을 수 없습니다. ID: " + categoryId);
+        }
+        List<Product> products = productRepository.findByCategorySubtree(categoryIds, FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findByCategorySubtree", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductSimpleDto::from)
@@ -133,32 +164,47 @@ public class ProductJpaService {
      * 페이징 조회
      */
     public Page<ProductSimpleDto> findAllWithPaging(int page, int size, String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Product> products = productRepository.findAllWithPaging(pageable);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product findAllWithPaging - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.getTotalElements());
+        Page<Product> products = productRepository.findAllWithPaging(pageable, FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findAllWithPaging", System.nanoTime() - startTime);
 
         return products.map(ProductSimpleDto::from);
     }
 
+    /**
+     * 키셋(커서) 페이징 조회
+     * OFFSET 없이 마지막 (정렬 값, ID) 이후부터 조회하므로 페이지가 깊어져도 응답 시간이 일정함
+     */
+    public CursorPageDto<ProductSimpleDto> findAllWithCursor(String after, int size, String sortBy, String sortDirection) {
+        long startTime = System.nanoTime();
+
+        String sortColumn = Product.KEYSET_SORT.resolve(sortBy);
+        String direction = KeysetSort.direction(sortDirection);
+        KeysetCursor cursor = Product.KEYSET_SORT.decode(after, size, sortColumn, direction);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Product> products = productRepository.findAllWithKeyset(sortColumn, "asc".equals(direction), cursor, size + 1,
+                FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findAllWithCursor", System.nanoTime() - startTime);
+
+        return CursorPageDto.of(products, size,
+                Product.KEYSET_SORT.cursorOf(sortColumn, direction),
+                ProductSimpleDto::from);
+    }
+
     /**
      * 정렬 조회
      */
     public List<ProductSimpleDto> findAllWithSorting(String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
-        List<Product> products = productRepository.findAllWithSorting(sort);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product findAllWithSorting - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        List<Product> products = productRepository.findAllWithSorting(sort, FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findAllWithSorting", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductSimpleDto::from)
@@ -169,12 +215,10 @@ public class ProductJpaService {
      * 브랜드 정보와 함께 조회
      */
     public ProductResponseDto findProductWithBrand(Long productId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Product product = productRepository.findProductWithBrand(productId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + productId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product findProductWithBrand - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findProductWithBrand", System.nanoTime() - startTime);
 
         return ProductResponseDto.fromEntity(product);
     }
@@ -183,12 +227,10 @@ public class ProductJpaService {
      * 카테고리 정보와 함께 조회
      */
     public ProductResponseDto findProductWithCategory(Long productId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Product product = productRepository.findProductWithCategory(productId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + productId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product findProductWithCategory - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findProductWithCategory", System.nanoTime() - startTime);
 
         return ProductResponseDto.fromEntity(product);
     }
@@ -197,12 +239,10 @@ public class ProductJpaService {
      * 이미지 정보와 함께 조회
      */
     public ProductResponseDto findProductWithImages(Long productId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Product product = productRepository.findProductWithImages(productId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + productId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product findProductWithImages - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findProductWithImages", System.nanoTime() - startTime);
 
         return ProductResponseDto.fromEntity(product);
     }
@@ -211,12 +251,10 @@ public class ProductJpaService {
      * 모든 상세 정보와 함께 조회
      */
     public ProductResponseDto findProductWithAllDetails(Long productId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Product product = productRepository.findProductWithAllDetails(productId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + productId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product findProductWithAllDetails - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "findProductWithAllDetails", System.nanoTime() - startTime);
 
         return ProductResponseDto.fromEntity(product);
     }
@@ -225,7 +263,7 @@ public class ProductJpaService {
      * 검색 조건으로 상품 검색
      */
     public Page<ProductSimpleDto> searchProducts(ProductSearchDto searchDto, int page, int size) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         String sortBy = searchDto.getSortBy() != null ? searchDto.getSortBy() : "id";
         String sortDirection = searchDto.getSortDirection() != null ? searchDto.getSortDirection() : "asc";
@@ -233,11 +271,12 @@ public class ProductJpaService {
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Product> products = productRepository.searchProducts(searchDto, pageable);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product searchProducts - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.getTotalElements());
+        // 상품명 트라이그램 인덱스로 후보 ID를 찾을 수 있으면 LIKE 대신 ID 조건으로 검색
+        SortedSet<Long> candidateIds = productNameSearchIndex.findProductCandidates(searchDto.getKeyword());
+        Page<Product> products = candidateIds != null
+                ? productRepository.searchProducts(searchDto, candidateIds, pageable, FetchPlan.FULL)
+                : productRepository.searchProducts(searchDto, pageable, FetchPlan.FULL);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "searchProducts", System.nanoTime() - startTime);
 
         return products.map(ProductSimpleDto::from);
     }
@@ -247,14 +286,12 @@ public class ProductJpaService {
      */
     @Transactional
     public ProductResponseDto createProduct(ProductRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Product product = requestDto.toEntity();
         Product savedProduct = productRepository.save(product);
 
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product createProduct - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "createProduct", System.nanoTime() - startTime);
 
         return ProductResponseDto.fromEntity(savedProduct);
     }
@@ -264,7 +301,7 @@ public class ProductJpaService {
      */
     @Transactional
     public ProductResponseDto updateProduct(Long id, ProductRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + id));
@@ -276,9 +313,8 @@ public class ProductJpaService {
         }
 
         Product savedProduct = productRepository.save(product);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product updateProduct - 실행시간: {}ms", endTime - startTime);
+        productNearCache.invalidate(id);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "updateProduct", System.nanoTime() - startTime);
 
         return ProductResponseDto.fromEntity(savedProduct);
     }
@@ -288,15 +324,14 @@ public class ProductJpaService {
      */
     @Transactional
     public void deleteProduct(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         if (!productRepository.existsById(id)) {
             throw new RuntimeException("상품을 찾을 수 없습니다. ID: " + id);
         }
 
         productRepository.deleteById(id);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] Product deleteProduct - 실행시간: {}ms", endTime - startTime);
+        productNearCache.invalidate(id);
+        latencyMetrics.record(OrmTechnique.JPA, "Product", "deleteProduct", System.nanoTime() - startTime);
     }
 }
\ No newline at end of file
@@ -7,48 +7,76 @@ import com.benchmark.orm.domain.product.entity.Product;
 import com.benchmark.orm.domain.product.mapper.BrandMapper;
 import com.benchmark.orm.domain.product.mapper.CategoryMapper;
 import com.benchmark.orm.domain.product.mapper.ProductMapper;
+import com.benchmark.orm.global.cache.NearCache;
+import com.benchmark.orm.global.dto.CursorPageDto;
+import com.benchmark.orm.global.dto.KeysetCursor;
+import com.benchmark.orm.global.dto.KeysetSort;
+import com.benchmark.orm.global.export.NdjsonWriter;
+import com.benchmark.orm.global.metrics.LatencyMetrics;
+import com.benchmark.orm.global.metrics.OrmTechnique;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.SortedSet;
 import java.util.stream.Collectors;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductMyBatisService {
 
     private final ProductMapper productMapper;
+    private final ProductNameSearchIndex productNameSearchIndex;
+    private final CategoryHierarchy categoryHierarchy;
     private final BrandMapper brandMapper;
     private final CategoryMapper categoryMapper;
+    private final NdjsonWriter ndjsonWriter;
+    private final NearCache<ProductResponseDto> productNearCache;
+    private final LatencyMetrics latencyMetrics;
 
     /**
      * 모든 상품 조회 (간단 버전)
      */
     public List<ProductSimpleDto> findAll() {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Product> products = productMapper.findAll();
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Product findAll - 실행시간: {}ms, 결과 수: {}", endTime - startTime, products.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "findAll", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductSimpleDto::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 전체 상품 NDJSON 내보내기 (MyBatis Cursor)
+     * 목록을 메모리에 모으지 않고 한 행씩 읽어 바로 출력함
+     *
+     * @param out 출력 스트림
+     * @return 출력한 행 수
+     */
+    public long exportAll(OutputStream out) throws IOException {
+        long startTime = System.nanoTime();
+        long count;
+        try (Cursor<Product> cursor = productMapper.streamAll()) {
+            count = ndjsonWriter.write(out, cursor, ProductSimpleDto::from);
+        }
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "exportAll", System.nanoTime() - startTime);
+
+        return count;
+    }
+
     /**
      * 모든 상품 조회 (상세 버전)
      */
     public List<ProductResponseDto> findAllDetailed() {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Product> products = productMapper.findAll();
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Product findAllDetailed - 실행시간: {}ms, 결과 수: {}", endTime - startTime, products.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "findAllDetailed", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductResponseDto::fromEntity)
@@ -59,11 +87,9 @@ public class ProductMyBatisService {
      * ID로 상품 조회
      */
     public ProductResponseDto findById(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Product product = productMapper.findById(id);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Product findById - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "findById", System.nanoTime() - startTime);
 
         if (product == null) {
             throw new RuntimeException("상품을 찾을 수 없습니다. ID: " + id);
@@ -75,11 +101,9 @@ public class ProductMyBatisService {
      * 상품명으로 조회
      */
     public ProductResponseDto findByName(String name) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Product product = productMapper.findByName(name);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Product findByName - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "findByName", System.nanoTime() - startTime);
 
         if (product == null) {
             throw new RuntimeException("상품을 찾을 수 없습니다. 이름: " + name);
@@ -91,12 +115,9 @@ public class ProductMyBatisService {
      * 가격 범위로 조회
      */
     public List<ProductSimpleDto> findByPriceBetween(int minPrice, int maxPrice) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Product> products = productMapper.findByPriceBetween(minPrice, maxPrice);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Product findByPriceBetween - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "findByPriceBetween", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductSimpleDto::from)
@@ -107,12 +128,9 @@ public class ProductMyBatisService {
      * 브랜드 ID로 조회
      */
     public List<ProductSimpleDto> findByBrandId(Long brandId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Product> products = productMapper.findByBrandId(brandId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Product findByBrandId - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "findByBrandId", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductSimpleDto::from)
@@ -123,12 +141,28 @@ public class ProductMyBatisService {
      * 카테고리 ID로 조회
      */
     public List<ProductSimpleDto> findByCategoryId(Long categoryId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Product> products = productMapper.findByCategoryId(categoryId);
-        long endTime = System.currentTimeMillis();
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "findByCategoryId", System.nanoTime() - startTime);
+
+        return products.stream()
+                .map(ProductSimpleDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 카테고리와 모든 하위 카테고리의 상품 조회
+     * 하위 카테고리 ID는 카테고리 트리 스냅샷에서 구하므로 계층 깊이와 관계없이 쿼리 한 번으로 조회
+     */
+    public List<ProductSimpleDto> findByCategorySubtree(Long categoryId) {
+        long startTime = System.nanoTime();
 
-        log.info("[MyBatis] Product findByCategoryId - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        List<Long> categoryIds = categoryHierarchy.findSubtreeIds(categoryId);
+        if (categoryIds.isEmpty()) {
+            throw new RuntimeException("카테고리를 찾을 수 없습니다. ID: " + categoryId);
+        }
+        List<Product> products = productMapper.findByCategorySubtree(categoryIds);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "findByCategorySubtree", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductSimpleDto::from)
@@ -139,7 +173,7 @@ public class ProductMyBatisService {
      * 페이징 조회
      */
     public ProductPageDto<ProductSimpleDto> findAllWithPaging(int page, int size, String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         int offset = page * size;
         List<Product> products = productMapper.findAllWithPagingAndSorting(offset, size, sortBy, sortDirection);
@@ -148,10 +182,7 @@ public class ProductMyBatisService {
         List<Product> allProducts = productMapper.findAll();
         long totalElements = allProducts.size();
 
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Product findAllWithPaging - 실행시간: {}ms, 결과 수: {}/{}",
-                endTime - startTime, products.size(), totalElements);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "findAllWithPaging", System.nanoTime() - startTime);
 
         List<ProductSimpleDto> content = products.stream()
                 .map(ProductSimpleDto::from)
@@ -160,16 +191,34 @@ public class ProductMyBatisService {
         return ProductPageDto.of(content, page, size, totalElements);
     }
 
+    /**
+     * 키셋(커서) 페이징 조회
+     * OFFSET 없이 마지막 (정렬 값, ID) 이후부터 조회하므로 페이지가 깊어져도 응답 시간이 일정함
+     */
+    public CursorPageDto<ProductSimpleDto> findAllWithCursor(String after, int size, String sortBy, String sortDirection) {
+        long startTime = System.nanoTime();
+
+        String sortColumn = Product.KEYSET_SORT.resolve(sortBy);
+        String direction = KeysetSort.direction(sortDirection);
+        KeysetCursor cursor = Product.KEYSET_SORT.decode(after, size, sortColumn, direction);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Product> products = productMapper.findAllWithKeyset(Product.KEYSET_SORT.column(sortColumn), direction,
+                Product.KEYSET_SORT.sortValueOf(cursor), cursor != null ? cursor.getId() : null, size + 1);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "findAllWithCursor", System.nanoTime() - startTime);
+
+        return CursorPageDto.of(products, size,
+                Product.KEYSET_SORT.cursorOf(sortColumn, direction),
+                ProductSimpleDto::from);
+    }
+
     /**
      * 정렬 조회
      */
     public List<ProductSimpleDto> findAllWithSorting(String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<Product> products = productMapper.findAllWithSorting(sortBy, sortDirection);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Product findAllWithSorting - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, products.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "findAllWithSorting", System.nanoTime() - startTime);
 
         return products.stream()
                 .map(ProductSimpleDto::from)
@@ -180,11 +229,9 @@ public class ProductMyBatisService {
      * 이미지 정보와 함께 조회
      */
     public ProductResponseDto findProductWithImages(Long productId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Product product = productMapper.findProductWithImages(productId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Product findProductWithImages - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "findProductWithImages", System.nanoTime() - startTime);
 
         if (product == null) {
             throw new RuntimeException("상품을 찾을 수 없습니다. ID: " + productId);
@@ -196,19 +243,25 @@ public class ProductMyBatisService {
      * 검색 조건으로 상품 검색
      */
     public ProductPageDto<ProductSimpleDto> searchProducts(ProductSearchDto searchDto, int page, int size) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         int offset = page * size;
         String sortBy = searchDto.getSortBy() != null ? searchDto.getSortBy() : "id";
         String sortDirection = searchDto.getSortDirection() != null ? searchDto.getSortDirection() : "asc";
 
-        List<Product> products = productMapper.searchProducts(searchDto, offset, size, sortBy, sortDirection);
-        int totalCount = productMapper.countBySearchDto(searchDto);
-
-        long endTime = System.currentTimeMillis();
+        // 상품명 트라이그램 인덱스로 후보 ID를 찾을 수 있으면 LIKE 대신 ID 조건으로 검색
+        SortedSet<Long> candidateIds = productNameSearchIndex.findProductCandidates(searchDto.getKeyword());
+        List<Product> products;
+        int totalCount;
+        if (candidateIds == null) {
+            products = productMapper.searchProducts(searchDto, offset, size, sortBy, sortDirection);
+            totalCount = productMapper.countBySearchDto(searchDto);
+        } else {
+            products = productMapper.searchProductsByCandidateIds(searchDto, candidateIds, offset, size, sortBy, sortDirection);
+            totalCount = productMapper.countByCandidateIds(searchDto, candidateIds);
+        }
 
-        log.info("[MyBatis] Product searchProducts - 실행시간: {}ms, 결과 수: {}/{}",
-                endTime - startTime, products.size(), totalCount);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "searchProducts", System.nanoTime() - startTime);
 
         List<ProductSimpleDto> content = products.stream()
                 .map(ProductSimpleDto::from)
@@ -222,14 +275,12 @@ public class ProductMyBatisService {
      */
     @Transactional
     public ProductResponseDto createProduct(ProductRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Product product = requestDto.toEntity();
         productMapper.insert(product);
 
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Product createProduct - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "createProduct", System.nanoTime() - startTime);
 
         return ProductResponseDto.fromEntity(product);
     }
@@ -239,7 +290,7 @@ public class ProductMyBatisService {
      */
     @Transactional
     public ProductResponseDto updateProduct(Long id, ProductRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Product existingProduct = productMapper.findById(id);
         if (existingProduct == null) {
@@ -253,9 +304,8 @@ public class ProductMyBatisService {
         }
 
         productMapper.update(existingProduct);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Product updateProduct - 실행시간: {}ms", endTime - startTime);
+        productNearCache.invalidate(id);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "updateProduct", System.nanoTime() - startTime);
 
         return ProductResponseDto.fromEntity(existingProduct);
     }
@@ -265,7 +315,7 @@ public class ProductMyBatisService {
      */
     @Transactional
     public void deleteProduct(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Product product = productMapper.findById(id);
         if (product == null) {
@@ -273,8 +323,7 @@ public class ProductMyBatisService {
         }
 
         productMapper.deleteById(id);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] Product deleteProduct - 실행시간: {}ms", endTime - startTime);
+        productNearCache.invalidate(id);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "Product", "deleteProduct", System.nanoTime() - startTime);
     }
 }
\ No newline at end of file
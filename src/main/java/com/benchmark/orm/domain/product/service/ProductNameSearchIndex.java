@@ -0,0 +1,152 @@
+package com.benchmark.orm.domain.product.service;
+
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import com.benchmark.orm.domain.product.entity.ProductNameChangedEvent;
+import com.benchmark.orm.global.dataset.DatasetLoadedEvent;
+import com.benchmark.orm.global.search.TrigramIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.SortedSet;
+
+/**
+ * Product / ProductIndex 상품명 트라이그램 인덱스
+ * <p>
+ * 애플리케이션 시작 시 두 테이블의 상품명을 읽어 인덱스를 만들고, 이후 변경을 증분 반영함 (트랜잭션 안에서는 커밋 이후)
+ * - JPA: ProductNameListener가 보낸 ProductNameChangedEvent
+ * - MyBatis: ProductNameIndexInterceptor가 보낸 ProductNameChangedEvent (바뀐 행을 알 수 없으면 전체 재생성)
+ * - BulkDataLoader 등 JDBC 일괄 적재: DatasetLoadedEvent를 받아 전체 재생성
+ * 그 외 JDBC로 직접 변경한 경우에는 rebuild()를 호출해야 함
+ * <p>
+ * 후보 조회 결과가 null이면 인덱스를 사용할 수 없는 경우이므로 기존 LIKE 검색으로 처리해야 함
+ * - 인덱스가 아직 만들어지지 않았거나 다시 만드는 중인 경우
+ * - 쓰기 트랜잭션 안인 경우 (같은 트랜잭션의 커밋 전 변경은 인덱스에 없음)
+ * - 키워드가 3글자 미만인 경우
+ * - 후보가 없는 경우 (인덱스에 아직 반영되지 않은 행이 있을 수 있으므로 빈 결과로 단정하지 않음)
+ * - 후보가 MAX_CANDIDATES 보다 많아 IN 조건보다 스캔이 유리한 경우
+ * 후보는 대소문자를 구분하지 않으므로 결과를 확정하려면 원래 검색 조건(LIKE)을 함께 적용해야 함
+ */
+@Slf4j
+@Component
+public class ProductNameSearchIndex {
+
+    public static final int MAX_CANDIDATES = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrigramIndex productNames = new TrigramIndex();
+    private final TrigramIndex productIndexNames = new TrigramIndex();
+    private volatile boolean ready;
+
+    public ProductNameSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 두 테이블의 상품명으로 인덱스 재생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        ready = false;
+
+        load("product", productNames);
+        load("product_index", productIndexNames);
+
+        ready = true;
+        long endTime = System.currentTimeMillis();
+
+        log.info("[Search] 상품명 트라이그램 인덱스 생성 - 실행시간: {}ms, Product: {}, ProductIndex: {}",
+                endTime - startTime, productNames.size(), productIndexNames.size());
+    }
+
+    /**
+     * 상품명 키워드에 매칭되는 Product ID 후보 조회
+     *
+     * @param keyword 검색 키워드
+     * @return 후보 ID 집합, 인덱스를 사용할 수 없으면 null
+     */
+    public SortedSet<Long> findProductCandidates(String keyword) {
+        return findCandidates(productNames, keyword);
+    }
+
+    /**
+     * 상품명 키워드에 매칭되는 ProductIndex ID 후보 조회
+     *
+     * @param keyword 검색 키워드
+     * @return 후보 ID 집합, 인덱스를 사용할 수 없으면 null
+     */
+    public SortedSet<Long> findProductIndexCandidates(String keyword) {
+        return findCandidates(productIndexNames, keyword);
+    }
+
+    /**
+     * JPA/MyBatis로 변경된 상품명 반영 (커밋 이후)
+     */
+    @EventListener
+    public void onProductNameChanged(ProductNameChangedEvent event) {
+        if (event.getId() == null) {
+            afterCommit(this::rebuild);
+            return;
+        }
+        TrigramIndex index = event.getEntityType() == ProductIndex.class ? productIndexNames : productNames;
+        if (event.isRemoved()) {
+            afterCommit(() -> index.remove(event.getId()));
+        } else {
+            afterCommit(() -> index.put(event.getId(), event.getName()));
+        }
+    }
+
+    /**
+     * JDBC로 상품을 일괄 적재한 경우 인덱스 재생성
+     */
+    @EventListener
+    public void onDatasetLoaded(DatasetLoadedEvent event) {
+        if (event.isProductsLoaded()) {
+            rebuild();
+        }
+    }
+
+    private SortedSet<Long> findCandidates(TrigramIndex index, String keyword) {
+        if (!ready || keyword == null || keyword.isEmpty() || inWriteTransaction()) {
+            return null;
+        }
+        SortedSet<Long> candidates = index.search(keyword);
+        if (candidates == null || candidates.isEmpty() || candidates.size() > MAX_CANDIDATES) {
+            return null;
+        }
+        return candidates;
+    }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void load(String table, TrigramIndex index) {
+        index.clear();
+        jdbcTemplate.query("SELECT id, name FROM " + table,
+                (RowCallbackHandler) rs -> index.put(rs.getLong("id"), rs.getString("name")));
+    }
+
+    /**
+     * 롤백된 변경이 인덱스에 남지 않도록 트랜잭션 커밋 이후에 반영
+     */
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
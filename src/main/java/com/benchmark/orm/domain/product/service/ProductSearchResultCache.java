@@ -0,0 +1,242 @@
+package com.benchmark.orm.domain.product.service;
+
+import com.benchmark.orm.domain.product.dto.ProductSearchDto;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import com.benchmark.orm.global.dataset.DatasetLoadedEvent;
+import com.benchmark.orm.global.metrics.OrmTechnique;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * ProductIndex 검색 결과 캐시
+ * <p>
+ * 인기 조합(브랜드 + 가격대 + 첫 페이지 등)의 검색이 반복되므로, 정규화한 검색 조건과 페이지를 키로
+ * 결과 상품 ID 목록과 전체 개수만 저장하고, 적중 시 ID로 상품을 다시 읽어 응답을 만듦
+ * (브랜드명/카테고리명이나 상품 정보가 바뀌어도 ID 목록은 그대로 유효함)
+ * 최대 항목 수를 넘으면 가장 오래 사용되지 않은 항목부터 제거함 (LRU)
+ * <p>
+ * 상품이 생성/수정/삭제되면 변경 전후 상품 중 하나라도 조건에 맞을 수 있는 항목만 제거함
+ * (예: 브랜드 X 상품 수정 시 다른 브랜드로 한정된 검색 결과는 유지)
+ * 두 상태 모두 조건에 맞지 않으면 그 검색의 결과 집합과 순서는 바뀌지 않음
+ * <p>
+ * 조회 시작 후 변경이 있었다면 그 결과는 저장하지 않으며, 트랜잭션 안에서는 종료 시점에 한 번 더 제거함
+ * (조회 결과도 트랜잭션이 커밋된 경우에만 저장함)
+ * BulkDataLoader처럼 서비스를 거치지 않고 상품을 변경한 경우에는 clear()를 호출해야 함 (BulkDataLoader는 DatasetLoadedEvent로 비움)
+ */
+@Slf4j
+@Component
+public class ProductSearchResultCache {
+
+    private final int maxEntries;
+    private final AtomicLong version = new AtomicLong();
+    private final LinkedHashMap<Key, CachedPage> entries;
+
+    public ProductSearchResultCache(
+            @org.springframework.beans.factory.annotation.Value("${benchmark.cache.product-search.max-entries:1000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedPage> eldest) {
+                return size() > ProductSearchResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 검색 조건과 페이지로 캐시 키 생성
+     * 빈 키워드는 null로, 정렬 기준/방향은 서비스 기본값(id, asc)과 소문자로 맞춤
+     * (키워드 앞뒤 공백은 LIKE 결과가 달라지므로 유지)
+     */
+    public Key keyOf(OrmTechnique technique, ProductSearchDto searchDto, int page, int size) {
+        String keyword = searchDto.getKeyword() == null || searchDto.getKeyword().isEmpty() ? null : searchDto.getKeyword();
+        String sortBy = searchDto.getSortBy() != null ? searchDto.getSortBy() : "id";
+        String sortDirection = searchDto.getSortDirection() != null ? searchDto.getSortDirection().toLowerCase() : "asc";
+        return new Key(technique, keyword, searchDto.getMinPrice(), searchDto.getMaxPrice(),
+                searchDto.getBrandId(), searchDto.getCategoryId(), sortBy, sortDirection, page, size);
+    }
+
+    /**
+     * 캐시된 검색 결과 조회
+     *
+     * @return 캐시된 결과, 없으면 null
+     */
+    public synchronized CachedPage get(Key key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 조회 시작 시점의 버전 (put()에 전달)
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 검색 결과 저장 (조회 시작 후 상품 변경이 있었다면 저장하지 않음)
+     * 트랜잭션 안에서는 커밋된 경우에만 저장함 (롤백될 데이터로 만든 결과가 남지 않도록)
+     *
+     * @param key 캐시 키
+     * @param ids 결과 상품 ID 목록 (정렬 순서)
+     * @param totalElements 조건에 맞는 전체 상품 수
+     * @param startVersion 조회 시작 전에 읽은 version() 값
+     */
+    public void put(Key key, List<Long> ids, long totalElements, long startVersion) {
+        CachedPage page = new CachedPage(List.copyOf(ids), totalElements);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(key, page, startVersion);
+                }
+            });
+        } else {
+            store(key, page, startVersion);
+        }
+    }
+
+    /**
+     * 상품 변경 반영
+     *
+     * @param before 변경 전 상품 (생성이면 null)
+     * @param after 변경 후 상품 (삭제면 null)
+     */
+    public void evict(Product before, Product after) {
+        Runnable eviction = () -> evictMatching(before, after);
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * 모든 항목 제거
+     */
+    public synchronized void clear() {
+        version.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * JDBC로 상품이 적재된 경우 변경된 상품을 알 수 없으므로 전부 제거
+     */
+    @EventListener
+    public void onDatasetLoaded(DatasetLoadedEvent event) {
+        if (event.isProductsLoaded()) {
+            clear();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * ID로 다시 읽은 상품을 캐시된 ID 순서로 정렬 (그 사이 삭제된 상품은 제외)
+     */
+    public static <T> List<T> orderByIds(List<Long> ids, Collection<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> rowById = new HashMap<>();
+        for (T row : rows) {
+            rowById.put(idOf.apply(row), row);
+        }
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = rowById.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+
+    private synchronized void store(Key key, CachedPage page, long startVersion) {
+        if (version.get() == startVersion) {
+            entries.put(key, page);
+        }
+    }
+
+    private synchronized void evictMatching(Product before, Product after) {
+        version.incrementAndGet();
+        int sizeBefore = entries.size();
+        entries.keySet().removeIf(key -> key.matches(before) || key.matches(after));
+        log.debug("[Search] 검색 결과 캐시 무효화 - 제거: {}, 남은 항목: {}", sizeBefore - entries.size(), entries.size());
+    }
+
+    /**
+     * 정규화된 검색 조건 + 페이지 (기술별로 따로 저장)
+     */
+    @Value
+    public static class Key {
+        OrmTechnique technique;
+        String keyword;
+        Integer minPrice;
+        Integer maxPrice;
+        Long brandId;
+        Long categoryId;
+        String sortBy;
+        String sortDirection;
+        int page;
+        int size;
+
+        /**
+         * 상품이 이 검색 조건에 맞을 수 있는지 확인
+         * 키워드는 대소문자를 무시하고 비교해 LIKE/containsIgnoreCase 어느 쪽보다도 넓게 판단함
+         */
+        boolean matches(Product product) {
+            if (product == null) {
+                return false;
+            }
+            if (brandId != null && !brandId.equals(product.getBrandId())) {
+                return false;
+            }
+            if (categoryId != null && !categoryId.equals(product.getCategoryId())) {
+                return false;
+            }
+            if ((minPrice != null && product.getPrice() < minPrice) || (maxPrice != null && product.getPrice() > maxPrice)) {
+                return false;
+            }
+            return keyword == null
+                    || (product.getName() != null && product.getName().toLowerCase().contains(keyword.toLowerCase()));
+        }
+    }
+
+    /**
+     * 캐시된 검색 결과 (ID 목록 + 전체 개수)
+     */
+    @Value
+    public static class CachedPage {
+        List<Long> ids;
+        long totalElements;
+    }
+
+    /**
+     * 무효화 판단에 쓰는 상품의 검색 조건 컬럼 값
+     */
+    @Value
+    public static class Product {
+        Long brandId;
+        Long categoryId;
+        int price;
+        String name;
+
+        public static Product of(ProductIndex productIndex) {
+            return new Product(
+                    productIndex.getBrand() != null ? productIndex.getBrand().getId() : null,
+                    productIndex.getCategory() != null ? productIndex.getCategory().getId() : null,
+                    productIndex.getPrice(),
+                    productIndex.getName());
+        }
+    }
+}
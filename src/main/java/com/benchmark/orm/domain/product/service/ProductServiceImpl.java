@@ -8,16 +8,23 @@ import com.benchmark.orm.domain.product.mapper.ProductMapper;
 import com.benchmark.orm.domain.product.repository.ProductRepository;
 import com.benchmark.orm.domain.product.repository.BrandRepository;
 import com.benchmark.orm.domain.product.repository.CategoryRepository;
+import com.benchmark.orm.global.cache.NearCache;
+import com.benchmark.orm.global.concurrency.SingleFlight;
+import com.benchmark.orm.global.entity.FetchPlan;
+import com.benchmark.orm.global.metrics.OrmTechnique;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.SortedSet;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +39,9 @@ public class ProductServiceImpl implements ProductService {
     private final ProductMapper productMapper;
     private final BrandRepository brandRepository;
     private final CategoryRepository categoryRepository;
+    private final ProductNameSearchIndex productNameSearchIndex;
+    private final NearCache<ProductResponseDto> productNearCache;
+    private final SingleFlight singleFlight;
 
     @Override
     @Transactional
@@ -59,15 +69,24 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Optional<ProductResponseDto> findProductByIdJpa(Long id) {
-        return productRepository.findById(id)
-                .map(ProductResponseDto::fromEntity);
+        // 캐시 적중은 트랜잭션 없이 바로 반환하고, 미스일 때만 같은 ID 조회를 병합해 읽기 전용 트랜잭션에서 조회
+        return Optional.ofNullable(productNearCache.get(OrmTechnique.JPA, id, key ->
+                singleFlight.execute(OrmTechnique.JPA, "Product", "findById", key, () ->
+                        productRepository.findById(key)
+                                .map(ProductResponseDto::fromEntity)
+                                .orElse(null))));
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public ProductResponseDto findProductByIdMyBatis(Long id) {
-        Product product = productMapper.findById(id);
-        return product != null ? ProductResponseDto.fromEntity(product) : null;
+        return productNearCache.get(OrmTechnique.MYBATIS, id, key ->
+                singleFlight.execute(OrmTechnique.MYBATIS, "Product", "findById", key, () -> {
+                    Product product = productMapper.findById(key);
+                    return product != null ? ProductResponseDto.fromEntity(product) : null;
+                }));
     }
 
     @Override
@@ -105,7 +124,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public List<ProductResponseDto> findProductsByPriceBetweenQueryDsl(int minPrice, int maxPrice) {
-        return productRepository.findByPriceBetween(minPrice, maxPrice).stream()
+        return productRepository.findByPriceBetween(minPrice, maxPrice, FetchPlan.FULL).stream()
                 .map(ProductResponseDto::fromEntity)
                 .collect(Collectors.toList());
     }
@@ -119,7 +138,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public List<ProductResponseDto> findProductsByBrandIdQueryDsl(Long brandId) {
-        return productRepository.findByBrandId(brandId).stream()
+        return productRepository.findByBrandId(brandId, FetchPlan.FULL).stream()
                 .map(ProductResponseDto::fromEntity)
                 .collect(Collectors.toList());
     }
@@ -133,7 +152,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public List<ProductResponseDto> findProductsByCategoryIdQueryDsl(Long categoryId) {
-        return productRepository.findByCategoryId(categoryId).stream()
+        return productRepository.findByCategoryId(categoryId, FetchPlan.FULL).stream()
                 .map(ProductResponseDto::fromEntity)
                 .collect(Collectors.toList());
     }
@@ -151,7 +170,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public Page<ProductResponseDto> findProductsWithPagingQueryDsl(Pageable pageable) {
-        Page<Product> productPage = productRepository.findAllWithPaging(pageable);
+        Page<Product> productPage = productRepository.findAllWithPaging(pageable, FetchPlan.FULL);
 
         List<ProductResponseDto> productDtos = productPage.getContent().stream()
                 .map(ProductResponseDto::fromEntity)
@@ -176,7 +195,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public List<ProductResponseDto> findProductsWithSortingQueryDsl(Sort sort) {
-        return productRepository.findAllWithSorting(sort).stream()
+        return productRepository.findAllWithSorting(sort, FetchPlan.FULL).stream()
                 .map(ProductResponseDto::fromEntity)
                 .collect(Collectors.toList());
     }
@@ -256,7 +275,13 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Page<ProductResponseDto> searchProductsJpql(ProductSearchDto searchDto, Pageable pageable) {
+        return singleFlight.execute(OrmTechnique.JPA, "Product", "searchJpql", Arrays.asList(searchDto, pageable),
+                () -> loadProductsJpql(searchDto, pageable));
+    }
+
+    private Page<ProductResponseDto> loadProductsJpql(ProductSearchDto searchDto, Pageable pageable) {
         // 구현 필요: JPQL 기반의 검색 쿼리 실행
         // 여기에서는 기본 검색을 위한 임시 구현
         Page<Product> productPage = null;
@@ -291,9 +316,18 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Page<ProductResponseDto> searchProductsQueryDsl(ProductSearchDto searchDto, Pageable pageable) {
-        // QueryDSL 방식으로 검색
-        Page<Product> productPage = productRepository.searchProducts(searchDto, pageable);
+        return singleFlight.execute(OrmTechnique.JPA, "Product", "searchQueryDsl", Arrays.asList(searchDto, pageable),
+                () -> loadProductsQueryDsl(searchDto, pageable));
+    }
+
+    private Page<ProductResponseDto> loadProductsQueryDsl(ProductSearchDto searchDto, Pageable pageable) {
+        // QueryDSL 방식으로 검색 (상품명 트라이그램 인덱스 후보가 있으면 ID 조건으로 검색)
+        SortedSet<Long> candidateIds = productNameSearchIndex.findProductCandidates(searchDto.getKeyword());
+        Page<Product> productPage = candidateIds != null
+                ? productRepository.searchProducts(searchDto, candidateIds, pageable, FetchPlan.FULL)
+                : productRepository.searchProducts(searchDto, pageable, FetchPlan.FULL);
 
         List<ProductResponseDto> productDtos = productPage.getContent().stream()
                 .map(ProductResponseDto::fromEntity)
@@ -303,18 +337,33 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Page<ProductResponseDto> searchProductsMyBatis(ProductSearchDto searchDto, int offset, int limit,
                                                           String sortColumn, String sortDirection) {
-        // MyBatis 방식으로 검색 (가정: ProductMapper에 관련 메서드가 구현되어 있음)
-        List<Product> products = productMapper.searchProducts(searchDto, offset, limit, sortColumn, sortDirection);
+        return singleFlight.execute(OrmTechnique.MYBATIS, "Product", "search",
+                Arrays.asList(searchDto, offset, limit, sortColumn, sortDirection),
+                () -> loadProductsMyBatis(searchDto, offset, limit, sortColumn, sortDirection));
+    }
+
+    private Page<ProductResponseDto> loadProductsMyBatis(ProductSearchDto searchDto, int offset, int limit,
+                                                         String sortColumn, String sortDirection) {
+        // MyBatis 방식으로 검색 (상품명 트라이그램 인덱스 후보가 있으면 ID 조건으로 검색)
+        SortedSet<Long> candidateIds = productNameSearchIndex.findProductCandidates(searchDto.getKeyword());
+        List<Product> products;
+        int total;
+        if (candidateIds == null) {
+            products = productMapper.searchProducts(searchDto, offset, limit, sortColumn, sortDirection);
+            total = productMapper.countBySearchDto(searchDto);
+        } else {
+            products = productMapper.searchProductsByCandidateIds(searchDto, candidateIds, offset, limit,
+                    sortColumn, sortDirection);
+            total = productMapper.countByCandidateIds(searchDto, candidateIds);
+        }
 
         List<ProductResponseDto> productDtos = products.stream()
                 .map(ProductResponseDto::fromEntity)
                 .collect(Collectors.toList());
 
-        // 전체 개수 조회 (가정: ProductMapper에 관련 메서드가 구현되어 있음)
-        int total = productMapper.countBySearchDto(searchDto);
-
         return new PageImpl<>(productDtos, Pageable.ofSize(limit).withPage(offset / limit), total);
     }
 
@@ -337,6 +386,7 @@ public class ProductServiceImpl implements ProductService {
 
                     // 업데이트된 상품 저장
                     Product savedProduct = productRepository.save(updatedProduct);
+                    productNearCache.invalidate(id);
                     return ProductResponseDto.fromEntity(savedProduct);
                 })
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
@@ -365,6 +415,7 @@ public class ProductServiceImpl implements ProductService {
 
         // MyBatis를 통해 상품 업데이트
         productMapper.update(updatedProduct);
+        productNearCache.invalidate(id);
 
         return "Product updated successfully with MyBatis";
     }
@@ -375,6 +426,7 @@ public class ProductServiceImpl implements ProductService {
         return productRepository.findById(id)
                 .map(product -> {
                     productRepository.deleteById(id);
+                    productNearCache.invalidate(id);
                     return "Product deleted successfully with JPA";
                 })
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
@@ -390,6 +442,7 @@ public class ProductServiceImpl implements ProductService {
         }
 
         productMapper.deleteById(id);
+        productNearCache.invalidate(id);
         return "Product deleted successfully with MyBatis";
     }
 }
\ No newline at end of file
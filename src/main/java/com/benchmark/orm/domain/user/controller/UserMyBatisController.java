@@ -2,11 +2,14 @@ package com.benchmark.orm.domain.user.controller;
 
 import com.benchmark.orm.domain.user.dto.*;
 import com.benchmark.orm.domain.user.service.UserMyBatisService;
+import com.benchmark.orm.global.dto.CursorPageDto;
 import com.benchmark.orm.global.dto.PageDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -39,6 +42,18 @@ public class UserMyBatisController {
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * 모든 사용자 NDJSON 내보내기 (스트리밍)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        log.info("[MyBatis] GET /api/mybatis/user/export - 모든 사용자 내보내기 요청");
+        StreamingResponseBody body = out -> userMyBatisService.exportAll(out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * ID로 사용자 조회
      */
@@ -84,6 +99,22 @@ public class UserMyBatisController {
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * 키셋(커서) 페이징 조회
+     * 첫 페이지는 after 없이 요청하고, 이후에는 응답의 nextCursor를 after로 전달
+     */
+    @GetMapping("/paging/cursor")
+    public ResponseEntity<CursorPageDto<UserSimpleDto>> getUsersWithCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection) {
+        log.info("[MyBatis] GET /api/mybatis/user/paging/cursor - 커서 페이징 조회 요청: after={}, size={}, sortBy={}, sortDirection={}",
+                after, size, sortBy, sortDirection);
+        CursorPageDto<UserSimpleDto> result = userMyBatisService.findAllWithCursor(after, size, sortBy, sortDirection);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 정렬 조회
      */
@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@NamedEntityGraph(name = "Address.full", attributeNodes = @NamedAttributeNode("user"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,7 +23,7 @@ public class Address extends BaseEntity {
     private String detail;
     private boolean isDefault;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -1,6 +1,7 @@
 package com.benchmark.orm.domain.user.entity;
 
 import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.global.dto.KeysetSort;
 import com.benchmark.orm.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -19,6 +20,12 @@ import java.util.List;
 @Table(name = "users")
 public class User extends BaseEntity {
 
+    /**
+     * 키셋(커서) 페이징에서 허용하는 정렬 필드 (그 외에는 ID 정렬)
+     */
+    public static final KeysetSort<User> KEYSET_SORT = KeysetSort.byId(User::getId)
+            .and("username", User::getUsername);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
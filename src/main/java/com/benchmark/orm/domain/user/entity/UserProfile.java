@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@NamedEntityGraph(name = "UserProfile.full", attributeNodes = @NamedAttributeNode("user"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,7 +22,7 @@ public class UserProfile extends BaseTimeEntity {
     private String nickname;
     private String gender;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -4,7 +4,9 @@ import com.benchmark.orm.domain.user.dto.UserSearchDto;
 import com.benchmark.orm.domain.user.entity.User;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -41,6 +43,14 @@ public interface UserMapper {
      */
     User findById(Long id);
 
+    /**
+     * ID 목록으로 사용자 일괄 조회
+     *
+     * @param ids 조회할 사용자 ID 목록 (비어 있으면 안 됨)
+     * @return 사용자 목록 (없는 ID는 제외)
+     */
+    List<User> findByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * 이메일로 사용자 조회
      *
@@ -64,6 +74,13 @@ public interface UserMapper {
      */
     List<User> findAll();
 
+    /**
+     * 모든 사용자를 커서로 조회 (ID 순, 내보내기용)
+     *
+     * @return 사용자 커서 (트랜잭션 안에서 순회해야 함)
+     */
+    Cursor<User> streamAll();
+
     /**
      * 페이징된 사용자 조회
      *
@@ -97,6 +114,23 @@ public interface UserMapper {
             @Param("sortColumn") String sortColumn,
             @Param("sortDirection") String sortDirection);
 
+    /**
+     * 키셋(커서) 방식으로 사용자 조회
+     *
+     * @param sortColumn 정렬 컬럼 (id, username)
+     * @param sortDirection 정렬 방향 (asc/desc)
+     * @param cursorValue 마지막으로 조회한 행의 정렬 값 (첫 페이지이거나 정렬 값이 NULL인 행이면 null)
+     * @param cursorId 마지막으로 조회한 행의 ID (첫 페이지는 null)
+     * @param limit 조회 개수
+     * @return 사용자 목록
+     */
+    List<User> findAllWithKeyset(
+            @Param("sortColumn") String sortColumn,
+            @Param("sortDirection") String sortDirection,
+            @Param("cursorValue") Object cursorValue,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit);
+
     /**
      * 검색 조건을 이용한 사용자 검색
      *
@@ -1,7 +1,20 @@
 package com.benchmark.orm.domain.user.repository;
 
 import com.benchmark.orm.domain.user.entity.Address;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface AddressRepository extends JpaRepository<Address, Long> {
+
+    /**
+     * 사용자와 함께 모든 주소 조회 (Address.full 엔티티 그래프)
+     * user는 LAZY이므로 사용자 정보가 필요할 때만 이 메서드를 사용
+     * @return 주소 리스트
+     */
+    @EntityGraph("Address.full")
+    @Query("SELECT a FROM Address a")
+    List<Address> findAllWithUser();
 }
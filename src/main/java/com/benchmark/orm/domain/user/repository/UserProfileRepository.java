@@ -1,7 +1,20 @@
 package com.benchmark.orm.domain.user.repository;
 
 import com.benchmark.orm.domain.user.entity.UserProfile;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
+
+    /**
+     * 사용자와 함께 모든 프로필 조회 (UserProfile.full 엔티티 그래프)
+     * user는 LAZY이므로 사용자 정보가 필요할 때만 이 메서드를 사용
+     * @return 프로필 리스트
+     */
+    @EntityGraph("UserProfile.full")
+    @Query("SELECT p FROM UserProfile p")
+    List<UserProfile> findAllWithUser();
 }
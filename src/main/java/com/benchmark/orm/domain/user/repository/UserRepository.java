@@ -1,14 +1,20 @@
 package com.benchmark.orm.domain.user.repository;
 
 import com.benchmark.orm.domain.user.entity.User;
+import com.benchmark.orm.global.export.NdjsonWriter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 사용자 리포지토리 인터페이스
@@ -88,4 +94,22 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
                                @Param("username") String username,
                                @Param("email") String email,
                                Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 모든 사용자를 ID 순으로 스트리밍 조회
+     * 주인이 아닌 일대일 연관관계(profile)는 지연 로딩되지 않으므로 페치 조인으로 함께 조회해 행마다 추가 SELECT가 나가지 않게 함
+     * @return 사용자 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonWriter.FETCH_SIZE))
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.profile p LEFT JOIN FETCH p.profileImage ORDER BY u.id")
+    Stream<User> streamAll();
+
+    /**
+     * ID 목록으로 사용자 조회 (BatchLoader의 IN 절 조회)
+     * 주인이 아닌 일대일 연관관계(profile)는 지연 로딩되지 않으므로 페치 조인으로 함께 조회해 사용자마다 추가 SELECT가 나가지 않게 함
+     * @param ids 사용자 ID 목록
+     * @return 사용자 리스트 (없는 ID는 제외)
+     */
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.profile p LEFT JOIN FETCH p.profileImage WHERE u.id IN :ids")
+    List<User> findAllWithProfileByIdIn(@Param("ids") Collection<Long> ids);
+}
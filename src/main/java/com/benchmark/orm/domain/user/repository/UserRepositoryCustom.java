@@ -2,6 +2,7 @@ package com.benchmark.orm.domain.user.repository;
 
 import com.benchmark.orm.domain.user.dto.UserSearchDto;
 import com.benchmark.orm.domain.user.entity.User;
+import com.benchmark.orm.global.dto.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -36,6 +37,16 @@ public interface UserRepositoryCustom {
      */
     Page<User> findAllWithPaging(Pageable pageable);
 
+    /**
+     * 키셋(커서) 방식으로 사용자 조회
+     * @param sortBy 정렬 기준 필드 (id, username)
+     * @param ascending 오름차순 여부
+     * @param after 마지막으로 조회한 행의 커서 (첫 페이지는 null)
+     * @param limit 조회 개수
+     * @return 커서 이후의 사용자 리스트
+     */
+    List<User> findAllWithKeyset(String sortBy, boolean ascending, KeysetCursor after, int limit);
+
     /**
      * 특정 정렬 방식으로 모든 사용자 조회
      * @param sort 정렬 정보
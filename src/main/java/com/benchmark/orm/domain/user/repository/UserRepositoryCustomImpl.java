@@ -5,8 +5,10 @@ import com.benchmark.orm.domain.user.entity.QAddress;
 import com.benchmark.orm.domain.user.entity.QUser;
 import com.benchmark.orm.domain.user.entity.QUserProfile;
 import com.benchmark.orm.domain.user.entity.User;
+import com.benchmark.orm.global.dto.KeysetCursor;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -72,6 +75,20 @@ public class UserRepositoryCustomImpl implements UserRepositoryCustom {
         return new PageImpl<>(users, pageable, total);
     }
 
+    @Override
+    public List<User> findAllWithKeyset(String sortBy, boolean ascending, KeysetCursor after, int limit) {
+        QUser user = QUser.user;
+
+        Map<String, ComparableExpressionBase<?>> paths = Map.of("username", user.username);
+
+        return queryFactory
+                .selectFrom(user)
+                .where(User.KEYSET_SORT.afterCondition(sortBy, ascending, after, user.id, paths))
+                .orderBy(User.KEYSET_SORT.orderBy(sortBy, ascending, user.id, paths))
+                .limit(limit)
+                .fetch();
+    }
+
     @Override
     public List<User> findAllWithSorting(Sort sort) {
         QUser user = QUser.user;
@@ -3,8 +3,14 @@ package com.benchmark.orm.domain.user.service;
 import com.benchmark.orm.domain.user.dto.*;
 import com.benchmark.orm.domain.user.entity.User;
 import com.benchmark.orm.domain.user.repository.UserRepository;
+import com.benchmark.orm.global.cache.NearCache;
+import com.benchmark.orm.global.dto.CursorPageDto;
+import com.benchmark.orm.global.dto.KeysetCursor;
+import com.benchmark.orm.global.dto.KeysetSort;
+import com.benchmark.orm.global.export.NdjsonWriter;
+import com.benchmark.orm.global.metrics.LatencyMetrics;
+import com.benchmark.orm.global.metrics.OrmTechnique;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,41 +18,56 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserJpaService {
 
     private final UserRepository userRepository;
+    private final NdjsonWriter ndjsonWriter;
+    private final NearCache<UserResponseDto> userNearCache;
+    private final LatencyMetrics latencyMetrics;
 
     /**
      * 모든 사용자 조회 (간단 버전)
      */
     public List<UserSimpleDto> findAll() {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<User> users = userRepository.findAll();
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User findAll - 실행시간: {}ms, 결과 수: {}", endTime - startTime, users.size());
+        latencyMetrics.record(OrmTechnique.JPA, "User", "findAll", System.nanoTime() - startTime);
 
         return users.stream()
                 .map(UserSimpleDto::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 전체 사용자 NDJSON 내보내기 (JPA Stream)
+     * 목록을 메모리에 모으지 않고 한 행씩 읽어 바로 출력함
+     *
+     * @param out 출력 스트림
+     * @return 출력한 행 수
+     */
+    public long exportAll(OutputStream out) throws IOException {
+        long startTime = System.nanoTime();
+        long count = ndjsonWriter.writeEntities(out, userRepository.streamAll(), UserSimpleDto::from);
+        latencyMetrics.record(OrmTechnique.JPA, "User", "exportAll", System.nanoTime() - startTime);
+
+        return count;
+    }
+
     /**
      * 모든 사용자 조회 (상세 버전)
      */
     public List<UserResponseDto> findAllDetailed() {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<User> users = userRepository.findAll();
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User findAllDetailed - 실행시간: {}ms, 결과 수: {}", endTime - startTime, users.size());
+        latencyMetrics.record(OrmTechnique.JPA, "User", "findAllDetailed", System.nanoTime() - startTime);
 
         return users.stream()
                 .map(UserResponseDto::fromEntity)
@@ -57,12 +78,10 @@ public class UserJpaService {
      * ID로 사용자 조회
      */
     public UserResponseDto findById(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + id));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User findById - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "User", "findById", System.nanoTime() - startTime);
 
         return UserResponseDto.fromEntity(user);
     }
@@ -71,12 +90,10 @@ public class UserJpaService {
      * 이메일로 사용자 조회
      */
     public UserResponseDto findByEmail(String email) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. 이메일: " + email));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User findByEmail - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "User", "findByEmail", System.nanoTime() - startTime);
 
         return UserResponseDto.fromEntity(user);
     }
@@ -85,12 +102,10 @@ public class UserJpaService {
      * 사용자명으로 사용자 조회
      */
     public UserResponseDto findByUsername(String username) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. 사용자명: " + username));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User findByUsername - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "User", "findByUsername", System.nanoTime() - startTime);
 
         return UserResponseDto.fromEntity(user);
     }
@@ -99,32 +114,46 @@ public class UserJpaService {
      * 페이징 조회
      */
     public Page<UserSimpleDto> findAllWithPaging(int page, int size, String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
         Page<User> users = userRepository.findAllWithPaging(pageable);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User findAllWithPaging - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, users.getTotalElements());
+        latencyMetrics.record(OrmTechnique.JPA, "User", "findAllWithPaging", System.nanoTime() - startTime);
 
         return users.map(UserSimpleDto::from);
     }
 
+    /**
+     * 키셋(커서) 페이징 조회
+     * OFFSET 없이 마지막 (정렬 값, ID) 이후부터 조회하므로 페이지가 깊어져도 응답 시간이 일정함
+     */
+    public CursorPageDto<UserSimpleDto> findAllWithCursor(String after, int size, String sortBy, String sortDirection) {
+        long startTime = System.nanoTime();
+
+        String cursorSortBy = User.KEYSET_SORT.resolve(sortBy);
+        String direction = KeysetSort.direction(sortDirection);
+        KeysetCursor cursor = User.KEYSET_SORT.decode(after, size, cursorSortBy, direction);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<User> users = userRepository.findAllWithKeyset(cursorSortBy, "asc".equals(direction), cursor, size + 1);
+        latencyMetrics.record(OrmTechnique.JPA, "User", "findAllWithCursor", System.nanoTime() - startTime);
+
+        return CursorPageDto.of(users, size,
+                User.KEYSET_SORT.cursorOf(cursorSortBy, direction),
+                UserSimpleDto::from);
+    }
+
     /**
      * 정렬 조회
      */
     public List<UserSimpleDto> findAllWithSorting(String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
         List<User> users = userRepository.findAllWithSorting(sort);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User findAllWithSorting - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, users.size());
+        latencyMetrics.record(OrmTechnique.JPA, "User", "findAllWithSorting", System.nanoTime() - startTime);
 
         return users.stream()
                 .map(UserSimpleDto::from)
@@ -135,12 +164,10 @@ public class UserJpaService {
      * 프로필 정보와 함께 사용자 조회
      */
     public UserResponseDto findUserWithProfile(Long userId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         User user = userRepository.findUserWithProfile(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + userId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User findUserWithProfile - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "User", "findUserWithProfile", System.nanoTime() - startTime);
 
         return UserResponseDto.fromEntity(user);
     }
@@ -149,12 +176,10 @@ public class UserJpaService {
      * 주소 정보와 함께 사용자 조회
      */
     public UserResponseDto findUserWithAddresses(Long userId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         User user = userRepository.findUserWithAddresses(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + userId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User findUserWithAddresses - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "User", "findUserWithAddresses", System.nanoTime() - startTime);
 
         return UserResponseDto.fromEntity(user);
     }
@@ -163,12 +188,10 @@ public class UserJpaService {
      * 프로필과 주소 정보 모두 포함한 사용자 조회
      */
     public UserResponseDto findUserWithProfileAndAddresses(Long userId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         User user = userRepository.findUserWithProfileAndAddresses(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + userId));
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User findUserWithProfileAndAddresses - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "User", "findUserWithProfileAndAddresses", System.nanoTime() - startTime);
 
         return UserResponseDto.fromEntity(user);
     }
@@ -177,7 +200,7 @@ public class UserJpaService {
      * 검색 조건으로 사용자 검색
      */
     public Page<UserSimpleDto> searchUsers(UserSearchDto searchDto, int page, int size) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         String sortBy = searchDto.getSortBy() != null ? searchDto.getSortBy() : "id";
         String sortDirection = searchDto.getSortDirection() != null ? searchDto.getSortDirection() : "asc";
@@ -186,10 +209,7 @@ public class UserJpaService {
         Pageable pageable = PageRequest.of(page, size, sort);
 
         Page<User> users = userRepository.searchUsers(searchDto, pageable);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User searchUsers - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, users.getTotalElements());
+        latencyMetrics.record(OrmTechnique.JPA, "User", "searchUsers", System.nanoTime() - startTime);
 
         return users.map(UserSimpleDto::from);
     }
@@ -199,14 +219,12 @@ public class UserJpaService {
      */
     @Transactional
     public UserResponseDto createUser(UserRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         User user = requestDto.toEntity();
         User savedUser = userRepository.save(user);
 
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User createUser - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.JPA, "User", "createUser", System.nanoTime() - startTime);
 
         return UserResponseDto.fromEntity(savedUser);
     }
@@ -216,7 +234,7 @@ public class UserJpaService {
      */
     @Transactional
     public UserResponseDto updateUser(Long id, UserRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + id));
@@ -229,9 +247,8 @@ public class UserJpaService {
         }
 
         User savedUser = userRepository.save(user);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User updateUser - 실행시간: {}ms", endTime - startTime);
+        userNearCache.invalidate(id);
+        latencyMetrics.record(OrmTechnique.JPA, "User", "updateUser", System.nanoTime() - startTime);
 
         return UserResponseDto.fromEntity(savedUser);
     }
@@ -241,15 +258,14 @@ public class UserJpaService {
      */
     @Transactional
     public void deleteUser(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         if (!userRepository.existsById(id)) {
             throw new RuntimeException("사용자를 찾을 수 없습니다. ID: " + id);
         }
 
         userRepository.deleteById(id);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[JPA] User deleteUser - 실행시간: {}ms", endTime - startTime);
+        userNearCache.invalidate(id);
+        latencyMetrics.record(OrmTechnique.JPA, "User", "deleteUser", System.nanoTime() - startTime);
     }
 }
\ No newline at end of file
@@ -3,47 +3,72 @@ package com.benchmark.orm.domain.user.service;
 import com.benchmark.orm.domain.user.dto.*;
 import com.benchmark.orm.domain.user.entity.User;
 import com.benchmark.orm.domain.user.mapper.UserMapper;
+import com.benchmark.orm.global.cache.NearCache;
+import com.benchmark.orm.global.dto.CursorPageDto;
+import com.benchmark.orm.global.dto.KeysetCursor;
+import com.benchmark.orm.global.dto.KeysetSort;
 import com.benchmark.orm.global.dto.PageDto;
+import com.benchmark.orm.global.export.NdjsonWriter;
+import com.benchmark.orm.global.metrics.LatencyMetrics;
+import com.benchmark.orm.global.metrics.OrmTechnique;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserMyBatisService {
 
     private final UserMapper userMapper;
+    private final NdjsonWriter ndjsonWriter;
+    private final NearCache<UserResponseDto> userNearCache;
+    private final LatencyMetrics latencyMetrics;
 
     /**
      * 모든 사용자 조회 (간단 버전)
      */
     public List<UserSimpleDto> findAll() {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<User> users = userMapper.findAll();
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] User findAll - 실행시간: {}ms, 결과 수: {}", endTime - startTime, users.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "findAll", System.nanoTime() - startTime);
 
         return users.stream()
                 .map(UserSimpleDto::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 전체 사용자 NDJSON 내보내기 (MyBatis Cursor)
+     * 목록을 메모리에 모으지 않고 한 행씩 읽어 바로 출력함
+     *
+     * @param out 출력 스트림
+     * @return 출력한 행 수
+     */
+    public long exportAll(OutputStream out) throws IOException {
+        long startTime = System.nanoTime();
+        long count;
+        try (Cursor<User> cursor = userMapper.streamAll()) {
+            count = ndjsonWriter.write(out, cursor, UserSimpleDto::from);
+        }
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "exportAll", System.nanoTime() - startTime);
+
+        return count;
+    }
+
     /**
      * 모든 사용자 조회 (상세 버전)
      */
     public List<UserResponseDto> findAllDetailed() {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<User> users = userMapper.findAll();
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] User findAllDetailed - 실행시간: {}ms, 결과 수: {}", endTime - startTime, users.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "findAllDetailed", System.nanoTime() - startTime);
 
         return users.stream()
                 .map(UserResponseDto::fromEntity)
@@ -54,11 +79,9 @@ public class UserMyBatisService {
      * ID로 사용자 조회
      */
     public UserResponseDto findById(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         User user = userMapper.findById(id);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] User findById - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "findById", System.nanoTime() - startTime);
 
         if (user == null) {
             throw new RuntimeException("사용자를 찾을 수 없습니다. ID: " + id);
@@ -70,11 +93,9 @@ public class UserMyBatisService {
      * 이메일로 사용자 조회
      */
     public UserResponseDto findByEmail(String email) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         User user = userMapper.findByEmail(email);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] User findByEmail - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "findByEmail", System.nanoTime() - startTime);
 
         if (user == null) {
             throw new RuntimeException("사용자를 찾을 수 없습니다. 이메일: " + email);
@@ -86,11 +107,9 @@ public class UserMyBatisService {
      * 사용자명으로 사용자 조회
      */
     public UserResponseDto findByUsername(String username) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         User user = userMapper.findByUsername(username);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] User findByUsername - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "findByUsername", System.nanoTime() - startTime);
 
         if (user == null) {
             throw new RuntimeException("사용자를 찾을 수 없습니다. 사용자명: " + username);
@@ -102,7 +121,7 @@ public class UserMyBatisService {
      * 페이징 조회
      */
     public PageDto<UserSimpleDto> findAllWithPaging(int page, int size, String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         int offset = page * size;
         List<User> users = userMapper.findAllWithPagingAndSorting(offset, size, sortBy, sortDirection);
@@ -111,10 +130,7 @@ public class UserMyBatisService {
         List<User> allUsers = userMapper.findAll();
         long totalElements = allUsers.size();
 
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] User findAllWithPaging - 실행시간: {}ms, 결과 수: {}/{}",
-                endTime - startTime, users.size(), totalElements);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "findAllWithPaging", System.nanoTime() - startTime);
 
         List<UserSimpleDto> content = users.stream()
                 .map(UserSimpleDto::from)
@@ -123,16 +139,34 @@ public class UserMyBatisService {
         return PageDto.of(content, page, size, totalElements);
     }
 
+    /**
+     * 키셋(커서) 페이징 조회
+     * OFFSET 없이 마지막 (정렬 값, ID) 이후부터 조회하므로 페이지가 깊어져도 응답 시간이 일정함
+     */
+    public CursorPageDto<UserSimpleDto> findAllWithCursor(String after, int size, String sortBy, String sortDirection) {
+        long startTime = System.nanoTime();
+
+        String cursorSortBy = User.KEYSET_SORT.resolve(sortBy);
+        String direction = KeysetSort.direction(sortDirection);
+        KeysetCursor cursor = User.KEYSET_SORT.decode(after, size, cursorSortBy, direction);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<User> users = userMapper.findAllWithKeyset(User.KEYSET_SORT.column(cursorSortBy), direction,
+                User.KEYSET_SORT.sortValueOf(cursor), cursor != null ? cursor.getId() : null, size + 1);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "findAllWithCursor", System.nanoTime() - startTime);
+
+        return CursorPageDto.of(users, size,
+                User.KEYSET_SORT.cursorOf(cursorSortBy, direction),
+                UserSimpleDto::from);
+    }
+
     /**
      * 정렬 조회
      */
     public List<UserSimpleDto> findAllWithSorting(String sortBy, String sortDirection) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         List<User> users = userMapper.findAllWithSorting(sortBy, sortDirection);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] User findAllWithSorting - 실행시간: {}ms, 결과 수: {}",
-                endTime - startTime, users.size());
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "findAllWithSorting", System.nanoTime() - startTime);
 
         return users.stream()
                 .map(UserSimpleDto::from)
@@ -143,11 +177,9 @@ public class UserMyBatisService {
      * 프로필 정보와 함께 사용자 조회
      */
     public UserResponseDto findUserWithProfile(Long userId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         User user = userMapper.findUserWithProfile(userId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] User findUserWithProfile - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "findUserWithProfile", System.nanoTime() - startTime);
 
         if (user == null) {
             throw new RuntimeException("사용자를 찾을 수 없습니다. ID: " + userId);
@@ -159,11 +191,9 @@ public class UserMyBatisService {
      * 주소 정보와 함께 사용자 조회
      */
     public UserResponseDto findUserWithAddresses(Long userId) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         User user = userMapper.findUserWithAddresses(userId);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] User findUserWithAddresses - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "findUserWithAddresses", System.nanoTime() - startTime);
 
         if (user == null) {
             throw new RuntimeException("사용자를 찾을 수 없습니다. ID: " + userId);
@@ -175,7 +205,7 @@ public class UserMyBatisService {
      * 검색 조건으로 사용자 검색
      */
     public PageDto<UserSimpleDto> searchUsers(UserSearchDto searchDto, int page, int size) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         int offset = page * size;
         String sortBy = searchDto.getSortBy() != null ? searchDto.getSortBy() : "id";
@@ -184,10 +214,7 @@ public class UserMyBatisService {
         List<User> users = userMapper.searchUsers(searchDto, offset, size, sortBy, sortDirection);
         int totalCount = userMapper.countBySearchDto(searchDto);
 
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] User searchUsers - 실행시간: {}ms, 결과 수: {}/{}",
-                endTime - startTime, users.size(), totalCount);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "searchUsers", System.nanoTime() - startTime);
 
         List<UserSimpleDto> content = users.stream()
                 .map(UserSimpleDto::from)
@@ -201,14 +228,12 @@ public class UserMyBatisService {
      */
     @Transactional
     public UserResponseDto createUser(UserRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         User user = requestDto.toEntity();
         userMapper.insert(user);
 
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] User createUser - 실행시간: {}ms", endTime - startTime);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "createUser", System.nanoTime() - startTime);
 
         return UserResponseDto.fromEntity(user);
     }
@@ -218,7 +243,7 @@ public class UserMyBatisService {
      */
     @Transactional
     public UserResponseDto updateUser(Long id, UserRequestDto requestDto) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         User existingUser = userMapper.findById(id);
         if (existingUser == null) {
@@ -234,9 +259,8 @@ public class UserMyBatisService {
         }
 
         userMapper.update(existingUser);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] User updateUser - 실행시간: {}ms", endTime - startTime);
+        userNearCache.invalidate(id);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "updateUser", System.nanoTime() - startTime);
 
         return UserResponseDto.fromEntity(existingUser);
     }
@@ -246,7 +270,7 @@ public class UserMyBatisService {
      */
     @Transactional
     public void deleteUser(Long id) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         User user = userMapper.findById(id);
         if (user == null) {
@@ -254,8 +278,7 @@ public class UserMyBatisService {
         }
 
         userMapper.deleteById(id);
-        long endTime = System.currentTimeMillis();
-
-        log.info("[MyBatis] User deleteUser - 실행시간: {}ms", endTime - startTime);
+        userNearCache.invalidate(id);
+        latencyMetrics.record(OrmTechnique.MYBATIS, "User", "deleteUser", System.nanoTime() - startTime);
     }
 }
\ No newline at end of file
@@ -6,14 +6,19 @@ import com.benchmark.orm.domain.user.dto.UserSearchDto;
 import com.benchmark.orm.domain.user.entity.User;
 import com.benchmark.orm.domain.user.mapper.UserMapper;
 import com.benchmark.orm.domain.user.repository.UserRepository;
+import com.benchmark.orm.global.cache.NearCache;
+import com.benchmark.orm.global.concurrency.SingleFlight;
+import com.benchmark.orm.global.metrics.OrmTechnique;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -28,6 +33,8 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final NearCache<UserResponseDto> userNearCache;
+    private final SingleFlight singleFlight;
 
     @Override
     @Transactional
@@ -46,15 +53,24 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Optional<UserResponseDto> findUserByIdJpa(Long id) {
-        return userRepository.findById(id)
-                .map(UserResponseDto::fromEntity);
+        // 캐시 적중은 트랜잭션 없이 바로 반환하고, 미스일 때만 같은 ID 조회를 병합해 읽기 전용 트랜잭션에서 조회
+        return Optional.ofNullable(userNearCache.get(OrmTechnique.JPA, id, key ->
+                singleFlight.execute(OrmTechnique.JPA, "User", "findById", key, () ->
+                        userRepository.findById(key)
+                                .map(UserResponseDto::fromEntity)
+                                .orElse(null))));
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public UserResponseDto findUserByIdMyBatis(Long id) {
-        User user = userMapper.findById(id);
-        return user != null ? UserResponseDto.fromEntity(user) : null;
+        return userNearCache.get(OrmTechnique.MYBATIS, id, key ->
+                singleFlight.execute(OrmTechnique.MYBATIS, "User", "findById", key, () -> {
+                    User user = userMapper.findById(key);
+                    return user != null ? UserResponseDto.fromEntity(user) : null;
+                }));
     }
 
     @Override
@@ -201,7 +217,13 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Page<UserResponseDto> searchUsersJpql(UserSearchDto searchDto, Pageable pageable) {
+        return singleFlight.execute(OrmTechnique.JPA, "User", "searchJpql", Arrays.asList(searchDto, pageable),
+                () -> loadUsersJpql(searchDto, pageable));
+    }
+
+    private Page<UserResponseDto> loadUsersJpql(UserSearchDto searchDto, Pageable pageable) {
         // JPQL 방식으로 검색
         Page<User> userPage = userRepository.searchUsersJpql(
                 searchDto.getKeyword(),
@@ -217,7 +239,13 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Page<UserResponseDto> searchUsersQueryDsl(UserSearchDto searchDto, Pageable pageable) {
+        return singleFlight.execute(OrmTechnique.JPA, "User", "searchQueryDsl", Arrays.asList(searchDto, pageable),
+                () -> loadUsersQueryDsl(searchDto, pageable));
+    }
+
+    private Page<UserResponseDto> loadUsersQueryDsl(UserSearchDto searchDto, Pageable pageable) {
         // QueryDSL 방식으로 검색
         Page<User> userPage = userRepository.searchUsers(searchDto, pageable);
 
@@ -229,8 +257,16 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Page<UserResponseDto> searchUsersMyBatis(UserSearchDto searchDto, int offset, int limit,
                                                     String sortColumn, String sortDirection) {
+        return singleFlight.execute(OrmTechnique.MYBATIS, "User", "search",
+                Arrays.asList(searchDto, offset, limit, sortColumn, sortDirection),
+                () -> loadUsersMyBatis(searchDto, offset, limit, sortColumn, sortDirection));
+    }
+
+    private Page<UserResponseDto> loadUsersMyBatis(UserSearchDto searchDto, int offset, int limit,
+                                                   String sortColumn, String sortDirection) {
         // MyBatis 방식으로 검색
         List<User> users = userMapper.searchUsers(searchDto, offset, limit, sortColumn, sortDirection);
 
@@ -254,6 +290,7 @@ public class UserServiceImpl implements UserService {
 
                     // 업데이트된 유저 저장
                     User savedUser = userRepository.save(updatedUser);
+                    userNearCache.invalidate(id);
                     return UserResponseDto.fromEntity(savedUser);
                 })
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
@@ -271,6 +308,7 @@ public class UserServiceImpl implements UserService {
         // ID 설정하여 새 엔티티로 변환
         User updatedUser = userDto.toEntity();
         userMapper.update(updatedUser);
+        userNearCache.invalidate(id);
 
         return "User updated successfully with MyBatis";
     }
@@ -281,6 +319,7 @@ public class UserServiceImpl implements UserService {
         return userRepository.findById(id)
                 .map(user -> {
                     userRepository.deleteById(id);
+                    userNearCache.invalidate(id);
                     return "User deleted successfully with JPA";
                 })
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
@@ -296,6 +335,7 @@ public class UserServiceImpl implements UserService {
         }
 
         userMapper.deleteById(id);
+        userNearCache.invalidate(id);
         return "User deleted successfully with MyBatis";
     }
 }
\ No newline at end of file
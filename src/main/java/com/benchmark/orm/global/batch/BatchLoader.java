@@ -0,0 +1,246 @@
+package com.benchmark.orm.global.batch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * ID 단건 조회를 모아 IN 절 한 번으로 조회하는 로더 (DataLoader 방식)
+ * <p>
+ * load()는 ID를 대기 목록에 넣고 Future를 바로 반환하며, dispatch() 시점에 대기 중인 ID를
+ * maxBatchSize 단위로 나눠 batchFunction(WHERE id IN (...))으로 조회해 Future를 완료함
+ * 반환된 Future의 join()/get()을 호출하면 아직 조회하지 않은 ID를 먼저 dispatch하므로,
+ * 필요한 ID를 모두 load()한 뒤 결과를 꺼내면 쿼리가 한 번(또는 나눈 수만큼)만 실행됨
+ * 같은 ID는 로더가 살아 있는 동안 한 번만 조회함 (없는 ID는 null로 완료)
+ * <p>
+ * 요청 하나(한 스레드)에서만 사용하므로 스레드 안전하지 않음
+ * 로더는 BatchLoaderRegistry에서 얻음
+ *
+ * @param <V> 조회할 엔티티 타입
+ */
+public class BatchLoader<V> {
+
+    private final String name;
+    private final Function<Collection<Long>, ? extends Collection<V>> batchFunction;
+    private final Function<V, Long> idExtractor;
+    private final int maxBatchSize;
+
+    private final Map<Long, LoaderFuture> futures = new HashMap<>();
+    private final Set<Long> pending = new LinkedHashSet<>();
+    private int batchCount;
+
+    /**
+     * @param name 로더 이름 (예외 메시지용)
+     * @param batchFunction ID 목록으로 엔티티를 조회하는 함수 (JPA findAllById, MyBatis findByIds 등)
+     * @param idExtractor 조회된 엔티티의 ID
+     * @param maxBatchSize IN 절 하나에 담을 최대 ID 수
+     */
+    public BatchLoader(String name, Function<Collection<Long>, ? extends Collection<V>> batchFunction,
+                       Function<V, Long> idExtractor, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new RuntimeException("IN 절 최대 ID 수는 1 이상이어야 합니다: " + maxBatchSize);
+        }
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.idExtractor = idExtractor;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * ID 조회 예약
+     *
+     * @param id 엔티티 ID (null이면 null로 완료된 Future 반환)
+     * @return 조회 결과 Future (없는 ID는 null로 완료)
+     */
+    public CompletableFuture<V> load(Long id) {
+        if (id == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return futures.computeIfAbsent(id, key -> {
+            pending.add(key);
+            return new LoaderFuture();
+        });
+    }
+
+    /**
+     * 여러 ID 조회 예약
+     *
+     * @param ids 엔티티 ID 목록
+     * @return ID 순서대로의 조회 결과 Future (없는 ID는 null)
+     */
+    public CompletableFuture<List<V>> loadMany(Collection<Long> ids) {
+        List<CompletableFuture<V>> loads = ids.stream().map(this::load).toList();
+        return new ManyFuture(loads);
+    }
+
+    /**
+     * ID 하나 조회 (대기 중인 다른 ID와 함께 조회)
+     *
+     * @return 엔티티, 없으면 null
+     */
+    public V get(Long id) {
+        try {
+            return load(id).join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * 여러 ID 조회 (대기 중인 다른 ID와 함께 조회)
+     *
+     * @return ID별 엔티티 (없는 ID는 제외, 요청 순서)
+     */
+    public Map<Long, V> getAll(Collection<Long> ids) {
+        ids.forEach(this::load);
+        dispatch();
+        Map<Long, V> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            V value = get(id);
+            if (value != null) {
+                result.put(id, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 대기 중인 모든 ID 조회
+     * ID를 maxBatchSize 단위로 나눠 IN 절 조회를 실행하고, 실패한 묶음의 Future는 예외로 완료함
+     * (실패한 ID는 기억하지 않으므로 다시 load()하면 재조회함)
+     */
+    public void dispatch() {
+        while (!pending.isEmpty()) {
+            List<Long> ids = new ArrayList<>(pending);
+            pending.clear();
+            for (int from = 0; from < ids.size(); from += maxBatchSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + maxBatchSize, ids.size()));
+                dispatchChunk(chunk);
+            }
+        }
+    }
+
+    /**
+     * 지금까지 실행한 IN 절 조회 수
+     */
+    public int getBatchCount() {
+        return batchCount;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void dispatchChunk(List<Long> chunk) {
+        Map<Long, V> valueById = new HashMap<>();
+        try {
+            batchCount++;
+            for (V value : batchFunction.apply(chunk)) {
+                valueById.put(idExtractor.apply(value), value);
+            }
+        } catch (RuntimeException e) {
+            RuntimeException failure = new RuntimeException("ID 일괄 조회에 실패했습니다: " + name, e);
+            for (Long id : chunk) {
+                futures.remove(id).completeExceptionally(failure);
+            }
+            return;
+        }
+        for (Long id : chunk) {
+            futures.get(id).complete(valueById.get(id));
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new RuntimeException(cause);
+    }
+
+    /**
+     * 결과를 꺼낼 때 아직 조회하지 않았으면 대기 중인 ID를 먼저 조회하는 Future
+     */
+    private class LoaderFuture extends CompletableFuture<V> {
+
+        @Override
+        public V join() {
+            dispatchIfPending();
+            return super.join();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            dispatchIfPending();
+            return super.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            dispatchIfPending();
+            return super.get(timeout, unit);
+        }
+
+        private void dispatchIfPending() {
+            if (!isDone()) {
+                dispatch();
+            }
+        }
+    }
+
+    /**
+     * 여러 Future의 결과를 ID 순서대로 모으는 Future
+     */
+    private class ManyFuture extends CompletableFuture<List<V>> {
+
+        private final List<CompletableFuture<V>> loads;
+
+        private ManyFuture(List<CompletableFuture<V>> loads) {
+            this.loads = loads;
+        }
+
+        @Override
+        public List<V> join() {
+            collect();
+            return super.join();
+        }
+
+        @Override
+        public List<V> get() throws InterruptedException, ExecutionException {
+            collect();
+            return super.get();
+        }
+
+        @Override
+        public List<V> get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            collect();
+            return super.get(timeout, unit);
+        }
+
+        private void collect() {
+            if (isDone()) {
+                return;
+            }
+            dispatch();
+            try {
+                List<V> values = new ArrayList<>(loads.size());
+                for (CompletableFuture<V> load : loads) {
+                    values.add(load.join());
+                }
+                complete(values);
+            } catch (CompletionException e) {
+                completeExceptionally(e.getCause());
+            }
+        }
+    }
+}
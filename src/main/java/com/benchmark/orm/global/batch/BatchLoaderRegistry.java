@@ -0,0 +1,121 @@
+package com.benchmark.orm.global.batch;
+
+import com.benchmark.orm.global.metrics.OrmTechnique;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.Value;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 요청 범위 BatchLoader 제공
+ * <p>
+ * HTTP 요청마다 BatchLoaderScopeFilter가 범위를 열고 닫으며, 범위 안에서는 (엔티티, 기술)별로 같은 로더를 돌려주므로
+ * 요청 처리 중 여러 곳에서 load()한 ID가 한 번에 조회되고 같은 ID는 다시 조회하지 않음
+ * 트랜잭션 안에서 만든 로더는 트랜잭션이 끝나면 범위에서 빠짐 (JPA 엔티티가 영속성 컨텍스트보다 오래 재사용되지 않도록)
+ * 범위가 열리지 않은 스레드(테스트, 배치, 벤치마크 등)에서는 호출할 때마다 새 로더를 만듦
+ * 범위 안의 로더는 처음 만든 호출자의 조회 함수를 쓰므로 같은 (엔티티, 기술)에는 같은 조회 함수를 넘겨야 함
+ * <p>
+ * IN 절 하나에 담을 최대 ID 수는 benchmark.batch-loader.max-batch-size(기본 1000)와
+ * 현재 Hibernate 방언의 IN 목록 제한(Oracle 1000 등, 제한이 없으면 0) 중 작은 값
+ */
+@Component
+public class BatchLoaderRegistry {
+
+    private static final ThreadLocal<Map<Key, BatchLoader<?>>> SCOPE = new ThreadLocal<>();
+
+    private final int maxBatchSize;
+
+    public BatchLoaderRegistry(EntityManagerFactory entityManagerFactory,
+                               @org.springframework.beans.factory.annotation.Value("${benchmark.batch-loader.max-batch-size:1000}") int maxBatchSize) {
+        int dialectLimit = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getInExpressionCountLimit();
+        this.maxBatchSize = dialectLimit > 0 ? Math.min(dialectLimit, maxBatchSize) : maxBatchSize;
+    }
+
+    /**
+     * 현재 스레드에서 새 로더 범위 시작 (진행 중인 범위가 있으면 대체)
+     */
+    public static void openScope() {
+        SCOPE.set(new HashMap<>());
+    }
+
+    /**
+     * 현재 스레드의 로더 범위 종료
+     */
+    public static void closeScope() {
+        SCOPE.remove();
+    }
+
+    /**
+     * 엔티티 로더 조회 (범위 안에서는 같은 엔티티/기술에 같은 로더)
+     *
+     * @param entity 엔티티 이름 (예: Product)
+     * @param technique 조회 기술
+     * @param batchFunction ID 목록 조회 함수 (예: productRepository::findAllById, productMapper::findByIds)
+     * @param idExtractor 엔티티 ID 함수 (예: Product::getId)
+     * @return 로더
+     */
+    @SuppressWarnings("unchecked")
+    public <V> BatchLoader<V> loader(String entity, OrmTechnique technique,
+                                     Function<Collection<Long>, ? extends Collection<V>> batchFunction,
+                                     Function<V, Long> idExtractor) {
+        Map<Key, BatchLoader<?>> scope = SCOPE.get();
+        if (scope == null) {
+            return new BatchLoader<>(entity + "." + technique, batchFunction, idExtractor, maxBatchSize);
+        }
+
+        Key key = new Key(entity, technique);
+        BatchLoader<?> loader = scope.get(key);
+        if (loader == null) {
+            loader = new BatchLoader<>(entity + "." + technique, batchFunction, idExtractor, maxBatchSize);
+            scope.put(key, loader);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                BatchLoader<?> created = loader;
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        scope.remove(key, created);
+                    }
+                });
+            }
+        }
+        return (BatchLoader<V>) loader;
+    }
+
+    /**
+     * IN 절 하나에 담을 최대 ID 수
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * ID 목록을 IN 절 하나에 담을 수 있는 크기(getMaxBatchSize() 이하)의 묶음으로 나눔
+     * 로더를 거치지 않고 ID 목록으로 직접 IN 절을 만드는 조회(주문 총액 집계 등)용
+     *
+     * @param ids ID 목록
+     * @return 원본 목록의 부분 목록들 (ID가 없으면 빈 목록)
+     */
+    public List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += maxBatchSize) {
+            chunks.add(ids.subList(from, Math.min(from + maxBatchSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    @Value
+    private static class Key {
+        String entity;
+        OrmTechnique technique;
+    }
+}
@@ -0,0 +1,28 @@
+package com.benchmark.orm.global.batch;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나를 BatchLoader 범위로 감싸는 필터
+ */
+@Component
+public class BatchLoaderScopeFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        BatchLoaderRegistry.openScope();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            BatchLoaderRegistry.closeScope();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.benchmark.orm.global.cache;
+
+import org.apache.ibatis.cache.Cache;
+
+/**
+ * JCache(JSR-107) 캐시를 MyBatis 매퍼 캐시로 사용하는 어댑터
+ * <p>
+ * 매퍼 XML의 cache-ref가 이 캐시를 가리키면 조회 결과가 Hibernate 2차 캐시와 같은 CacheManager에 저장되어
+ * 만료/크기 정책과 적중률 통계(/api/metrics/cache)를 함께 사용함
+ * <p>
+ * clear()는 같은 캐시를 쓰는 INSERT/UPDATE/DELETE가 커밋될 때 호출되며, onClear로 연관된 다른 캐시도 함께 비움
+ * CacheManager가 값을 직렬화해 복사하므로 호출자마다 별도 인스턴스를 받음 (&lt;cache readOnly="false"&gt;와 같은 의미)
+ */
+public class JCacheMyBatisCache implements Cache {
+
+    private final javax.cache.Cache<Object, Object> cache;
+    private final Runnable onClear;
+
+    public JCacheMyBatisCache(javax.cache.Cache<Object, Object> cache, Runnable onClear) {
+        this.cache = cache;
+        this.onClear = onClear;
+    }
+
+    @Override
+    public String getId() {
+        return cache.getName();
+    }
+
+    @Override
+    public void putObject(Object key, Object value) {
+        // TransactionalCache는 커밋 시 조회에 실패한 키를 null 값으로 넣지만, JCache는 null 값을 허용하지 않음
+        if (value != null) {
+            cache.put(key, value);
+        }
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        return cache.get(key);
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        return cache.getAndRemove(key);
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+        onClear.run();
+    }
+
+    @Override
+    public int getSize() {
+        int size = 0;
+        for (javax.cache.Cache.Entry<Object, Object> ignored : cache) {
+            size++;
+        }
+        return size;
+    }
+}
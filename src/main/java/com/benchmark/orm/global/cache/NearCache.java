@@ -0,0 +1,202 @@
+package com.benchmark.orm.global.cache;
+
+import com.benchmark.orm.global.dto.NearCacheStatisticsDto;
+import com.benchmark.orm.global.metrics.OrmTechnique;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Value;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * ID 단건 조회 응답 DTO의 노드 로컬 캐시 (near-cache)
+ * <p>
+ * DTO 객체 그래프 대신 Smile(바이너리 JSON)로 직렬화한 byte[]를 저장해 힙 사용량을 줄이고, 전체 바이트 수(maxBytes)로 크기를 제한함
+ * 응답 DTO에는 setter가 없으므로 getter 대신 필드를 그대로 읽고 씀
+ * 제거 정책은 Caffeine의 W-TinyLFU로, 한 번만 조회된 ID가 자주 조회되는 ID를 밀어내지 않음
+ * 적중 시에는 매번 역직렬화하므로 호출자마다 새 DTO를 받음 (꺼낸 DTO를 수정해도 캐시에 영향 없음)
+ * JPA와 MyBatis는 연관관계 로딩 범위가 달라 같은 ID라도 DTO 내용이 다를 수 있으므로 기술별로 따로 저장함
+ * <p>
+ * 변경/삭제 시 invalidate()로 항목을 지우고, 트랜잭션 안에서는 종료 시점에 한 번 더 지움
+ * 조회 결과는 트랜잭션이 커밋된 경우에만 저장하며, 조회 도중 같은 캐시에 무효화가 있었다면 저장하지 않음
+ * DTO에 포함된 다른 엔티티(브랜드, 사용자 등)의 변경은 ttl이 지나야 반영됨
+ *
+ * @param <V> 캐시할 응답 DTO 타입
+ */
+public class NearCache<V> {
+
+    private static final ObjectMapper OBJECT_MAPPER = SmileMapper.builder()
+            .addModule(new JavaTimeModule())
+            .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final String name;
+    private final long maxBytes;
+    private final Cache<Key, byte[]> cache;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final AtomicLong version = new AtomicLong();
+    private volatile CacheStats baseline = CacheStats.empty();
+
+    /**
+     * @param name 캐시 이름 (통계 조회용)
+     * @param type 캐시할 DTO 타입
+     * @param maxBytes 저장된 byte[] 합계 상한
+     * @param ttl 저장 후 만료 시간
+     */
+    public NearCache(String name, Class<V> type, long maxBytes, Duration ttl) {
+        this.name = name;
+        this.maxBytes = maxBytes;
+        this.reader = OBJECT_MAPPER.readerFor(type);
+        this.writer = OBJECT_MAPPER.writerFor(type);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, byte[] bytes) -> bytes.length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에서 조회하고, 없으면 loader로 조회해 저장
+     *
+     * @param technique 조회에 사용한 기술
+     * @param id 엔티티 ID
+     * @param loader 캐시에 없을 때 DTO를 조회하는 함수 (없으면 null 반환, null은 저장하지 않음)
+     * @return 응답 DTO, 없으면 null
+     */
+    public V get(OrmTechnique technique, Long id, Function<Long, V> loader) {
+        Key key = new Key(technique, id);
+        byte[] bytes = cache.getIfPresent(key);
+        if (bytes != null) {
+            return deserialize(bytes);
+        }
+
+        long startVersion = version.get();
+        V value = loader.apply(id);
+        if (value != null) {
+            put(key, serialize(value), startVersion);
+        }
+        return value;
+    }
+
+    /**
+     * 항목 제거 (변경/삭제 후 호출, 모든 기술의 항목을 지움)
+     */
+    public void invalidate(Long id) {
+        Runnable invalidation = () -> {
+            version.incrementAndGet();
+            for (OrmTechnique technique : OrmTechnique.values()) {
+                cache.invalidate(new Key(technique, id));
+            }
+        };
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * 모든 항목 제거
+     */
+    public void invalidateAll() {
+        version.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @param reset 조회 후 통계를 초기화할지 여부 (캐시 내용은 유지)
+     */
+    public NearCacheStatisticsDto snapshot(boolean reset) {
+        CacheStats current = cache.stats();
+        CacheStats stats = current.minus(baseline);
+        if (reset) {
+            baseline = current;
+        }
+
+        long weightedBytes = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+        return NearCacheStatisticsDto.builder()
+                .cache(name)
+                .entries(cache.estimatedSize())
+                .bytes(weightedBytes)
+                .maxBytes(maxBytes)
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .hitPercentage(stats.requestCount() == 0 ? 0 : stats.hitRate() * 100)
+                .evictions(stats.evictionCount())
+                .build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void put(Key key, byte[] bytes, long startVersion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(key, bytes, startVersion);
+                }
+            });
+        } else {
+            store(key, bytes, startVersion);
+        }
+    }
+
+    private void store(Key key, byte[] bytes, long startVersion) {
+        // 조회 도중 무효화가 있었다면 오래된 값일 수 있으므로 저장하지 않음
+        if (version.get() == startVersion) {
+            cache.put(key, bytes);
+        }
+    }
+
+    private byte[] serialize(V value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new RuntimeException("캐시 항목을 직렬화할 수 없습니다: " + name, e);
+        }
+    }
+
+    private V deserialize(byte[] bytes) {
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            throw new RuntimeException("캐시 항목을 역직렬화할 수 없습니다: " + name, e);
+        }
+    }
+
+    @Value
+    private static class Key {
+        OrmTechnique technique;
+        Long id;
+    }
+}
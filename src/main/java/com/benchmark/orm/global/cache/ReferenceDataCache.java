@@ -0,0 +1,147 @@
+package com.benchmark.orm.global.cache;
+
+import com.benchmark.orm.domain.product.entity.Brand;
+import com.benchmark.orm.domain.product.entity.Category;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 브랜드/카테고리 참조 데이터 캐시
+ * <p>
+ * 브랜드와 카테고리는 작고 거의 바뀌지 않지만 상품 조회/저장마다 다시 읽히므로,
+ * 하나의 JCache CacheManager(SecondLevelCacheConfig)에 세 종류의 캐시를 둠
+ * - Hibernate 2차 캐시: 엔티티 영역(ID 조회)
+ * - 이름 캐시: 이름 → ID (이름 조회는 ID를 찾은 뒤 엔티티 영역에서 읽음, 이름이 같으면 ID가 가장 작은 행)
+ * - MyBatis 매퍼 캐시: BrandMapper.xml, CategoryMapper.xml의 cache-ref가 가리키는 조회 결과 캐시
+ * 2차 캐시는 NONSTRICT_READ_WRITE 전략으로, 변경 시 락 없이 항목을 지우고 커밋 후 한 번 더 지움
+ * (거의 바뀌지 않는 참조 데이터라 soft lock 비용 없이 읽기 성능을 우선함)
+ * <p>
+ * 한쪽 기술로 변경하면 다른 쪽 캐시도 함께 비움
+ * - JPA 변경: ReferenceDataCacheListener가 보낸 ReferenceDataChangedEvent로 MyBatis 매퍼 캐시와 이름 캐시를 비움
+ *   (2차 캐시는 Hibernate가 갱신)
+ * - MyBatis 변경: 매퍼 캐시가 비워질 때(INSERT/UPDATE/DELETE 커밋) 2차 캐시 영역과 이름 캐시를 비움
+ * (트랜잭션 안에서는 종료 시점에 한 번 더 비워 커밋 전에 다시 적재된 값이 남지 않도록 함)
+ * JDBC로 직접 변경한 경우에는 evictAll()을 호출해야 함
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    public static final String BRAND_REGION = "brand";
+    public static final String CATEGORY_REGION = "category";
+    public static final String BRAND_NAME_CACHE = "brand.name";
+    public static final String CATEGORY_NAME_CACHE = "category.name";
+    public static final String BRAND_MAPPER_CACHE = "mybatis.brand";
+    public static final String CATEGORY_MAPPER_CACHE = "mybatis.category";
+
+    /**
+     * CacheManager에 미리 만들어 둘 캐시 이름 (모두 같은 TTL/크기 정책 사용)
+     */
+    public static final List<String> CACHE_NAMES = List.of(
+            BRAND_REGION, CATEGORY_REGION, BRAND_NAME_CACHE, CATEGORY_NAME_CACHE,
+            BRAND_MAPPER_CACHE, CATEGORY_MAPPER_CACHE);
+
+    private static final Map<Class<?>, String> NAME_CACHES = Map.of(
+            Brand.class, BRAND_NAME_CACHE,
+            Category.class, CATEGORY_NAME_CACHE);
+
+    private static final Map<Class<?>, String> MAPPER_CACHES = Map.of(
+            Brand.class, BRAND_MAPPER_CACHE,
+            Category.class, CATEGORY_MAPPER_CACHE);
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ReferenceDataCache(CacheManager cacheManager, EntityManagerFactory entityManagerFactory) {
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * 이름으로 ID 조회 (없으면 loader로 조회해 저장, 없는 이름은 저장하지 않음)
+     *
+     * @param entityType 엔티티 타입 (Brand, Category)
+     * @param name 이름
+     * @param loader 캐시에 없을 때 DB에서 ID를 조회하는 함수 (없으면 null 반환)
+     * @return ID, 없으면 null
+     */
+    public Long findIdByName(Class<?> entityType, String name, Supplier<Long> loader) {
+        javax.cache.Cache<Object, Object> cache = cacheManager.getCache(NAME_CACHES.get(entityType));
+        Long id = (Long) cache.get(name);
+        if (id == null) {
+            id = loader.get();
+            if (id != null) {
+                cache.put(name, id);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * JPA로 변경된 엔티티의 캐시 비우기 (ReferenceDataCacheListener가 보낸 이벤트)
+     */
+    @EventListener
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        evictMapperCache(event.getEntityType());
+    }
+
+    /**
+     * JPA로 변경된 엔티티의 MyBatis 매퍼 캐시와 이름 캐시 비우기
+     *
+     * @param entityType 변경된 엔티티 타입 (Brand, Category)
+     */
+    public void evictMapperCache(Class<?> entityType) {
+        String cacheName = MAPPER_CACHES.get(entityType);
+        if (cacheName != null) {
+            evict(() -> {
+                cacheManager.getCache(cacheName).clear();
+                cacheManager.getCache(NAME_CACHES.get(entityType)).clear();
+            });
+        }
+    }
+
+    /**
+     * MyBatis로 변경된 엔티티의 2차 캐시 영역과 이름 캐시 비우기
+     *
+     * @param entityType 변경된 엔티티 타입 (Brand, Category)
+     */
+    public void evictEntityRegion(Class<?> entityType) {
+        evict(() -> {
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictEntityData(entityType);
+            cacheManager.getCache(NAME_CACHES.get(entityType)).clear();
+        });
+    }
+
+    /**
+     * 브랜드/카테고리의 모든 캐시 비우기 (JDBC 일괄 적재 등 ORM을 거치지 않은 변경 후 호출)
+     */
+    public void evictAll() {
+        for (Class<?> entityType : MAPPER_CACHES.keySet()) {
+            evictEntityRegion(entityType);
+            evictMapperCache(entityType);
+        }
+        log.debug("[ReferenceData] 브랜드/카테고리 캐시 전체 무효화");
+    }
+
+    private void evict(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.benchmark.orm.global.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Brand/Category 엔티티 변경 시 ReferenceDataChangedEvent를 보내는 JPA 엔티티 리스너
+ * <p>
+ * 엔티티가 캐시/서비스를 직접 참조하지 않도록 이벤트로만 알리며, 받는 쪽이 각자 캐시를 비움
+ * - ReferenceDataCache: MyBatis 매퍼 캐시와 이름 캐시 (2차 캐시는 Hibernate가 직접 갱신)
+ * - CategoryHierarchy: 카테고리 트리 스냅샷
+ * Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 의존성 주입이 가능하며,
+ * 컨테이너 없이 생성된 경우에는 아무 동작도 하지 않음
+ */
+public class ReferenceDataCacheListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent(Hibernate.getClass(entity)));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.benchmark.orm.global.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 브랜드/카테고리가 JPA로 변경되었음을 알리는 이벤트 (ReferenceDataCacheListener가 발행)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReferenceDataChangedEvent {
+
+    /**
+     * 변경된 엔티티 타입 (Brand, Category)
+     */
+    private final Class<?> entityType;
+}
@@ -0,0 +1,184 @@
+package com.benchmark.orm.global.concurrency;
+
+import com.benchmark.orm.global.dto.SingleFlightStatisticsDto;
+import com.benchmark.orm.global.metrics.OrmTechnique;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일 조회 동시 요청 병합 (single-flight)
+ * <p>
+ * 같은 (기술, 엔티티, 작업, 인자) 조회가 이미 실행 중이면 새로 쿼리하지 않고 실행 중인 조회의 결과(또는 예외)를 함께 받음
+ * 결과는 실행이 끝나는 즉시 목록에서 빠지므로 완료 후에 들어온 요청은 다시 조회함 (캐시가 아님)
+ * 대기는 benchmark.single-flight.max-wait까지만 하고, 넘으면 직접 조회함
+ * <p>
+ * 먼저 들어온 요청이 자신의 읽기 전용 트랜잭션에서 조회하므로, 호출하는 서비스 메서드는 트랜잭션 없이(SUPPORTS) 호출되어야
+ * 대기하는 요청이 커넥션을 잡고 있지 않음
+ * 호출자가 이미 트랜잭션 안에 있으면(자신이 변경한 내용을 읽어야 할 수 있음) 병합하지 않고 그 트랜잭션에서 바로 조회함
+ * 병합된 요청은 같은 결과 객체를 공유하므로 결과를 수정하면 안 됨
+ */
+@Component
+public class SingleFlight {
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final long maxWaitNanos;
+
+    private final ConcurrentMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key, Counter> counters = new ConcurrentHashMap<>();
+
+    public SingleFlight(PlatformTransactionManager transactionManager,
+                        @org.springframework.beans.factory.annotation.Value("${benchmark.single-flight.enabled:true}") boolean enabled,
+                        @org.springframework.beans.factory.annotation.Value("${benchmark.single-flight.max-wait:2s}") Duration maxWait) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * 조회 실행 (같은 조회가 실행 중이면 그 결과를 기다림)
+     *
+     * @param technique 데이터 접근 기술
+     * @param entity 엔티티 이름 (예: Product)
+     * @param operation 작업 이름 (예: findById)
+     * @param argument 조회 인자 (equals/hashCode로 같은 조회인지 판단, 여러 개면 Arrays.asList로 묶음)
+     * @param loader 실제 조회 함수
+     * @return 조회 결과 (병합된 요청끼리 같은 객체)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(OrmTechnique technique, String entity, String operation, Object argument, Supplier<T> loader) {
+        Counter counter = counters.computeIfAbsent(new Key(entity, operation, technique), key -> new Counter());
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            counter.executed.increment();
+            return loader.get();
+        }
+
+        FlightKey flightKey = new FlightKey(technique, entity, operation, argument);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing == null) {
+            counter.executed.increment();
+            return (T) lead(flightKey, flight, loader);
+        }
+
+        try {
+            Object result = existing.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            counter.collapsed.increment();
+            return (T) result;
+        } catch (TimeoutException e) {
+            // 실행 중인 조회가 너무 오래 걸리면 기다리지 않고 직접 조회
+            counter.timeouts.increment();
+            counter.executed.increment();
+            return readOnlyTransaction.execute(status -> loader.get());
+        } catch (ExecutionException e) {
+            counter.collapsed.increment();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("병합된 조회가 실패했습니다: " + entity + "." + operation, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("병합된 조회를 기다리는 중 인터럽트되었습니다: " + entity + "." + operation, e);
+        }
+    }
+
+    /**
+     * 작업별 병합 통계 조회
+     *
+     * @param reset 조회 후 통계를 초기화할지 여부
+     * @return 엔티티, 작업, 기술 순으로 정렬된 통계 목록
+     */
+    public List<SingleFlightStatisticsDto> snapshot(boolean reset) {
+        List<SingleFlightStatisticsDto> snapshots = new ArrayList<>();
+        for (Map.Entry<Key, Counter> e : counters.entrySet()) {
+            Key key = e.getKey();
+            Counter counter = e.getValue();
+            long executed = reset ? counter.executed.sumThenReset() : counter.executed.sum();
+            long collapsed = reset ? counter.collapsed.sumThenReset() : counter.collapsed.sum();
+            long timeouts = reset ? counter.timeouts.sumThenReset() : counter.timeouts.sum();
+            long total = executed + collapsed;
+            snapshots.add(SingleFlightStatisticsDto.builder()
+                    .entity(key.getEntity())
+                    .operation(key.getOperation())
+                    .technique(key.getTechnique())
+                    .executed(executed)
+                    .collapsed(collapsed)
+                    .timeouts(timeouts)
+                    .collapsedPercentage(total == 0 ? 0 : collapsed * 100.0 / total)
+                    .build());
+        }
+        snapshots.sort(Comparator.comparing(SingleFlightStatisticsDto::getEntity)
+                .thenComparing(SingleFlightStatisticsDto::getOperation)
+                .thenComparing(SingleFlightStatisticsDto::getTechnique));
+        return snapshots;
+    }
+
+    /**
+     * 모든 통계 초기화
+     */
+    public void reset() {
+        counters.values().forEach(counter -> {
+            counter.executed.reset();
+            counter.collapsed.reset();
+            counter.timeouts.reset();
+        });
+    }
+
+    private Object lead(FlightKey flightKey, CompletableFuture<Object> flight, Supplier<?> loader) {
+        Object result;
+        try {
+            result = readOnlyTransaction.execute(status -> loader.get());
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(flightKey, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        // 결과를 알리기 전에 목록에서 빼야 완료 후에 들어온 요청이 이 결과를 재사용하지 않음
+        inFlight.remove(flightKey, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    @Value
+    private static class Key {
+        String entity;
+        String operation;
+        OrmTechnique technique;
+    }
+
+    @Value
+    private static class FlightKey {
+        OrmTechnique technique;
+        String entity;
+        String operation;
+        Object argument;
+    }
+
+    private static class Counter {
+        private final LongAdder executed = new LongAdder();
+        private final LongAdder collapsed = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+    }
+}
@@ -0,0 +1,47 @@
+package com.benchmark.orm.global.config;
+
+import com.benchmark.orm.domain.order.dto.OrderResponseDto;
+import com.benchmark.orm.domain.product.dto.ProductResponseDto;
+import com.benchmark.orm.domain.user.dto.UserResponseDto;
+import com.benchmark.orm.global.cache.NearCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 상품/사용자/주문 ID 단건 조회 응답 DTO near-cache 설정
+ * <p>
+ * 캐시마다 같은 크기/만료 정책을 적용함
+ * - benchmark.cache.near.max-size: 캐시별 저장 바이트 합계 상한 (기본 16MB)
+ * - benchmark.cache.near.ttl: 저장 후 만료 시간, 포함된 연관 엔티티 변경이 반영되는 최대 지연 (기본 5분)
+ */
+@Configuration
+public class NearCacheConfig {
+
+    private final long maxBytes;
+    private final Duration ttl;
+
+    public NearCacheConfig(@Value("${benchmark.cache.near.max-size:16MB}") DataSize maxSize,
+                           @Value("${benchmark.cache.near.ttl:5m}") Duration ttl) {
+        this.maxBytes = maxSize.toBytes();
+        this.ttl = ttl;
+    }
+
+    @Bean
+    public NearCache<ProductResponseDto> productNearCache() {
+        return new NearCache<>("product", ProductResponseDto.class, maxBytes, ttl);
+    }
+
+    @Bean
+    public NearCache<UserResponseDto> userNearCache() {
+        return new NearCache<>("user", UserResponseDto.class, maxBytes, ttl);
+    }
+
+    @Bean
+    public NearCache<OrderResponseDto> orderNearCache() {
+        return new NearCache<>("order", OrderResponseDto.class, maxBytes, ttl);
+    }
+}
@@ -0,0 +1,99 @@
+package com.benchmark.orm.global.config;
+
+import com.benchmark.orm.domain.product.entity.Brand;
+import com.benchmark.orm.domain.product.entity.Category;
+import com.benchmark.orm.global.cache.JCacheMyBatisCache;
+import com.benchmark.orm.global.cache.ReferenceDataCache;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.impl.serialization.PlainJavaSerializer;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.mybatis.spring.boot.autoconfigure.ConfigurationCustomizer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 브랜드/카테고리 참조 데이터 캐시 설정 (JCache + Ehcache 로컬 힙 캐시)
+ * <p>
+ * Hibernate 2차 캐시 영역과 MyBatis 매퍼 캐시를 같은 CacheManager에 만들고,
+ * 모든 캐시에 같은 만료(TTL)/최대 항목 수 정책과 JSR-107 통계를 적용함
+ * 키와 값은 직렬화해 복사하므로(store-by-value) 캐시에 들어가는 값은 Serializable이어야 함
+ * - benchmark.cache.reference-data.ttl: 저장 후 만료 시간 (기본 10분)
+ * - benchmark.cache.reference-data.max-entries: 캐시별 최대 항목 수, 초과 시 적게 쓰인 항목부터 제거 (기본 10,000)
+ * <p>
+ * 테스트/벤치마크에서 한 JVM에 여러 컨텍스트가 떠도 캐시를 공유하지 않도록 컨텍스트마다 별도 URI로 CacheManager를 만듦
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager referenceDataCacheManager(
+            @Value("${benchmark.cache.reference-data.ttl:10m}") Duration ttl,
+            @Value("${benchmark.cache.reference-data.max-entries:10000}") long maxEntries) {
+        EhcacheCachingProvider provider =
+                (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        ClassLoader classLoader = getClass().getClassLoader();
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("reference-data-" + UUID.randomUUID()), new DefaultConfiguration(classLoader));
+
+        CacheConfiguration<Object, Object> configuration = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl))
+                // 저장/조회 시 직렬화해 복사 (호출자마다 별도 인스턴스를 받으므로 꺼낸 Brand/Category를 수정해도 캐시에 영향 없음)
+                .withKeySerializer(new PlainJavaSerializer<>(classLoader))
+                .withValueSerializer(new PlainJavaSerializer<>(classLoader))
+                .withKeySerializingCopier()
+                .withValueSerializingCopier()
+                .build();
+        for (String cacheName : ReferenceDataCache.CACHE_NAMES) {
+            cacheManager.createCache(cacheName, Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+            cacheManager.enableStatistics(cacheName, true);
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate 2차 캐시를 켜고 위 CacheManager를 사용하도록 설정
+     * (@Cache가 붙은 Brand/Category의 엔티티 영역만 캐시됨)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager referenceDataCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, referenceDataCacheManager);
+        };
+    }
+
+    /**
+     * BrandMapper.xml, CategoryMapper.xml의 cache-ref가 참조할 MyBatis 캐시 등록
+     * 매퍼 캐시가 비워지면(MyBatis로 변경) 같은 엔티티의 2차 캐시 영역도 함께 비움
+     */
+    @Bean
+    public ConfigurationCustomizer referenceDataMapperCacheCustomizer(CacheManager referenceDataCacheManager,
+                                                                      ObjectProvider<ReferenceDataCache> referenceDataCache) {
+        return configuration -> {
+            configuration.addCache(new JCacheMyBatisCache(
+                    referenceDataCacheManager.getCache(ReferenceDataCache.BRAND_MAPPER_CACHE),
+                    () -> referenceDataCache.getObject().evictEntityRegion(Brand.class)));
+            configuration.addCache(new JCacheMyBatisCache(
+                    referenceDataCacheManager.getCache(ReferenceDataCache.CATEGORY_MAPPER_CACHE),
+                    () -> referenceDataCache.getObject().evictEntityRegion(Category.class)));
+        };
+    }
+}
@@ -0,0 +1,360 @@
+package com.benchmark.orm.global.dataset;
+
+import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.global.cache.ReferenceDataCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 대용량 벤치마크 데이터 적재기
+ * <p>
+ * save()를 행 단위로 호출하면 IDENTITY 전략 때문에 행마다 왕복이 발생하므로,
+ * JDBC 배치로 batchSize 단위씩 묶어서 INSERT 함
+ * (MySQL은 rewriteBatchedStatements, PostgreSQL은 reWriteBatchedInserts 옵션으로 multi-row INSERT로 변환됨)
+ * <p>
+ * 청크마다 트랜잭션을 커밋하며, 이미 트랜잭션이 있으면 그 트랜잭션에 참여함 (테스트 롤백 가능)
+ * 적재 후 DatasetLoadedEvent를 발행해 상품 검색 결과 캐시, 카테고리 트리, 주문 집계 등이 각자 갱신하도록 함
+ */
+@Slf4j
+@Component
+public class BulkDataLoader {
+
+    private static final LocalDateTime BASE_ORDER_DATE = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int ORDER_DATE_RANGE_MINUTES = 365 * 24 * 60;
+    private static final Order.OrderStatus[] ORDER_STATUSES = Order.OrderStatus.values();
+
+    private static final String BRAND_SQL =
+            "INSERT INTO brand (name, created_at, updated_at) VALUES (?, ?, ?)";
+    private static final String CATEGORY_SQL =
+            "INSERT INTO category (name, created_at, updated_at) VALUES (?, ?, ?)";
+    private static final String PRODUCT_SQL =
+            "INSERT INTO product (name, price, brand_id, category_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String PRODUCT_INDEX_SQL =
+            "INSERT INTO product_index (name, price, brand_id, category_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String PRODUCT_IMAGE_SQL =
+            "INSERT INTO product_image (url, is_thumbnail, product_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String PRODUCT_INDEX_IMAGE_SQL =
+            "INSERT INTO product_index_image (url, is_thumbnail, product_index_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String USER_SQL =
+            "INSERT INTO users (username, email, created_at, updated_at) VALUES (?, ?, ?, ?)";
+    private static final String ORDER_SQL =
+            "INSERT INTO orders (order_date, status, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String ORDER_ITEM_SQL =
+            "INSERT INTO order_items (quantity, order_price, order_id, product_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BulkDataLoader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                          ReferenceDataCache referenceDataCache, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.referenceDataCache = referenceDataCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 전체 데이터셋 적재
+     * 브랜드, 카테고리, 상품(Product/ProductIndex 동일 데이터)과 이미지, 사용자, 주문과 주문 상품을 순서대로 적재
+     *
+     * @param spec 데이터셋 생성 조건
+     * @return 적재 결과
+     */
+    public DatasetLoadReport load(DatasetSpec spec) {
+        long start = System.nanoTime();
+        DatasetLoadReport report = new DatasetLoadReport();
+        Random random = new Random(spec.getSeed());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long[] brandIds = insertNamed(BRAND_SQL, "brand", "테스트 브랜드 ", spec.getBrandCount(), now, report);
+        long[] categoryIds = insertNamed(CATEGORY_SQL, "category", "테스트 카테고리 ", spec.getCategoryCount(), now, report);
+        // JDBC로 직접 넣었으므로 브랜드/카테고리 캐시(2차 캐시, MyBatis 매퍼 캐시)를 비움
+        referenceDataCache.evictAll();
+        ProductKeys products = insertProducts(spec, brandIds, categoryIds, random, now, report);
+        long[] userIds = insertUsers(spec, now, report);
+        insertOrders(spec, userIds, products, random, now, report);
+        // 상품 검색 결과 캐시, 카테고리 트리 비우기와 일자별 주문 집계 재계산
+        eventPublisher.publishEvent(new DatasetLoadedEvent(true, true, true));
+
+        report.finish(System.nanoTime() - start);
+        log.info("[Dataset] 전체 데이터셋 적재 완료 - {}", report);
+        return report;
+    }
+
+    /**
+     * 이미 존재하는 브랜드와 카테고리를 사용해 상품 데이터만 적재
+     *
+     * @param spec 데이터셋 생성 조건
+     * @param brandIds 상품에 할당할 브랜드 ID 목록
+     * @param categoryIds 상품에 할당할 카테고리 ID 목록
+     * @return 적재 결과
+     */
+    public DatasetLoadReport loadProducts(DatasetSpec spec, List<Long> brandIds, List<Long> categoryIds) {
+        long start = System.nanoTime();
+        DatasetLoadReport report = new DatasetLoadReport();
+        Random random = new Random(spec.getSeed());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        insertProducts(spec, toArray(brandIds), toArray(categoryIds), random, now, report);
+        eventPublisher.publishEvent(new DatasetLoadedEvent(false, true, false));
+
+        report.finish(System.nanoTime() - start);
+        log.info("[Dataset] 상품 데이터 적재 완료 - {}", report);
+        return report;
+    }
+
+    private long[] insertNamed(String sql, String table, String namePrefix, int count, Timestamp now,
+                               DatasetLoadReport report) {
+        long[] ids = transactionTemplate.execute(status -> insertReturningKeys(sql, count, (ps, i) -> {
+            ps.setString(1, namePrefix + (i + 1));
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+        }));
+        report.addRows(table, count);
+        return ids;
+    }
+
+    /**
+     * 상품 적재
+     * 같은 난수로 만든 행을 Product와 ProductIndex에 각각 넣어 두 테이블의 데이터를 동일하게 유지함
+     */
+    private ProductKeys insertProducts(DatasetSpec spec, long[] brandIds, long[] categoryIds, Random random,
+                                       Timestamp now, DatasetLoadReport report) {
+        if (brandIds.length == 0 || categoryIds.length == 0) {
+            throw new RuntimeException("상품 적재에는 브랜드와 카테고리가 하나 이상 필요합니다.");
+        }
+
+        int total = spec.getProductCount();
+        int imagesPerProduct = spec.getImagesPerProduct();
+        ProductKeys keys = new ProductKeys(total);
+
+        for (int offset = 0; offset < total; offset += spec.getBatchSize()) {
+            int size = Math.min(spec.getBatchSize(), total - offset);
+            int chunkOffset = offset;
+
+            String[] names = new String[size];
+            int[] prices = new int[size];
+            long[] brands = new long[size];
+            long[] categories = new long[size];
+            for (int i = 0; i < size; i++) {
+                names[i] = spec.getProductNamePrefix() + (chunkOffset + i + 1);
+                prices[i] = 1000 * (random.nextInt(100) + 1); // 1,000 ~ 100,000
+                brands[i] = brandIds[random.nextInt(brandIds.length)];
+                categories[i] = categoryIds[random.nextInt(categoryIds.length)];
+            }
+
+            RowBinder productBinder = (ps, i) -> {
+                ps.setString(1, names[i]);
+                ps.setInt(2, prices[i]);
+                ps.setLong(3, brands[i]);
+                ps.setLong(4, categories[i]);
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            };
+
+            transactionTemplate.executeWithoutResult(status -> {
+                long[] productIds = insertReturningKeys(PRODUCT_SQL, size, productBinder);
+                long[] productIndexIds = insertReturningKeys(PRODUCT_INDEX_SQL, size, productBinder);
+
+                insert(PRODUCT_IMAGE_SQL, size * imagesPerProduct,
+                        imageBinder(chunkOffset, imagesPerProduct, productIds, now));
+                insert(PRODUCT_INDEX_IMAGE_SQL, size * imagesPerProduct,
+                        imageBinder(chunkOffset, imagesPerProduct, productIndexIds, now));
+
+                keys.append(productIds, prices);
+            });
+
+            report.addRows("product", size);
+            report.addRows("product_index", size);
+            report.addRows("product_image", (long) size * imagesPerProduct);
+            report.addRows("product_index_image", (long) size * imagesPerProduct);
+        }
+
+        return keys;
+    }
+
+    private RowBinder imageBinder(int chunkOffset, int imagesPerProduct, long[] ownerIds, Timestamp now) {
+        return (ps, k) -> {
+            int i = k / imagesPerProduct;
+            int j = k % imagesPerProduct;
+            ps.setString(1, "https://example.com/image" + (chunkOffset + i) + "_" + j + ".jpg");
+            ps.setBoolean(2, j == 0); // 첫번째 이미지는 썸네일로 설정
+            ps.setLong(3, ownerIds[i]);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        };
+    }
+
+    private long[] insertUsers(DatasetSpec spec, Timestamp now, DatasetLoadReport report) {
+        int total = spec.getUserCount();
+        long[] userIds = new long[total];
+
+        for (int offset = 0; offset < total; offset += spec.getBatchSize()) {
+            int size = Math.min(spec.getBatchSize(), total - offset);
+            int chunkOffset = offset;
+
+            long[] ids = transactionTemplate.execute(status -> insertReturningKeys(USER_SQL, size, (ps, i) -> {
+                int number = chunkOffset + i + 1;
+                ps.setString(1, "user" + number);
+                ps.setString(2, "user" + number + "@example.com");
+                ps.setTimestamp(3, now);
+                ps.setTimestamp(4, now);
+            }));
+            System.arraycopy(ids, 0, userIds, chunkOffset, size);
+            report.addRows("users", size);
+        }
+
+        return userIds;
+    }
+
+    private void insertOrders(DatasetSpec spec, long[] userIds, ProductKeys products, Random random,
+                              Timestamp now, DatasetLoadReport report) {
+        if (spec.getOrderCount() > 0 && (userIds.length == 0 || products.size() == 0)) {
+            throw new RuntimeException("주문 적재에는 사용자와 상품이 하나 이상 필요합니다.");
+        }
+
+        int total = spec.getOrderCount();
+        int itemsPerOrder = spec.getItemsPerOrder();
+
+        for (int offset = 0; offset < total; offset += spec.getBatchSize()) {
+            int size = Math.min(spec.getBatchSize(), total - offset);
+
+            Timestamp[] orderDates = new Timestamp[size];
+            String[] statuses = new String[size];
+            long[] users = new long[size];
+            for (int i = 0; i < size; i++) {
+                orderDates[i] = Timestamp.valueOf(BASE_ORDER_DATE.plusMinutes(random.nextInt(ORDER_DATE_RANGE_MINUTES)));
+                statuses[i] = ORDER_STATUSES[random.nextInt(ORDER_STATUSES.length)].name();
+                users[i] = userIds[random.nextInt(userIds.length)];
+            }
+
+            int itemCount = size * itemsPerOrder;
+            int[] quantities = new int[itemCount];
+            int[] productIndexes = new int[itemCount];
+            for (int k = 0; k < itemCount; k++) {
+                quantities[k] = random.nextInt(5) + 1;
+                productIndexes[k] = random.nextInt(products.size());
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                long[] orderIds = insertReturningKeys(ORDER_SQL, size, (ps, i) -> {
+                    ps.setTimestamp(1, orderDates[i]);
+                    ps.setString(2, statuses[i]);
+                    ps.setLong(3, users[i]);
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                });
+
+                insert(ORDER_ITEM_SQL, itemCount, (ps, k) -> {
+                    int productIndex = productIndexes[k];
+                    ps.setInt(1, quantities[k]);
+                    ps.setInt(2, products.priceAt(productIndex)); // 주문 당시 가격 = 상품 가격
+                    ps.setLong(3, orderIds[k / itemsPerOrder]);
+                    ps.setLong(4, products.idAt(productIndex));
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                });
+            });
+
+            report.addRows("orders", size);
+            report.addRows("order_items", itemCount);
+        }
+    }
+
+    private void insert(String sql, int size, RowBinder binder) {
+        jdbcTemplate.batchUpdate(sql, toSetter(size, binder));
+    }
+
+    /**
+     * 배치 INSERT 후 생성된 키를 입력 순서대로 반환
+     */
+    private long[] insertReturningKeys(String sql, int size, RowBinder binder) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(sql, new String[]{"id"}), toSetter(size, binder), keyHolder);
+
+        List<Map<String, Object>> keyList = keyHolder.getKeyList();
+        if (keyList.size() != size) {
+            throw new RuntimeException("생성된 키 수가 일치하지 않습니다. 예상: " + size + ", 실제: " + keyList.size());
+        }
+
+        long[] ids = new long[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = ((Number) keyList.get(i).values().iterator().next()).longValue();
+        }
+        return ids;
+    }
+
+    private BatchPreparedStatementSetter toSetter(int size, RowBinder binder) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                binder.bind(ps, i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        };
+    }
+
+    private long[] toArray(List<Long> ids) {
+        return ids.stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int index) throws SQLException;
+    }
+
+    /**
+     * 적재된 Product의 ID와 가격 (주문 상품 생성 시 사용)
+     */
+    private static class ProductKeys {
+        private final long[] ids;
+        private final int[] prices;
+        private int size;
+
+        ProductKeys(int capacity) {
+            this.ids = new long[capacity];
+            this.prices = new int[capacity];
+        }
+
+        void append(long[] productIds, int[] productPrices) {
+            System.arraycopy(productIds, 0, ids, size, productIds.length);
+            System.arraycopy(productPrices, 0, prices, size, productPrices.length);
+            size += productIds.length;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long idAt(int index) {
+            return ids[index];
+        }
+
+        int priceAt(int index) {
+            return prices[index];
+        }
+    }
+}
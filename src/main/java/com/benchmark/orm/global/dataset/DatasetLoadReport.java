@@ -0,0 +1,60 @@
+package com.benchmark.orm.global.dataset;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 데이터셋 적재 결과
+ * 테이블별 적재 행 수와 전체 소요 시간, 초당 적재 행 수를 제공
+ */
+@Getter
+public class DatasetLoadReport {
+
+    private final Map<String, Long> rowCounts = new LinkedHashMap<>();
+    private long elapsedNanos;
+
+    void addRows(String table, long rows) {
+        rowCounts.merge(table, rows, Long::sum);
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Map<String, Long> getRowCounts() {
+        return Collections.unmodifiableMap(rowCounts);
+    }
+
+    public long getRowCount(String table) {
+        return rowCounts.getOrDefault(table, 0L);
+    }
+
+    public long getTotalRows() {
+        return rowCounts.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    /**
+     * 초당 적재 행 수
+     *
+     * @return rows/sec
+     */
+    public long getRowsPerSecond() {
+        if (elapsedNanos == 0) return 0;
+        return Math.round(getTotalRows() * 1_000_000_000.0 / elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d rows in %dms (%d rows/sec) %s",
+                getTotalRows(), getElapsedMillis(), getRowsPerSecond(), rowCounts);
+    }
+}
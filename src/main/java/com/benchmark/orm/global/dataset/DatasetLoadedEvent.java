@@ -0,0 +1,28 @@
+package com.benchmark.orm.global.dataset;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * BulkDataLoader가 JDBC로 데이터를 직접 적재했음을 알리는 이벤트
+ * ORM/서비스를 거치지 않은 변경이므로 캐시나 집계를 가진 쪽이 받아서 비우거나 다시 계산함
+ */
+@Getter
+@RequiredArgsConstructor
+public class DatasetLoadedEvent {
+
+    /**
+     * 브랜드/카테고리 적재 여부
+     */
+    private final boolean referenceDataLoaded;
+
+    /**
+     * 상품(Product, ProductIndex) 적재 여부
+     */
+    private final boolean productsLoaded;
+
+    /**
+     * 주문 적재 여부
+     */
+    private final boolean ordersLoaded;
+}
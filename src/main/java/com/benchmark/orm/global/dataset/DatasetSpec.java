@@ -0,0 +1,63 @@
+package com.benchmark.orm.global.dataset;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 벤치마크 데이터셋 생성 조건
+ * <p>
+ * 같은 seed와 규모로 생성하면 항상 같은 데이터가 만들어짐
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DatasetSpec {
+
+    @Builder.Default
+    private long seed = 42L;
+
+    @Builder.Default
+    private int brandCount = 10;
+
+    @Builder.Default
+    private int categoryCount = 20;
+
+    @Builder.Default
+    private int productCount = 10_000;
+
+    @Builder.Default
+    private int imagesPerProduct = 3;
+
+    @Builder.Default
+    private int userCount = 1_000;
+
+    @Builder.Default
+    private int orderCount = 5_000;
+
+    @Builder.Default
+    private int itemsPerOrder = 3;
+
+    @Builder.Default
+    private int batchSize = 1_000;
+
+    @Builder.Default
+    private String productNamePrefix = "테스트 상품 ";
+
+    /**
+     * 상품 수를 기준으로 나머지 테이블 규모를 비례해서 정하는 팩토리 메서드
+     * (사용자: 상품의 1/10, 주문: 상품의 1/2)
+     *
+     * @param productCount 상품 수 (1만 ~ 1천만)
+     * @return 데이터셋 생성 조건
+     */
+    public static DatasetSpec ofScale(int productCount) {
+        return DatasetSpec.builder()
+                .productCount(productCount)
+                .userCount(Math.max(1, productCount / 10))
+                .orderCount(Math.max(1, productCount / 2))
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.benchmark.orm.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * (엔티티, 작업, 기술)별 호출당 힙 할당량 DTO
+ * rowsPerOp는 호출당 반환된 행(엔티티/DTO) 수이며, bytesPerRow는 행 하나를 만드는 데 든 평균 할당량
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AllocationSnapshotDto {
+    private String entity;
+    private String operation;
+    private String technique;
+    private long calls;
+    private long bytesPerOp;
+    private double rowsPerOp;
+    private Long bytesPerRow;
+}
@@ -0,0 +1,23 @@
+package com.benchmark.orm.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시별 적중/실패 통계 DTO (JSR-107 CacheStatisticsMXBean 값)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatisticsDto {
+    private String cache;
+    private long hits;
+    private long misses;
+    private double hitPercentage;
+    private long puts;
+    private long removals;
+    private long evictions;
+}
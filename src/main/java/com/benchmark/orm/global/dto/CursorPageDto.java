@@ -0,0 +1,49 @@
+package com.benchmark.orm.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이징 결과 DTO
+ * 전체 개수를 세지 않으므로 totalElements 대신 다음 페이지 존재 여부와 다음 커서만 제공
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDto<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * size + 1 건을 조회한 결과로 페이지 생성
+     * 초과로 조회된 1건이 있으면 다음 페이지가 존재하는 것으로 판단
+     *
+     * @param rows size + 1 건까지 조회한 엔티티 목록
+     * @param size 페이지 크기
+     * @param cursorOf 엔티티로부터 커서를 만드는 함수
+     * @param mapper 엔티티를 DTO로 변환하는 함수
+     * @return 커서 페이지
+     */
+    public static <E, T> CursorPageDto<T> of(List<E> rows, int size,
+                                            Function<E, KeysetCursor> cursorOf,
+                                            Function<E, T> mapper) {
+        boolean hasNext = size > 0 && rows.size() > size;
+        List<E> page = rows.subList(0, Math.min(rows.size(), Math.max(size, 0)));
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        return CursorPageDto.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.benchmark.orm.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋(Seek) 페이징 커서
+ * <p>
+ * 마지막으로 조회한 행의 (정렬 값, ID)를 담으며, 클라이언트에는 Base64 URL 문자열(after 토큰)로만 노출됨
+ * 다음 페이지는 OFFSET 대신 "정렬 값 > 마지막 정렬 값 OR (정렬 값 = 마지막 정렬 값 AND ID > 마지막 ID)" 조건으로 조회
+ * 정렬 값이 NULL인 행은 토큰에 NULL 표시로 담아 "null" 문자열과 구분함 (NULL 정렬 위치는 KeysetSort 참고)
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String DELIMITER = ":";
+    private static final String NULL_VALUE = "n";
+    private static final String PRESENT_VALUE = "v";
+
+    private final String sortBy;
+    private final String sortDirection;
+    private final Long id;
+    private final String sortValue; // 정렬 값이 NULL인 행이면 null
+
+    /**
+     * 커서 생성
+     *
+     * @param sortBy 정렬 기준 필드
+     * @param sortDirection 정렬 방향 (asc/desc)
+     * @param id 마지막 행의 ID
+     * @param sortValue 마지막 행의 정렬 값 (null 가능)
+     * @return 커서
+     */
+    public static KeysetCursor of(String sortBy, String sortDirection, Long id, Object sortValue) {
+        return new KeysetCursor(sortBy, sortDirection.toLowerCase(), id, sortValue != null ? sortValue.toString() : null);
+    }
+
+    /**
+     * after 토큰을 커서로 변환
+     *
+     * @param token after 토큰 (없으면 첫 페이지)
+     * @param sortBy 요청한 정렬 기준 필드
+     * @param sortDirection 요청한 정렬 방향
+     * @return 커서, 토큰이 없으면 null
+     */
+    public static KeysetCursor decode(String token, String sortBy, String sortDirection) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String[] parts;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = decoded.split(DELIMITER, 5);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("올바르지 않은 커서입니다: " + token);
+        }
+
+        if (parts.length != 5 || !(NULL_VALUE.equals(parts[3]) || PRESENT_VALUE.equals(parts[3]))) {
+            throw new RuntimeException("올바르지 않은 커서입니다: " + token);
+        }
+        if (!parts[0].equals(sortBy) || !parts[1].equalsIgnoreCase(sortDirection)) {
+            throw new RuntimeException("커서의 정렬 조건이 요청과 다릅니다. 커서: " + parts[0] + " " + parts[1]
+                    + ", 요청: " + sortBy + " " + sortDirection);
+        }
+
+        try {
+            return new KeysetCursor(parts[0], parts[1], Long.valueOf(parts[2]), NULL_VALUE.equals(parts[3]) ? null : parts[4]);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("올바르지 않은 커서입니다: " + token);
+        }
+    }
+
+    /**
+     * 커서를 after 토큰으로 변환
+     *
+     * @return Base64 URL 인코딩된 토큰
+     */
+    public String encode() {
+        String value = sortValue == null ? NULL_VALUE + DELIMITER : PRESENT_VALUE + DELIMITER + sortValue;
+        String raw = sortBy + DELIMITER + sortDirection + DELIMITER + id + DELIMITER + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isAscending() {
+        return !"desc".equalsIgnoreCase(sortDirection);
+    }
+}
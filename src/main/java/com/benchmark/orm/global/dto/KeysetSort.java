@@ -0,0 +1,208 @@
+package com.benchmark.orm.global.dto;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import lombok.Value;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이징 정렬 기준
+ * <p>
+ * 엔티티마다 커서 정렬을 허용하는 필드(컬럼, 값 추출/변환 함수)를 한 번만 정의해 두고,
+ * JPA/MyBatis 서비스는 정렬 필드 해석, 페이지 크기 검증, 커서 정렬 값 변환, 다음 커서 생성을 여기에 맡김
+ * 허용되지 않은 정렬 필드는 id로 처리함 (id는 항상 허용)
+ * 정렬 값이 NULL인 행은 가장 큰 값으로 취급함 (오름차순 NULLS LAST, 내림차순 NULLS FIRST, MyBatis 매퍼의 키셋 조회도 같은 순서)
+ *
+ * @param <T> 엔티티 타입
+ */
+public final class KeysetSort<T> {
+
+    public static final String ID = "id";
+
+    private final Function<T, Long> idExtractor;
+    private final Map<String, Field<T>> fields;
+
+    private KeysetSort(Function<T, Long> idExtractor, Map<String, Field<T>> fields) {
+        this.idExtractor = idExtractor;
+        this.fields = fields;
+    }
+
+    /**
+     * ID 정렬만 허용하는 기준 생성
+     *
+     * @param idExtractor 엔티티 ID 함수
+     * @return 정렬 기준
+     */
+    public static <T> KeysetSort<T> byId(Function<T, Long> idExtractor) {
+        return new KeysetSort<>(idExtractor, Map.of(ID, new Field<>(ID, idExtractor, Long::valueOf)));
+    }
+
+    /**
+     * 문자열 정렬 필드 추가 (컬럼명이 필드명과 같은 경우)
+     *
+     * @param sortBy 정렬 필드
+     * @param sortValue 엔티티의 정렬 값 함수
+     * @return 필드가 추가된 새 정렬 기준
+     */
+    public KeysetSort<T> and(String sortBy, Function<T, ?> sortValue) {
+        return and(sortBy, sortBy, sortValue, value -> value);
+    }
+
+    /**
+     * 정렬 필드 추가
+     *
+     * @param sortBy 정렬 필드
+     * @param column MyBatis 쿼리에 쓸 컬럼명
+     * @param sortValue 엔티티의 정렬 값 함수
+     * @param parser 커서에 문자열로 담긴 정렬 값을 원래 타입으로 바꾸는 함수
+     * @return 필드가 추가된 새 정렬 기준
+     */
+    public KeysetSort<T> and(String sortBy, String column, Function<T, ?> sortValue, Function<String, ?> parser) {
+        Map<String, Field<T>> added = new HashMap<>(fields);
+        added.put(sortBy, new Field<>(column, sortValue, parser));
+        return new KeysetSort<>(idExtractor, Map.copyOf(added));
+    }
+
+    /**
+     * 요청한 정렬 필드 해석
+     *
+     * @param sortBy 요청한 정렬 필드
+     * @return 허용된 필드면 그대로, 아니면 id
+     */
+    public String resolve(String sortBy) {
+        return sortBy != null && fields.containsKey(sortBy) ? sortBy : ID;
+    }
+
+    /**
+     * 요청한 정렬 방향 해석
+     *
+     * @param sortDirection 요청한 정렬 방향
+     * @return desc가 아니면 asc
+     */
+    public static String direction(String sortDirection) {
+        return "desc".equalsIgnoreCase(sortDirection) ? "desc" : "asc";
+    }
+
+    /**
+     * 페이지 크기를 검증하고 after 토큰을 커서로 변환
+     *
+     * @param after after 토큰 (없으면 첫 페이지)
+     * @param size 페이지 크기
+     * @param sortBy 해석된 정렬 필드
+     * @param direction 해석된 정렬 방향
+     * @return 커서, 토큰이 없으면 null
+     * @throws RuntimeException 페이지 크기가 1보다 작거나 토큰이 올바르지 않은 경우
+     */
+    public KeysetCursor decode(String after, int size, String sortBy, String direction) {
+        if (size <= 0) {
+            throw new RuntimeException("페이지 크기는 1 이상이어야 합니다: " + size);
+        }
+        return KeysetCursor.decode(after, sortBy, direction);
+    }
+
+    /**
+     * 정렬 필드의 컬럼명 (MyBatis 쿼리용)
+     *
+     * @param sortBy 해석된 정렬 필드
+     * @return 컬럼명
+     */
+    public String column(String sortBy) {
+        return fields.get(sortBy).column;
+    }
+
+    /**
+     * 커서의 정렬 값을 원래 타입으로 변환 (MyBatis 파라미터용)
+     *
+     * @param cursor 커서
+     * @return 정렬 값, 커서가 없으면 null
+     */
+    public Object sortValueOf(KeysetCursor cursor) {
+        if (cursor == null || cursor.getSortValue() == null) {
+            return null;
+        }
+        return fields.get(cursor.getSortBy()).parser.apply(cursor.getSortValue());
+    }
+
+    /**
+     * 커서 이후 행 조건 (QueryDSL, JPA 리포지토리용)
+     * 오름차순: 값 > v OR (값 = v AND ID > id) OR 값 IS NULL, 커서 값이 NULL이면 값 IS NULL AND ID > id
+     * 내림차순: v > 값 OR (값 = v AND id > ID), 커서 값이 NULL이면 (값 IS NULL AND id > ID) OR 값 IS NOT NULL
+     *
+     * @param sortBy 정렬 필드
+     * @param ascending 오름차순 여부
+     * @param after 커서 (없으면 첫 페이지)
+     * @param id 엔티티 ID 경로
+     * @param paths 정렬 필드별 엔티티 경로 (id 제외)
+     * @return where 조건, 커서가 없으면 null
+     */
+    public BooleanExpression afterCondition(String sortBy, boolean ascending, KeysetCursor after,
+                                            NumberPath<Long> id, Map<String, ? extends ComparableExpressionBase<?>> paths) {
+        if (after == null) {
+            return null;
+        }
+
+        BooleanExpression idAfter = ascending ? id.gt(after.getId()) : id.lt(after.getId());
+        ComparableExpressionBase<?> path = paths.get(resolve(sortBy));
+        if (path == null) {
+            // ID 정렬은 ID 조건만으로 충분
+            return idAfter;
+        }
+
+        Object lastValue = sortValueOf(after);
+        if (lastValue == null) {
+            return ascending ? path.isNull().and(idAfter) : path.isNull().and(idAfter).or(path.isNotNull());
+        }
+
+        Expression<Object> last = Expressions.constant(lastValue);
+        BooleanExpression condition = Expressions.booleanOperation(ascending ? Ops.GT : Ops.LT, path, last)
+                .or(Expressions.booleanOperation(Ops.EQ, path, last).and(idAfter));
+        return ascending ? condition.or(path.isNull()) : condition;
+    }
+
+    /**
+     * 키셋 정렬 (QueryDSL, JPA 리포지토리용)
+     *
+     * @param sortBy 정렬 필드
+     * @param ascending 오름차순 여부
+     * @param id 엔티티 ID 경로
+     * @param paths 정렬 필드별 엔티티 경로 (id 제외)
+     * @return 정렬 필드(NULL 위치 포함), ID 순 정렬
+     */
+    public OrderSpecifier<?>[] orderBy(String sortBy, boolean ascending,
+                                       NumberPath<Long> id, Map<String, ? extends ComparableExpressionBase<?>> paths) {
+        OrderSpecifier<Long> idOrder = ascending ? id.asc() : id.desc();
+        ComparableExpressionBase<?> path = paths.get(resolve(sortBy));
+        if (path == null) {
+            return new OrderSpecifier<?>[]{idOrder};
+        }
+        OrderSpecifier<?> sortOrder = ascending ? path.asc().nullsLast() : path.desc().nullsFirst();
+        return new OrderSpecifier<?>[]{sortOrder, idOrder};
+    }
+
+    /**
+     * 페이지 마지막 행으로 다음 커서를 만드는 함수
+     *
+     * @param sortBy 해석된 정렬 필드
+     * @param direction 해석된 정렬 방향
+     * @return 엔티티 → 커서 함수 (CursorPageDto.of에 전달)
+     */
+    public Function<T, KeysetCursor> cursorOf(String sortBy, String direction) {
+        Function<T, ?> sortValue = fields.get(sortBy).sortValue;
+        return row -> KeysetCursor.of(sortBy, direction, idExtractor.apply(row), sortValue.apply(row));
+    }
+
+    @Value
+    private static class Field<T> {
+        String column;
+        Function<T, ?> sortValue;
+        Function<String, ?> parser;
+    }
+}
@@ -0,0 +1,27 @@
+package com.benchmark.orm.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * (엔티티, 작업, 기술)별 지연 시간 분포 DTO
+ * 모든 시간 값의 단위는 마이크로초(us)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LatencySnapshotDto {
+    private String entity;
+    private String operation;
+    private String technique;
+    private long count;
+    private double meanUs;
+    private double p50Us;
+    private double p90Us;
+    private double p99Us;
+    private double p999Us;
+    private double maxUs;
+}
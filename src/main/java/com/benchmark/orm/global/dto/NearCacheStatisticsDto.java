@@ -0,0 +1,24 @@
+package com.benchmark.orm.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 응답 DTO near-cache 통계 DTO (Caffeine CacheStats 값 + 현재 크기)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearCacheStatisticsDto {
+    private String cache;
+    private long entries;
+    private long bytes;
+    private long maxBytes;
+    private long hits;
+    private long misses;
+    private double hitPercentage;
+    private long evictions;
+}
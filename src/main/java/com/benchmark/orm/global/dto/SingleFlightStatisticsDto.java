@@ -0,0 +1,27 @@
+package com.benchmark.orm.global.dto;
+
+import com.benchmark.orm.global.metrics.OrmTechnique;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * (엔티티, 작업, 기술)별 동일 조회 병합 통계 DTO
+ * <p>
+ * executed: 실제로 DB를 조회한 호출 수 (대기 시간 초과 후 직접 조회 포함)
+ * collapsed: 실행 중인 조회의 결과를 함께 받은 호출 수
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SingleFlightStatisticsDto {
+    private String entity;
+    private String operation;
+    private OrmTechnique technique;
+    private long executed;
+    private long collapsed;
+    private long timeouts;
+    private double collapsedPercentage;
+}
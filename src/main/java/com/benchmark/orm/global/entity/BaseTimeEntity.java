@@ -5,15 +5,25 @@ import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Getter
 @MappedSuperclass
-public abstract class BaseTimeEntity {
+public abstract class BaseTimeEntity implements Serializable {
 
     @CreatedDate
     private LocalDateTime createdAt;
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    /**
+     * 벌크/조건부 UPDATE로 DB에 기록한 수정 시각을 엔티티에 맞춤
+     *
+     * @param updatedAt DB에 기록한 수정 시각
+     */
+    protected void markUpdated(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
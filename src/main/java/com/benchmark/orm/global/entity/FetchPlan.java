@@ -0,0 +1,57 @@
+package com.benchmark.orm.global.entity;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.SpecHints;
+
+/**
+ * 조회 시 함께 가져올 연관관계 범위 (fetch plan)
+ * <p>
+ * 엔티티의 to-one 연관관계는 모두 LAZY로 두고, 호출하는 쪽이 DTO에 필요한 만큼만 골라서 조회함
+ * 각 값은 엔티티에 선언된 @NamedEntityGraph("엔티티명.그래프명")에 대응하며,
+ * fetch graph 힌트로 적용되므로 그래프에 없는 연관관계는 프록시로 남음
+ * <ul>
+ *     <li>SUMMARY: 엔티티 자신의 컬럼만 (연관관계 조회 없음)</li>
+ *     <li>WITH_BRAND: 브랜드 함께 조회</li>
+ *     <li>WITH_CATEGORY: 카테고리 함께 조회</li>
+ *     <li>FULL: 모든 to-one 연관관계 함께 조회 (컬렉션은 제외)</li>
+ * </ul>
+ */
+public enum FetchPlan {
+
+    SUMMARY(null),
+    WITH_BRAND("withBrand"),
+    WITH_CATEGORY("withCategory"),
+    FULL("full");
+
+    private final String graphName;
+
+    FetchPlan(String graphName) {
+        this.graphName = graphName;
+    }
+
+    /**
+     * 엔티티 타입에 대응하는 엔티티 그래프 이름 (SUMMARY는 null)
+     *
+     * @param entityType 조회 대상 엔티티 타입
+     * @return 엔티티 그래프 이름 (예: Product.withBrand)
+     */
+    public String graphName(Class<?> entityType) {
+        return graphName != null ? entityType.getSimpleName() + "." + graphName : null;
+    }
+
+    /**
+     * QueryDSL 쿼리에 엔티티 그래프를 fetch graph 힌트로 적용
+     *
+     * @param query 조회 쿼리
+     * @param entityManager 엔티티 매니저
+     * @param entityType 조회 대상 엔티티 타입
+     * @return 힌트가 적용된 쿼리
+     */
+    public <T> JPAQuery<T> applyTo(JPAQuery<T> query, EntityManager entityManager, Class<?> entityType) {
+        if (graphName == null) {
+            return query;
+        }
+        return query.setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(graphName(entityType)));
+    }
+}
@@ -0,0 +1,94 @@
+package com.benchmark.orm.global.explain;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * DB별 실행 계획(EXPLAIN) 조회 방식과 결과 해석
+ * <p>
+ * 캡처한 SQL에는 값 대신 ? 파라미터가 남아 있으므로, 파라미터 없이 계획을 볼 수 있는 형태로 바꿔 실행하고
+ * 계획 텍스트에서 사용된 인덱스와 전체 스캔된 테이블을 찾아냄
+ */
+public interface ExplainDialect {
+
+    /**
+     * 방언 이름 (h2, mysql, postgresql)
+     */
+    String name();
+
+    /**
+     * 캡처한 SQL을 실행 계획 조회 SQL로 변환
+     *
+     * @param sql ? 파라미터가 포함된 SQL
+     * @return 파라미터 없이 실행 가능한 EXPLAIN SQL
+     */
+    String explainSql(String sql);
+
+    /**
+     * EXPLAIN 결과를 줄 단위 텍스트로 변환 (기본: 첫 번째 컬럼)
+     */
+    default List<String> readPlan(ResultSet rs) throws SQLException {
+        List<String> lines = new ArrayList<>();
+        while (rs.next()) {
+            lines.add(rs.getString(1));
+        }
+        return lines;
+    }
+
+    /**
+     * 실행 계획 해석
+     *
+     * @param sql 원본 SQL
+     * @param lines readPlan()으로 읽은 계획
+     * @return 사용된 인덱스와 전체 스캔 테이블을 담은 실행 계획
+     */
+    QueryPlan parse(String sql, List<String> lines);
+
+    /**
+     * JDBC 메타데이터의 DB 이름으로 방언 선택
+     *
+     * @param databaseProductName DatabaseMetaData.getDatabaseProductName()
+     * @return 해당 방언
+     */
+    static ExplainDialect of(String databaseProductName) {
+        String name = databaseProductName.toLowerCase();
+        if (name.contains("h2")) {
+            return new H2ExplainDialect();
+        }
+        if (name.contains("mysql") || name.contains("mariadb")) {
+            return new MySqlExplainDialect();
+        }
+        if (name.contains("postgres")) {
+            return new PostgresExplainDialect();
+        }
+        throw new IllegalArgumentException("실행 계획을 지원하지 않는 DB입니다: " + databaseProductName);
+    }
+
+    /**
+     * 문자열 리터럴 밖의 ? 파라미터를 차례로 치환
+     *
+     * @param sql 원본 SQL
+     * @param replacement 파라미터 순번(1부터)을 받아 치환할 문자열을 반환하는 함수
+     * @return 치환된 SQL
+     */
+    static String replacePlaceholders(String sql, IntFunction<String> replacement) {
+        StringBuilder sb = new StringBuilder(sql.length() + 16);
+        boolean inLiteral = false;
+        int index = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                sb.append(replacement.apply(++index));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
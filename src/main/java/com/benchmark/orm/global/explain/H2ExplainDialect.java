@@ -0,0 +1,64 @@
+package com.benchmark.orm.global.explain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * H2 실행 계획
+ * <p>
+ * H2는 EXPLAIN에 한해 값이 없는 ? 파라미터를 허용하므로 SQL을 그대로 사용함
+ * 계획에는 테이블마다 접근 방식이 주석으로 표시됨
+ * - 인덱스 사용: PUBLIC.IDX_PRODUCT_INDEX_NAME: NAME = ?1
+ * - 전체 스캔: PUBLIC.PRODUCT.tableScan
+ */
+public class H2ExplainDialect implements ExplainDialect {
+
+    private static final String TABLE_SCAN_SUFFIX = ".tablescan";
+    private static final Pattern ACCESS_COMMENT = Pattern.compile("/\\*\\s*((?:\"?\\w+\"?\\.)+\"?\\w+\"?)\\s*(?::[^*]*)?\\*/");
+
+    @Override
+    public String name() {
+        return "h2";
+    }
+
+    @Override
+    public String explainSql(String sql) {
+        return "EXPLAIN " + sql;
+    }
+
+    @Override
+    public QueryPlan parse(String sql, List<String> lines) {
+        String plan = String.join("\n", lines);
+        List<String> indexes = new ArrayList<>();
+        List<String> fullScans = new ArrayList<>();
+
+        Matcher matcher = ACCESS_COMMENT.matcher(plan);
+        while (matcher.find()) {
+            String access = matcher.group(1).replace("\"", "").toLowerCase();
+            if (access.endsWith(TABLE_SCAN_SUFFIX)) {
+                addOnce(fullScans, lastPart(access.substring(0, access.length() - TABLE_SCAN_SUFFIX.length())));
+            } else {
+                addOnce(indexes, lastPart(access));
+            }
+        }
+        return QueryPlan.builder()
+                .sql(sql)
+                .dialect(name())
+                .plan(plan)
+                .indexes(indexes)
+                .fullScans(fullScans)
+                .build();
+    }
+
+    private static String lastPart(String qualifiedName) {
+        return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+    }
+
+    private static void addOnce(List<String> list, String value) {
+        if (!list.contains(value)) {
+            list.add(value);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.benchmark.orm.global.explain;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * MySQL(MariaDB) 실행 계획
+ * <p>
+ * MySQL은 값이 없는 파라미터로 EXPLAIN을 실행할 수 없으므로 리터럴로 치환함
+ * LIMIT/OFFSET은 숫자로, 나머지는 '0' 문자열로 바꾸며, 문자열은 숫자 컬럼과 비교해도 인덱스를 사용할 수 있음
+ * (NULL로 치환하면 옵티마이저가 Impossible WHERE로 판단해 계획을 보여주지 않음)
+ * <p>
+ * 결과 행의 table 컬럼에는 별칭이 표시되므로 SQL의 FROM/JOIN 절에서 실제 테이블 이름을 찾음
+ * - 인덱스 사용: key 컬럼
+ * - 전체 스캔: type = ALL
+ */
+public class MySqlExplainDialect implements ExplainDialect {
+
+    private static final Pattern LIMIT_WITH_OFFSET = Pattern.compile("(?i)\\blimit\\s+\\?\\s*,\\s*\\?");
+    private static final Pattern LIMIT = Pattern.compile("(?i)\\blimit\\s+\\?");
+    private static final Pattern OFFSET = Pattern.compile("(?i)\\boffset\\s+\\?");
+    private static final Pattern TABLE_ALIAS = Pattern.compile(
+            "(?i)\\b(?:from|join)\\s+`?(\\w+)`?(?:\\s+(?:as\\s+)?`?(?!(?:on|where|join|left|right|inner|cross|order|group|limit)\\b)(\\w+)`?)?");
+    private static final Pattern PLAN_ROW = Pattern.compile("table=(\\S*), type=(\\S*), key=(\\S*),");
+
+    @Override
+    public String name() {
+        return "mysql";
+    }
+
+    @Override
+    public String explainSql(String sql) {
+        String inlined = LIMIT_WITH_OFFSET.matcher(sql).replaceAll("limit 0, 1");
+        inlined = LIMIT.matcher(inlined).replaceAll("limit 1");
+        inlined = OFFSET.matcher(inlined).replaceAll("offset 0");
+        return "EXPLAIN " + ExplainDialect.replacePlaceholders(inlined, index -> "'0'");
+    }
+
+    @Override
+    public List<String> readPlan(ResultSet rs) throws SQLException {
+        List<String> lines = new ArrayList<>();
+        while (rs.next()) {
+            lines.add("table=" + rs.getString("table")
+                    + ", type=" + rs.getString("type")
+                    + ", key=" + rs.getString("key")
+                    + ", rows=" + rs.getString("rows")
+                    + ", Extra=" + rs.getString("Extra"));
+        }
+        return lines;
+    }
+
+    @Override
+    public QueryPlan parse(String sql, List<String> lines) {
+        Map<String, String> tableByAlias = tableByAlias(sql);
+        List<String> indexes = new ArrayList<>();
+        List<String> fullScans = new ArrayList<>();
+        for (String line : lines) {
+            Matcher matcher = PLAN_ROW.matcher(line);
+            if (!matcher.find()) {
+                continue;
+            }
+            String key = matcher.group(3);
+            if (!key.isEmpty() && !"null".equalsIgnoreCase(key)) {
+                addOnce(indexes, key.toLowerCase());
+            }
+            if ("ALL".equalsIgnoreCase(matcher.group(2))) {
+                String alias = matcher.group(1).toLowerCase();
+                addOnce(fullScans, tableByAlias.getOrDefault(alias, alias));
+            }
+        }
+        return QueryPlan.builder()
+                .sql(sql)
+                .dialect(name())
+                .plan(String.join("\n", lines))
+                .indexes(indexes)
+                .fullScans(fullScans)
+                .build();
+    }
+
+    private static Map<String, String> tableByAlias(String sql) {
+        Map<String, String> tableByAlias = new HashMap<>();
+        Matcher matcher = TABLE_ALIAS.matcher(sql);
+        while (matcher.find()) {
+            String table = matcher.group(1).toLowerCase();
+            tableByAlias.put(table, table);
+            if (matcher.group(2) != null) {
+                tableByAlias.put(matcher.group(2).toLowerCase(), table);
+            }
+        }
+        return tableByAlias;
+    }
+
+    private static void addOnce(List<String> list, String value) {
+        if (!list.contains(value)) {
+            list.add(value);
+        }
+    }
+}
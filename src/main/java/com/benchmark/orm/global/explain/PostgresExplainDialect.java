@@ -0,0 +1,57 @@
+package com.benchmark.orm.global.explain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL 실행 계획
+ * <p>
+ * ? 파라미터를 $1, $2 ...로 바꾸고 EXPLAIN (GENERIC_PLAN)으로 값 없이 일반 계획을 조회함 (PostgreSQL 16 이상)
+ * - 인덱스 사용: Index Scan using idx_x on t, Index Only Scan using idx_x on t, Bitmap Index Scan on idx_x
+ * - 전체 스캔: Seq Scan on t
+ */
+public class PostgresExplainDialect implements ExplainDialect {
+
+    private static final Pattern INDEX_SCAN = Pattern.compile("Index (?:Only )?Scan (?:Backward )?using (\\w+) on");
+    private static final Pattern BITMAP_INDEX_SCAN = Pattern.compile("Bitmap Index Scan on (\\w+)");
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+    @Override
+    public String name() {
+        return "postgresql";
+    }
+
+    @Override
+    public String explainSql(String sql) {
+        return "EXPLAIN (GENERIC_PLAN) " + ExplainDialect.replacePlaceholders(sql, index -> "$" + index);
+    }
+
+    @Override
+    public QueryPlan parse(String sql, List<String> lines) {
+        List<String> indexes = new ArrayList<>();
+        List<String> fullScans = new ArrayList<>();
+        for (String line : lines) {
+            collect(INDEX_SCAN.matcher(line), indexes);
+            collect(BITMAP_INDEX_SCAN.matcher(line), indexes);
+            collect(SEQ_SCAN.matcher(line), fullScans);
+        }
+        return QueryPlan.builder()
+                .sql(sql)
+                .dialect(name())
+                .plan(String.join("\n", lines))
+                .indexes(indexes)
+                .fullScans(fullScans)
+                .build();
+    }
+
+    private static void collect(Matcher matcher, List<String> target) {
+        while (matcher.find()) {
+            String name = matcher.group(1).toLowerCase();
+            if (!target.contains(name)) {
+                target.add(name);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.benchmark.orm.global.explain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL 한 건의 실행 계획
+ * 인덱스와 테이블 이름은 스키마 없이 소문자로 저장함
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QueryPlan {
+    private String sql;
+    private String dialect;
+    /** DB가 반환한 계획 원문 */
+    private String plan;
+    /** 조회에 사용된 인덱스 (기본 키 인덱스 포함) */
+    @Builder.Default
+    private List<String> indexes = new ArrayList<>();
+    /** 인덱스 없이 전체 스캔한 테이블 */
+    @Builder.Default
+    private List<String> fullScans = new ArrayList<>();
+
+    /**
+     * 인덱스 사용 여부
+     *
+     * @param indexName 인덱스 이름 (대소문자 무시)
+     */
+    public boolean usesIndex(String indexName) {
+        return indexes.contains(indexName.toLowerCase());
+    }
+
+    /**
+     * 테이블 전체 스캔 여부
+     *
+     * @param tableName 테이블 이름 (대소문자 무시)
+     */
+    public boolean hasFullScanOn(String tableName) {
+        return fullScans.contains(tableName.toLowerCase());
+    }
+}
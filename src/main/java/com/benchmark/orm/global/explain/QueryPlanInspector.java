@@ -0,0 +1,97 @@
+package com.benchmark.orm.global.explain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 실행 계획 조회
+ * <p>
+ * QueryCounter가 캡처한 SQL(? 파라미터 포함)을 현재 DB 방언에 맞는 EXPLAIN으로 실행해
+ * 사용된 인덱스와 전체 스캔 테이블을 확인함
+ * JdbcTemplate을 사용하므로 진행 중인 트랜잭션의 커넥션에서 실행되어, 커밋 전 적재한 데이터도 통계에 반영됨
+ * SELECT(WITH) 문만 대상으로 함 (hibernate.use_sql_comments가 앞에 붙이는 주석은 제거 후 판별/실행)
+ */
+@Slf4j
+@Component
+public class QueryPlanInspector {
+
+    private static final Pattern LEADING_COMMENTS = Pattern.compile("^(?:\\s*(?:/\\*.*?\\*/|--[^\\n]*))*\\s*", Pattern.DOTALL);
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile ExplainDialect dialect;
+
+    public QueryPlanInspector(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * SQL 한 건의 실행 계획 조회
+     *
+     * @param sql ? 파라미터가 포함된 SQL
+     * @return 실행 계획 (SELECT가 아니거나 EXPLAIN에 실패하면 null)
+     */
+    public QueryPlan explain(String sql) {
+        String query = stripLeadingComments(sql);
+        if (!isQuery(query)) {
+            return null;
+        }
+        ExplainDialect explainDialect = getDialect();
+        try {
+            List<String> lines = jdbcTemplate.query(connection -> connection.prepareStatement(explainDialect.explainSql(query)),
+                    (ResultSetExtractor<List<String>>) explainDialect::readPlan);
+            return explainDialect.parse(query, lines);
+        } catch (DataAccessException e) {
+            log.warn("[Explain] 실행 계획 조회 실패 - SQL: {}, 원인: {}", sql, e.getMostSpecificCause().getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 여러 SQL의 실행 계획 조회
+     *
+     * @param sqls SQL 목록 (QueryCounter.Stats.getSqlByShape().values() 등)
+     * @return 조회에 성공한 실행 계획 목록 (입력 순서)
+     */
+    public List<QueryPlan> explainAll(Collection<String> sqls) {
+        List<QueryPlan> plans = new ArrayList<>();
+        for (String sql : sqls) {
+            QueryPlan plan = explain(sql);
+            if (plan != null) {
+                plans.add(plan);
+            }
+        }
+        return plans;
+    }
+
+    /**
+     * 현재 DB의 방언 (처음 호출 시 JDBC 메타데이터로 결정)
+     */
+    public ExplainDialect getDialect() {
+        ExplainDialect current = dialect;
+        if (current == null) {
+            current = jdbcTemplate.execute((ConnectionCallback<ExplainDialect>) connection ->
+                    ExplainDialect.of(connection.getMetaData().getDatabaseProductName()));
+            dialect = current;
+        }
+        return current;
+    }
+
+    private static String stripLeadingComments(String sql) {
+        return LEADING_COMMENTS.matcher(sql).replaceFirst("");
+    }
+
+    private static boolean isQuery(String sql) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return head.startsWith("select") || head.startsWith("with");
+    }
+}
@@ -0,0 +1,83 @@
+package com.benchmark.orm.global.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 조회 결과를 한 행씩 NDJSON(한 줄에 JSON 하나)으로 출력
+ * <p>
+ * 전체 목록을 List로 만들지 않고 JPA Stream(내부적으로 ScrollableResults)이나 MyBatis Cursor에서
+ * 읽는 대로 변환해 쓰므로, 테이블 크기와 무관하게 메모리 사용량이 일정함
+ * JPA는 영속성 컨텍스트에 엔티티가 계속 쌓이므로 FLUSH_INTERVAL 행마다 비워줌
+ * <p>
+ * 커서가 열려 있는 동안 트랜잭션이 유지되어야 하므로 @Transactional 서비스 메서드 안에서 호출해야 함
+ */
+@Component
+public class NdjsonWriter {
+
+    /** 스트리밍 조회의 JDBC fetch size (@QueryHint, MyBatis fetchSize와 같은 값) */
+    public static final String FETCH_SIZE = "1000";
+
+    /** 출력 버퍼를 비우고 영속성 컨텍스트를 초기화하는 행 간격 */
+    public static final int FLUSH_INTERVAL = 1_000;
+
+    private static final byte NEW_LINE = '\n';
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    public NdjsonWriter(ObjectMapper objectMapper, EntityManager entityManager) {
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * JPA Stream 출력 (FLUSH_INTERVAL 행마다 영속성 컨텍스트 초기화)
+     *
+     * @param out 출력 스트림
+     * @param rows 스트리밍 조회 결과 (출력 후 닫음)
+     * @param mapper 행을 출력할 객체로 변환하는 함수
+     * @return 출력한 행 수
+     */
+    public <T> long writeEntities(OutputStream out, Stream<T> rows, Function<T, ?> mapper) throws IOException {
+        try (rows) {
+            return write(out, rows.iterator(), mapper, true);
+        }
+    }
+
+    /**
+     * MyBatis Cursor 등 영속성 컨텍스트가 없는 결과 출력
+     *
+     * @param out 출력 스트림
+     * @param rows 조회 결과
+     * @param mapper 행을 출력할 객체로 변환하는 함수
+     * @return 출력한 행 수
+     */
+    public <T> long write(OutputStream out, Iterable<T> rows, Function<T, ?> mapper) throws IOException {
+        return write(out, rows.iterator(), mapper, false);
+    }
+
+    private <T> long write(OutputStream out, Iterator<T> rows, Function<T, ?> mapper,
+                           boolean clearPersistenceContext) throws IOException {
+        long count = 0;
+        while (rows.hasNext()) {
+            out.write(objectMapper.writeValueAsBytes(mapper.apply(rows.next())));
+            out.write(NEW_LINE);
+            if (++count % FLUSH_INTERVAL == 0) {
+                out.flush();
+                if (clearPersistenceContext) {
+                    entityManager.clear();
+                }
+            }
+        }
+        out.flush();
+        return count;
+    }
+}
@@ -0,0 +1,140 @@
+package com.benchmark.orm.global.metrics;
+
+import com.benchmark.orm.global.dto.AllocationSnapshotDto;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (엔티티, 작업, 기술)별 힙 할당량 집계
+ * <p>
+ * 호출 전후로 현재 스레드의 누적 할당 바이트(ThreadMXBean)를 읽어 그 차이를 기록함
+ * JPA 엔티티 생성과 영속성 컨텍스트 스냅샷, MyBatis resultMap 조립처럼 호출 스레드에서 일어나는 할당만 잡히며,
+ * GC 빈도와 달리 JIT 워밍업 이후에는 호출마다 거의 일정하므로 기술 간 비교에 적합함
+ * <p>
+ * 객체 개수는 JVM이 스레드 단위로 제공하지 않으므로, 대신 호출당 반환 행 수와 행당 할당량을 함께 제공함
+ * 기록은 benchmark.metrics.allocation.enabled=true일 때 AllocationTrackingPostProcessor가 수행함
+ */
+@Component
+public class AllocationMetrics {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+    private final ConcurrentMap<Key, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 스레드별 할당량 측정 가능 여부
+     */
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    /**
+     * 현재 스레드의 누적 할당 바이트
+     *
+     * @return 누적 할당 바이트 (측정할 수 없으면 -1)
+     */
+    public static long currentThreadAllocatedBytes() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * 호출 한 번의 할당량 기록
+     *
+     * @param technique 데이터 접근 기술
+     * @param entity 엔티티 이름
+     * @param operation 작업 이름 (리포지토리/매퍼 메서드 이름)
+     * @param allocatedBytes 호출 중 할당된 바이트
+     * @param rows 반환된 행 수
+     */
+    public void record(OrmTechnique technique, String entity, String operation, long allocatedBytes, long rows) {
+        Counter counter = counters.computeIfAbsent(new Key(entity, operation, technique), key -> new Counter());
+        counter.calls.increment();
+        counter.bytes.add(Math.max(allocatedBytes, 0));
+        counter.rows.add(rows);
+    }
+
+    /**
+     * 현재까지 집계된 할당량 조회
+     *
+     * @param entity 엔티티 이름 필터 (null이면 전체)
+     * @param technique 기술 필터 (null이면 전체)
+     * @param reset 조회 후 해당 항목을 초기화할지 여부
+     * @return 엔티티, 작업, 기술 순으로 정렬된 목록 (호출이 없는 항목은 제외)
+     */
+    public List<AllocationSnapshotDto> snapshot(String entity, OrmTechnique technique, boolean reset) {
+        List<AllocationSnapshotDto> snapshots = new ArrayList<>();
+        for (Map.Entry<Key, Counter> e : counters.entrySet()) {
+            Key key = e.getKey();
+            if ((entity != null && !entity.equals(key.getEntity()))
+                    || (technique != null && technique != key.getTechnique())) {
+                continue;
+            }
+            Counter counter = e.getValue();
+            long calls = reset ? counter.calls.sumThenReset() : counter.calls.sum();
+            long bytes = reset ? counter.bytes.sumThenReset() : counter.bytes.sum();
+            long rows = reset ? counter.rows.sumThenReset() : counter.rows.sum();
+            if (calls > 0) {
+                snapshots.add(AllocationSnapshotDto.builder()
+                        .entity(key.getEntity())
+                        .operation(key.getOperation())
+                        .technique(key.getTechnique().name())
+                        .calls(calls)
+                        .bytesPerOp(bytes / calls)
+                        .rowsPerOp((double) rows / calls)
+                        .bytesPerRow(rows > 0 ? bytes / rows : null)
+                        .build());
+            }
+        }
+        snapshots.sort(Comparator.comparing(AllocationSnapshotDto::getEntity)
+                .thenComparing(AllocationSnapshotDto::getOperation)
+                .thenComparing(AllocationSnapshotDto::getTechnique));
+        return snapshots;
+    }
+
+    /**
+     * 모든 항목 초기화
+     */
+    public void reset() {
+        counters.values().forEach(counter -> {
+            counter.calls.reset();
+            counter.bytes.reset();
+            counter.rows.reset();
+        });
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return bean;
+    }
+
+    @Value
+    private static class Key {
+        String entity;
+        String operation;
+        OrmTechnique technique;
+    }
+
+    private static class Counter {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+    }
+}
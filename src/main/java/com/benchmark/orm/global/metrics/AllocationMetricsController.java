@@ -0,0 +1,40 @@
+package com.benchmark.orm.global.metrics;
+
+import com.benchmark.orm.global.dto.AllocationSnapshotDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 리포지토리/매퍼 호출당 할당량 조회 API
+ * benchmark.metrics.allocation.enabled=true로 기동했을 때만 값이 쌓임
+ */
+@RestController
+@RequestMapping("/api/metrics/allocation")
+@RequiredArgsConstructor
+public class AllocationMetricsController {
+
+    private final AllocationMetrics allocationMetrics;
+
+    /**
+     * 할당량 조회 (bytes/op, rows/op, bytes/row)
+     */
+    @GetMapping
+    public ResponseEntity<List<AllocationSnapshotDto>> getAllocation(
+            @RequestParam(required = false) String entity,
+            @RequestParam(required = false) OrmTechnique technique,
+            @RequestParam(defaultValue = "false") boolean reset) {
+        return ResponseEntity.ok(allocationMetrics.snapshot(entity, technique, reset));
+    }
+
+    /**
+     * 모든 항목 초기화
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> resetAllocation() {
+        allocationMetrics.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.benchmark.orm.global.metrics;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 리포지토리(JPA)와 매퍼(MyBatis) 빈을 감싸 호출마다 할당량을 AllocationMetrics에 기록
+ * <p>
+ * 두 빈 모두 인터페이스 기반 JDK 프록시이므로 같은 인터페이스를 구현하는 프록시로 한 번 더 감싸며,
+ * 서비스 코드는 변경하지 않음
+ * 호출마다 ThreadMXBean을 두 번 읽는 비용이 있어 benchmark.metrics.allocation.enabled=true일 때만 등록됨
+ */
+@Component
+@ConditionalOnProperty(name = "benchmark.metrics.allocation.enabled", havingValue = "true")
+public class AllocationTrackingPostProcessor implements BeanPostProcessor {
+
+    private static final String REPOSITORY_SUFFIX = "Repository";
+    private static final String MAPPER_SUFFIX = "Mapper";
+
+    private final ObjectProvider<AllocationMetrics> allocationMetrics;
+
+    public AllocationTrackingPostProcessor(ObjectProvider<AllocationMetrics> allocationMetrics) {
+        this.allocationMetrics = allocationMetrics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!AllocationMetrics.isSupported() || !Proxy.isProxyClass(bean.getClass())) {
+            return bean;
+        }
+        for (Class<?> type : bean.getClass().getInterfaces()) {
+            if (type.isAnnotationPresent(Mapper.class)) {
+                return wrap(bean, OrmTechnique.MYBATIS, entityName(type, MAPPER_SUFFIX));
+            }
+            if (Repository.class.isAssignableFrom(type) && type != Repository.class
+                    && !type.getName().startsWith("org.springframework.")) {
+                return wrap(bean, OrmTechnique.JPA, entityName(type, REPOSITORY_SUFFIX));
+            }
+        }
+        return bean;
+    }
+
+    Object wrap(Object target, OrmTechnique technique, String entity) {
+        AllocationMetrics metrics = allocationMetrics.getObject();
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return invoke(target, method, args);
+            }
+            long before = AllocationMetrics.currentThreadAllocatedBytes();
+            Object result = invoke(target, method, args);
+            long allocated = AllocationMetrics.currentThreadAllocatedBytes() - before;
+            metrics.record(technique, entity, method.getName(), allocated, rowsOf(result));
+            return result;
+        };
+        return Proxy.newProxyInstance(target.getClass().getClassLoader(), target.getClass().getInterfaces(), handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * 반환값의 행 수 (목록/페이지는 요소 수, Optional은 0 또는 1, 개수 등 스칼라 값은 0)
+     */
+    private static long rowsOf(Object result) {
+        if (result == null || result instanceof Number || result instanceof Boolean || result instanceof CharSequence) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Slice) {
+            return ((Slice<?>) result).getNumberOfElements();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+    private static String entityName(Class<?> type, String suffix) {
+        String name = type.getSimpleName();
+        return name.endsWith(suffix) ? name.substring(0, name.length() - suffix.length()) : name;
+    }
+}
@@ -0,0 +1,83 @@
+package com.benchmark.orm.global.metrics;
+
+import com.benchmark.orm.global.dto.CacheStatisticsDto;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 참조 데이터 캐시(2차 캐시 + MyBatis 매퍼 캐시)의 적중/실패 통계
+ * <p>
+ * CacheManager가 캐시마다 플랫폼 MBeanServer에 등록한 JSR-107 CacheStatisticsMXBean을 읽으므로
+ * 캐시 구현체(Ehcache)에 의존하지 않음
+ */
+@Component
+public class CacheMetrics {
+
+    private final CacheManager cacheManager;
+
+    public CacheMetrics(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * 캐시별 통계 조회
+     *
+     * @param reset 조회 후 통계를 초기화할지 여부
+     * @return 캐시 이름순으로 정렬된 통계 목록
+     */
+    public List<CacheStatisticsDto> snapshot(boolean reset) {
+        List<CacheStatisticsDto> snapshots = new ArrayList<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            CacheStatisticsMXBean statistics = statistics(cacheName);
+            snapshots.add(CacheStatisticsDto.builder()
+                    .cache(cacheName)
+                    .hits(statistics.getCacheHits())
+                    .misses(statistics.getCacheMisses())
+                    .hitPercentage(statistics.getCacheHitPercentage())
+                    .puts(statistics.getCachePuts())
+                    .removals(statistics.getCacheRemovals())
+                    .evictions(statistics.getCacheEvictions())
+                    .build());
+            if (reset) {
+                statistics.clear();
+            }
+        }
+        snapshots.sort((a, b) -> a.getCache().compareTo(b.getCache()));
+        return snapshots;
+    }
+
+    /**
+     * 모든 캐시 통계 초기화 (캐시 내용은 유지)
+     */
+    public void reset() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            statistics(cacheName).clear();
+        }
+    }
+
+    private CacheStatisticsMXBean statistics(String cacheName) {
+        try {
+            ObjectName objectName = new ObjectName("javax.cache:type=CacheStatistics"
+                    + ",CacheManager=" + sanitize(cacheManager.getURI().toString())
+                    + ",Cache=" + sanitize(cacheName));
+            return JMX.newMXBeanProxy(ManagementFactory.getPlatformMBeanServer(), objectName, CacheStatisticsMXBean.class);
+        } catch (MalformedObjectNameException e) {
+            throw new RuntimeException("캐시 통계 MBean 이름을 만들 수 없습니다: " + cacheName, e);
+        }
+    }
+
+    /**
+     * JSR-107 규약에 따라 ObjectName 값에 쓸 수 없는 문자를 '.'으로 치환
+     */
+    private static String sanitize(String value) {
+        return value == null ? "" : value.replaceAll("[,:=\n]", ".");
+    }
+}
@@ -0,0 +1,62 @@
+package com.benchmark.orm.global.metrics;
+
+import com.benchmark.orm.global.cache.NearCache;
+import com.benchmark.orm.global.dto.CacheStatisticsDto;
+import com.benchmark.orm.global.dto.NearCacheStatisticsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 참조 데이터 캐시, 응답 DTO near-cache 적중/실패 통계 조회 API
+ */
+@RestController
+@RequestMapping("/api/metrics/cache")
+@RequiredArgsConstructor
+public class CacheMetricsController {
+
+    private final CacheMetrics cacheMetrics;
+    private final List<NearCache<?>> nearCaches;
+
+    /**
+     * 캐시별 통계 조회 (적중, 실패, 적중률(%), 저장, 삭제, 만료/크기 초과 제거)
+     */
+    @GetMapping
+    public ResponseEntity<List<CacheStatisticsDto>> getCacheStatistics(
+            @RequestParam(defaultValue = "false") boolean reset) {
+        return ResponseEntity.ok(cacheMetrics.snapshot(reset));
+    }
+
+    /**
+     * 모든 캐시 통계 초기화
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> resetCacheStatistics() {
+        cacheMetrics.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 응답 DTO near-cache별 통계 조회 (항목 수, 저장 바이트, 적중, 실패, 적중률(%), 크기 초과/만료 제거)
+     */
+    @GetMapping("/near")
+    public ResponseEntity<List<NearCacheStatisticsDto>> getNearCacheStatistics(
+            @RequestParam(defaultValue = "false") boolean reset) {
+        return ResponseEntity.ok(nearCaches.stream()
+                .map(nearCache -> nearCache.snapshot(reset))
+                .sorted(Comparator.comparing(NearCacheStatisticsDto::getCache))
+                .toList());
+    }
+
+    /**
+     * 응답 DTO near-cache 통계 초기화 (캐시 내용은 유지)
+     */
+    @DeleteMapping("/near")
+    public ResponseEntity<Void> resetNearCacheStatistics() {
+        nearCaches.forEach(nearCache -> nearCache.snapshot(true));
+        return ResponseEntity.noContent().build();
+    }
+}
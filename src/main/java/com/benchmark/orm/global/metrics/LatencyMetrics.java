@@ -0,0 +1,123 @@
+package com.benchmark.orm.global.metrics;
+
+import com.benchmark.orm.global.dto.LatencySnapshotDto;
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * (엔티티, 작업, 기술)별 지연 시간 히스토그램
+ * <p>
+ * 서비스 메서드마다 System.nanoTime()으로 측정한 값을 HdrHistogram Recorder에 기록함
+ * Recorder는 기록 경로에 락이 없으므로(wait-free) 요청 스레드끼리 경합하지 않고,
+ * 조회 시에만 구간 히스토그램을 꺼내 누적 히스토그램에 합쳐 백분위를 계산함
+ * 히스토그램은 값 범위에 맞춰 자동으로 커지며 유효 숫자 3자리(오차 0.1% 이내)로 기록함
+ */
+@Component
+public class LatencyMetrics {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 지연 시간 기록
+     *
+     * @param technique 데이터 접근 기술
+     * @param entity 엔티티 이름 (예: Product, ProductIndex)
+     * @param operation 작업 이름 (예: findAll)
+     * @param elapsedNanos 경과 시간 (나노초)
+     */
+    public void record(OrmTechnique technique, String entity, String operation, long elapsedNanos) {
+        entries.computeIfAbsent(new Key(entity, operation, technique), key -> new Entry())
+                .record(Math.max(elapsedNanos, 0));
+    }
+
+    /**
+     * 현재까지 기록된 지연 시간 분포 조회
+     *
+     * @param entity 엔티티 이름 필터 (null이면 전체)
+     * @param technique 기술 필터 (null이면 전체)
+     * @param reset 조회 후 해당 히스토그램을 초기화할지 여부
+     * @return 엔티티, 작업, 기술 순으로 정렬된 분포 목록 (기록이 없는 항목은 제외)
+     */
+    public List<LatencySnapshotDto> snapshot(String entity, OrmTechnique technique, boolean reset) {
+        List<LatencySnapshotDto> snapshots = new ArrayList<>();
+        for (Map.Entry<Key, Entry> e : entries.entrySet()) {
+            Key key = e.getKey();
+            if ((entity != null && !entity.equals(key.getEntity()))
+                    || (technique != null && technique != key.getTechnique())) {
+                continue;
+            }
+            Histogram histogram = e.getValue().snapshot(reset);
+            if (histogram.getTotalCount() > 0) {
+                snapshots.add(toDto(key, histogram));
+            }
+        }
+        snapshots.sort(Comparator.comparing(LatencySnapshotDto::getEntity)
+                .thenComparing(LatencySnapshotDto::getOperation)
+                .thenComparing(LatencySnapshotDto::getTechnique));
+        return snapshots;
+    }
+
+    /**
+     * 모든 히스토그램 초기화
+     */
+    public void reset() {
+        entries.values().forEach(entry -> entry.snapshot(true));
+    }
+
+    private static LatencySnapshotDto toDto(Key key, Histogram histogram) {
+        return LatencySnapshotDto.builder()
+                .entity(key.getEntity())
+                .operation(key.getOperation())
+                .technique(key.getTechnique().name())
+                .count(histogram.getTotalCount())
+                .meanUs(histogram.getMean() / NANOS_PER_MICRO)
+                .p50Us(histogram.getValueAtPercentile(50.0) / NANOS_PER_MICRO)
+                .p90Us(histogram.getValueAtPercentile(90.0) / NANOS_PER_MICRO)
+                .p99Us(histogram.getValueAtPercentile(99.0) / NANOS_PER_MICRO)
+                .p999Us(histogram.getValueAtPercentile(99.9) / NANOS_PER_MICRO)
+                .maxUs(histogram.getMaxValue() / NANOS_PER_MICRO)
+                .build();
+    }
+
+    @Value
+    private static class Key {
+        String entity;
+        String operation;
+        OrmTechnique technique;
+    }
+
+    /**
+     * 기록용 Recorder와 조회용 누적 히스토그램 한 쌍
+     */
+    private static class Entry {
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Histogram accumulated = new Histogram(SIGNIFICANT_DIGITS);
+        private Histogram interval;
+
+        void record(long elapsedNanos) {
+            recorder.recordValue(elapsedNanos);
+        }
+
+        synchronized Histogram snapshot(boolean reset) {
+            interval = recorder.getIntervalHistogram(interval);
+            accumulated.add(interval);
+            Histogram copy = accumulated.copy();
+            if (reset) {
+                accumulated.reset();
+            }
+            return copy;
+        }
+    }
+}
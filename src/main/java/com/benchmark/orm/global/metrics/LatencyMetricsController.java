@@ -0,0 +1,39 @@
+package com.benchmark.orm.global.metrics;
+
+import com.benchmark.orm.global.dto.LatencySnapshotDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 서비스 메서드 지연 시간 분포 조회 API
+ */
+@RestController
+@RequestMapping("/api/metrics/latency")
+@RequiredArgsConstructor
+public class LatencyMetricsController {
+
+    private final LatencyMetrics latencyMetrics;
+
+    /**
+     * 지연 시간 분포 조회 (p50/p90/p99/p999/max, 단위: us)
+     */
+    @GetMapping
+    public ResponseEntity<List<LatencySnapshotDto>> getLatency(
+            @RequestParam(required = false) String entity,
+            @RequestParam(required = false) OrmTechnique technique,
+            @RequestParam(defaultValue = "false") boolean reset) {
+        return ResponseEntity.ok(latencyMetrics.snapshot(entity, technique, reset));
+    }
+
+    /**
+     * 모든 히스토그램 초기화
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> resetLatency() {
+        latencyMetrics.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
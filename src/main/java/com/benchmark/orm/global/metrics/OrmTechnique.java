@@ -0,0 +1,9 @@
+package com.benchmark.orm.global.metrics;
+
+/**
+ * 지연 시간을 구분해 집계할 데이터 접근 기술
+ */
+public enum OrmTechnique {
+    JPA,
+    MYBATIS
+}
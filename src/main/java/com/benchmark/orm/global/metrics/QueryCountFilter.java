@@ -0,0 +1,46 @@
+package com.benchmark.orm.global.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * HTTP 요청 하나를 QueryCounter 집계 구간으로 감싸는 필터
+ * <p>
+ * 응답 본문이 쓰이기 전에는 QueryCountResponseAdvice가, 본문이 없는 응답은 이 필터가
+ * X-Query-Count 헤더에 SQL 실행 횟수를 담음
+ * 같은 모양의 SQL이 반복 실행되면 N+1 의심으로 경고 로그를 남김
+ */
+@Slf4j
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter.Stats stats = QueryCounter.stop();
+            if (!response.isCommitted()) {
+                response.setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.getCount()));
+            }
+
+            Map<String, Integer> repeatedShapes = stats.getRepeatedShapes();
+            if (!repeatedShapes.isEmpty()) {
+                log.warn("[Query] {} {} - 쿼리 수: {}, 반복 실행된 SQL(N+1 의심): {}",
+                        request.getMethod(), request.getRequestURI(), stats.getCount(), repeatedShapes);
+            }
+        }
+    }
+}
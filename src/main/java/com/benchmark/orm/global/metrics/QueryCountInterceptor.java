@@ -0,0 +1,26 @@
+package com.benchmark.orm.global.metrics;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+
+/**
+ * MyBatis가 준비하는 SQL을 QueryCounter에 기록하는 플러그인
+ * Interceptor 빈은 MyBatis 자동 설정이 SqlSessionFactory에 등록함
+ */
+@Component
+@Intercepts(@Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class}))
+public class QueryCountInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        StatementHandler handler = (StatementHandler) invocation.getTarget();
+        QueryCounter.record(handler.getBoundSql().getSql());
+        return invocation.proceed();
+    }
+}
@@ -0,0 +1,16 @@
+package com.benchmark.orm.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL을 QueryCounter에 기록
+ * hibernate.session_factory.statement_inspector 설정으로 등록되며, SQL은 변경하지 않음
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.record(sql);
+        return sql;
+    }
+}
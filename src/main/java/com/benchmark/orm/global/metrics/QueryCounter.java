@@ -0,0 +1,132 @@
+package com.benchmark.orm.global.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 스레드별 SQL 실행 횟수 집계
+ * <p>
+ * Hibernate(QueryCountStatementInspector)와 MyBatis(QueryCountInterceptor)가 준비하는 모든 SQL을
+ * 현재 스레드에서 시작된 집계 구간(HTTP 요청, 테스트 메서드)에 기록함
+ * 리터럴과 IN 목록을 ? 하나로 정규화한 "모양"별로도 세어, 같은 모양이 파라미터만 바뀌어
+ * 반복 실행된 경우(N+1 의심)를 찾을 수 있게 함
+ * 모양별로 처음 실행된 SQL 원문도 보관하여 실행 계획(EXPLAIN) 확인에 사용함
+ * <p>
+ * 집계 구간이 시작되지 않은 스레드(배치, 벤치마크 등)에서는 아무것도 기록하지 않음
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 현재 스레드에서 새 집계 구간 시작 (진행 중인 구간이 있으면 대체)
+     */
+    public static void start() {
+        CURRENT.set(new Stats());
+    }
+
+    /**
+     * 현재 스레드의 집계 구간 종료
+     *
+     * @return 구간 동안의 집계 결과 (시작하지 않았으면 빈 결과)
+     */
+    public static Stats stop() {
+        Stats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats != null ? stats : new Stats();
+    }
+
+    /**
+     * 현재 스레드의 진행 중인 집계 결과 조회
+     *
+     * @return 집계 결과 (구간이 없으면 null)
+     */
+    public static Stats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * SQL 실행 기록
+     *
+     * @param sql 준비된 SQL
+     */
+    public static void record(String sql) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.record(shapeOf(sql), sql);
+        }
+    }
+
+    /**
+     * SQL을 파라미터 값과 무관한 모양으로 정규화
+     * 공백을 하나로 합치고, 문자열/숫자 리터럴과 (?, ?, ...) 목록을 ? 하나로 바꿈
+     *
+     * @param sql 원본 SQL
+     * @return 정규화된 SQL
+     */
+    public static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+    }
+
+    /**
+     * 집계 구간 하나의 SQL 실행 횟수
+     */
+    public static final class Stats {
+        private final Map<String, Integer> countByShape = new LinkedHashMap<>();
+        private final Map<String, String> sqlByShape = new LinkedHashMap<>();
+        private int count;
+
+        private void record(String shape, String sql) {
+            count++;
+            countByShape.merge(shape, 1, Integer::sum);
+            sqlByShape.putIfAbsent(shape, sql);
+        }
+
+        /**
+         * 전체 SQL 실행 횟수
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * 모양별 실행 횟수 (처음 실행된 순서)
+         */
+        public Map<String, Integer> getCountByShape() {
+            return Collections.unmodifiableMap(countByShape);
+        }
+
+        /**
+         * 모양별로 처음 실행된 SQL 원문 (처음 실행된 순서)
+         */
+        public Map<String, String> getSqlByShape() {
+            return Collections.unmodifiableMap(sqlByShape);
+        }
+
+        /**
+         * 두 번 이상 실행된 모양 (N+1 의심)
+         */
+        public Map<String, Integer> getRepeatedShapes() {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            countByShape.forEach((shape, shapeCount) -> {
+                if (shapeCount > 1) {
+                    repeated.put(shape, shapeCount);
+                }
+            });
+            return repeated;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.benchmark.orm.global.metrics;
+
+import com.benchmark.orm.global.concurrency.SingleFlight;
+import com.benchmark.orm.global.dto.SingleFlightStatisticsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 동일 조회 동시 요청 병합(single-flight) 통계 조회 API
+ */
+@RestController
+@RequestMapping("/api/metrics/single-flight")
+@RequiredArgsConstructor
+public class SingleFlightMetricsController {
+
+    private final SingleFlight singleFlight;
+
+    /**
+     * 작업별 병합 통계 조회 (실제 조회 수, 병합된 호출 수, 대기 시간 초과 수, 병합 비율(%))
+     */
+    @GetMapping
+    public ResponseEntity<List<SingleFlightStatisticsDto>> getSingleFlightStatistics(
+            @RequestParam(defaultValue = "false") boolean reset) {
+        return ResponseEntity.ok(singleFlight.snapshot(reset));
+    }
+
+    /**
+     * 모든 병합 통계 초기화
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> resetSingleFlightStatistics() {
+        singleFlight.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
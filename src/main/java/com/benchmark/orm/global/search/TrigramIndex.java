@@ -0,0 +1,181 @@
+package com.benchmark.orm.global.search;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자열 부분 일치 검색용 메모리 트라이그램(3-gram) 역색인
+ * <p>
+ * LIKE '%keyword%' 검색은 B-Tree 인덱스를 사용하지 못해 전체 스캔이 발생하므로,
+ * 이름을 연속된 3글자 단위로 쪼개 글자 조합 → ID 목록을 메모리에 유지하고
+ * 키워드의 모든 트라이그램을 가진 ID만 후보로 반환함
+ * <p>
+ * 글자 단위는 char가 아닌 코드 포인트이며, 입력은 NFC 정규화 후 소문자로 변환하므로
+ * 한글 자모가 분리된(NFD) 입력도 완성형 음절로 비교됨 (예: "테스트 상품" → "테스트", "스트 ", "트 상", " 상품")
+ * <p>
+ * 읽기/쓰기 락으로 보호되어 검색과 증분 갱신을 동시에 호출해도 안전함
+ */
+public class TrigramIndex {
+
+    public static final int GRAM_SIZE = 3;
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, String> names = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 이름 추가 또는 교체 (같은 ID가 이미 있으면 기존 트라이그램을 제거한 뒤 다시 등록)
+     *
+     * @param id 대상 ID
+     * @param name 이름 (null이면 제거와 같음)
+     */
+    public void put(Long id, String name) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (name == null) {
+                return;
+            }
+            String normalized = normalize(name);
+            names.put(id, normalized);
+            for (String gram : trigrams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이름 제거
+     *
+     * @param id 대상 ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 초기화
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            names.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 이름 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드를 포함하는 이름의 ID 검색 (대소문자 무시)
+     * 트라이그램 교집합으로 후보를 좁힌 뒤 실제 포함 여부를 다시 확인하므로 거짓 양성이 없음
+     *
+     * @param keyword 검색 키워드
+     * @return 오름차순 ID 집합, 키워드가 3글자 미만이라 트라이그램으로 검색할 수 없으면 null
+     */
+    public SortedSet<Long> search(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String normalized = normalize(keyword);
+        Set<String> grams = trigrams(normalized);
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            // 가장 작은 포스팅 목록부터 교집합을 구해야 비교 횟수가 줄어듦
+            List<Set<Long>> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return new TreeSet<>();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            SortedSet<Long> result = new TreeSet<>();
+            for (Long id : lists.get(0)) {
+                if (containsInAll(lists, id) && names.get(id).contains(normalized)) {
+                    result.add(id);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 비교용 정규화 (NFC + 소문자)
+     *
+     * @param text 원본 문자열
+     * @return 정규화된 문자열
+     */
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 코드 포인트 기준 트라이그램 추출
+     *
+     * @param normalized 정규화된 문자열
+     * @return 중복이 제거된 트라이그램 집합 (3글자 미만이면 빈 집합)
+     */
+    public static Set<String> trigrams(String normalized) {
+        int[] codePoints = normalized.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private boolean containsInAll(List<Set<Long>> lists, Long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removeInternal(Long id) {
+        String previous = names.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : trigrams(previous)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+-- 풀링 시퀀스 ID 모드 (H2)
+-- MyBatis(useGeneratedKeys)와 JDBC INSERT는 ID를 넣지 않으므로 ID 컬럼 기본값을 시퀀스로 지정
+-- 시퀀스는 INCREMENT BY 50 이고 pooled-lo는 (시퀀스 값 ~ +49) 구간을 사용하므로,
+-- 기본값으로 가져간 값의 구간은 Hibernate가 사용하지 않아 ID가 겹치지 않음
+ALTER TABLE brand ALTER COLUMN id SET DEFAULT NEXT VALUE FOR brand_seq;
+ALTER TABLE category ALTER COLUMN id SET DEFAULT NEXT VALUE FOR category_seq;
+ALTER TABLE product ALTER COLUMN id SET DEFAULT NEXT VALUE FOR product_seq;
+ALTER TABLE product_image ALTER COLUMN id SET DEFAULT NEXT VALUE FOR product_image_seq;
+ALTER TABLE product_index ALTER COLUMN id SET DEFAULT NEXT VALUE FOR product_index_seq;
+ALTER TABLE product_index_image ALTER COLUMN id SET DEFAULT NEXT VALUE FOR product_index_image_seq;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT NEXT VALUE FOR users_seq;
+ALTER TABLE user_profile ALTER COLUMN id SET DEFAULT NEXT VALUE FOR user_profile_seq;
+ALTER TABLE address ALTER COLUMN id SET DEFAULT NEXT VALUE FOR address_seq;
+ALTER TABLE image ALTER COLUMN id SET DEFAULT NEXT VALUE FOR image_seq;
+ALTER TABLE orders ALTER COLUMN id SET DEFAULT NEXT VALUE FOR orders_seq;
+ALTER TABLE order_items ALTER COLUMN id SET DEFAULT NEXT VALUE FOR order_items_seq;
@@ -0,0 +1,19 @@
+-- 풀링 시퀀스 ID 모드 (MySQL)
+-- MySQL에는 시퀀스가 없어 Hibernate는 {테이블}_seq 테이블로 ID 구간을 할당하고,
+-- MyBatis(useGeneratedKeys)와 JDBC INSERT는 AUTO_INCREMENT를 사용함
+-- 두 방식의 ID가 겹치지 않도록 AUTO_INCREMENT는 1조부터 시작하게 함
+-- (외래 키가 참조하는 컬럼이므로 변경하는 동안만 외래 키 검사를 끔)
+SET FOREIGN_KEY_CHECKS = 0;
+ALTER TABLE brand MODIFY id BIGINT NOT NULL AUTO_INCREMENT, AUTO_INCREMENT = 1000000000000;
+ALTER TABLE category MODIFY id BIGINT NOT NULL AUTO_INCREMENT, AUTO_INCREMENT = 1000000000000;
+ALTER TABLE product MODIFY id BIGINT NOT NULL AUTO_INCREMENT, AUTO_INCREMENT = 1000000000000;
+ALTER TABLE product_image MODIFY id BIGINT NOT NULL AUTO_INCREMENT, AUTO_INCREMENT = 1000000000000;
+ALTER TABLE product_index MODIFY id BIGINT NOT NULL AUTO_INCREMENT, AUTO_INCREMENT = 1000000000000;
+ALTER TABLE product_index_image MODIFY id BIGINT NOT NULL AUTO_INCREMENT, AUTO_INCREMENT = 1000000000000;
+ALTER TABLE users MODIFY id BIGINT NOT NULL AUTO_INCREMENT, AUTO_INCREMENT = 1000000000000;
+ALTER TABLE user_profile MODIFY id BIGINT NOT NULL AUTO_INCREMENT, AUTO_INCREMENT = 1000000000000;
+ALTER TABLE address MODIFY id BIGINT NOT NULL AUTO_INCREMENT, AUTO_INCREMENT = 1000000000000;
+ALTER TABLE image MODIFY id BIGINT NOT NULL AUTO_INCREMENT, AUTO_INCREMENT = 1000000000000;
+ALTER TABLE orders MODIFY id BIGINT NOT NULL AUTO_INCREMENT, AUTO_INCREMENT = 1000000000000;
+ALTER TABLE order_items MODIFY id BIGINT NOT NULL AUTO_INCREMENT, AUTO_INCREMENT = 1000000000000;
+SET FOREIGN_KEY_CHECKS = 1;
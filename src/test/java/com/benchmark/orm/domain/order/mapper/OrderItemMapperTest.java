@@ -110,6 +110,32 @@ public class OrderItemMapperTest {
         assertThat(foundOrderItem.getProduct().getId()).isEqualTo(product.getId());
     }
 
+    @Test
+    @DisplayName("주문상품 일괄 저장 시 생성 키 설정 테스트")
+    public void insertAllTest() {
+        // given - 한 주문에 속한 주문상품 3건
+        User user = createTestUser();
+        Order order = createTestOrder(user);
+        Product product1 = createTestProduct("일괄상품1", 1000);
+        Product product2 = createTestProduct("일괄상품2", 2000);
+
+        List<OrderItem> orderItems = List.of(
+                OrderItem.builder().order(order).product(product1).quantity(1).orderPrice(1000).build(),
+                OrderItem.builder().order(order).product(product2).quantity(2).orderPrice(2000).build(),
+                OrderItem.builder().order(order).product(product1).quantity(3).orderPrice(1000).build());
+
+        // when - multi-row INSERT 한 번으로 저장
+        orderItemMapper.insertAll(orderItems);
+
+        // then - 모든 주문상품에 서로 다른 ID가 설정되고 DB에서 조회됨
+        assertThat(orderItems).extracting(OrderItem::getId).doesNotContainNull().doesNotHaveDuplicates();
+
+        List<OrderItem> foundOrderItems = orderItemMapper.findByOrderId(order.getId());
+        assertThat(foundOrderItems).hasSize(3);
+        assertThat(foundOrderItems).extracting(OrderItem::getId)
+                .containsExactlyInAnyOrderElementsOf(orderItems.stream().map(OrderItem::getId).toList());
+    }
+
     @Test
     @DisplayName("주문상품 정보 수정 테스트")
     public void updateTest() {
@@ -145,6 +145,57 @@ public class OrderMapperTest {
         assertThat(foundOrder.getStatus()).isEqualTo(OrderStatus.SHIPPED);
     }
 
+    @Test
+    @DisplayName("주문 상태 전이 테스트 - 현재 상태가 일치할 때만 변경")
+    public void transitionStatusTest() {
+        // given
+        User user = createAndSaveTestUser();
+        Order order = Order.builder()
+                .user(user)
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.PENDING)
+                .build();
+        orderMapper.insert(order);
+
+        // when
+        int transitioned = orderMapper.transitionStatus(order.getId(), OrderStatus.PENDING.name(), OrderStatus.PROCESSING.name());
+        int staleTransition = orderMapper.transitionStatus(order.getId(), OrderStatus.PENDING.name(), OrderStatus.CANCELLED.name());
+
+        // then
+        assertThat(transitioned).isEqualTo(1);
+        assertThat(staleTransition).isZero();
+        assertThat(orderMapper.findById(order.getId()).getStatus()).isEqualTo(OrderStatus.PROCESSING);
+    }
+
+    @Test
+    @DisplayName("주문 상태 일괄 전이 테스트 - 이전 상태 목록에 없는 주문은 건너뜀")
+    public void transitionStatusAllTest() {
+        // given
+        User user = createAndSaveTestUser();
+        List<Long> orderIds = new ArrayList<>();
+        for (OrderStatus status : List.of(OrderStatus.PENDING, OrderStatus.PROCESSING, OrderStatus.SHIPPED)) {
+            Order order = Order.builder()
+                    .user(user)
+                    .orderDate(LocalDateTime.now())
+                    .status(status)
+                    .build();
+            orderMapper.insert(order);
+            orderIds.add(order.getId());
+        }
+        List<String> previousStatuses = OrderStatus.CANCELLED.previousStatuses().stream()
+                .map(OrderStatus::name)
+                .toList();
+
+        // when
+        int updated = orderMapper.transitionStatusAll(orderIds, previousStatuses, OrderStatus.CANCELLED.name());
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(orderMapper.findById(orderIds.get(0)).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(orderMapper.findById(orderIds.get(1)).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(orderMapper.findById(orderIds.get(2)).getStatus()).isEqualTo(OrderStatus.SHIPPED);
+    }
+
     @Test
     @DisplayName("주문 삭제 테스트")
     public void deleteByIdTest() {
@@ -19,6 +19,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -316,4 +317,33 @@ public class OrderItemRepositoryCustomTest {
         // 두 번째는 product2와 관련된 주문상품 (총 5개 주문)
         assertThat(mostOrderedProducts.get(1).getProduct().getId()).isEqualTo(product2.getId());
     }
+
+    @Test
+    @DisplayName("주문 ID 목록으로 주문별 총액 조회 테스트 (커스텀 메서드)")
+    public void findTotalAmountsByOrderIdsTest() {
+        // given
+        User user = createTestUser();
+        Product product1 = createTestProduct("총액상품1", 10000);
+        Product product2 = createTestProduct("총액상품2", 2500);
+
+        Order order1 = createAndSaveTestOrder(user);
+        Order order2 = createAndSaveTestOrder(user);
+        Order emptyOrder = createAndSaveTestOrder(user);
+
+        orderItemRepository.saveAll(List.of(
+                OrderItem.builder().order(order1).product(product1).quantity(2).orderPrice(product1.getPrice()).build(),
+                OrderItem.builder().order(order1).product(product2).quantity(4).orderPrice(product2.getPrice()).build(),
+                OrderItem.builder().order(order2).product(product2).quantity(1).orderPrice(product2.getPrice()).build()));
+
+        // when
+        Map<Long, Integer> totalAmounts = orderItemRepository.findTotalAmountsByOrderIds(
+                List.of(order1.getId(), order2.getId(), emptyOrder.getId()));
+
+        // then
+        assertThat(totalAmounts).hasSize(2);
+        assertThat(totalAmounts.get(order1.getId())).isEqualTo(30000); // 10000 * 2 + 2500 * 4
+        assertThat(totalAmounts.get(order2.getId())).isEqualTo(2500);
+        assertThat(totalAmounts).doesNotContainKey(emptyOrder.getId());
+        assertThat(orderItemRepository.findTotalAmountsByOrderIds(List.of())).isEmpty();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.benchmark.orm.domain.order.repository;
+
+import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.domain.order.entity.OrderItem;
+import com.benchmark.orm.domain.order.mapper.OrderMapper;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.repository.ProductRepository;
+import com.benchmark.orm.domain.user.entity.User;
+import com.benchmark.orm.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 풀링 시퀀스 ID 모드(pooled-ids 프로필) 테스트
+ * <p>
+ * JPA는 시퀀스 구간에서 ID를 미리 할당하고, MyBatis useGeneratedKeys는 컬럼 기본값으로 ID를 받으며
+ * 두 방식으로 만든 ID가 서로 겹치지 않는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "pooled-ids"})
+@Transactional
+public class OrderPooledIdTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("JPA 저장 시 flush 전에 ID 할당 테스트")
+    public void idAssignedBeforeFlushTest() {
+        // given
+        User user = userRepository.save(User.builder().username("풀링유저").email("pooled@example.com").build());
+        Product product = productRepository.save(Product.builder().name("풀링 상품").price(1000).build());
+
+        Order order = Order.builder()
+                .user(user)
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.PENDING)
+                .build();
+        for (int i = 0; i < 10; i++) {
+            order.addOrderItem(OrderItem.createOrderItem(product, i + 1));
+        }
+
+        // when - IDENTITY와 달리 persist 시점에 INSERT 없이 ID가 정해짐
+        orderRepository.save(order);
+
+        // then
+        List<Long> itemIds = order.getOrderItems().stream()
+                .map(OrderItem::getId)
+                .collect(Collectors.toList());
+        assertThat(order.getId()).isNotNull();
+        assertThat(itemIds).hasSize(10).doesNotContainNull().doesNotHaveDuplicates();
+
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(orderRepository.findById(order.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("MyBatis와 JPA가 만든 ID 충돌 없음 테스트")
+    public void myBatisAndJpaIdsDoNotCollideTest() {
+        // given
+        User user = userRepository.save(User.builder().username("혼합유저").email("mixed@example.com").build());
+        Set<Long> ids = new HashSet<>();
+
+        // when - JPA와 MyBatis를 번갈아 가며 주문 저장
+        for (int i = 0; i < 5; i++) {
+            Order jpaOrder = orderRepository.save(Order.builder()
+                    .user(user)
+                    .orderDate(LocalDateTime.now())
+                    .status(OrderStatus.PENDING)
+                    .build());
+            entityManager.flush();
+
+            Order myBatisOrder = Order.builder()
+                    .user(user)
+                    .orderDate(LocalDateTime.now())
+                    .status(OrderStatus.PENDING)
+                    .build();
+            orderMapper.insert(myBatisOrder);
+
+            ids.add(jpaOrder.getId());
+            ids.add(myBatisOrder.getId());
+        }
+
+        // then - useGeneratedKeys로 ID를 받았고 모두 다른 값
+        assertThat(ids).hasSize(10).doesNotContainNull();
+    }
+}
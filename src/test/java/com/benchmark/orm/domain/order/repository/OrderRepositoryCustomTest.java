@@ -9,6 +9,8 @@ import com.benchmark.orm.domain.product.repository.ProductRepository;
 import com.benchmark.orm.domain.user.entity.User;
 import com.benchmark.orm.domain.user.repository.UserRepository;
 import com.benchmark.orm.domain.user.repository.UserRepositoryTestConfig;
+import com.benchmark.orm.global.metrics.QueryCounter;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,10 +23,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * OrderRepositoryCustom 테스트
@@ -48,6 +52,9 @@ public class OrderRepositoryCustomTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     // 테스트용 사용자 생성 헬퍼 메서드
     private User createTestUser() {
         User user = User.builder()
@@ -533,8 +540,8 @@ public class OrderRepositoryCustomTest {
     }
 
     @Test
-    @DisplayName("주문 상태 변경 테스트 (커스텀 메서드)")
-    public void updateOrderStatusTest() {
+    @DisplayName("주문 상태 전이 테스트 (커스텀 메서드)")
+    public void transitionStatusTest() {
         // given
         User user = createTestUser();
         Order order = Order.builder()
@@ -544,17 +551,110 @@ public class OrderRepositoryCustomTest {
                 .build();
 
         Order savedOrder = orderRepository.save(order);
+        entityManager.flush();
 
         // when
-        Order updatedOrder = orderRepository.updateOrderStatus(savedOrder.getId(), OrderStatus.PROCESSING);
+        QueryCounter.start();
+        boolean transitioned;
+        try {
+            transitioned = orderRepository.transitionStatus(savedOrder, OrderStatus.PROCESSING);
+            // 이미 로드된 엔티티에 값을 맞췄으므로 flush 시 UPDATE가 다시 나가지 않아야 함
+            entityManager.flush();
+        } finally {
+            assertThat(QueryCounter.current().getCount()).isEqualTo(1);
+            QueryCounter.stop();
+        }
+        Order staleOrder = Order.builder().id(savedOrder.getId()).status(OrderStatus.PENDING).build();
+        boolean staleTransition = orderRepository.transitionStatus(staleOrder, OrderStatus.CANCELLED);
 
         // then
-        assertThat(updatedOrder).isNotNull();
-        assertThat(updatedOrder.getStatus()).isEqualTo(OrderStatus.PROCESSING);
+        assertThat(transitioned).isTrue();
+        assertThat(staleTransition).isFalse();
 
-        // 실제로 DB에 반영되었는지 확인
+        // 로드된 엔티티도 같은 상태/수정 시각이고, DB에도 반영되었는지 확인
+        assertThat(savedOrder.getStatus()).isEqualTo(OrderStatus.PROCESSING);
+        assertThat(savedOrder.getUpdatedAt()).isNotNull();
+        entityManager.clear();
         Optional<Order> reloadedOrder = orderRepository.findById(savedOrder.getId());
         assertThat(reloadedOrder).isPresent();
         assertThat(reloadedOrder.get().getStatus()).isEqualTo(OrderStatus.PROCESSING);
+        assertThat(reloadedOrder.get().getUpdatedAt()).isEqualTo(savedOrder.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("허용되지 않는 주문 상태 전이 테스트")
+    public void invalidTransitionStatusTest() {
+        // given
+        User user = createTestUser();
+        Order savedOrder = orderRepository.save(Order.builder()
+                .user(user)
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.SHIPPED)
+                .build());
+
+        // when & then
+        assertThatThrownBy(() -> orderRepository.transitionStatus(savedOrder, OrderStatus.CANCELLED))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("변경할 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("주문 상태 일괄 전이 테스트 - 전이할 수 없는 주문은 건너뜀")
+    public void transitionStatusBulkTest() {
+        // given
+        User user = createTestUser();
+        List<Order> orders = new ArrayList<>();
+        for (OrderStatus status : List.of(OrderStatus.PENDING, OrderStatus.PROCESSING, OrderStatus.SHIPPED, OrderStatus.DELIVERED)) {
+            orders.add(orderRepository.save(Order.builder()
+                    .user(user)
+                    .orderDate(LocalDateTime.now())
+                    .status(status)
+                    .build()));
+        }
+        List<Long> orderIds = orders.stream().map(Order::getId).toList();
+        entityManager.flush();
+
+        // when
+        QueryCounter.start();
+        long updated;
+        try {
+            updated = orderRepository.transitionStatus(orderIds, OrderStatus.CANCELLED, orders);
+            entityManager.flush();
+        } finally {
+            assertThat(QueryCounter.current().getCount()).isEqualTo(1);
+            QueryCounter.stop();
+        }
+
+        // then - 로드된 엔티티는 다시 조회하지 않아도 DB와 같은 상태
+        assertThat(updated).isEqualTo(2);
+        assertThat(orders)
+                .extracting(Order::getStatus)
+                .containsExactly(OrderStatus.CANCELLED, OrderStatus.CANCELLED, OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+        entityManager.clear();
+        assertThat(orderRepository.findAllById(orderIds))
+                .extracting(Order::getStatus)
+                .containsExactlyInAnyOrder(OrderStatus.CANCELLED, OrderStatus.CANCELLED, OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+    }
+
+    @Test
+    @DisplayName("주문 상태 일괄 전이 테스트 - 영속 상태가 아닌 엔티티는 맞추지 않음")
+    public void transitionStatusBulkDetachedTest() {
+        // given
+        User user = createTestUser();
+        Order order = orderRepository.save(Order.builder()
+                .user(user)
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.PENDING)
+                .build());
+        entityManager.flush();
+        entityManager.detach(order);
+
+        // when
+        long updated = orderRepository.transitionStatus(List.of(order.getId()), OrderStatus.CANCELLED, List.of(order));
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(orderRepository.findById(order.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELLED);
     }
-}
\ No newline at end of file
+}
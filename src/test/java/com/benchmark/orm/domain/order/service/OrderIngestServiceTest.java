@@ -0,0 +1,178 @@
+package com.benchmark.orm.domain.order.service;
+
+import com.benchmark.orm.domain.order.dto.OrderIngestSummaryDto;
+import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.domain.order.entity.OrderItem;
+import com.benchmark.orm.domain.order.mapper.OrderItemMapper;
+import com.benchmark.orm.domain.order.mapper.OrderMapper;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.mapper.ProductMapper;
+import com.benchmark.orm.domain.user.entity.User;
+import com.benchmark.orm.domain.user.mapper.UserMapper;
+import com.benchmark.orm.global.batch.BatchLoaderRegistry;
+import com.benchmark.orm.global.metrics.LatencyMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderIngestService 테스트
+ * <p>
+ * NDJSON 본문의 각 줄이 입력 순서대로 결과로 출력되는지, 잘못된 줄만 실패하고 나머지는 저장되는지,
+ * 묶음 크기 단위로 나누어 저장되는지 검증 (묶음 크기를 작게 잡은 서비스를 직접 생성해 사용)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class OrderIngestServiceTest {
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private OrderItemMapper orderItemMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private BatchLoaderRegistry batchLoaderRegistry;
+
+    @Autowired
+    private OrderRollupService orderRollupService;
+
+    @Autowired
+    private LatencyMetrics latencyMetrics;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .username("적재유저")
+                .email("ingest@example.com")
+                .build();
+        userMapper.insert(user);
+
+        product = Product.builder()
+                .name("적재상품")
+                .price(10000)
+                .build();
+        productMapper.insert(product);
+    }
+
+    @Test
+    @DisplayName("NDJSON 주문 적재 - 줄마다 결과 출력, 잘못된 줄만 실패 테스트")
+    public void ingestTest() throws Exception {
+        // given
+        OrderIngestService service = service(100);
+        String body = String.join("\n",
+                orderLine(user.getId(), product.getId(), 2),
+                "{잘못된 JSON",
+                "",
+                orderLine(user.getId(), -1L, 1),
+                orderLine(-1L, product.getId(), 1),
+                orderLine(user.getId(), product.getId(), 3));
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OrderIngestSummaryDto summary = service.ingest(input(body), out);
+
+        // then
+        List<JsonNode> lines = outputLines(out);
+        assertThat(lines).hasSize(6);
+        assertThat(lines.get(0).get("line").asLong()).isEqualTo(1);
+        assertThat(lines.get(0).get("status").asText()).isEqualTo("CREATED");
+        assertThat(lines.get(1).get("line").asLong()).isEqualTo(2);
+        assertThat(lines.get(1).get("status").asText()).isEqualTo("FAILED");
+        assertThat(lines.get(2).get("line").asLong()).isEqualTo(4);
+        assertThat(lines.get(2).get("message").asText()).contains("상품을 찾을 수 없습니다");
+        assertThat(lines.get(3).get("line").asLong()).isEqualTo(5);
+        assertThat(lines.get(3).get("message").asText()).contains("사용자를 찾을 수 없습니다");
+        assertThat(lines.get(4).get("line").asLong()).isEqualTo(6);
+        assertThat(lines.get(4).get("status").asText()).isEqualTo("CREATED");
+        assertThat(lines.get(5).get("created").asLong()).isEqualTo(2);
+
+        assertThat(summary.getTotal()).isEqualTo(5);
+        assertThat(summary.getCreated()).isEqualTo(2);
+        assertThat(summary.getFailed()).isEqualTo(3);
+        assertThat(summary.getBatches()).isEqualTo(1);
+
+        Long orderId = lines.get(4).get("orderId").asLong();
+        Order order = orderMapper.findById(orderId);
+        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.PENDING);
+        List<OrderItem> orderItems = orderItemMapper.findByOrderId(orderId);
+        assertThat(orderItems).hasSize(1);
+        assertThat(orderItems.get(0).getQuantity()).isEqualTo(3);
+        assertThat(orderItems.get(0).getOrderPrice()).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("묶음 크기 단위로 나누어 저장 테스트")
+    public void batchSizeTest() throws Exception {
+        // given
+        OrderIngestService service = service(2);
+        List<String> orders = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            orders.add(orderLine(user.getId(), product.getId(), i));
+        }
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OrderIngestSummaryDto summary = service.ingest(input(String.join("\n", orders)), out);
+
+        // then
+        assertThat(summary.getCreated()).isEqualTo(5);
+        assertThat(summary.getBatches()).isEqualTo(3);
+        assertThat(summary.getCommitLatencyMaxMillis()).isGreaterThan(0);
+        assertThat(orderMapper.findByUserId(user.getId())).hasSize(5);
+    }
+
+    private OrderIngestService service(int batchSize) {
+        return new OrderIngestService(orderMapper, orderItemMapper, userMapper, productMapper,
+                batchLoaderRegistry, orderRollupService, latencyMetrics, objectMapper, transactionManager,
+                batchSize, Duration.ofSeconds(5));
+    }
+
+    private String orderLine(Long userId, Long productId, int quantity) {
+        return "{\"userId\":" + userId + ",\"orderItems\":[{\"productId\":" + productId + ",\"quantity\":" + quantity + "}]}";
+    }
+
+    private ByteArrayInputStream input(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> outputLines(ByteArrayOutputStream out) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,122 @@
+package com.benchmark.orm.domain.order.service;
+
+import com.benchmark.orm.domain.order.dto.OrderSimpleDto;
+import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.domain.order.repository.OrderRepository;
+import com.benchmark.orm.global.dto.CursorPageDto;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 일자가 NULL인 주문의 키셋(커서) 페이징 테스트
+ * <p>
+ * 정렬 값이 NULL인 행은 가장 큰 값으로 취급(오름차순 NULLS LAST, 내림차순 NULLS FIRST)하므로,
+ * NULL 행이 페이지 경계에 걸쳐도 QueryDSL/MyBatis 모두 빠지거나 중복되는 행 없이 끝까지 조회되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class OrderKeysetNullSortTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private OrderJpaService orderJpaService;
+
+    @Autowired
+    private OrderMyBatisService orderMyBatisService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Long> expectedAscending = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime base = LocalDateTime.of(2024, 3, 1, 9, 0);
+        Long nullFirst = save(null);
+        Long early = save(base);
+        Long sameTimeFirst = save(base.plusHours(1));
+        Long nullSecond = save(null);
+        Long sameTimeSecond = save(base.plusHours(1));
+        Long late = save(base.plusDays(1));
+        Long nullThird = save(null);
+        entityManager.flush();
+        entityManager.clear();
+
+        // 같은 일자는 ID 순, NULL은 맨 뒤에 ID 순
+        expectedAscending.addAll(List.of(early, sameTimeFirst, sameTimeSecond, late, nullFirst, nullSecond, nullThird));
+    }
+
+    @Test
+    @DisplayName("QueryDSL 키셋 조회 - 주문 일자가 NULL인 주문도 빠짐없이 조회 테스트")
+    public void jpaKeysetWithNullOrderDateTest() {
+        // when
+        List<Long> ascending = readAll(after -> orderJpaService.findAllWithCursor(after, PAGE_SIZE, "orderDate", "asc"));
+        List<Long> descending = readAll(after -> orderJpaService.findAllWithCursor(after, PAGE_SIZE, "orderDate", "desc"));
+
+        // then
+        assertThat(ascending).containsExactlyElementsOf(expectedAscending);
+        assertThat(descending).containsExactlyElementsOf(reversed(expectedAscending));
+    }
+
+    @Test
+    @DisplayName("MyBatis 키셋 조회 - 주문 일자가 NULL인 주문도 빠짐없이 조회 테스트")
+    public void myBatisKeysetWithNullOrderDateTest() {
+        // when
+        List<Long> ascending = readAll(after -> orderMyBatisService.findAllWithCursor(after, PAGE_SIZE, "orderDate", "asc"));
+        List<Long> descending = readAll(after -> orderMyBatisService.findAllWithCursor(after, PAGE_SIZE, "orderDate", "desc"));
+
+        // then
+        assertThat(ascending).containsExactlyElementsOf(expectedAscending);
+        assertThat(descending).containsExactlyElementsOf(reversed(expectedAscending));
+    }
+
+    /**
+     * 다음 커서가 없을 때까지 모든 페이지를 조회해 이 테스트에서 만든 주문 ID만 순서대로 모음
+     */
+    private List<Long> readAll(Function<String, CursorPageDto<OrderSimpleDto>> page) {
+        List<Long> ids = new ArrayList<>();
+        String after = null;
+        do {
+            CursorPageDto<OrderSimpleDto> current = page.apply(after);
+            current.getContent().stream()
+                    .map(OrderSimpleDto::getId)
+                    .filter(expectedAscending::contains)
+                    .forEach(ids::add);
+            after = current.isHasNext() ? current.getNextCursor() : null;
+        } while (after != null);
+        return ids;
+    }
+
+    private Long save(LocalDateTime orderDate) {
+        return orderRepository.save(Order.builder()
+                .orderDate(orderDate)
+                .status(OrderStatus.PENDING)
+                .build()).getId();
+    }
+
+    private List<Long> reversed(List<Long> ids) {
+        List<Long> copy = new ArrayList<>(ids);
+        Collections.reverse(copy);
+        return copy;
+    }
+}
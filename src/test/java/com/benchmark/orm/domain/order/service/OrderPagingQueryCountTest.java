@@ -0,0 +1,125 @@
+package com.benchmark.orm.domain.order.service;
+
+import com.benchmark.orm.domain.order.dto.OrderSimpleDto;
+import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.domain.order.repository.OrderRepository;
+import com.benchmark.orm.domain.user.entity.User;
+import com.benchmark.orm.domain.user.repository.UserRepository;
+import com.benchmark.orm.global.dto.CursorPageDto;
+import com.benchmark.orm.global.metrics.QueryCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 페이징 조회 쿼리 수 테스트
+ * <p>
+ * 전역 batch fetch size 없이도 주문 목록의 사용자명 조회가 N+1을 만들지 않는지 검증
+ * - 페이징 조회: 엔티티 그래프로 사용자 함께 조회 (페이지 조회 + COUNT + 주문 금액 합계 = 3회)
+ * - 커서 조회: BatchLoader로 사용자를 IN 절 한 번에 조회 (주문 조회 + 사용자 조회 + 주문 금액 합계 = 3회)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class OrderPagingQueryCountTest {
+
+    private static final int USER_COUNT = 20;
+    private static final int ORDER_COUNT = 100;
+
+    @Autowired
+    private OrderJpaService orderJpaService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(userRepository.save(User.builder()
+                    .username("페이징유저" + i)
+                    .email("paging" + i + "@example.com")
+                    .build()));
+        }
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orderRepository.save(Order.builder()
+                    .orderDate(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i))
+                    .status(OrderStatus.PENDING)
+                    .user(users.get(i % USER_COUNT))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
+    }
+
+    @Test
+    @DisplayName("JPA 페이징 조회 - 100건 페이지도 쿼리 수 일정 테스트")
+    public void findAllWithPagingQueryCountTest() {
+        // when
+        QueryCounter.start();
+        Page<OrderSimpleDto> smallPage = orderJpaService.findAllWithPaging(0, 10, "id", "asc");
+        long smallPageQueries = QueryCounter.current().getCount();
+        QueryCounter.stop();
+
+        entityManager.clear();
+
+        QueryCounter.start();
+        Page<OrderSimpleDto> largePage = orderJpaService.findAllWithPaging(0, ORDER_COUNT, "id", "asc");
+        long largePageQueries = QueryCounter.current().getCount();
+
+        // then
+        assertThat(smallPage.getContent()).hasSize(10);
+        assertThat(largePage.getContent()).hasSize(ORDER_COUNT);
+        assertThat(largePage.getContent()).extracting(OrderSimpleDto::getUsername).doesNotContainNull();
+        assertThat(smallPageQueries).isEqualTo(3);
+        assertThat(largePageQueries).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("JPA 커서 조회 - 사용자를 IN 절로 한 번에 조회해 쿼리 수 일정 테스트")
+    public void findAllWithCursorQueryCountTest() {
+        // when
+        QueryCounter.start();
+        CursorPageDto<OrderSimpleDto> smallPage = orderJpaService.findAllWithCursor(null, 10, "id", "asc");
+        long smallPageQueries = QueryCounter.current().getCount();
+        QueryCounter.stop();
+
+        entityManager.clear();
+
+        QueryCounter.start();
+        CursorPageDto<OrderSimpleDto> largePage = orderJpaService.findAllWithCursor(null, ORDER_COUNT, "id", "asc");
+        long largePageQueries = QueryCounter.current().getCount();
+
+        // then
+        assertThat(smallPage.getContent()).hasSize(10);
+        assertThat(largePage.getContent()).hasSize(ORDER_COUNT);
+        assertThat(largePage.getContent()).extracting(OrderSimpleDto::getUsername).doesNotContainNull();
+        assertThat(smallPageQueries).isEqualTo(3);
+        assertThat(largePageQueries).isEqualTo(3);
+    }
+}
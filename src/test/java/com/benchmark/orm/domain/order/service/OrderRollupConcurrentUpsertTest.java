@@ -0,0 +1,87 @@
+package com.benchmark.orm.domain.order.service;
+
+import com.benchmark.orm.domain.order.dto.OrderDailyRollupDto;
+import com.benchmark.orm.domain.order.dto.OrderRollupContributionDto;
+import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.domain.order.mapper.OrderDailyRollupMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 집계 행 동시 첫 추가 테스트
+ * <p>
+ * 아직 없는 (일자, 상태) 행에 여러 트랜잭션이 동시에 증감분을 반영해도 upsert 한 구문으로 처리되어
+ * 중복 키 오류 없이 모든 증감분이 합산되는지 검증
+ * 트랜잭션별로 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고, 종료 후 만든 집계 행을 직접 삭제함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class OrderRollupConcurrentUpsertTest {
+
+    private static final LocalDate ROLLUP_DATE = LocalDate.of(2099, 12, 31);
+    private static final int WRITER_COUNT = 8;
+
+    @Autowired
+    private OrderRollupService orderRollupService;
+
+    @Autowired
+    private OrderDailyRollupMapper orderDailyRollupMapper;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        orderDailyRollupMapper.deleteByDateBetween(ROLLUP_DATE, ROLLUP_DATE);
+    }
+
+    @Test
+    @DisplayName("없는 집계 행에 동시에 증감분 반영 시 중복 키 오류 없이 합산 테스트")
+    public void concurrentFirstInsertTest() throws Exception {
+        // given
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < WRITER_COUNT; i++) {
+            long orderId = i + 1;
+            writers.add(executor.submit(() -> {
+                start.await(5, TimeUnit.SECONDS);
+                orderRollupService.recordCreated(OrderRollupContributionDto.builder()
+                        .orderId(orderId)
+                        .orderDate(ROLLUP_DATE.atTime(10, 0))
+                        .status(OrderStatus.PENDING)
+                        .itemCount(2)
+                        .revenue(1000)
+                        .build());
+                return null;
+            }));
+        }
+
+        // when
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(10, TimeUnit.SECONDS);
+        }
+
+        // then
+        List<OrderDailyRollupDto> rollups = orderRollupService.findDaily(ROLLUP_DATE, ROLLUP_DATE, OrderStatus.PENDING);
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getOrderCount()).isEqualTo(WRITER_COUNT);
+        assertThat(rollups.get(0).getItemCount()).isEqualTo(2L * WRITER_COUNT);
+        assertThat(rollups.get(0).getRevenue()).isEqualTo(1000L * WRITER_COUNT);
+    }
+}
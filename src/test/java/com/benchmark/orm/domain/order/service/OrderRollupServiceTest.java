@@ -0,0 +1,168 @@
+package com.benchmark.orm.domain.order.service;
+
+import com.benchmark.orm.domain.order.dto.OrderDailyRollupDto;
+import com.benchmark.orm.domain.order.dto.OrderRequestDto;
+import com.benchmark.orm.domain.order.dto.OrderResponseDto;
+import com.benchmark.orm.domain.order.dto.OrderStatusRollupDto;
+import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.mapper.ProductMapper;
+import com.benchmark.orm.domain.user.entity.User;
+import com.benchmark.orm.domain.user.mapper.UserMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderRollupService 테스트
+ * <p>
+ * 주문 생성/상태 변경/삭제 후 증분으로 갱신한 집계가 orders/order_items에서 다시 계산한 집계(rebuild)와 같은지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class OrderRollupServiceTest {
+
+    private static final LocalDate ROLLUP_DATE = LocalDate.of(2024, 1, 15);
+
+    @Autowired
+    private OrderRollupService orderRollupService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderJpaService orderJpaService;
+
+    @Autowired
+    private OrderMyBatisService orderMyBatisService;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .username("집계유저")
+                .email("rollup@example.com")
+                .build();
+        userMapper.insert(user);
+
+        product = Product.builder()
+                .name("집계상품")
+                .price(10000)
+                .build();
+        productMapper.insert(product);
+    }
+
+    @Test
+    @DisplayName("주문 생성 시 일자별/상태별 집계 증가 테스트")
+    public void recordCreatedTest() {
+        // given
+        OrderRequestDto requestDto = orderRequest(ROLLUP_DATE.atTime(10, 0), 2);
+
+        // when
+        orderService.saveOrderJpa(requestDto);
+        orderService.saveOrderMyBatis(orderRequest(ROLLUP_DATE.atTime(15, 30), 3));
+
+        // then
+        List<OrderDailyRollupDto> rollups = orderRollupService.findDaily(ROLLUP_DATE, ROLLUP_DATE, OrderStatus.PENDING);
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getOrderCount()).isEqualTo(2);
+        assertThat(rollups.get(0).getItemCount()).isEqualTo(5);
+        assertThat(rollups.get(0).getRevenue()).isEqualTo(50000);
+
+        assertRollupMatchesRebuild();
+    }
+
+    @Test
+    @DisplayName("주문 상태 변경/일괄 변경/삭제 후 집계가 재구성 결과와 같은지 테스트")
+    public void recordChangedTest() {
+        // given
+        Long firstId = orderService.saveOrderJpa(orderRequest(ROLLUP_DATE.atTime(9, 0), 1)).getId();
+        Long secondId = orderService.saveOrderJpa(orderRequest(ROLLUP_DATE.atTime(11, 0), 2)).getId();
+        Long thirdId = orderService.saveOrderJpa(orderRequest(ROLLUP_DATE.plusDays(1).atTime(9, 0), 4)).getId();
+        OrderResponseDto emptyOrder = orderMyBatisService.createOrder(OrderRequestDto.builder()
+                .orderDate(ROLLUP_DATE.atTime(12, 0))
+                .build());
+        entityManager.flush();
+
+        // when
+        orderJpaService.updateOrderStatus(firstId, OrderStatus.PROCESSING);
+        orderMyBatisService.transitionOrderStatuses(List.of(firstId, secondId, thirdId), OrderStatus.CANCELLED);
+        orderMyBatisService.deleteOrder(emptyOrder.getId());
+        entityManager.clear();
+
+        // then
+        List<OrderStatusRollupDto> byStatus = orderRollupService.sumByStatus(ROLLUP_DATE, ROLLUP_DATE.plusDays(1));
+        assertThat(byStatus).extracting(OrderStatusRollupDto::getStatus).containsExactly(OrderStatus.CANCELLED);
+        assertThat(byStatus.get(0).getOrderCount()).isEqualTo(3);
+        assertThat(byStatus.get(0).getItemCount()).isEqualTo(7);
+        assertThat(byStatus.get(0).getRevenue()).isEqualTo(70000);
+        assertThat(orderRollupService.countByStatus(OrderStatus.PENDING)).isZero();
+
+        assertRollupMatchesRebuild();
+    }
+
+    @Test
+    @DisplayName("기간 재구성 시 기간 밖 집계는 유지 테스트")
+    public void rebuildRangeTest() {
+        // given
+        orderService.saveOrderJpa(orderRequest(ROLLUP_DATE.atTime(10, 0), 1));
+        orderService.saveOrderJpa(orderRequest(ROLLUP_DATE.plusDays(1).atTime(10, 0), 2));
+        entityManager.flush();
+
+        // when
+        int rows = orderRollupService.rebuild(ROLLUP_DATE, ROLLUP_DATE);
+
+        // then
+        assertThat(rows).isEqualTo(1);
+        List<OrderDailyRollupDto> rollups = orderRollupService.findDaily(ROLLUP_DATE, ROLLUP_DATE.plusDays(1), null);
+        assertThat(rollups).extracting(OrderDailyRollupDto::getRollupDate)
+                .containsExactly(ROLLUP_DATE, ROLLUP_DATE.plusDays(1));
+        assertThat(rollups).extracting(OrderDailyRollupDto::getItemCount).containsExactly(1L, 2L);
+    }
+
+    /**
+     * 증분으로 갱신한 집계와 전체 재구성 결과 비교
+     */
+    private void assertRollupMatchesRebuild() {
+        List<OrderDailyRollupDto> incremental = orderRollupService.findDaily(null, null, null);
+
+        orderRollupService.rebuildAll();
+        List<OrderDailyRollupDto> rebuilt = orderRollupService.findDaily(null, null, null);
+
+        assertThat(incremental).usingRecursiveFieldByFieldElementComparator().isEqualTo(rebuilt);
+    }
+
+    private OrderRequestDto orderRequest(LocalDateTime orderDate, int quantity) {
+        return OrderRequestDto.builder()
+                .orderDate(orderDate)
+                .userId(user.getId())
+                .orderItems(List.of(OrderRequestDto.OrderItemRequestDto.builder()
+                        .productId(product.getId())
+                        .quantity(quantity)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.benchmark.orm.domain.order.service;
+
+import com.benchmark.orm.domain.order.dto.OrderRequestDto;
+import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.domain.order.mapper.OrderMapper;
+import com.benchmark.orm.domain.user.entity.User;
+import com.benchmark.orm.domain.user.mapper.UserMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 수정 API의 상태 변경 테스트
+ * <p>
+ * 상태 전용 API뿐 아니라 일반 주문 수정(JPA/MyBatis)으로도 허용되지 않는 상태 전이가 막히는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class OrderStatusUpdateTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderJpaService orderJpaService;
+
+    @Autowired
+    private OrderMyBatisService orderMyBatisService;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .username("상태변경유저")
+                .email("status@example.com")
+                .build();
+        userMapper.insert(user);
+    }
+
+    @Test
+    @DisplayName("일반 주문 수정 - 허용되지 않는 상태 전이 거부 테스트")
+    public void invalidTransitionTest() {
+        // given
+        Long id = insertOrder(OrderStatus.SHIPPED);
+        OrderRequestDto requestDto = OrderRequestDto.builder()
+                .userId(user.getId())
+                .status(OrderStatus.CANCELLED)
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> orderJpaService.updateOrder(id, requestDto))
+                .hasMessageContaining("변경할 수 없습니다");
+        assertThatThrownBy(() -> orderMyBatisService.updateOrder(id, requestDto))
+                .hasMessageContaining("변경할 수 없습니다");
+        assertThatThrownBy(() -> orderService.updateOrderJpa(id, requestDto))
+                .hasMessageContaining("변경할 수 없습니다");
+        assertThatThrownBy(() -> orderService.updateOrderMyBatis(id, requestDto))
+                .hasMessageContaining("변경할 수 없습니다");
+        assertThat(orderMapper.findById(id).getStatus()).isEqualTo(OrderStatus.SHIPPED);
+    }
+
+    @Test
+    @DisplayName("일반 주문 수정 - 허용된 전이와 같은 상태 유지는 통과 테스트")
+    public void validTransitionTest() {
+        // given
+        Long jpaId = insertOrder(OrderStatus.PENDING);
+        Long myBatisId = insertOrder(OrderStatus.PENDING);
+        Long sameStatusId = insertOrder(OrderStatus.DELIVERED);
+
+        // when
+        orderJpaService.updateOrder(jpaId, OrderRequestDto.builder().status(OrderStatus.PROCESSING).build());
+        orderMyBatisService.updateOrder(myBatisId, OrderRequestDto.builder().status(OrderStatus.CANCELLED).build());
+        orderService.updateOrderMyBatis(sameStatusId, OrderRequestDto.builder()
+                .userId(user.getId())
+                .status(OrderStatus.DELIVERED)
+                .build());
+        entityManager.flush();
+
+        // then
+        assertThat(orderMapper.findById(jpaId).getStatus()).isEqualTo(OrderStatus.PROCESSING);
+        assertThat(orderMapper.findById(myBatisId).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(orderMapper.findById(sameStatusId).getStatus()).isEqualTo(OrderStatus.DELIVERED);
+    }
+
+    private Long insertOrder(OrderStatus status) {
+        Order order = Order.builder()
+                .user(user)
+                .orderDate(LocalDateTime.of(2024, 1, 15, 10, 0))
+                .status(status)
+                .build();
+        orderMapper.insert(order);
+        return order.getId();
+    }
+}
@@ -0,0 +1,131 @@
+package com.benchmark.orm.domain.order.service;
+
+import com.benchmark.orm.domain.order.dto.OrderResponseDto;
+import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.domain.order.entity.Order.OrderStatus;
+import com.benchmark.orm.domain.order.entity.OrderItem;
+import com.benchmark.orm.domain.order.mapper.OrderItemMapper;
+import com.benchmark.orm.domain.order.mapper.OrderMapper;
+import com.benchmark.orm.domain.user.entity.User;
+import com.benchmark.orm.domain.user.mapper.UserMapper;
+import com.benchmark.orm.global.batch.BatchLoaderRegistry;
+import com.benchmark.orm.global.metrics.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 목록 총액 집계 쿼리의 IN 절 분할 테스트
+ * <p>
+ * 주문 수가 IN 절 최대 ID 수(BatchLoaderRegistry.getMaxBatchSize())를 넘으면 총액 집계 쿼리를 나눠 실행하고,
+ * 나눠 조회한 총액이 모든 주문에 빠짐없이 채워지는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class OrderTotalAmountChunkTest {
+
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private OrderItemMapper orderItemMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private BatchLoaderRegistry batchLoaderRegistry;
+
+    private final Map<Long, Integer> expectedTotals = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .username("총액유저")
+                .email("total-amount@example.com")
+                .build();
+        userMapper.insert(user);
+
+        int orderCount = batchLoaderRegistry.getMaxBatchSize() + 5;
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            orders.add(Order.builder()
+                    .orderDate(LocalDateTime.of(2024, 2, 1, 0, 0).plusMinutes(i))
+                    .status(OrderStatus.PENDING)
+                    .user(user)
+                    .build());
+        }
+        for (int from = 0; from < orders.size(); from += INSERT_CHUNK_SIZE) {
+            orderMapper.insertAll(orders.subList(from, Math.min(from + INSERT_CHUNK_SIZE, orders.size())));
+        }
+
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            int price = (i % 7 + 1) * 100;
+            orderItems.add(OrderItem.builder().order(order).orderPrice(price).quantity(2).build());
+            expectedTotals.put(order.getId(), price * 2);
+        }
+        for (int from = 0; from < orderItems.size(); from += INSERT_CHUNK_SIZE) {
+            orderItemMapper.insertAll(orderItems.subList(from, Math.min(from + INSERT_CHUNK_SIZE, orderItems.size())));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
+    }
+
+    @Test
+    @DisplayName("JPA 주문 목록 - IN 절 최대 ID 수를 넘으면 총액 집계를 나눠 조회 테스트")
+    public void findAllOrdersJpaChunkTest() {
+        // when
+        QueryCounter.start();
+        List<OrderResponseDto> orders = orderService.findAllOrdersJpa();
+        QueryCounter.Stats stats = QueryCounter.current();
+
+        // then
+        assertThat(totalsOf(orders)).containsAllEntriesOf(expectedTotals);
+        long totalAmountQueries = stats.getCountByShape().entrySet().stream()
+                .filter(entry -> entry.getKey().toLowerCase().contains("sum("))
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+        assertThat(totalAmountQueries).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("MyBatis 주문 목록 - IN 절 최대 ID 수를 넘어도 모든 주문 총액 조회 테스트")
+    public void findAllOrdersMyBatisChunkTest() {
+        // when
+        List<OrderResponseDto> orders = orderService.findAllOrdersMyBatis();
+
+        // then
+        assertThat(totalsOf(orders)).containsAllEntriesOf(expectedTotals);
+    }
+
+    private Map<Long, Integer> totalsOf(List<OrderResponseDto> orders) {
+        return orders.stream()
+                .filter(order -> expectedTotals.containsKey(order.getId()))
+                .collect(Collectors.toMap(OrderResponseDto::getId, OrderResponseDto::getTotalAmount));
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -523,6 +524,47 @@ public class ProductMapperTest {
         assertThat(firstPage.get(0).getPrice()).isGreaterThanOrEqualTo(16000);
     }
 
+    @Test
+    @DisplayName("키셋(커서) 페이징 테스트")
+    public void findAllWithKeysetTest() {
+        // given - 같은 가격의 상품을 섞어서 생성 (가격이 같으면 ID로 순서 결정)
+        Brand brand = Brand.builder().name("커서 브랜드").build();
+        brandMapper.insert(brand);
+
+        Category category = Category.builder().name("커서 카테고리").build();
+        categoryMapper.insert(category);
+
+        for (int i = 1; i <= 10; i++) {
+            Product product = Product.builder()
+                    .name("커서" + i)
+                    .price(1000 * ((i + 1) / 2))
+                    .brand(brand)
+                    .category(category)
+                    .build();
+            productMapper.insert(product);
+        }
+
+        // when - 4건씩 끝까지 조회 (가격 내림차순)
+        List<Product> firstPage = productMapper.findAllWithKeyset("price", "desc", null, null, 4);
+        Product last = firstPage.get(firstPage.size() - 1);
+        List<Product> secondPage = productMapper.findAllWithKeyset("price", "desc", last.getPrice(), last.getId(), 4);
+        last = secondPage.get(secondPage.size() - 1);
+        List<Product> thirdPage = productMapper.findAllWithKeyset("price", "desc", last.getPrice(), last.getId(), 4);
+
+        // then - 중복이나 누락 없이 10건이 가격 내림차순으로 조회되어야 함
+        assertThat(firstPage).hasSize(4);
+        assertThat(secondPage).hasSize(4);
+        assertThat(thirdPage).hasSize(2);
+
+        List<Product> all = new ArrayList<>(firstPage);
+        all.addAll(secondPage);
+        all.addAll(thirdPage);
+        assertThat(all).extracting("id").doesNotHaveDuplicates();
+        for (int i = 0; i < all.size() - 1; i++) {
+            assertThat(all.get(i).getPrice()).isGreaterThanOrEqualTo(all.get(i + 1).getPrice());
+        }
+    }
+
     @Test
     @DisplayName("상품과 이미지 함께 조회 테스트")
     public void findProductWithImagesTest() {
@@ -2,7 +2,14 @@ package com.benchmark.orm.domain.product.performance;
 
 import com.benchmark.orm.domain.product.entity.*;
 import com.benchmark.orm.domain.product.repository.*;
+import com.benchmark.orm.global.dataset.BulkDataLoader;
+import com.benchmark.orm.global.dataset.DatasetLoadReport;
+import com.benchmark.orm.global.dataset.DatasetSpec;
+import com.benchmark.orm.global.explain.QueryPlan;
+import com.benchmark.orm.global.explain.QueryPlanInspector;
+import com.benchmark.orm.global.metrics.QueryCounter;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -11,13 +18,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
-import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * 인덱스 성능 비교 테스트의 기본 클래스
  * <p>
  * 공통 설정 및 데이터 생성 메서드 제공
+ * <p>
+ * 측정 구간마다 실행된 SQL을 캡처하여 실행 계획(EXPLAIN)을 로그로 남기고,
+ * assertIndexUsed()로 인덱스 테이블 조회가 실제로 인덱스를 사용하는지 검증함
  */
 @Slf4j
 @SpringBootTest
@@ -43,15 +54,26 @@ public abstract class ProductIndexBaseTest {
     @Autowired
     protected CategoryRepository categoryRepository;
 
-    protected static final int TEST_DATA_COUNT = 1000; // 테스트 데이터 수
+    @Autowired
+    protected BulkDataLoader bulkDataLoader;
+
+    @Autowired
+    protected QueryPlanInspector queryPlanInspector;
+
+    protected static final int TEST_DATA_COUNT = 10_000; // 테스트 데이터 수
     protected static final int BRAND_COUNT = 10;
     protected static final int CATEGORY_COUNT = 20;
     protected static final int IMAGE_PER_PRODUCT = 3;
 
     protected List<Brand> brands = new ArrayList<>();
     protected List<Category> categories = new ArrayList<>();
-    protected List<String> testNames = new ArrayList<>();
-    protected Random random = new Random();
+    // 적재할 상품 데이터 (측정 대상 상품명도 여기서 구함)
+    protected final DatasetSpec datasetSpec = DatasetSpec.builder()
+            .productCount(TEST_DATA_COUNT)
+            .imagesPerProduct(IMAGE_PER_PRODUCT)
+            .build();
+    // 마지막으로 기록한 측정 구간의 실행 계획
+    protected List<QueryPlan> lastPlans = new ArrayList<>();
 
     @BeforeEach
     void setUp() {
@@ -84,77 +106,34 @@ public abstract class ProductIndexBaseTest {
             log.info("카테고리 {} 개 생성 완료", CATEGORY_COUNT);
         }
 
-        // 상품명 데이터 준비
-        for (int i = 1; i <= TEST_DATA_COUNT; i++) {
-            testNames.add("테스트 상품 " + i);
-        }
-
         log.info("테스트 데이터 준비 완료");
+
+        // 첫 번째 측정 구간의 SQL 캡처 시작
+        QueryCounter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
     }
 
     /**
      * 테스트용 상품 데이터를 생성하는 메서드
      * 일반 Product 테이블과 인덱스가 있는 ProductIndex 테이블에 동일한 데이터 생성
+     * (행 단위 save() 대신 JDBC 배치 INSERT 사용)
      */
     protected void createTestData() {
         log.info("{}개의 테스트 상품 데이터 생성 시작...", TEST_DATA_COUNT);
-        long start = System.nanoTime();
-
-        // 일반 Product 데이터 생성
-        for (int i = 0; i < TEST_DATA_COUNT; i++) {
-            String name = testNames.get(i);
-            int price = 1000 * (random.nextInt(100) + 1); // 1,000 ~ 100,000
-            Brand brand = brands.get(random.nextInt(brands.size()));
-            Category category = categories.get(random.nextInt(categories.size()));
-
-            // 일반 Product 생성 및 저장
-            Product product = Product.builder()
-                    .name(name)
-                    .price(price)
-                    .brand(brand)
-                    .category(category)
-                    .build();
-
-            Product savedProduct = productRepository.save(product);
-
-            // 상품 이미지 추가
-            for (int j = 0; j < IMAGE_PER_PRODUCT; j++) {
-                ProductImage image = ProductImage.builder()
-                        .url("https://example.com/image" + i + "_" + j + ".jpg")
-                        .isThumbnail(j == 0) // 첫번째 이미지는 썸네일로 설정
-                        .build();
-                image.assignProduct(savedProduct);
-
-                // ProductImage 저장
-                productImageRepository.save(image);
-            }
 
-            // 동일한 ProductIndex 생성 및 저장
-            ProductIndex productIndex = ProductIndex.builder()
-                    .name(name)
-                    .price(price)
-                    .brand(brand)
-                    .category(category)
-                    .build();
-
-            ProductIndex savedProductIndex = productIndexRepository.save(productIndex);
-
-            // 상품 이미지 추가
-            for (int j = 0; j < IMAGE_PER_PRODUCT; j++) {
-                ProductIndexImage image = ProductIndexImage.builder()
-                        .url("https://example.com/image" + i + "_" + j + ".jpg")
-                        .isThumbnail(j == 0) // 첫번째 이미지는 썸네일로 설정
-                        .build();
-                image.assignProductIndex(savedProductIndex);
+        DatasetLoadReport report = bulkDataLoader.loadProducts(datasetSpec,
+                brands.stream().map(Brand::getId).toList(),
+                categories.stream().map(Category::getId).toList());
 
-                // ProductIndexImage 저장
-                productIndexImageRepository.save(image);
-            }
-        }
+        log.info("데이터 생성 완료: {}개의 상품, 소요 시간: {}ms, 초당 {}건",
+                TEST_DATA_COUNT, report.getElapsedMillis(), report.getRowsPerSecond());
 
-        long end = System.nanoTime();
-        long elapsedTime = TimeUnit.NANOSECONDS.toMillis(end - start);
-        log.info("데이터 생성 완료: {}개의 상품, 소요 시간: {}ms", TEST_DATA_COUNT, elapsedTime);
+        // 데이터 준비 중 실행된 SQL은 측정 구간에서 제외
+        QueryCounter.start();
     }
 
     /**
@@ -171,8 +150,36 @@ public abstract class ProductIndexBaseTest {
 
     /**
      * 성능 측정 결과를 로그로 출력하는 도우미 메서드
+     * 직전 측정 구간에서 실행된 SQL의 실행 계획을 함께 기록하고, 다음 측정 구간의 캡처를 시작함
+     * (1회 측정값이라 결과 저장소에는 넣지 않음, 반복 측정 결과는 JMH 벤치마크로 저장)
      */
     protected void logPerformanceResult(String methodName, String approach, long elapsedTime) {
         log.info("[성능 측정] {} - {}: {}ms", methodName, approach, elapsedTime);
+
+        QueryCounter.Stats stats = QueryCounter.stop();
+        lastPlans = queryPlanInspector.explainAll(stats.getSqlByShape().values());
+        lastPlans.forEach(plan -> log.info("[실행 계획] {} - {}: 인덱스 {}, 전체 스캔 {}",
+                methodName, approach, plan.getIndexes(), plan.getFullScans()));
+
+        QueryCounter.start();
+    }
+
+    /**
+     * 마지막으로 기록한 측정 구간에서 지정한 인덱스를 사용했는지 검증
+     * 인덱스를 잃고 전체 스캔으로 바뀐 쿼리가 성능 테스트를 실패시키도록 함
+     *
+     * @param indexName 인덱스 이름 (예: idx_product_index_name)
+     */
+    protected void assertIndexUsed(String indexName) {
+        assertThat(lastPlans)
+                .as("%s 인덱스를 사용해야 합니다. 실행 계획:%n%s", indexName, describePlans())
+                .isNotEmpty()
+                .anyMatch(plan -> plan.usesIndex(indexName));
+    }
+
+    private String describePlans() {
+        return lastPlans.stream()
+                .map(QueryPlan::getPlan)
+                .collect(Collectors.joining(System.lineSeparator()));
     }
 }
\ No newline at end of file
@@ -31,7 +31,7 @@ public class ProductIndexBrandSearchTest extends ProductIndexBaseTest {
         // 테스트 데이터 생성
         createTestData();
 
-        Brand testBrand = brands.get(random.nextInt(brands.size()));
+        Brand testBrand = brands.get(brands.size() / 2);
         log.info("브랜드 기준 조회 성능 테스트 시작 - 브랜드: {}", testBrand.getName());
 
         // JPA Repository 성능 테스트 (인덱스 없는 경우)
@@ -48,6 +48,7 @@ public class ProductIndexBrandSearchTest extends ProductIndexBaseTest {
         long endIndexed = System.nanoTime();
         long elapsedIndexed = TimeUnit.NANOSECONDS.toMillis(endIndexed - startIndexed);
         logPerformanceResult("브랜드 기준 조회", "JPA Repository (인덱스 있음)", elapsedIndexed);
+        assertIndexUsed("idx_product_index_brand");
         log.info("조회된 상품 수 (JPA 인덱스 있음): {}", productIndexesJpa.size());
 
         // QueryDSL 성능 테스트 (인덱스 없는 경우)
@@ -64,6 +65,7 @@ public class ProductIndexBrandSearchTest extends ProductIndexBaseTest {
         long endIndexedQueryDsl = System.nanoTime();
         long elapsedIndexedQueryDsl = TimeUnit.NANOSECONDS.toMillis(endIndexedQueryDsl - startIndexedQueryDsl);
         logPerformanceResult("브랜드 기준 조회", "QueryDSL (인덱스 있음)", elapsedIndexedQueryDsl);
+        assertIndexUsed("idx_product_index_brand");
         log.info("조회된 상품 수 (QueryDSL 인덱스 있음): {}", productIndexesQueryDsl.size());
 
         // MyBatis 성능 테스트 (인덱스 없는 경우)
@@ -80,6 +82,7 @@ public class ProductIndexBrandSearchTest extends ProductIndexBaseTest {
         long endIndexedMyBatis = System.nanoTime();
         long elapsedIndexedMyBatis = TimeUnit.NANOSECONDS.toMillis(endIndexedMyBatis - startIndexedMyBatis);
         logPerformanceResult("브랜드 기준 조회", "MyBatis (인덱스 있음)", elapsedIndexedMyBatis);
+        assertIndexUsed("idx_product_index_brand");
         log.info("조회된 상품 수 (MyBatis 인덱스 있음): {}", productIndexesMyBatis.size());
 
         // 결과 요약
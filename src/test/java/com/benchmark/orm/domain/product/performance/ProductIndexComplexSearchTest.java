@@ -41,8 +41,8 @@ public class ProductIndexComplexSearchTest extends ProductIndexBaseTest {
         String keyword = "테스트";
         int minPrice = 10000;
         int maxPrice = 50000;
-        Brand testBrand = brands.get(random.nextInt(brands.size()));
-        Category testCategory = categories.get(random.nextInt(categories.size()));
+        Brand testBrand = brands.get(brands.size() / 2);
+        Category testCategory = categories.get(categories.size() / 2);
 
         ProductSearchDto searchDto = ProductSearchDto.builder()
                 .keyword(keyword)
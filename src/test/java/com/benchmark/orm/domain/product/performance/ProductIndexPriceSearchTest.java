@@ -48,6 +48,7 @@ public class ProductIndexPriceSearchTest extends ProductIndexBaseTest {
         long endIndexed = System.nanoTime();
         long elapsedIndexed = TimeUnit.NANOSECONDS.toMillis(endIndexed - startIndexed);
         logPerformanceResult("가격 범위 조회", "JPA Repository (인덱스 있음)", elapsedIndexed);
+        assertIndexUsed("idx_product_index_price");
         log.info("조회된 상품 수 (JPA 인덱스 있음): {}", productIndexesJpa.size());
 
         // QueryDSL 성능 테스트 (인덱스 없는 경우)
@@ -64,6 +65,7 @@ public class ProductIndexPriceSearchTest extends ProductIndexBaseTest {
         long endIndexedQueryDsl = System.nanoTime();
         long elapsedIndexedQueryDsl = TimeUnit.NANOSECONDS.toMillis(endIndexedQueryDsl - startIndexedQueryDsl);
         logPerformanceResult("가격 범위 조회", "QueryDSL (인덱스 있음)", elapsedIndexedQueryDsl);
+        assertIndexUsed("idx_product_index_price");
         log.info("조회된 상품 수 (QueryDSL 인덱스 있음): {}", productIndexesQueryDsl.size());
 
         // MyBatis 성능 테스트 (인덱스 없는 경우)
@@ -80,6 +82,7 @@ public class ProductIndexPriceSearchTest extends ProductIndexBaseTest {
         long endIndexedMyBatis = System.nanoTime();
         long elapsedIndexedMyBatis = TimeUnit.NANOSECONDS.toMillis(endIndexedMyBatis - startIndexedMyBatis);
         logPerformanceResult("가격 범위 조회", "MyBatis (인덱스 있음)", elapsedIndexedMyBatis);
+        assertIndexUsed("idx_product_index_price");
         log.info("조회된 상품 수 (MyBatis 인덱스 있음): {}", productIndexesMyBatis.size());
 
         // 결과 요약
@@ -6,6 +6,7 @@ import com.benchmark.orm.domain.product.entity.Category;
 import com.benchmark.orm.domain.product.entity.Product;
 import com.benchmark.orm.domain.product.entity.ProductImage;
 import com.benchmark.orm.domain.user.repository.UserRepositoryTestConfig;
+import com.benchmark.orm.global.dto.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -159,6 +160,32 @@ public class ProductRepositoryCustomTest {
                 .containsExactlyInAnyOrder("QueryDSL 테스트 상품1", "QueryDSL 테스트 상품2");
     }
 
+    @Test
+    @DisplayName("findByCategorySubtree 메서드 테스트 - 하위 카테고리 포함 상품 조회")
+    public void findByCategorySubtreeTest() {
+        // given - testCategory1의 하위 카테고리와 상품 추가
+        Category childCategory = Category.builder().name("테스트 하위 카테고리").build();
+        childCategory.changeParent(testCategory1);
+        categoryRepository.save(childCategory);
+
+        Product childProduct = Product.builder()
+                .name("하위 카테고리 상품")
+                .price(40000)
+                .brand(testBrand2)
+                .category(childCategory)
+                .build();
+        productRepository.save(childProduct);
+
+        // when - 서브트리 카테고리 ID 목록으로 조회
+        List<Product> products = productRepository.findByCategorySubtree(
+                List.of(testCategory1.getId(), childCategory.getId()));
+
+        // then - ID 오름차순
+        assertThat(products).extracting("name")
+                .containsExactly("QueryDSL 테스트 상품1", "QueryDSL 테스트 상품2", "하위 카테고리 상품");
+        assertThat(productRepository.findByCategorySubtree(List.of())).isEmpty();
+    }
+
     @Test
     @DisplayName("findAllWithPaging 메서드 테스트 - 페이징 적용 상품 조회")
     public void findAllWithPagingTest() {
@@ -176,6 +203,22 @@ public class ProductRepositoryCustomTest {
                 .isLessThanOrEqualTo(productPage.getContent().get(1).getName());
     }
 
+    @Test
+    @DisplayName("findAllWithKeyset 메서드 테스트 - 커서 이후 상품 조회")
+    public void findAllWithKeysetTest() {
+        // when - 첫 페이지 조회 (가격 오름차순)
+        List<Product> firstPage = productRepository.findAllWithKeyset("price", true, null, 2);
+        Product last = firstPage.get(firstPage.size() - 1);
+        KeysetCursor cursor = KeysetCursor.of("price", "asc", last.getId(), last.getPrice());
+
+        // 커서 이후 페이지 조회
+        List<Product> nextPage = productRepository.findAllWithKeyset("price", true, cursor, 2);
+
+        // then
+        assertThat(firstPage).extracting("price").containsExactly(10000, 20000);
+        assertThat(nextPage).extracting("price").containsExactly(30000);
+    }
+
     @Test
     @DisplayName("findAllWithSorting 메서드 테스트 - 정렬 적용 상품 조회")
     public void findAllWithSortingTest() {
@@ -0,0 +1,66 @@
+package com.benchmark.orm.domain.product.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CategoryTree 테스트
+ * <p>
+ * (ID → 부모 ID) 목록으로 만든 스냅샷의 서브트리 조회 검증
+ */
+public class CategoryTreeTest {
+
+    private CategoryTree tree;
+
+    @BeforeEach
+    void setUp() {
+        // 1 ─┬─ 2 ─┬─ 4
+        //    │     └─ 5 ── 7
+        //    └─ 3 ──── 6
+        // 8 (별도 루트)
+        Map<Long, Long> parentById = new HashMap<>();
+        parentById.put(1L, null);
+        parentById.put(2L, 1L);
+        parentById.put(3L, 1L);
+        parentById.put(4L, 2L);
+        parentById.put(5L, 2L);
+        parentById.put(6L, 3L);
+        parentById.put(7L, 5L);
+        parentById.put(8L, null);
+        tree = CategoryTree.of(parentById);
+    }
+
+    @Test
+    @DisplayName("서브트리 ID 조회 테스트")
+    public void getSubtreeIdsTest() {
+        assertThat(tree.getSubtreeIds(1L)).containsExactly(1L, 2L, 4L, 5L, 7L, 3L, 6L);
+        assertThat(tree.getSubtreeIds(2L)).containsExactly(2L, 4L, 5L, 7L);
+        assertThat(tree.getSubtreeIds(7L)).containsExactly(7L);
+        assertThat(tree.getSubtreeIds(8L)).containsExactly(8L);
+        assertThat(tree.getSubtreeIds(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순환 참조 카테고리 제외 테스트")
+    public void cycleExcludedTest() {
+        // given - 10 ↔ 11 순환은 어떤 루트에도 닿지 않음
+        Map<Long, Long> parentById = new HashMap<>();
+        parentById.put(1L, null);
+        parentById.put(10L, 11L);
+        parentById.put(11L, 10L);
+
+        // when
+        CategoryTree cyclic = CategoryTree.of(parentById);
+
+        // then
+        assertThat(cyclic.size()).isEqualTo(1);
+        assertThat(cyclic.contains(10L)).isFalse();
+        assertThat(cyclic.getSubtreeIds(10L)).isEmpty();
+    }
+}
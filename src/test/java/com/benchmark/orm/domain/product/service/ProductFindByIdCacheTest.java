@@ -0,0 +1,89 @@
+package com.benchmark.orm.domain.product.service;
+
+import com.benchmark.orm.domain.product.dto.ProductResponseDto;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.mapper.ProductMapper;
+import com.benchmark.orm.global.cache.NearCache;
+import com.benchmark.orm.global.concurrency.SingleFlight;
+import com.benchmark.orm.global.dto.SingleFlightStatisticsDto;
+import com.benchmark.orm.global.metrics.OrmTechnique;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 ID 단건 조회의 near-cache / single-flight 순서 테스트
+ * <p>
+ * near-cache 적중은 single-flight(읽기 전용 트랜잭션)를 거치지 않고, 미스일 때만 병합된 조회가 실행되는지 검증
+ * 트랜잭션 안에서는 single-flight가 병합하지 않으므로 테스트 트랜잭션 없이 실행하고, 종료 후 만든 데이터를 직접 삭제함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ProductFindByIdCacheTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private NearCache<ProductResponseDto> productNearCache;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        Product product = Product.builder().name("캐시 확인 상품").price(1000).build();
+        transactionTemplate.executeWithoutResult(status -> productMapper.insert(product));
+        productId = product.getId();
+        productNearCache.invalidateAll();
+        singleFlight.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> productMapper.deleteById(productId));
+        productNearCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("near-cache 적중 시 single-flight 조회를 실행하지 않음 테스트")
+    public void cacheHitSkipsSingleFlightTest() {
+        // when
+        ProductResponseDto jpaMiss = productService.findProductByIdJpa(productId).orElseThrow();
+        ProductResponseDto jpaHit = productService.findProductByIdJpa(productId).orElseThrow();
+        ProductResponseDto myBatisMiss = productService.findProductByIdMyBatis(productId);
+        ProductResponseDto myBatisHit = productService.findProductByIdMyBatis(productId);
+
+        // then - 기술별로 미스일 때 한 번씩만 조회
+        assertThat(jpaHit.getName()).isEqualTo(jpaMiss.getName());
+        assertThat(myBatisHit.getName()).isEqualTo(myBatisMiss.getName());
+        assertThat(executed(OrmTechnique.JPA)).isEqualTo(1);
+        assertThat(executed(OrmTechnique.MYBATIS)).isEqualTo(1);
+    }
+
+    private long executed(OrmTechnique technique) {
+        return singleFlight.snapshot(false).stream()
+                .filter(s -> s.getEntity().equals("Product") && s.getOperation().equals("findById")
+                        && s.getTechnique() == technique)
+                .mapToLong(SingleFlightStatisticsDto::getExecuted)
+                .sum();
+    }
+}
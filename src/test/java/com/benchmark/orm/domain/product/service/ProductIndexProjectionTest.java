@@ -0,0 +1,138 @@
+package com.benchmark.orm.domain.product.service;
+
+import com.benchmark.orm.domain.product.dto.ProductIndexSimpleDto;
+import com.benchmark.orm.domain.product.entity.Brand;
+import com.benchmark.orm.domain.product.entity.Category;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import com.benchmark.orm.domain.product.repository.BrandRepository;
+import com.benchmark.orm.domain.product.repository.CategoryRepository;
+import com.benchmark.orm.domain.product.repository.ProductIndexRepository;
+import com.benchmark.orm.global.metrics.ExpectMaxQueries;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 인덱스 DTO 프로젝션 테스트
+ * <p>
+ * JPQL select new, QueryDSL Projections.constructor, MyBatis resultType 프로젝션이
+ * 엔티티 조회 후 변환한 결과와 같고, SQL 한 번으로 엔티티 없이 조회하는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ProductIndexProjectionTest {
+
+    private static final int PRODUCT_COUNT = 10;
+    private static final int MIN_PRICE = 7_770_000;
+    private static final int MAX_PRICE = 7_779_999;
+
+    @Autowired
+    private ProductIndexJpaService productIndexJpaService;
+
+    @Autowired
+    private ProductIndexMyBatisService productIndexMyBatisService;
+
+    @Autowired
+    private ProductIndexRepository productIndexRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long brandId;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = brandRepository.save(Brand.builder().name("프로젝션 브랜드").build());
+        brandId = brand.getId();
+
+        List<ProductIndex> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Category category = categoryRepository.save(Category.builder().name("프로젝션 카테고리" + i).build());
+            products.add(ProductIndex.builder()
+                    .name("프로젝션 상품" + i)
+                    .price(MIN_PRICE + i)
+                    .brand(brand)
+                    .category(category)
+                    .build());
+        }
+        // 브랜드/카테고리가 없는 상품도 LEFT JOIN으로 포함되어야 함
+        products.add(ProductIndex.builder()
+                .name("프로젝션 상품 (연관 없음)")
+                .price(MAX_PRICE)
+                .build());
+        productIndexRepository.saveAll(products);
+
+        // 영속성 컨텍스트를 비워 조회 시 실제 SQL이 실행되도록 함
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("JPA 프로젝션과 엔티티 조회 결과 일치 테스트")
+    public void jpaProjectionMatchesEntityTest() {
+        // when
+        List<ProductIndexSimpleDto> projected = productIndexJpaService.findByPriceBetweenProjected(MIN_PRICE, MAX_PRICE);
+        List<ProductIndexSimpleDto> jpql = productIndexRepository.findByPriceBetweenSimpleJpql(MIN_PRICE, MAX_PRICE);
+        List<ProductIndexSimpleDto> fromEntities = productIndexJpaService.findByPriceBetween(MIN_PRICE, MAX_PRICE);
+
+        // then
+        assertThat(projected).hasSize(PRODUCT_COUNT + 1);
+        assertThat(projected).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(fromEntities);
+        assertThat(jpql).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(fromEntities);
+        assertThat(projected).filteredOn(dto -> dto.getPrice() == MAX_PRICE)
+                .singleElement()
+                .satisfies(dto -> {
+                    assertThat(dto.getBrandName()).isNull();
+                    assertThat(dto.getCategoryName()).isNull();
+                });
+    }
+
+    @Test
+    @DisplayName("JPA 프로젝션 - SQL 한 번, 영속성 컨텍스트 미사용 테스트")
+    @ExpectMaxQueries(1)
+    public void jpaProjectionSkipsPersistenceContextTest() {
+        // when
+        List<ProductIndexSimpleDto> products = productIndexJpaService.findByBrandIdProjected(brandId);
+
+        // then
+        assertThat(products).hasSize(PRODUCT_COUNT);
+        assertThat(products).allSatisfy(dto -> assertThat(dto.getBrandName()).isEqualTo("프로젝션 브랜드"));
+        assertThat(entityManager.unwrap(SessionImplementor.class)
+                .getPersistenceContext()
+                .getNumberOfManagedEntities()).isZero();
+    }
+
+    @Test
+    @DisplayName("MyBatis 프로젝션과 엔티티 조회 결과 일치 테스트")
+    @ExpectMaxQueries(2)
+    public void myBatisProjectionMatchesEntityTest() {
+        // when
+        List<ProductIndexSimpleDto> projected = productIndexMyBatisService.findByPriceBetweenProjected(MIN_PRICE, MAX_PRICE);
+        List<ProductIndexSimpleDto> fromEntities = productIndexMyBatisService.findByPriceBetween(MIN_PRICE, MAX_PRICE);
+
+        // then
+        assertThat(projected).hasSize(PRODUCT_COUNT + 1);
+        assertThat(projected).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(fromEntities);
+    }
+}
@@ -0,0 +1,149 @@
+package com.benchmark.orm.domain.product.service;
+
+import com.benchmark.orm.domain.product.dto.ProductPageDto;
+import com.benchmark.orm.domain.product.dto.ProductSearchDto;
+import com.benchmark.orm.domain.product.dto.ProductSimpleDto;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.mapper.ProductMapper;
+import com.benchmark.orm.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품명 트라이그램 인덱스 테스트
+ * <p>
+ * 서비스를 거치지 않고 리포지토리/매퍼로 직접 변경해도 인덱스에 반영되는지,
+ * 인덱스를 믿을 수 없는 경우(후보 없음, 쓰기 트랜잭션 안) LIKE 검색으로 돌아가는지 검증
+ * <p>
+ * 인덱스는 커밋 이후에 갱신되므로 테스트 트랜잭션 롤백 대신 단계마다 커밋하고, 종료 후 만든 데이터를 직접 삭제함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ProductNameSearchIndexTest {
+
+    @Autowired
+    private ProductNameSearchIndex productNameSearchIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private ProductMyBatisService productMyBatisService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> productIds.forEach(productMapper::deleteById));
+    }
+
+    @Test
+    @DisplayName("매퍼 직접 INSERT/DELETE 커밋 후 인덱스 반영 테스트")
+    public void mapperWriteTest() {
+        // when
+        Long id = insertWithMapper("매퍼직접등록 상품");
+
+        // then
+        assertThat(productNameSearchIndex.findProductCandidates("매퍼직접등록")).containsExactly(id);
+
+        // when - 삭제
+        transactionTemplate.executeWithoutResult(status -> productMapper.deleteById(id));
+
+        // then - 후보가 없으면 LIKE 검색으로 처리
+        assertThat(productNameSearchIndex.findProductCandidates("매퍼직접등록")).isNull();
+    }
+
+    @Test
+    @DisplayName("리포지토리 직접 저장/이름 변경 커밋 후 인덱스 반영 테스트")
+    public void repositoryWriteTest() {
+        // given
+        Long id = transactionTemplate.execute(status ->
+                productRepository.save(Product.builder().name("리포지토리등록 상품").price(1000).build()).getId());
+        productIds.add(id);
+        assertThat(productNameSearchIndex.findProductCandidates("리포지토리등록")).containsExactly(id);
+
+        // when - 같은 ID의 엔티티로 저장해 커밋 (merge)
+        transactionTemplate.executeWithoutResult(status -> {
+            Product product = productRepository.findById(id).orElseThrow();
+            productRepository.save(Product.builder()
+                    .id(product.getId())
+                    .name("리포지토리변경 상품")
+                    .price(product.getPrice())
+                    .build());
+        });
+
+        // then
+        assertThat(productNameSearchIndex.findProductCandidates("리포지토리변경")).containsExactly(id);
+        assertThat(productNameSearchIndex.findProductCandidates("리포지토리등록")).isNull();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안에서는 인덱스 대신 LIKE 검색 사용 테스트")
+    public void writeTransactionFallbackTest() {
+        // given
+        Long id = insertWithMapper("트랜잭션확인 상품");
+
+        // when
+        SortedSet<Long> insideWrite = transactionTemplate.execute(status ->
+                productNameSearchIndex.findProductCandidates("트랜잭션확인"));
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        SortedSet<Long> insideReadOnly = readOnly.execute(status ->
+                productNameSearchIndex.findProductCandidates("트랜잭션확인"));
+
+        // then
+        assertThat(insideWrite).isNull();
+        assertThat(insideReadOnly).containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("MyBatis 검색 - 후보 ID 검색에서도 상품명 대소문자 구분 테스트")
+    public void myBatisCaseSensitiveTest() {
+        // given
+        insertWithMapper("Trigram Apple");
+
+        // when
+        ProductPageDto<ProductSimpleDto> exact = productMyBatisService.searchProducts(
+                ProductSearchDto.builder().keyword("Trigram Apple").build(), 0, 10);
+        ProductPageDto<ProductSimpleDto> lowerCase = productMyBatisService.searchProducts(
+                ProductSearchDto.builder().keyword("trigram apple").build(), 0, 10);
+
+        // then - 인덱스는 대소문자 없이 후보를 찾지만 결과는 기존 LIKE와 같음
+        assertThat(productNameSearchIndex.findProductCandidates("trigram apple")).hasSize(1);
+        assertThat(exact.getContent()).extracting(ProductSimpleDto::getName).containsExactly("Trigram Apple");
+        assertThat(lowerCase.getContent()).isEmpty();
+        assertThat(lowerCase.getTotalElements()).isZero();
+    }
+
+    private Long insertWithMapper(String name) {
+        Product product = Product.builder().name(name).price(1000).build();
+        transactionTemplate.executeWithoutResult(status -> productMapper.insert(product));
+        productIds.add(product.getId());
+        return product.getId();
+    }
+}
@@ -0,0 +1,206 @@
+package com.benchmark.orm.domain.product.service;
+
+import com.benchmark.orm.domain.product.dto.ProductIndexSimpleDto;
+import com.benchmark.orm.domain.product.dto.ProductSearchDto;
+import com.benchmark.orm.domain.product.dto.ProductSimpleDto;
+import com.benchmark.orm.domain.product.entity.Brand;
+import com.benchmark.orm.domain.product.entity.Category;
+import com.benchmark.orm.domain.product.entity.Product;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import com.benchmark.orm.domain.product.repository.BrandRepository;
+import com.benchmark.orm.domain.product.repository.CategoryRepository;
+import com.benchmark.orm.domain.product.repository.ProductIndexRepository;
+import com.benchmark.orm.domain.product.repository.ProductRepository;
+import com.benchmark.orm.global.dto.CursorPageDto;
+import com.benchmark.orm.global.entity.FetchPlan;
+import com.benchmark.orm.global.metrics.ExpectMaxQueries;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 조회 SQL 실행 횟수 테스트
+ * <p>
+ * 브랜드/카테고리가 모두 다른 상품 10건을 조회할 때 상품 수에 비례해 SQL이 늘어나지 않는지,
+ * fetch plan에 지정한 연관관계만 함께 조회하는지 검증
+ * (페이징/커서/정렬/검색 목록은 DTO에 브랜드명/카테고리명이 필요하므로 FULL fetch plan으로 조회)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ProductQueryCountTest {
+
+    private static final int PRODUCT_COUNT = 10;
+
+    @Autowired
+    private ProductJpaService productJpaService;
+
+    @Autowired
+    private ProductMyBatisService productMyBatisService;
+
+    @Autowired
+    private ProductIndexJpaService productIndexJpaService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductIndexRepository productIndexRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        List<Product> products = new ArrayList<>();
+        List<ProductIndex> productIndexes = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Brand brand = brandRepository.save(Brand.builder().name("카운트 브랜드" + i).build());
+            Category category = categoryRepository.save(Category.builder().name("카운트 카테고리" + i).build());
+            products.add(Product.builder()
+                    .name("카운트 상품" + i)
+                    .price(1000 * (i + 1))
+                    .brand(brand)
+                    .category(category)
+                    .build());
+            productIndexes.add(ProductIndex.builder()
+                    .name("카운트 상품" + i)
+                    .price(1000 * (i + 1))
+                    .brand(brand)
+                    .category(category)
+                    .build());
+        }
+        productRepository.saveAll(products);
+        productIndexRepository.saveAll(productIndexes);
+
+        // 영속성 컨텍스트를 비워 조회 시 실제 SQL이 실행되도록 함
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("JPA 전체 조회 - FULL fetch plan으로 브랜드/카테고리를 한 번에 조회하는지 테스트")
+    @ExpectMaxQueries(1)
+    public void jpaFindAllQueryCountTest() {
+        // when - 상품, 브랜드, 카테고리를 엔티티 그래프로 함께 조회
+        List<ProductSimpleDto> products = productJpaService.findAll();
+
+        // then
+        assertThat(products).hasSizeGreaterThanOrEqualTo(PRODUCT_COUNT);
+        assertThat(products).filteredOn(dto -> dto.getName().startsWith("카운트 상품"))
+                .allSatisfy(dto -> {
+                    assertThat(dto.getBrandName()).startsWith("카운트 브랜드");
+                    assertThat(dto.getCategoryName()).startsWith("카운트 카테고리");
+                });
+    }
+
+    @Test
+    @DisplayName("JPA SUMMARY fetch plan - 연관관계를 조회하지 않는지 테스트")
+    @ExpectMaxQueries(1)
+    public void jpaSummaryFetchPlanTest() {
+        // when
+        List<Product> products = productRepository.findAll(FetchPlan.SUMMARY);
+
+        // then - 브랜드/카테고리는 초기화되지 않은 프록시로 남음
+        assertThat(products).hasSizeGreaterThanOrEqualTo(PRODUCT_COUNT);
+        assertThat(products).filteredOn(product -> product.getBrand() != null)
+                .allSatisfy(product -> assertThat(Hibernate.isInitialized(product.getBrand())).isFalse());
+        assertThat(products).filteredOn(product -> product.getCategory() != null)
+                .allSatisfy(product -> assertThat(Hibernate.isInitialized(product.getCategory())).isFalse());
+    }
+
+    @Test
+    @DisplayName("JPA WITH_BRAND fetch plan - 브랜드만 함께 조회하는지 테스트")
+    @ExpectMaxQueries(1)
+    public void jpaWithBrandFetchPlanTest() {
+        // when
+        List<Product> products = productRepository.findAll(FetchPlan.WITH_BRAND);
+
+        // then
+        assertThat(products).filteredOn(product -> product.getName().startsWith("카운트 상품"))
+                .hasSize(PRODUCT_COUNT)
+                .allSatisfy(product -> {
+                    assertThat(Hibernate.isInitialized(product.getBrand())).isTrue();
+                    assertThat(Hibernate.isInitialized(product.getCategory())).isFalse();
+                });
+    }
+
+    @Test
+    @DisplayName("MyBatis 전체 조회 - 조인 한 번으로 조회하는지 테스트")
+    @ExpectMaxQueries(1)
+    public void myBatisFindAllQueryCountTest() {
+        // when
+        List<ProductSimpleDto> products = productMyBatisService.findAll();
+
+        // then
+        assertThat(products).hasSizeGreaterThanOrEqualTo(PRODUCT_COUNT);
+    }
+
+    @Test
+    @DisplayName("JPA 페이징 조회 - 목록 조회와 카운트 쿼리만 실행하는지 테스트")
+    @ExpectMaxQueries(4)
+    public void jpaPagingQueryCountTest() {
+        // when - 각각 목록 + 카운트
+        Page<ProductSimpleDto> products = productJpaService.findAllWithPaging(0, PRODUCT_COUNT, "id", "asc");
+        Page<ProductIndexSimpleDto> productIndexes = productIndexJpaService.findAllWithPaging(0, PRODUCT_COUNT, "id", "asc");
+
+        // then - 쿼리 수는 @ExpectMaxQueries가 검증 (기존 데이터가 있어도 페이지 크기만큼만 조회)
+        assertThat(products.getContent()).hasSize(PRODUCT_COUNT);
+        assertThat(productIndexes.getContent()).hasSize(PRODUCT_COUNT);
+    }
+
+    @Test
+    @DisplayName("JPA 커서/정렬 조회 - 브랜드/카테고리를 목록 조회와 함께 가져오는지 테스트")
+    @ExpectMaxQueries(4)
+    public void jpaCursorAndSortingQueryCountTest() {
+        // when - 각 1회
+        CursorPageDto<ProductSimpleDto> cursorPage = productJpaService.findAllWithCursor(null, PRODUCT_COUNT, "id", "desc");
+        CursorPageDto<ProductIndexSimpleDto> indexCursorPage =
+                productIndexJpaService.findAllWithCursor(null, PRODUCT_COUNT, "id", "desc");
+        List<ProductSimpleDto> sorted = productJpaService.findAllWithSorting("id", "desc");
+        List<ProductIndexSimpleDto> indexSorted = productIndexJpaService.findAllWithSorting("id", "desc");
+
+        // then - 가장 최근에 저장한 테스트 상품부터 조회됨
+        assertThat(cursorPage.getContent()).extracting(ProductSimpleDto::getBrandName).allMatch(name -> name.startsWith("카운트 브랜드"));
+        assertThat(indexCursorPage.getContent()).extracting(ProductIndexSimpleDto::getCategoryName)
+                .allMatch(name -> name.startsWith("카운트 카테고리"));
+        assertThat(sorted).hasSizeGreaterThanOrEqualTo(PRODUCT_COUNT);
+        assertThat(indexSorted).hasSizeGreaterThanOrEqualTo(PRODUCT_COUNT);
+    }
+
+    @Test
+    @DisplayName("JPA 검색 - 검색 결과와 카운트 쿼리만 실행하는지 테스트")
+    @ExpectMaxQueries(4)
+    public void jpaSearchQueryCountTest() {
+        // given
+        ProductSearchDto searchDto = ProductSearchDto.builder().keyword("카운트 상품").build();
+
+        // when - 각각 검색 + 카운트
+        Page<ProductSimpleDto> products = productJpaService.searchProducts(searchDto, 0, PRODUCT_COUNT);
+        Page<ProductIndexSimpleDto> productIndexes = productIndexJpaService.searchProductIndexs(searchDto, 0, PRODUCT_COUNT);
+
+        // then
+        assertThat(products.getContent()).hasSize(PRODUCT_COUNT)
+                .allSatisfy(dto -> assertThat(dto.getBrandName()).startsWith("카운트 브랜드"));
+        assertThat(productIndexes.getContent()).hasSize(PRODUCT_COUNT)
+                .allSatisfy(dto -> assertThat(dto.getCategoryName()).startsWith("카운트 카테고리"));
+    }
+}
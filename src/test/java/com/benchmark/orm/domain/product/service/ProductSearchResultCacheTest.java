@@ -0,0 +1,220 @@
+package com.benchmark.orm.domain.product.service;
+
+import com.benchmark.orm.domain.product.dto.ProductIndexSimpleDto;
+import com.benchmark.orm.domain.product.dto.ProductPageDto;
+import com.benchmark.orm.domain.product.dto.ProductRequestDto;
+import com.benchmark.orm.domain.product.dto.ProductSearchDto;
+import com.benchmark.orm.domain.product.entity.Brand;
+import com.benchmark.orm.domain.product.entity.ProductIndex;
+import com.benchmark.orm.domain.product.repository.BrandRepository;
+import com.benchmark.orm.domain.product.repository.ProductIndexRepository;
+import com.benchmark.orm.global.metrics.OrmTechnique;
+import com.benchmark.orm.global.metrics.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 검색 결과 캐시 테스트
+ * <p>
+ * 같은 검색 조건이 반복되면 검색/카운트 쿼리 없이 ID 조회 한 번으로 응답하고,
+ * 상품 변경 시 그 상품이 조건에 맞을 수 있는 검색 결과만 제거되는지 검증
+ * <p>
+ * 검색 결과는 커밋된 트랜잭션에서만 저장되므로 테스트 트랜잭션 롤백 대신
+ * 단계마다 트랜잭션을 커밋하고, 종료 후 만든 데이터를 직접 삭제함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ProductSearchResultCacheTest {
+
+    private static final int PRODUCT_COUNT = 5;
+    private static final int MIN_PRICE = 8_880_000;
+    private static final int MAX_PRICE = 8_889_999;
+
+    @Autowired
+    private ProductIndexJpaService productIndexJpaService;
+
+    @Autowired
+    private ProductIndexMyBatisService productIndexMyBatisService;
+
+    @Autowired
+    private ProductSearchResultCache productSearchResultCache;
+
+    @Autowired
+    private ProductIndexRepository productIndexRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long brandAId;
+    private Long brandBId;
+    private final List<Long> brandAProductIds = new ArrayList<>();
+    private final List<Long> brandBProductIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            Brand brandA = brandRepository.save(Brand.builder().name("검색 캐시 브랜드 A").build());
+            Brand brandB = brandRepository.save(Brand.builder().name("검색 캐시 브랜드 B").build());
+            brandAId = brandA.getId();
+            brandBId = brandB.getId();
+            for (int i = 0; i < PRODUCT_COUNT; i++) {
+                brandAProductIds.add(saveProduct("검색 캐시 상품 A" + i, MIN_PRICE + i, brandA));
+                brandBProductIds.add(saveProduct("검색 캐시 상품 B" + i, MIN_PRICE + i, brandB));
+            }
+        });
+        productSearchResultCache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
+        transactionTemplate.executeWithoutResult(status -> {
+            productIndexRepository.deleteAllById(brandAProductIds);
+            productIndexRepository.deleteAllById(brandBProductIds);
+            brandRepository.deleteById(brandAId);
+            brandRepository.deleteById(brandBId);
+        });
+        productSearchResultCache.clear();
+    }
+
+    @Test
+    @DisplayName("JPA 검색 - 캐시 적중 시 ID 조회 한 번으로 같은 결과 반환 테스트")
+    public void jpaCacheHitTest() {
+        // given
+        ProductSearchDto searchDto = searchDto(brandAId, "price", "desc");
+        Page<ProductIndexSimpleDto> first = productIndexJpaService.searchProductIndexs(searchDto, 0, 3);
+
+        // when
+        QueryCounter.start();
+        Page<ProductIndexSimpleDto> second = productIndexJpaService.searchProductIndexs(searchDto, 0, 3);
+
+        // then
+        assertThat(QueryCounter.current().getCount()).isEqualTo(1);
+        assertThat(second.getTotalElements()).isEqualTo(PRODUCT_COUNT);
+        assertThat(second.getContent()).extracting(ProductIndexSimpleDto::getId)
+                .containsExactlyElementsOf(first.getContent().stream().map(ProductIndexSimpleDto::getId).toList());
+        assertThat(second.getContent()).extracting(ProductIndexSimpleDto::getBrandName)
+                .containsOnly("검색 캐시 브랜드 A");
+    }
+
+    @Test
+    @DisplayName("MyBatis 검색 - 캐시 적중 시 ID 조회 한 번으로 같은 결과 반환 테스트")
+    public void myBatisCacheHitTest() {
+        // given
+        ProductSearchDto searchDto = searchDto(brandAId, "price", "desc");
+        ProductPageDto<ProductIndexSimpleDto> first = productIndexMyBatisService.searchProductIndexs(searchDto, 0, 3);
+
+        // when
+        QueryCounter.start();
+        ProductPageDto<ProductIndexSimpleDto> second = productIndexMyBatisService.searchProductIndexs(searchDto, 0, 3);
+
+        // then
+        assertThat(QueryCounter.current().getCount()).isEqualTo(1);
+        assertThat(second.getTotalElements()).isEqualTo(PRODUCT_COUNT);
+        assertThat(second.getContent()).extracting(ProductIndexSimpleDto::getId)
+                .containsExactlyElementsOf(first.getContent().stream().map(ProductIndexSimpleDto::getId).toList());
+    }
+
+    @Test
+    @DisplayName("상품 수정 시 해당 브랜드 조건의 검색 결과만 무효화 테스트")
+    public void updateEvictsOnlyMatchingBrandTest() {
+        // given
+        ProductSearchDto brandASearch = searchDto(brandAId, null, null);
+        ProductSearchDto brandBSearch = searchDto(brandBId, null, null);
+        productIndexJpaService.searchProductIndexs(brandASearch, 0, 10);
+        productIndexMyBatisService.searchProductIndexs(brandASearch, 0, 10);
+        productIndexJpaService.searchProductIndexs(brandBSearch, 0, 10);
+
+        // when - 브랜드 B 상품 수정
+        productIndexMyBatisService.updateProductIndex(brandBProductIds.get(0),
+                ProductRequestDto.builder().name("검색 캐시 상품 B 변경").price(MIN_PRICE).build());
+
+        // then
+        assertThat(productSearchResultCache.get(key(OrmTechnique.JPA, brandASearch))).isNotNull();
+        assertThat(productSearchResultCache.get(key(OrmTechnique.MYBATIS, brandASearch))).isNotNull();
+        assertThat(productSearchResultCache.get(key(OrmTechnique.JPA, brandBSearch))).isNull();
+        assertThat(productIndexJpaService.searchProductIndexs(brandBSearch, 0, 10).getContent())
+                .extracting(ProductIndexSimpleDto::getName)
+                .contains("검색 캐시 상품 B 변경");
+    }
+
+    @Test
+    @DisplayName("가격 범위 밖으로 이동해도 변경 전 조건의 검색 결과 무효화 테스트")
+    public void updateEvictsPreviousStateTest() {
+        // given
+        ProductSearchDto brandASearch = searchDto(brandAId, null, null);
+        assertThat(productIndexJpaService.searchProductIndexs(brandASearch, 0, 10).getTotalElements())
+                .isEqualTo(PRODUCT_COUNT);
+
+        // when - 검색 가격 범위 밖으로 변경
+        productIndexJpaService.updateProductIndex(brandAProductIds.get(0),
+                ProductRequestDto.builder().name("검색 캐시 상품 A0").price(MAX_PRICE + 1).build());
+
+        // then
+        assertThat(productSearchResultCache.get(key(OrmTechnique.JPA, brandASearch))).isNull();
+        assertThat(productIndexJpaService.searchProductIndexs(brandASearch, 0, 10).getTotalElements())
+                .isEqualTo(PRODUCT_COUNT - 1);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수 초과 시 가장 오래 사용되지 않은 항목 제거 테스트")
+    public void lruEvictionTest() {
+        // given
+        ProductSearchResultCache cache = new ProductSearchResultCache(2);
+        ProductSearchResultCache.Key first = cache.keyOf(OrmTechnique.JPA, searchDto(1L, null, null), 0, 10);
+        ProductSearchResultCache.Key second = cache.keyOf(OrmTechnique.JPA, searchDto(2L, null, null), 0, 10);
+        ProductSearchResultCache.Key third = cache.keyOf(OrmTechnique.JPA, searchDto(3L, null, null), 0, 10);
+        cache.put(first, List.of(1L), 1, cache.version());
+        cache.put(second, List.of(2L), 1, cache.version());
+
+        // when - first를 사용한 뒤 세 번째 항목 추가
+        cache.get(first);
+        cache.put(third, List.of(3L), 1, cache.version());
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(first)).isNotNull();
+        assertThat(cache.get(second)).isNull();
+        assertThat(cache.get(third)).isNotNull();
+    }
+
+    private Long saveProduct(String name, int price, Brand brand) {
+        return productIndexRepository.save(ProductIndex.builder()
+                .name(name)
+                .price(price)
+                .brand(brand)
+                .build()).getId();
+    }
+
+    private ProductSearchDto searchDto(Long brandId, String sortBy, String sortDirection) {
+        return ProductSearchDto.builder()
+                .minPrice(MIN_PRICE)
+                .maxPrice(MAX_PRICE)
+                .brandId(brandId)
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .build();
+    }
+
+    private ProductSearchResultCache.Key key(OrmTechnique technique, ProductSearchDto searchDto) {
+        return productSearchResultCache.keyOf(technique, searchDto, 0, 10);
+    }
+}
@@ -0,0 +1,141 @@
+package com.benchmark.orm.global.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BatchLoader 테스트
+ * <p>
+ * 예약한 ID가 IN 절 조회 한 번(최대 ID 수 단위로 나눔)으로 조회되는지, 같은 ID를 다시 조회하지 않는지,
+ * 없는 ID와 조회 실패가 어떻게 전달되는지 검증 (ID 목록을 받아 짝수 ID만 돌려주는 조회 함수 사용)
+ */
+public class BatchLoaderTest {
+
+    private final List<List<Long>> batches = new ArrayList<>();
+
+    @Test
+    @DisplayName("예약한 ID를 결과를 꺼낼 때 한 번에 조회 테스트")
+    public void singleBatchTest() {
+        // given
+        BatchLoader<Item> loader = loader(100);
+        CompletableFuture<Item> first = loader.load(2L);
+        CompletableFuture<Item> second = loader.load(4L);
+        CompletableFuture<Item> missing = loader.load(5L);
+        assertThat(batches).isEmpty();
+
+        // when
+        Item item = first.join();
+
+        // then
+        assertThat(item.getId()).isEqualTo(2L);
+        assertThat(second.isDone()).isTrue();
+        assertThat(second.join().getId()).isEqualTo(4L);
+        assertThat(missing.join()).isNull();
+        assertThat(batches).containsExactly(List.of(2L, 4L, 5L));
+    }
+
+    @Test
+    @DisplayName("IN 절 최대 ID 수 단위로 나누어 조회 테스트")
+    public void chunkTest() {
+        // given
+        BatchLoader<Item> loader = loader(2);
+        List<Long> ids = List.of(2L, 4L, 6L, 8L, 10L);
+
+        // when
+        Map<Long, Item> items = loader.getAll(ids);
+
+        // then
+        assertThat(items).containsOnlyKeys(ids);
+        assertThat(batches).containsExactly(List.of(2L, 4L), List.of(6L, 8L), List.of(10L));
+        assertThat(loader.getBatchCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 ID는 다시 조회하지 않음 테스트")
+    public void memoizationTest() {
+        // given
+        BatchLoader<Item> loader = loader(100);
+        Item first = loader.get(2L);
+
+        // when
+        Item second = loader.get(2L);
+        Map<Long, Item> many = loader.getAll(List.of(2L, 4L));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(many.get(2L)).isSameAs(first);
+        assertThat(batches).containsExactly(List.of(2L), List.of(4L));
+    }
+
+    @Test
+    @DisplayName("여러 ID 조회 결과를 요청 순서대로 반환 테스트")
+    public void loadManyTest() {
+        // given
+        BatchLoader<Item> loader = loader(100);
+
+        // when
+        List<Item> items = loader.loadMany(List.of(6L, 3L, 2L)).join();
+
+        // then
+        assertThat(items).hasSize(3);
+        assertThat(items.get(0).getId()).isEqualTo(6L);
+        assertThat(items.get(1)).isNull();
+        assertThat(items.get(2).getId()).isEqualTo(2L);
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("조회 실패 시 해당 ID는 예외로 완료되고 다시 요청하면 재조회 테스트")
+    public void failureTest() {
+        // given
+        List<Integer> calls = new ArrayList<>();
+        BatchLoader<Item> loader = new BatchLoader<>("Item", ids -> {
+            calls.add(ids.size());
+            if (calls.size() == 1) {
+                throw new RuntimeException("DB 오류");
+            }
+            return ids.stream().map(Item::new).toList();
+        }, Item::getId, 100);
+
+        // when & then
+        assertThatThrownBy(() -> loader.get(1L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Item")
+                .hasRootCauseMessage("DB 오류");
+        assertThat(loader.get(1L).getId()).isEqualTo(1L);
+        assertThat(calls).hasSize(2);
+    }
+
+    private BatchLoader<Item> loader(int maxBatchSize) {
+        return new BatchLoader<>("Item", this::findEvenIds, Item::getId, maxBatchSize);
+    }
+
+    private List<Item> findEvenIds(Collection<Long> ids) {
+        batches.add(List.copyOf(ids));
+        return ids.stream()
+                .filter(id -> id % 2 == 0)
+                .map(Item::new)
+                .toList();
+    }
+
+    private static class Item {
+        private final Long id;
+
+        private Item(Long id) {
+            this.id = id;
+        }
+
+        public Long getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.benchmark.orm.global.benchmark;
+
+import com.benchmark.orm.global.explain.QueryPlan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 벤치마크 결과 저장소와 실행 간 비교 테스트
+ */
+public class BenchmarkComparisonTest {
+
+    @TempDir
+    Path tempDir;
+
+    private BenchmarkResult result(String runId, String query, double p50) {
+        return BenchmarkResult.builder()
+                .runId(runId)
+                .commit("abc1234")
+                .source("jmh")
+                .query(query)
+                .technique("JPQL")
+                .datasetSize(10_000L)
+                .p50(p50)
+                .build();
+    }
+
+    @Test
+    @DisplayName("결과 추가 후 실행별 조회 테스트")
+    public void appendAndFindTest() {
+        // given
+        BenchmarkResultStore store = new BenchmarkResultStore(tempDir.resolve("results/results.jsonl"));
+
+        // when - 실행 두 번을 나누어 추가
+        store.append(List.of(result("run-1", "A.jpqlProduct", 100), result("run-1", "A.jpqlProductIndex", 10)));
+        store.append(List.of(result("run-2", "A.jpqlProduct", 105)));
+
+        // then
+        assertThat(store.findRunIds()).containsExactly("run-1", "run-2");
+        assertThat(store.findByRunId("run-1")).hasSize(2);
+        assertThat(store.findByRunId("run-2").get(0).getP50()).isEqualTo(105.0);
+        assertThat(store.findByRunId("run-2").get(0).getP99()).isNull();
+    }
+
+    @Test
+    @DisplayName("기준을 넘는 증가만 회귀로 판단 테스트")
+    public void regressionTest() {
+        // given
+        List<BenchmarkResult> base = List.of(
+                result("run-1", "A.jpqlProduct", 100),
+                result("run-1", "A.jpqlProductIndex", 10),
+                result("run-1", "A.removed", 10));
+        List<BenchmarkResult> target = List.of(
+                result("run-2", "A.jpqlProduct", 109),
+                result("run-2", "A.jpqlProductIndex", 12),
+                result("run-2", "A.added", 10));
+
+        // when
+        BenchmarkComparison comparison = BenchmarkComparison.compare(base, target, 10.0);
+
+        // then - 양쪽에 모두 있는 2건만 비교, +20%인 항목만 회귀
+        assertThat(comparison.getRows()).hasSize(2);
+        assertThat(comparison.hasRegression()).isTrue();
+        assertThat(comparison.getRegressions())
+                .extracting(BenchmarkComparison.Row::getKey)
+                .containsExactly("jmh | A.jpqlProductIndex | JPQL | 10000");
+        assertThat(comparison.getRegressions().get(0).getChangePercent()).isCloseTo(20.0, within(0.001));
+    }
+
+    @Test
+    @DisplayName("인덱스를 더 이상 쓰지 않으면 시간과 무관하게 회귀로 판단 테스트")
+    public void lostIndexTest() {
+        // given - 기준 실행은 이름 인덱스 사용, 대상 실행은 전체 스캔
+        List<BenchmarkResult> base = List.of(result("run-1", "A.jpqlProductIndex", 10).toBuilder()
+                .plans(List.of(QueryPlan.builder()
+                        .indexes(List.of("idx_product_index_name"))
+                        .build()))
+                .build());
+        List<BenchmarkResult> target = List.of(result("run-2", "A.jpqlProductIndex", 10).toBuilder()
+                .plans(List.of(QueryPlan.builder()
+                        .fullScans(List.of("product_index"))
+                        .build()))
+                .build());
+
+        // when
+        BenchmarkComparison comparison = BenchmarkComparison.compare(base, target, 10.0);
+
+        // then
+        assertThat(comparison.hasRegression()).isTrue();
+        assertThat(comparison.getRegressions().get(0).getLostIndexes()).containsExactly("idx_product_index_name");
+        assertThat(comparison.format()).contains("인덱스 미사용: [idx_product_index_name]");
+    }
+}
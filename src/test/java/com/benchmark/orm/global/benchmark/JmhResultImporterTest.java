@@ -0,0 +1,84 @@
+package com.benchmark.orm.global.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JMH 결과 변환과 README 결과 표 생성 테스트
+ */
+public class JmhResultImporterTest {
+
+    private static final String JMH_RESULTS = "["
+            + "{\"benchmark\":\"com.benchmark.orm.benchmark.product.ProductNameQueryBenchmark.jpqlProduct\","
+            + "\"mode\":\"avgt\",\"params\":{\"datasetSize\":\"10000\"},"
+            + "\"primaryMetric\":{\"score\":1.2,\"scoreUnit\":\"ms/op\"}},"
+            + "{\"benchmark\":\"com.benchmark.orm.benchmark.product.ProductNameQueryBenchmark.jpqlProduct\","
+            + "\"mode\":\"sample\",\"params\":{\"datasetSize\":\"10000\"},"
+            + "\"primaryMetric\":{\"score\":1300.0,\"scoreUnit\":\"us/op\","
+            + "\"scorePercentiles\":{\"50.0\":1000.0,\"90.0\":1500.0,\"99.0\":2000.0,\"99.9\":3000.0,\"100.0\":4000.0},"
+            + "\"rawDataHistogram\":[[[[1000.0,7],[1500.0,3]]]]}},"
+            + "{\"benchmark\":\"com.benchmark.orm.benchmark.product.ProductNameQueryBenchmark.jpqlProductIndex\","
+            + "\"mode\":\"avgt\",\"params\":{\"datasetSize\":\"10000\"},"
+            + "\"primaryMetric\":{\"score\":250.0,\"scoreUnit\":\"us/op\"},"
+            + "\"secondaryMetrics\":{\"\u00b7gc.alloc.rate\":{\"score\":900.0},\"\u00b7gc.alloc.rate.norm\":{\"score\":24576.0}}},"
+            + "{\"benchmark\":\"com.benchmark.orm.benchmark.order.OrderMostOrderedProductsBenchmark.myBatisMostOrderedProducts\","
+            + "\"mode\":\"avgt\",\"params\":{\"limit\":\"10\"},"
+            + "\"primaryMetric\":{\"score\":500000.0,\"scoreUnit\":\"ns/op\"}}"
+            + "]";
+
+    @Test
+    @DisplayName("avgt/sample 결과 병합 및 단위 변환 테스트")
+    public void convertTest() throws Exception {
+        // when
+        List<BenchmarkResult> results = new JmhResultImporter()
+                .convert(new ObjectMapper().readTree(JMH_RESULTS), "run-1", "abc1234");
+
+        // then - 같은 벤치마크의 avgt(평균)와 sample(백분위)이 한 건으로 합쳐짐
+        assertThat(results).hasSize(3);
+
+        BenchmarkResult jpql = results.get(0);
+        assertThat(jpql.getQuery()).isEqualTo("ProductNameQueryBenchmark.jpqlProduct");
+        assertThat(jpql.getTechnique()).isEqualTo("JPQL");
+        assertThat(jpql.getDatasetSize()).isEqualTo(10_000L);
+        assertThat(jpql.getMean()).isEqualTo(1200.0);
+        assertThat(jpql.getP50()).isEqualTo(1000.0);
+        assertThat(jpql.getP999()).isEqualTo(3000.0);
+        assertThat(jpql.getSamples()).isEqualTo(10L);
+        assertThat(jpql.getBytesPerOp()).isNull();
+
+        // gc 프로파일러 결과가 있으면 호출당 할당 바이트 저장
+        assertThat(results.get(1).getBytesPerOp()).isEqualTo(24576.0);
+
+        // datasetSize 외 파라미터는 측정 대상 이름에 붙음
+        BenchmarkResult order = results.get(2);
+        assertThat(order.getQuery()).isEqualTo("OrderMostOrderedProductsBenchmark.myBatisMostOrderedProducts{limit=10}");
+        assertThat(order.getTechnique()).isEqualTo("MyBatis");
+        assertThat(order.getDatasetSize()).isNull();
+        assertThat(order.getMean()).isEqualTo(500.0);
+    }
+
+    @Test
+    @DisplayName("README 결과 구간 교체 테스트")
+    public void readmeTest() throws Exception {
+        // given
+        List<BenchmarkResult> results = new JmhResultImporter()
+                .convert(new ObjectMapper().readTree(JMH_RESULTS), "run-1", "abc1234");
+        BenchmarkReadmeGenerator generator = new BenchmarkReadmeGenerator();
+        String readme = "# 제목\n" + BenchmarkReadmeGenerator.START_MARKER + "\n이전 결과\n"
+                + BenchmarkReadmeGenerator.END_MARKER + "\n## 다음 절\n";
+
+        // when
+        String updated = generator.replaceSection(readme, generator.render(results));
+
+        // then - 인덱스 없음(p50) / 인덱스 있음(평균) / 향상률이 한 행에 표시되고 구간 밖은 유지
+        assertThat(updated).doesNotContain("이전 결과");
+        assertThat(updated).contains("| JPQL | 1000.0 | 250.0 | 75.0% |");
+        assertThat(updated).contains("| myBatisMostOrderedProducts{limit=10} | MyBatis | 500.0 | - | - |");
+        assertThat(updated).startsWith("# 제목\n").endsWith(BenchmarkReadmeGenerator.END_MARKER + "\n## 다음 절\n");
+    }
+}
@@ -0,0 +1,194 @@
+package com.benchmark.orm.global.cache;
+
+import com.benchmark.orm.domain.order.dto.OrderResponseDto;
+import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.domain.product.dto.ProductResponseDto;
+import com.benchmark.orm.global.dto.NearCacheStatisticsDto;
+import com.benchmark.orm.global.metrics.OrmTechnique;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NearCache 테스트
+ * <p>
+ * byte[] 직렬화 왕복, 적중 시 loader 미호출, 무효화와 조회 중 무효화 시 저장 생략, 통계 검증
+ * (트랜잭션 밖에서 호출하므로 조회 결과는 즉시 저장됨)
+ */
+public class NearCacheTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 1, 12, 30, 15);
+
+    @Test
+    @DisplayName("직렬화 저장 후 적중 시 loader 없이 같은 내용의 새 DTO 반환 테스트")
+    public void roundTripTest() {
+        // given
+        NearCache<ProductResponseDto> cache = productCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        ProductResponseDto first = cache.get(OrmTechnique.JPA, 1L, id -> {
+            loads.incrementAndGet();
+            return product(id);
+        });
+        ProductResponseDto second = cache.get(OrmTechnique.JPA, 1L, id -> {
+            loads.incrementAndGet();
+            return product(id);
+        });
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second).usingRecursiveComparison().isEqualTo(first);
+        assertThat(second.getImages().get(0).isThumbnail()).isTrue();
+        assertThat(second.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(cache.snapshot(false).getBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("주문 DTO(상태 enum, 주문 상품 목록) 직렬화 왕복 테스트")
+    public void orderRoundTripTest() {
+        // given
+        NearCache<OrderResponseDto> cache = new NearCache<>("order", OrderResponseDto.class, 1024 * 1024, Duration.ofMinutes(5));
+        OrderResponseDto order = OrderResponseDto.builder()
+                .id(1L)
+                .orderDate(CREATED_AT)
+                .status(Order.OrderStatus.SHIPPED)
+                .orderItems(List.of(OrderResponseDto.OrderItemResponseDto.builder()
+                        .id(10L)
+                        .quantity(2)
+                        .orderPrice(5000)
+                        .productId(100L)
+                        .productName("캐시 상품")
+                        .itemTotalPrice(10000)
+                        .build()))
+                .totalAmount(10000)
+                .build();
+        cache.get(OrmTechnique.MYBATIS, 1L, id -> order);
+
+        // when
+        OrderResponseDto cached = cache.get(OrmTechnique.MYBATIS, 1L, id -> null);
+
+        // then
+        assertThat(cached).usingRecursiveComparison().isEqualTo(order);
+    }
+
+    @Test
+    @DisplayName("조회 결과가 없으면 저장하지 않음 테스트")
+    public void nullNotCachedTest() {
+        // given
+        NearCache<ProductResponseDto> cache = productCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(OrmTechnique.JPA, 1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        ProductResponseDto result = cache.get(OrmTechnique.JPA, 1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        // then
+        assertThat(result).isNull();
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.snapshot(false).getEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("기술별로 따로 저장하고 무효화 시 모든 기술의 항목 제거 테스트")
+    public void invalidateTest() {
+        // given
+        NearCache<ProductResponseDto> cache = productCache();
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(OrmTechnique.JPA, 1L, id -> {
+            loads.incrementAndGet();
+            return product(id);
+        });
+        cache.get(OrmTechnique.MYBATIS, 1L, id -> {
+            loads.incrementAndGet();
+            return product(id);
+        });
+        assertThat(loads.get()).isEqualTo(2);
+
+        // when
+        cache.invalidate(1L);
+        cache.get(OrmTechnique.JPA, 1L, id -> {
+            loads.incrementAndGet();
+            return product(id);
+        });
+        cache.get(OrmTechnique.MYBATIS, 1L, id -> {
+            loads.incrementAndGet();
+            return product(id);
+        });
+
+        // then
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회 결과를 저장하지 않음 테스트")
+    public void invalidatedDuringLoadTest() {
+        // given
+        NearCache<ProductResponseDto> cache = productCache();
+
+        // when - 조회 중에 다른 요청이 같은 상품을 변경한 상황
+        cache.get(OrmTechnique.JPA, 1L, id -> {
+            cache.invalidate(id);
+            return product(id);
+        });
+
+        // then
+        assertThat(cache.snapshot(false).getEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("적중/실패 통계와 통계 초기화 테스트")
+    public void statisticsTest() {
+        // given
+        NearCache<ProductResponseDto> cache = productCache();
+        cache.get(OrmTechnique.JPA, 1L, this::product);
+        cache.get(OrmTechnique.JPA, 1L, this::product);
+        cache.get(OrmTechnique.JPA, 1L, this::product);
+
+        // when
+        NearCacheStatisticsDto statistics = cache.snapshot(true);
+        NearCacheStatisticsDto afterReset = cache.snapshot(false);
+
+        // then
+        assertThat(statistics.getCache()).isEqualTo("product");
+        assertThat(statistics.getHits()).isEqualTo(2);
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getHitPercentage()).isBetween(66.0, 67.0);
+        assertThat(statistics.getEntries()).isEqualTo(1);
+        assertThat(afterReset.getHits()).isZero();
+        assertThat(afterReset.getEntries()).isEqualTo(1);
+    }
+
+    private NearCache<ProductResponseDto> productCache() {
+        return new NearCache<>("product", ProductResponseDto.class, 1024 * 1024, Duration.ofMinutes(5));
+    }
+
+    private ProductResponseDto product(Long id) {
+        return ProductResponseDto.builder()
+                .id(id)
+                .name("캐시 상품 " + id)
+                .price(15000)
+                .brand(ProductResponseDto.BrandDto.builder().id(1L).name("캐시 브랜드").build())
+                .images(List.of(ProductResponseDto.ProductImageDto.builder()
+                        .id(1L)
+                        .url("https://example.com/1.png")
+                        .isThumbnail(true)
+                        .build()))
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+    }
+}
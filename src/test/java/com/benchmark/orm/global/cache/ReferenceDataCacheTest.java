@@ -0,0 +1,216 @@
+package com.benchmark.orm.global.cache;
+
+import com.benchmark.orm.domain.product.entity.Brand;
+import com.benchmark.orm.domain.product.entity.Category;
+import com.benchmark.orm.domain.product.mapper.BrandMapper;
+import com.benchmark.orm.domain.product.repository.BrandRepository;
+import com.benchmark.orm.domain.product.repository.CategoryRepository;
+import com.benchmark.orm.global.dto.CacheStatisticsDto;
+import com.benchmark.orm.global.metrics.CacheMetrics;
+import com.benchmark.orm.global.metrics.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 브랜드/카테고리 참조 데이터 캐시 테스트
+ * <p>
+ * 2차 캐시(ID), 이름 캐시, MyBatis 매퍼 캐시가 적중 시 SQL 없이 조회되고,
+ * 한쪽 기술로 변경하면 다른 쪽 캐시도 비워지는지, 캐시에서 꺼낸 객체가 호출자마다 별도 인스턴스인지 검증
+ * <p>
+ * 캐시는 커밋된 트랜잭션에서만 채워지므로(MyBatis는 커밋 시점에 저장) 테스트 트랜잭션 롤백 대신
+ * 단계마다 트랜잭션을 커밋하고, 종료 후 만든 데이터를 직접 삭제함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReferenceDataCacheTest {
+
+    private static final String BRAND_NAME = "캐시 브랜드";
+    private static final String CATEGORY_NAME = "캐시 카테고리";
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BrandMapper brandMapper;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private CacheMetrics cacheMetrics;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long brandId;
+    private Long categoryId;
+    private final List<Long> extraBrandIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        brandId = saveBrand(BRAND_NAME);
+        categoryId = transactionTemplate.execute(status ->
+                categoryRepository.save(Category.builder().name(CATEGORY_NAME).build()).getId());
+        // 저장 시 적재된 캐시를 비워 첫 조회가 DB에서 읽도록 함
+        referenceDataCache.evictAll();
+        cacheMetrics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
+        transactionTemplate.executeWithoutResult(status -> {
+            brandRepository.deleteById(brandId);
+            extraBrandIds.forEach(brandRepository::deleteById);
+            categoryRepository.deleteById(categoryId);
+        });
+        referenceDataCache.evictAll();
+    }
+
+    @Test
+    @DisplayName("JPA ID 조회 - 2차 캐시 적중 시 SQL 미실행 테스트")
+    public void entityCacheHitTest() {
+        // given - 첫 조회로 2차 캐시 적재
+        assertThat(entityManagerFactory.getCache().contains(Brand.class, brandId)).isFalse();
+        transactionTemplate.execute(status -> brandRepository.findById(brandId));
+        assertThat(entityManagerFactory.getCache().contains(Brand.class, brandId)).isTrue();
+
+        // when
+        Brand brand = countQueries(() -> brandRepository.findById(brandId).orElseThrow());
+
+        // then
+        assertThat(brand.getName()).isEqualTo(BRAND_NAME);
+        assertThat(QueryCounter.current().getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이름 조회 - 이름 캐시와 2차 캐시 적중 시 SQL 미실행 테스트")
+    public void nameCacheHitTest() {
+        // given
+        transactionTemplate.execute(status -> brandRepository.findByName(BRAND_NAME));
+        transactionTemplate.execute(status -> categoryRepository.findByName(CATEGORY_NAME));
+
+        // when
+        Brand brand = countQueries(() -> brandRepository.findByName(BRAND_NAME).orElseThrow());
+        Category category = countQueries(() -> categoryRepository.findByName(CATEGORY_NAME).orElseThrow());
+
+        // then
+        assertThat(brand.getId()).isEqualTo(brandId);
+        assertThat(category.getId()).isEqualTo(categoryId);
+        assertThat(QueryCounter.current().getCount()).isZero();
+        assertThat(statistics(ReferenceDataCache.BRAND_NAME_CACHE).getHits()).isPositive();
+        assertThat(statistics(ReferenceDataCache.CATEGORY_NAME_CACHE).getHits()).isPositive();
+    }
+
+    @Test
+    @DisplayName("이름이 같은 브랜드 저장 가능 및 이름 조회 시 ID가 가장 작은 브랜드 반환 테스트")
+    public void duplicateNameTest() {
+        // when
+        Long duplicateId = saveBrand(BRAND_NAME);
+        extraBrandIds.add(duplicateId);
+
+        // then
+        assertThat(duplicateId).isNotEqualTo(brandId);
+        Optional<Brand> found = transactionTemplate.execute(status -> brandRepository.findByName(BRAND_NAME));
+        assertThat(found).map(Brand::getId).contains(brandId);
+    }
+
+    @Test
+    @DisplayName("MyBatis 매퍼 캐시 - 호출자마다 별도 인스턴스 반환 테스트")
+    public void mapperCacheReturnsCopyTest() {
+        // given
+        transactionTemplate.execute(status -> brandMapper.findById(brandId));
+
+        // when
+        Brand first = countQueries(() -> brandMapper.findById(brandId));
+        first.updateInfo("호출자가 수정한 이름");
+        Brand second = countQueries(() -> brandMapper.findById(brandId));
+
+        // then - 캐시에서 꺼냈지만 서로 다른 객체이고, 앞의 수정이 캐시에 반영되지 않음
+        assertThat(QueryCounter.current().getCount()).isZero();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo(BRAND_NAME);
+    }
+
+    @Test
+    @DisplayName("JPA 변경 시 MyBatis 매퍼 캐시 무효화 테스트")
+    public void jpaUpdateEvictsMapperCacheTest() {
+        // given - 매퍼 캐시 적재 후 적중 확인
+        transactionTemplate.execute(status -> brandMapper.findById(brandId));
+        Brand cached = countQueries(() -> brandMapper.findById(brandId));
+        assertThat(cached.getName()).isEqualTo(BRAND_NAME);
+        assertThat(QueryCounter.current().getCount()).isZero();
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                brandRepository.findById(brandId).orElseThrow().updateInfo("JPA 변경 브랜드"));
+
+        // then
+        assertThat(transactionTemplate.execute(status -> brandMapper.findById(brandId)).getName())
+                .isEqualTo("JPA 변경 브랜드");
+    }
+
+    @Test
+    @DisplayName("MyBatis 변경 시 2차 캐시 무효화 테스트")
+    public void myBatisUpdateEvictsEntityCacheTest() {
+        // given
+        transactionTemplate.execute(status -> brandRepository.findById(brandId));
+        assertThat(entityManagerFactory.getCache().contains(Brand.class, brandId)).isTrue();
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                brandMapper.update(Brand.builder().id(brandId).name("MyBatis 변경 브랜드").build()));
+
+        // then
+        assertThat(entityManagerFactory.getCache().contains(Brand.class, brandId)).isFalse();
+        assertThat(transactionTemplate.execute(status -> brandRepository.findById(brandId).orElseThrow()).getName())
+                .isEqualTo("MyBatis 변경 브랜드");
+        Optional<Brand> renamed = transactionTemplate.execute(status -> brandRepository.findByName("MyBatis 변경 브랜드"));
+        assertThat(renamed).isPresent();
+    }
+
+    private Long saveBrand(String name) {
+        return transactionTemplate.execute(status ->
+                brandRepository.save(Brand.builder().name(name).build()).getId());
+    }
+
+    /**
+     * 새 트랜잭션에서 조회하며 SQL 실행 횟수 집계 (집계는 tearDown에서 종료)
+     */
+    private <T> T countQueries(Supplier<T> query) {
+        if (QueryCounter.current() == null) {
+            QueryCounter.start();
+        }
+        return transactionTemplate.execute(status -> query.get());
+    }
+
+    private CacheStatisticsDto statistics(String cacheName) {
+        return cacheMetrics.snapshot(false).stream()
+                .filter(dto -> dto.getCache().equals(cacheName))
+                .findFirst()
+                .orElseThrow();
+    }
+}
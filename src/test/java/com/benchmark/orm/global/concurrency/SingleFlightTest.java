@@ -0,0 +1,207 @@
+package com.benchmark.orm.global.concurrency;
+
+import com.benchmark.orm.global.dto.SingleFlightStatisticsDto;
+import com.benchmark.orm.global.metrics.OrmTechnique;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SingleFlight 테스트
+ * <p>
+ * 같은 조회가 실행 중일 때 들어온 요청이 결과/예외를 함께 받는지, 완료 후에는 다시 조회하는지,
+ * 대기 시간을 넘기면 직접 조회하는지 검증 (트랜잭션 매니저는 아무것도 하지 않는 구현 사용)
+ */
+public class SingleFlightTest {
+
+    private static final int FOLLOWER_COUNT = 7;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWER_COUNT + 1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 조회가 실행 중이면 한 번만 조회하고 결과 객체를 공유 테스트")
+    public void collapseTest() throws Exception {
+        // given
+        SingleFlight singleFlight = singleFlight(Duration.ofSeconds(10));
+        Future<List<Long>> leader = executor.submit(() -> findById(singleFlight, 1L, this::blockingLoad));
+        started.await(5, TimeUnit.SECONDS);
+        List<Future<List<Long>>> followers = submitFollowers(singleFlight, this::blockingLoad);
+
+        // when
+        release.countDown();
+
+        // then
+        List<Long> result = leader.get(5, TimeUnit.SECONDS);
+        for (Future<List<Long>> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        SingleFlightStatisticsDto statistics = singleFlight.snapshot(false).get(0);
+        assertThat(statistics.getExecuted()).isEqualTo(1);
+        assertThat(statistics.getCollapsed()).isEqualTo(FOLLOWER_COUNT);
+        assertThat(statistics.getTimeouts()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회가 끝난 뒤 들어온 요청은 다시 조회 테스트")
+    public void noCachingAfterCompletionTest() {
+        // given
+        SingleFlight singleFlight = singleFlight(Duration.ofSeconds(10));
+        Supplier<List<Long>> loader = () -> List.of((long) loads.incrementAndGet());
+
+        // when
+        List<Long> first = findById(singleFlight, 1L, loader);
+        List<Long> second = findById(singleFlight, 1L, loader);
+
+        // then
+        assertThat(first).containsExactly(1L);
+        assertThat(second).containsExactly(2L);
+        assertThat(singleFlight.snapshot(true).get(0).getCollapsed()).isZero();
+        assertThat(singleFlight.snapshot(false).get(0).getExecuted()).isZero();
+    }
+
+    @Test
+    @DisplayName("실행 중인 조회가 실패하면 기다리던 요청도 같은 예외를 받음 테스트")
+    public void failureSharedTest() throws Exception {
+        // given
+        SingleFlight singleFlight = singleFlight(Duration.ofSeconds(10));
+        Supplier<List<Long>> failingLoad = () -> {
+            blockingLoad();
+            throw new RuntimeException("조회 실패");
+        };
+        Future<List<Long>> leader = executor.submit(() -> findById(singleFlight, 1L, failingLoad));
+        started.await(5, TimeUnit.SECONDS);
+        List<Future<List<Long>>> followers = submitFollowers(singleFlight, failingLoad);
+
+        // when
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("조회 실패");
+        for (Future<List<Long>> follower : followers) {
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasRootCauseMessage("조회 실패");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 기다리지 않고 직접 조회 테스트")
+    public void maxWaitTest() throws Exception {
+        // given
+        SingleFlight singleFlight = singleFlight(Duration.ofMillis(50));
+        Future<List<Long>> leader = executor.submit(() -> findById(singleFlight, 1L, this::blockingLoad));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when - 먼저 들어온 조회가 끝나지 않은 상태에서 요청
+        List<Long> result = findById(singleFlight, 1L, () -> List.of((long) loads.incrementAndGet()));
+        release.countDown();
+
+        // then
+        assertThat(result).containsExactly(2L);
+        assertThat(leader.get(5, TimeUnit.SECONDS)).containsExactly(1L);
+        SingleFlightStatisticsDto statistics = singleFlight.snapshot(false).get(0);
+        assertThat(statistics.getExecuted()).isEqualTo(2);
+        assertThat(statistics.getCollapsed()).isZero();
+        assertThat(statistics.getTimeouts()).isEqualTo(1);
+    }
+
+    private SingleFlight singleFlight(Duration maxWait) {
+        return new SingleFlight(new NoOpTransactionManager(), true, maxWait);
+    }
+
+    private List<Long> findById(SingleFlight singleFlight, Long id, Supplier<List<Long>> loader) {
+        return singleFlight.execute(OrmTechnique.JPA, "Product", "findById", id, loader);
+    }
+
+    /**
+     * 호출 횟수를 세고, 테스트가 풀어줄 때까지 끝나지 않는 조회
+     */
+    private List<Long> blockingLoad() {
+        int load = loads.incrementAndGet();
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return List.of((long) load);
+    }
+
+    /**
+     * 실행 중인 조회를 기다리는 요청들을 보내고, 모두 대기 상태가 될 때까지 기다림
+     */
+    private List<Future<List<Long>>> submitFollowers(SingleFlight singleFlight, Supplier<List<Long>> loader)
+            throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        List<Future<List<Long>>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWER_COUNT; i++) {
+            followers.add(executor.submit(() -> {
+                synchronized (threads) {
+                    threads.add(Thread.currentThread());
+                }
+                return findById(singleFlight, 1L, loader);
+            }));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline && !allWaiting(threads)) {
+            Thread.sleep(5);
+        }
+        return followers;
+    }
+
+    private boolean allWaiting(List<Thread> threads) {
+        synchronized (threads) {
+            return threads.size() == FOLLOWER_COUNT
+                    && threads.stream().allMatch(thread -> thread.getState() == Thread.State.TIMED_WAITING);
+        }
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
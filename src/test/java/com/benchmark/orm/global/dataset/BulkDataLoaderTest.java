@@ -0,0 +1,125 @@
+package com.benchmark.orm.global.dataset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BulkDataLoader 테스트
+ * <p>
+ * JDBC 배치 INSERT를 사용한 데이터셋 적재 테스트
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class BulkDataLoaderTest {
+
+    @Autowired
+    private BulkDataLoader bulkDataLoader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private DatasetSpec smallSpec() {
+        return DatasetSpec.builder()
+                .brandCount(3)
+                .categoryCount(4)
+                .productCount(250)
+                .imagesPerProduct(2)
+                .userCount(20)
+                .orderCount(120)
+                .itemsPerOrder(3)
+                .batchSize(100)
+                .build();
+    }
+
+    @Test
+    @DisplayName("전체 데이터셋 적재 테스트")
+    public void loadTest() {
+        // given
+        long productsBefore = count("product");
+        long orderItemsBefore = count("order_items");
+
+        // when
+        DatasetLoadReport report = bulkDataLoader.load(smallSpec());
+
+        // then - 테이블별 적재 건수 검증
+        assertThat(report.getRowCount("brand")).isEqualTo(3);
+        assertThat(report.getRowCount("category")).isEqualTo(4);
+        assertThat(report.getRowCount("product")).isEqualTo(250);
+        assertThat(report.getRowCount("product_index")).isEqualTo(250);
+        assertThat(report.getRowCount("product_image")).isEqualTo(500);
+        assertThat(report.getRowCount("product_index_image")).isEqualTo(500);
+        assertThat(report.getRowCount("users")).isEqualTo(20);
+        assertThat(report.getRowCount("orders")).isEqualTo(120);
+        assertThat(report.getRowCount("order_items")).isEqualTo(360);
+        assertThat(report.getRowsPerSecond()).isPositive();
+
+        assertThat(count("product") - productsBefore).isEqualTo(250);
+        assertThat(count("order_items") - orderItemsBefore).isEqualTo(360);
+    }
+
+    @Test
+    @DisplayName("Product와 ProductIndex 동일 데이터 적재 테스트")
+    public void identicalProductTablesTest() {
+        // given
+        DatasetSpec spec = DatasetSpec.builder()
+                .productCount(150)
+                .batchSize(40)
+                .productNamePrefix("적재테스트 상품 ")
+                .build();
+        Long brandId = insertAndGetId("brand");
+        Long categoryId = insertAndGetId("category");
+
+        // when
+        bulkDataLoader.loadProducts(spec, List.of(brandId), List.of(categoryId));
+
+        // then - 이름 순으로 정렬했을 때 두 테이블의 이름, 가격이 같아야 함
+        String sql = "SELECT name, price FROM %s WHERE name LIKE '적재테스트 상품 %%' ORDER BY name";
+        List<Map<String, Object>> products = jdbcTemplate.queryForList(String.format(sql, "product"));
+        List<Map<String, Object>> productIndexes = jdbcTemplate.queryForList(String.format(sql, "product_index"));
+
+        assertThat(products).hasSize(150);
+        assertThat(productIndexes).isEqualTo(products);
+    }
+
+    @Test
+    @DisplayName("같은 seed로 적재하면 같은 데이터 생성 테스트")
+    public void sameSeedSameDataTest() {
+        // given
+        Long brandId = insertAndGetId("brand");
+        Long categoryId = insertAndGetId("category");
+        DatasetSpec first = DatasetSpec.builder().productCount(50).productNamePrefix("시드A ").seed(7L).build();
+        DatasetSpec second = DatasetSpec.builder().productCount(50).productNamePrefix("시드B ").seed(7L).build();
+
+        // when
+        bulkDataLoader.loadProducts(first, List.of(brandId), List.of(categoryId));
+        bulkDataLoader.loadProducts(second, List.of(brandId), List.of(categoryId));
+
+        // then
+        String sql = "SELECT price FROM product WHERE name LIKE ? ORDER BY id";
+        List<Integer> firstPrices = jdbcTemplate.queryForList(sql, Integer.class, "시드A %");
+        List<Integer> secondPrices = jdbcTemplate.queryForList(sql, Integer.class, "시드B %");
+
+        assertThat(firstPrices).hasSize(50);
+        assertThat(secondPrices).isEqualTo(firstPrices);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private Long insertAndGetId(String table) {
+        jdbcTemplate.update("INSERT INTO " + table + " (name) VALUES ('적재테스트')");
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+    }
+}
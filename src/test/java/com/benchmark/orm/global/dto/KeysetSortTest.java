@@ -0,0 +1,83 @@
+package com.benchmark.orm.global.dto;
+
+import com.benchmark.orm.domain.order.entity.Order;
+import com.benchmark.orm.domain.product.entity.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KeysetSort 테스트
+ * <p>
+ * 정렬 필드 해석, 페이지 크기 검증, 커서 생성과 정렬 값 변환 검증
+ */
+public class KeysetSortTest {
+
+    @Test
+    @DisplayName("허용되지 않은 정렬 필드는 ID 정렬로 처리 테스트")
+    public void resolveTest() {
+        // when & then
+        assertThat(Product.KEYSET_SORT.resolve("price")).isEqualTo("price");
+        assertThat(Product.KEYSET_SORT.resolve("brand")).isEqualTo("id");
+        assertThat(Product.KEYSET_SORT.resolve(null)).isEqualTo("id");
+        assertThat(KeysetSort.direction("DESC")).isEqualTo("desc");
+        assertThat(KeysetSort.direction("unknown")).isEqualTo("asc");
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 1보다 작으면 예외 발생 테스트")
+    public void invalidSizeTest() {
+        // when & then
+        assertThatThrownBy(() -> Product.KEYSET_SORT.decode(null, 0, "id", "asc"))
+                .hasMessageContaining("페이지 크기는 1 이상이어야 합니다");
+        assertThatThrownBy(() -> Product.KEYSET_SORT.decode(null, -1, "id", "asc"))
+                .hasMessageContaining("페이지 크기는 1 이상이어야 합니다");
+        assertThat(Product.KEYSET_SORT.decode(null, 1, "id", "asc")).isNull();
+    }
+
+    @Test
+    @DisplayName("마지막 행으로 만든 커서의 토큰 왕복 및 정렬 값 변환 테스트")
+    public void cursorRoundTripTest() {
+        // given
+        Product product = Product.builder().id(7L).name("테스트 상품").price(15000).build();
+        LocalDateTime orderDate = LocalDateTime.of(2024, 1, 15, 10, 30);
+        Order order = Order.builder().id(3L).orderDate(orderDate).build();
+
+        // when
+        String productAfter = Product.KEYSET_SORT.cursorOf("price", "desc").apply(product).encode();
+        KeysetCursor productCursor = Product.KEYSET_SORT.decode(productAfter, 10, "price", "desc");
+        String orderAfter = Order.KEYSET_SORT.cursorOf("orderDate", "asc").apply(order).encode();
+        KeysetCursor orderCursor = Order.KEYSET_SORT.decode(orderAfter, 10, "orderDate", "asc");
+
+        // then - MyBatis 파라미터는 컬럼명과 원래 타입의 정렬 값으로 전달됨
+        assertThat(productCursor.getId()).isEqualTo(7L);
+        assertThat(Product.KEYSET_SORT.sortValueOf(productCursor)).isEqualTo(15000);
+        assertThat(Order.KEYSET_SORT.column("orderDate")).isEqualTo("order_date");
+        assertThat(Order.KEYSET_SORT.sortValueOf(orderCursor)).isEqualTo(orderDate);
+        assertThat(Order.KEYSET_SORT.sortValueOf(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("정렬 값이 NULL인 행의 커서는 NULL로 왕복 (\"null\" 문자열과 구분) 테스트")
+    public void nullSortValueCursorTest() {
+        // given
+        Order order = Order.builder().id(5L).build();
+        Product namedNull = Product.builder().id(6L).name("null").price(1000).build();
+
+        // when
+        String orderAfter = Order.KEYSET_SORT.cursorOf("orderDate", "asc").apply(order).encode();
+        KeysetCursor orderCursor = Order.KEYSET_SORT.decode(orderAfter, 10, "orderDate", "asc");
+        String productAfter = Product.KEYSET_SORT.cursorOf("name", "asc").apply(namedNull).encode();
+        KeysetCursor productCursor = Product.KEYSET_SORT.decode(productAfter, 10, "name", "asc");
+
+        // then
+        assertThat(orderCursor.getId()).isEqualTo(5L);
+        assertThat(orderCursor.getSortValue()).isNull();
+        assertThat(Order.KEYSET_SORT.sortValueOf(orderCursor)).isNull();
+        assertThat(productCursor.getSortValue()).isEqualTo("null");
+    }
+}
@@ -0,0 +1,105 @@
+package com.benchmark.orm.global.explain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB별 EXPLAIN SQL 변환과 실행 계획 해석 테스트
+ */
+public class ExplainDialectTest {
+
+    private static final String SQL = "select p1_0.id, p1_0.name from product_index p1_0 "
+            + "left join brand b1_0 on b1_0.id = p1_0.brand_id where p1_0.name = ? and p1_0.name <> '?' limit ?";
+
+    @Test
+    @DisplayName("문자열 리터럴 밖의 파라미터만 치환 테스트")
+    public void replacePlaceholdersTest() {
+        assertThat(ExplainDialect.replacePlaceholders("a = ? and b = '?' and c in (?, ?)", index -> "$" + index))
+                .isEqualTo("a = $1 and b = '?' and c in ($2, $3)");
+    }
+
+    @Test
+    @DisplayName("H2 실행 계획 해석 테스트")
+    public void h2Test() {
+        // given
+        H2ExplainDialect dialect = new H2ExplainDialect();
+        List<String> plan = List.of("SELECT \"P1_0\".\"ID\", \"P1_0\".\"NAME\"\n"
+                + "FROM \"PUBLIC\".\"PRODUCT_INDEX\" \"P1_0\"\n"
+                + "    /* PUBLIC.IDX_PRODUCT_INDEX_NAME: NAME = ?1 */\n"
+                + "LEFT OUTER JOIN \"PUBLIC\".\"BRAND\" \"B1_0\"\n"
+                + "    /* PUBLIC.PRIMARY_KEY_3: ID = P1_0.BRAND_ID */\n"
+                + "    ON \"B1_0\".\"ID\" = \"P1_0\".\"BRAND_ID\"\n"
+                + "INNER JOIN \"PUBLIC\".\"CATEGORY\" \"C1_0\"\n"
+                + "    /* PUBLIC.CATEGORY.tableScan */\n"
+                + "    ON 1=1\n"
+                + "WHERE \"P1_0\".\"NAME\" = ?1\n"
+                + "/* index sorted */");
+
+        // when
+        QueryPlan queryPlan = dialect.parse(SQL, plan);
+
+        // then
+        assertThat(dialect.explainSql(SQL)).isEqualTo("EXPLAIN " + SQL);
+        assertThat(queryPlan.getIndexes()).containsExactly("idx_product_index_name", "primary_key_3");
+        assertThat(queryPlan.getFullScans()).containsExactly("category");
+        assertThat(queryPlan.usesIndex("IDX_PRODUCT_INDEX_NAME")).isTrue();
+        assertThat(queryPlan.hasFullScanOn("product_index")).isFalse();
+    }
+
+    @Test
+    @DisplayName("PostgreSQL 실행 계획 해석 테스트")
+    public void postgresTest() {
+        // given
+        PostgresExplainDialect dialect = new PostgresExplainDialect();
+        List<String> plan = List.of(
+                "Limit  (cost=4.31..12.36 rows=1 width=40)",
+                "  ->  Nested Loop Left Join  (cost=4.31..12.36 rows=1 width=40)",
+                "        ->  Bitmap Heap Scan on product_index p1_0  (cost=4.30..11.41 rows=2 width=32)",
+                "              ->  Bitmap Index Scan on idx_product_index_name  (cost=0.00..4.30 rows=2 width=0)",
+                "        ->  Index Scan using brand_pkey on brand b1_0  (cost=0.15..0.47 rows=1 width=8)",
+                "        ->  Seq Scan on category c1_0  (cost=0.00..1.20 rows=20 width=8)");
+
+        // when
+        QueryPlan queryPlan = dialect.parse(SQL, plan);
+
+        // then - GENERIC_PLAN으로 값 없이 계획 조회
+        assertThat(dialect.explainSql(SQL))
+                .startsWith("EXPLAIN (GENERIC_PLAN) ")
+                .contains("p1_0.name = $1", "'?'", "limit $2");
+        assertThat(queryPlan.getIndexes()).containsExactly("idx_product_index_name", "brand_pkey");
+        assertThat(queryPlan.getFullScans()).containsExactly("category");
+    }
+
+    @Test
+    @DisplayName("MySQL 실행 계획 해석 및 별칭 변환 테스트")
+    public void mySqlTest() {
+        // given
+        MySqlExplainDialect dialect = new MySqlExplainDialect();
+        List<String> plan = List.of(
+                "table=p1_0, type=ALL, key=null, rows=10000, Extra=Using where",
+                "table=b1_0, type=eq_ref, key=PRIMARY, rows=1, Extra=null");
+
+        // when
+        QueryPlan queryPlan = dialect.parse(SQL, plan);
+
+        // then - 파라미터는 리터럴로, 테이블 별칭은 실제 테이블 이름으로
+        assertThat(dialect.explainSql(SQL))
+                .isEqualTo("EXPLAIN select p1_0.id, p1_0.name from product_index p1_0 "
+                        + "left join brand b1_0 on b1_0.id = p1_0.brand_id where p1_0.name = '0' and p1_0.name <> '?' limit 1");
+        assertThat(queryPlan.getIndexes()).containsExactly("primary");
+        assertThat(queryPlan.getFullScans()).containsExactly("product_index");
+    }
+
+    @Test
+    @DisplayName("DB 이름으로 방언 선택 테스트")
+    public void ofTest() {
+        assertThat(ExplainDialect.of("H2").name()).isEqualTo("h2");
+        assertThat(ExplainDialect.of("MySQL").name()).isEqualTo("mysql");
+        assertThat(ExplainDialect.of("MariaDB").name()).isEqualTo("mysql");
+        assertThat(ExplainDialect.of("PostgreSQL").name()).isEqualTo("postgresql");
+    }
+}
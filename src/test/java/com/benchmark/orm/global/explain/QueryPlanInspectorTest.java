@@ -0,0 +1,61 @@
+package com.benchmark.orm.global.explain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QueryPlanInspector 테스트 (H2)
+ * <p>
+ * 값이 없는 ? 파라미터가 남은 SQL로 실제 실행 계획을 조회해 인덱스 사용과 전체 스캔을 구분하는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class QueryPlanInspectorTest {
+
+    @Autowired
+    private QueryPlanInspector queryPlanInspector;
+
+    @Test
+    @DisplayName("인덱스 있는 테이블과 없는 테이블 실행 계획 비교 테스트")
+    public void explainTest() {
+        // when
+        List<QueryPlan> plans = queryPlanInspector.explainAll(List.of(
+                "select p.id, p.name from product_index p where p.name = ?",
+                "select p.id, p.name from product p where p.name = ?",
+                "insert into brand (name) values (?)"));
+
+        // then - SELECT만 조회
+        assertThat(plans).hasSize(2);
+        assertThat(plans.get(0).getDialect()).isEqualTo("h2");
+        assertThat(plans.get(0).usesIndex("idx_product_index_name")).isTrue();
+        assertThat(plans.get(0).getFullScans()).isEmpty();
+        assertThat(plans.get(1).hasFullScanOn("product")).isTrue();
+    }
+
+    @Test
+    @DisplayName("SQL 주석(use_sql_comments)이 앞에 붙은 SELECT 실행 계획 조회 테스트")
+    public void commentedSqlTest() {
+        // when
+        QueryPlan plan = queryPlanInspector.explain(
+                "/* SELECT p FROM ProductIndex p WHERE p.name = :name */ select p.id, p.name from product_index p where p.name = ?");
+
+        // then
+        assertThat(plan).isNotNull();
+        assertThat(plan.usesIndex("idx_product_index_name")).isTrue();
+    }
+
+    @Test
+    @DisplayName("실행할 수 없는 SQL은 건너뜀 테스트")
+    public void invalidSqlTest() {
+        assertThat(queryPlanInspector.explain("select * from no_such_table where id = ?")).isNull();
+    }
+}
@@ -0,0 +1,144 @@
+package com.benchmark.orm.global.export;
+
+import com.benchmark.orm.domain.order.service.OrderJpaService;
+import com.benchmark.orm.domain.order.service.OrderMyBatisService;
+import com.benchmark.orm.domain.product.service.ProductJpaService;
+import com.benchmark.orm.domain.product.service.ProductMyBatisService;
+import com.benchmark.orm.domain.user.service.UserJpaService;
+import com.benchmark.orm.domain.user.service.UserMyBatisService;
+import com.benchmark.orm.global.dataset.BulkDataLoader;
+import com.benchmark.orm.global.dataset.DatasetSpec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NDJSON 내보내기 테스트
+ * <p>
+ * JPA Stream과 MyBatis Cursor로 FLUSH_INTERVAL보다 많은 행을 내보낼 때
+ * 모든 행이 한 줄씩 ID 순으로 출력되고, 두 방식의 결과가 같은지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class NdjsonExportTest {
+
+    @Autowired
+    private ProductJpaService productJpaService;
+
+    @Autowired
+    private ProductMyBatisService productMyBatisService;
+
+    @Autowired
+    private UserJpaService userJpaService;
+
+    @Autowired
+    private UserMyBatisService userMyBatisService;
+
+    @Autowired
+    private OrderJpaService orderJpaService;
+
+    @Autowired
+    private OrderMyBatisService orderMyBatisService;
+
+    @Autowired
+    private BulkDataLoader bulkDataLoader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        bulkDataLoader.load(DatasetSpec.builder()
+                .brandCount(3)
+                .categoryCount(4)
+                .productCount(NdjsonWriter.FLUSH_INTERVAL * 2 + 500)
+                .imagesPerProduct(1)
+                .userCount(50)
+                .orderCount(300)
+                .itemsPerOrder(2)
+                .build());
+    }
+
+    @Test
+    @DisplayName("상품 내보내기 JPA/MyBatis 결과 일치 테스트")
+    public void exportProductsTest() throws Exception {
+        // when
+        ByteArrayOutputStream jpaOut = new ByteArrayOutputStream();
+        ByteArrayOutputStream myBatisOut = new ByteArrayOutputStream();
+        long jpaCount = productJpaService.exportAll(jpaOut);
+        long myBatisCount = productMyBatisService.exportAll(myBatisOut);
+
+        // then
+        long expected = count("product");
+        assertThat(jpaCount).isEqualTo(expected);
+        assertThat(myBatisCount).isEqualTo(expected);
+        assertExported(jpaOut, expected);
+        assertThat(jpaOut.toString(StandardCharsets.UTF_8)).isEqualTo(myBatisOut.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("사용자 내보내기 JPA/MyBatis 결과 일치 테스트")
+    public void exportUsersTest() throws Exception {
+        // when
+        ByteArrayOutputStream jpaOut = new ByteArrayOutputStream();
+        ByteArrayOutputStream myBatisOut = new ByteArrayOutputStream();
+        userJpaService.exportAll(jpaOut);
+        userMyBatisService.exportAll(myBatisOut);
+
+        // then
+        assertExported(jpaOut, count("users"));
+        assertThat(jpaOut.toString(StandardCharsets.UTF_8)).isEqualTo(myBatisOut.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("주문 내보내기 총 금액 포함 JPA/MyBatis 결과 일치 테스트")
+    public void exportOrdersTest() throws Exception {
+        // when
+        ByteArrayOutputStream jpaOut = new ByteArrayOutputStream();
+        ByteArrayOutputStream myBatisOut = new ByteArrayOutputStream();
+        orderJpaService.exportAll(jpaOut);
+        orderMyBatisService.exportAll(myBatisOut);
+
+        // then
+        List<JsonNode> rows = assertExported(jpaOut, count("orders"));
+        assertThat(rows).allSatisfy(row -> assertThat(row.get("totalAmount").asInt()).isNotNegative());
+        assertThat(jpaOut.toString(StandardCharsets.UTF_8)).isEqualTo(myBatisOut.toString(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> assertExported(ByteArrayOutputStream out, long expectedCount) throws Exception {
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize((int) expectedCount);
+
+        List<JsonNode> rows = new ArrayList<>();
+        long previousId = 0;
+        for (String line : lines) {
+            JsonNode row = objectMapper.readTree(line);
+            assertThat(row.get("id").asLong()).isGreaterThan(previousId);
+            previousId = row.get("id").asLong();
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
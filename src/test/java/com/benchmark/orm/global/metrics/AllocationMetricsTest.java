@@ -0,0 +1,158 @@
+package com.benchmark.orm.global.metrics;
+
+import com.benchmark.orm.global.dto.AllocationSnapshotDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * AllocationMetrics / AllocationTrackingPostProcessor 테스트
+ * <p>
+ * 매퍼 프록시를 감싸 호출별 할당량과 반환 행 수가 기록되는지 검증
+ */
+public class AllocationMetricsTest {
+
+    @Mapper
+    interface SampleMapper {
+        List<String> findAll(int size);
+
+        Optional<String> findById(long id);
+
+        long count();
+
+        void fail();
+    }
+
+    @Test
+    @DisplayName("호출당 할당량과 행 수 집계 테스트")
+    public void recordTest() {
+        // given
+        AllocationMetrics metrics = new AllocationMetrics();
+        metrics.record(OrmTechnique.JPA, "Product", "findAll", 4_000L, 10);
+        metrics.record(OrmTechnique.JPA, "Product", "findAll", 6_000L, 10);
+        metrics.record(OrmTechnique.JPA, "Product", "count", 100L, 0);
+
+        // when
+        List<AllocationSnapshotDto> snapshots = metrics.snapshot("Product", OrmTechnique.JPA, true);
+
+        // then - 행이 없는 호출은 행당 할당량 없음
+        assertThat(snapshots).extracting(AllocationSnapshotDto::getOperation).containsExactly("count", "findAll");
+        AllocationSnapshotDto findAll = snapshots.get(1);
+        assertThat(findAll.getCalls()).isEqualTo(2);
+        assertThat(findAll.getBytesPerOp()).isEqualTo(5_000L);
+        assertThat(findAll.getRowsPerOp()).isEqualTo(10.0);
+        assertThat(findAll.getBytesPerRow()).isEqualTo(500L);
+        assertThat(snapshots.get(0).getBytesPerRow()).isNull();
+
+        // 조회 시 초기화했으므로 비어 있음
+        assertThat(metrics.snapshot(null, null, false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("매퍼 프록시 호출 할당량 기록 테스트")
+    public void mapperProxyTest() {
+        assumeThat(AllocationMetrics.isSupported()).isTrue();
+
+        // given - MyBatis MapperProxy처럼 JDK 프록시로 만든 매퍼
+        AllocationMetrics metrics = new AllocationMetrics();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("allocationMetrics", metrics);
+        AllocationTrackingPostProcessor postProcessor =
+                new AllocationTrackingPostProcessor(beanFactory.getBeanProvider(AllocationMetrics.class));
+
+        SampleMapper mapper = (SampleMapper) postProcessor.postProcessAfterInitialization(sampleMapper(), "sampleMapper");
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            mapper.findAll(100);
+            mapper.findById(1L);
+        }
+        mapper.count();
+        mapper.toString();
+
+        // then - 엔티티 이름은 매퍼 이름에서 Mapper를 뺀 값, Object 메서드는 기록하지 않음
+        List<AllocationSnapshotDto> snapshots = metrics.snapshot(null, null, false);
+        assertThat(snapshots).extracting(AllocationSnapshotDto::getOperation)
+                .containsExactly("count", "findAll", "findById");
+        assertThat(snapshots).allSatisfy(snapshot -> {
+            assertThat(snapshot.getEntity()).isEqualTo("Sample");
+            assertThat(snapshot.getTechnique()).isEqualTo("MYBATIS");
+        });
+
+        AllocationSnapshotDto findAll = snapshots.get(1);
+        assertThat(findAll.getCalls()).isEqualTo(10);
+        assertThat(findAll.getRowsPerOp()).isEqualTo(100.0);
+        // 문자열 100개 목록을 만드는 만큼은 할당됨
+        assertThat(findAll.getBytesPerOp()).isGreaterThan(100 * 16L);
+        assertThat(snapshots.get(2).getRowsPerOp()).isEqualTo(1.0);
+        assertThat(snapshots.get(0).getRowsPerOp()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("예외 발생 시 원래 예외 전달 및 미기록 테스트")
+    public void exceptionTest() {
+        assumeThat(AllocationMetrics.isSupported()).isTrue();
+
+        // given
+        AllocationMetrics metrics = new AllocationMetrics();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("allocationMetrics", metrics);
+        AllocationTrackingPostProcessor postProcessor =
+                new AllocationTrackingPostProcessor(beanFactory.getBeanProvider(AllocationMetrics.class));
+        SampleMapper mapper = (SampleMapper) postProcessor.postProcessAfterInitialization(sampleMapper(), "sampleMapper");
+
+        // when & then
+        assertThatThrownBy(mapper::fail)
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("조회 실패");
+        assertThat(metrics.snapshot(null, null, false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리포지토리/매퍼가 아닌 빈은 감싸지 않음 테스트")
+    public void notWrappedTest() {
+        // given
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("allocationMetrics", new AllocationMetrics());
+        AllocationTrackingPostProcessor postProcessor =
+                new AllocationTrackingPostProcessor(beanFactory.getBeanProvider(AllocationMetrics.class));
+        Object bean = new Object();
+
+        // when & then
+        assertThat(postProcessor.postProcessAfterInitialization(bean, "bean")).isSameAs(bean);
+    }
+
+    private static SampleMapper sampleMapper() {
+        return (SampleMapper) Proxy.newProxyInstance(SampleMapper.class.getClassLoader(),
+                new Class<?>[]{SampleMapper.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findAll":
+                            List<String> rows = new ArrayList<>();
+                            for (int i = 0; i < (int) args[0]; i++) {
+                                rows.add("상품 " + i);
+                            }
+                            return rows;
+                        case "findById":
+                            return Optional.of("상품 " + args[0]);
+                        case "count":
+                            return 100L;
+                        case "fail":
+                            throw new RuntimeException("조회 실패");
+                        case "toString":
+                            return "SampleMapper";
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
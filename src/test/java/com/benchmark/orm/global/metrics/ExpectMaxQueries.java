@@ -0,0 +1,26 @@
+package com.benchmark.orm.global.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문이 실행하는 SQL 수 상한
+ * <p>
+ * @BeforeEach 등 준비 단계의 SQL은 제외하고 테스트 메서드 실행 중에 Hibernate/MyBatis가 준비한 SQL만 셈
+ * 상한을 넘으면 모양별 실행 횟수를 담아 테스트를 실패시킴
+ * 클래스에 붙이면 모든 테스트 메서드에 적용되며, 메서드에 붙인 값이 우선함
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryCountExtension.class)
+public @interface ExpectMaxQueries {
+
+    /**
+     * 허용하는 최대 SQL 실행 횟수
+     */
+    int value();
+}
@@ -0,0 +1,105 @@
+package com.benchmark.orm.global.metrics;
+
+import com.benchmark.orm.global.dto.LatencySnapshotDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * LatencyMetrics 테스트
+ * <p>
+ * (엔티티, 작업, 기술)별 분리 집계와 백분위 계산, 초기화 검증
+ */
+public class LatencyMetricsTest {
+
+    @Test
+    @DisplayName("백분위 계산 테스트")
+    public void percentileTest() {
+        // given - 1us ~ 1000us 값을 한 번씩 기록
+        LatencyMetrics metrics = new LatencyMetrics();
+        for (int i = 1; i <= 1000; i++) {
+            metrics.record(OrmTechnique.JPA, "Product", "findAll", i * 1_000L);
+        }
+
+        // when
+        List<LatencySnapshotDto> snapshots = metrics.snapshot(null, null, false);
+
+        // then - 유효 숫자 3자리 오차 범위 안에서 일치
+        assertThat(snapshots).hasSize(1);
+        LatencySnapshotDto snapshot = snapshots.get(0);
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getP50Us()).isCloseTo(500.0, within(1.0));
+        assertThat(snapshot.getP90Us()).isCloseTo(900.0, within(1.0));
+        assertThat(snapshot.getP99Us()).isCloseTo(990.0, within(1.0));
+        assertThat(snapshot.getMaxUs()).isCloseTo(1000.0, within(1.0));
+    }
+
+    @Test
+    @DisplayName("엔티티/기술별 분리 집계 및 필터 테스트")
+    public void separateKeysTest() {
+        // given
+        LatencyMetrics metrics = new LatencyMetrics();
+        metrics.record(OrmTechnique.JPA, "Product", "findAll", 1_000L);
+        metrics.record(OrmTechnique.MYBATIS, "Product", "findAll", 2_000L);
+        metrics.record(OrmTechnique.MYBATIS, "User", "findById", 3_000L);
+
+        // when & then
+        assertThat(metrics.snapshot(null, null, false))
+                .extracting(LatencySnapshotDto::getEntity, LatencySnapshotDto::getOperation, LatencySnapshotDto::getTechnique)
+                .containsExactly(
+                        tuple("Product", "findAll", "JPA"),
+                        tuple("Product", "findAll", "MYBATIS"),
+                        tuple("User", "findById", "MYBATIS"));
+        assertThat(metrics.snapshot("Product", OrmTechnique.MYBATIS, false)).hasSize(1);
+        assertThat(metrics.snapshot(null, OrmTechnique.JPA, false)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("조회 후 초기화 테스트")
+    public void resetTest() {
+        // given
+        LatencyMetrics metrics = new LatencyMetrics();
+        metrics.record(OrmTechnique.JPA, "Order", "findAll", 5_000L);
+
+        // when - 조회하면서 초기화
+        List<LatencySnapshotDto> first = metrics.snapshot(null, null, true);
+
+        // then - 다음 조회에는 이후 기록만 포함
+        assertThat(first).hasSize(1);
+        assertThat(metrics.snapshot(null, null, false)).isEmpty();
+
+        metrics.record(OrmTechnique.JPA, "Order", "findAll", 7_000L);
+        metrics.reset();
+        assertThat(metrics.snapshot(null, null, false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 스레드 동시 기록 테스트")
+    public void concurrentRecordTest() throws InterruptedException {
+        // given
+        LatencyMetrics metrics = new LatencyMetrics();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when - 8개 스레드가 각각 10,000건 기록
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    metrics.record(OrmTechnique.MYBATIS, "Product", "findById", 1_000L + i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then - 유실 없이 모두 집계
+        assertThat(metrics.snapshot(null, null, false).get(0).getCount()).isEqualTo(80_000);
+    }
+}
@@ -0,0 +1,37 @@
+package com.benchmark.orm.global.metrics;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Optional;
+
+/**
+ * @ExpectMaxQueries 검증 확장
+ * 테스트 메서드 실행 직전에 QueryCounter 구간을 시작하고, 실행 직후 상한을 확인함
+ */
+public class QueryCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryCounter.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCounter.Stats stats = QueryCounter.stop();
+        Optional<ExpectMaxQueries> expected = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), ExpectMaxQueries.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), ExpectMaxQueries.class));
+        if (expected.isEmpty() || stats.getCount() <= expected.get().value()) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder()
+                .append("SQL 실행 횟수 초과 - 최대: ").append(expected.get().value())
+                .append(", 실제: ").append(stats.getCount());
+        stats.getCountByShape().forEach((shape, count) ->
+                message.append(System.lineSeparator()).append("  ").append(count).append("회: ").append(shape));
+        throw new AssertionError(message.toString());
+    }
+}
@@ -0,0 +1,63 @@
+package com.benchmark.orm.global.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * QueryCounter 테스트
+ * <p>
+ * SQL 모양 정규화와 반복 실행(N+1 의심) 검출 검증
+ */
+public class QueryCounterTest {
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
+    }
+
+    @Test
+    @DisplayName("SQL 모양 정규화 테스트")
+    public void shapeOfTest() {
+        assertThat(QueryCounter.shapeOf("select *\n  from product   where id = 10"))
+                .isEqualTo("select * from product where id = ?");
+        assertThat(QueryCounter.shapeOf("select * from users where email = 'a@b.com' and id in (?, ?, ?)"))
+                .isEqualTo("select * from users where email = ? and id in (?)");
+        // 식별자 안의 숫자는 유지
+        assertThat(QueryCounter.shapeOf("select p1_0.id from product p1_0 where p1_0.id = ?"))
+                .isEqualTo("select p1_0.id from product p1_0 where p1_0.id = ?");
+    }
+
+    @Test
+    @DisplayName("반복 실행된 SQL 검출 테스트")
+    public void repeatedShapesTest() {
+        // given
+        QueryCounter.start();
+
+        // when - 목록 1회 + 항목마다 같은 모양의 조회 3회
+        QueryCounter.record("select * from orders");
+        QueryCounter.record("select * from order_items where order_id = 1");
+        QueryCounter.record("select * from order_items where order_id = 2");
+        QueryCounter.record("select * from order_items where order_id = ?");
+        QueryCounter.Stats stats = QueryCounter.stop();
+
+        // then
+        assertThat(stats.getCount()).isEqualTo(4);
+        assertThat(stats.getRepeatedShapes())
+                .containsExactly(entry("select * from order_items where order_id = ?", 3));
+    }
+
+    @Test
+    @DisplayName("집계 구간 밖에서는 기록하지 않음 테스트")
+    public void noScopeTest() {
+        // when
+        QueryCounter.record("select 1");
+
+        // then
+        assertThat(QueryCounter.current()).isNull();
+        assertThat(QueryCounter.stop().getCount()).isZero();
+    }
+}
@@ -0,0 +1,98 @@
+package com.benchmark.orm.global.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TrigramIndex 테스트
+ * <p>
+ * 한글 음절 단위 트라이그램 분리와 증분 갱신 검증
+ */
+public class TrigramIndexTest {
+
+    @Test
+    @DisplayName("한글 트라이그램 분리 테스트")
+    public void koreanTrigramsTest() {
+        // when
+        Set<String> grams = TrigramIndex.trigrams(TrigramIndex.normalize("테스트 상품"));
+
+        // then - 바이트나 자모가 아닌 음절 단위로 분리되어야 함
+        assertThat(grams).containsExactly("테스트", "스트 ", "트 상", " 상품");
+    }
+
+    @Test
+    @DisplayName("키워드 부분 일치 검색 테스트")
+    public void searchTest() {
+        // given
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, "테스트 상품 12");
+        index.put(2L, "테스트 상품 120");
+        index.put(3L, "다른 상품 12");
+        index.put(4L, "Apple 노트북");
+
+        // when & then
+        assertThat(index.search("상품 12")).containsExactly(1L, 2L, 3L);
+        assertThat(index.search("테스트 상품 12")).containsExactly(1L, 2L);
+        assertThat(index.search("apple")).containsExactly(4L);
+        assertThat(index.search("없는 상품")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트라이그램이 모두 있어도 연속되지 않으면 제외 테스트")
+    public void noFalsePositiveTest() {
+        // given - "abcd"의 트라이그램(abc, bcd)을 모두 갖지만 "abcd"를 포함하지 않는 이름
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, "abc-bcd");
+        index.put(2L, "xabcdx");
+
+        // when & then
+        assertThat(index.search("abcd")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("NFD로 분리된 한글 키워드 검색 테스트")
+    public void decomposedKoreanKeywordTest() {
+        // given
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, "무선 키보드");
+        String decomposed = Normalizer.normalize("키보드", Normalizer.Form.NFD);
+
+        // when & then
+        assertThat(decomposed).isNotEqualTo("키보드");
+        assertThat(index.search(decomposed)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("3글자 미만 키워드는 인덱스 검색 불가 테스트")
+    public void shortKeywordTest() {
+        // given
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, "테스트 상품");
+
+        // when & then
+        assertThat(index.search("상품")).isNull();
+    }
+
+    @Test
+    @DisplayName("이름 변경 및 삭제 반영 테스트")
+    public void updateAndRemoveTest() {
+        // given
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, "기존 상품명");
+        index.put(2L, "기존 상품명");
+
+        // when
+        index.put(1L, "변경된 이름");
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("기존 상품")).isEmpty();
+        assertThat(index.search("변경된")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+}